@@ -21,7 +21,11 @@
  */
 package eu.tailoringexpert;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.NonNull;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -37,6 +41,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 import jakarta.persistence.EntityManagerFactory;
 
 import javax.sql.DataSource;
+import java.util.Map;
 
 @Configuration
 @EnableJpaRepositories
@@ -53,10 +58,11 @@ public class DatabaseConfiguration {
         @NonNull @Value("${spring.datasource.url}") String url,
         @NonNull @Value("${spring.datasource.username}") String username,
         @NonNull @Value("${spring.datasource.password}") String password,
-        @NonNull @Qualifier("tenantConfigHome") String tenantConfigHome) {
+        @NonNull @Qualifier("tenantConfigHome") String tenantConfigHome,
+        @NonNull ObjectProvider<MeterRegistry> meterRegistry) {
         DataSource defaultDataSource = dataSource(driverClassName, url, username, password);
 
-        return new TenantFactory(defaultDataSource, tenantConfigHome);
+        return new TenantFactory(defaultDataSource, tenantConfigHome, meterRegistry.getIfAvailable());
     }
 
     @Bean
@@ -75,11 +81,28 @@ public class DatabaseConfiguration {
     @Bean
     LocalContainerEntityManagerFactoryBean entityManagerFactory(
         @NonNull DataSource dataSource,
-        @NonNull JpaVendorAdapter jpaVendorAdapter) {
+        @NonNull JpaVendorAdapter jpaVendorAdapter,
+        @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize,
+        @Value("${spring.jpa.properties.hibernate.generate_statistics:false}") boolean generateStatistics) {
         final LocalContainerEntityManagerFactoryBean result = new LocalContainerEntityManagerFactoryBean();
         result.setJpaVendorAdapter(jpaVendorAdapter);
         result.setPackagesToScan("eu.tailoringexpert");
         result.setDataSource(dataSource);
+        // stored identifier counters are the start of the next free block, see IdentifierAllocationSize
+        // catalog trees are written as ordered jdbc batches per table instead of single row inserts
+        // read-only catalog reference data is kept in second level cache, cache keys contain the current tenant
+        result.setJpaPropertyMap(Map.of(
+            AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo",
+            AvailableSettings.STATEMENT_BATCH_SIZE, batchSize,
+            AvailableSettings.ORDER_INSERTS, true,
+            AvailableSettings.ORDER_UPDATES, true,
+            AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+            AvailableSettings.CACHE_REGION_FACTORY, "jcache",
+            ConfigSettings.PROVIDER, "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+            ConfigSettings.MISSING_CACHE_STRATEGY, "create",
+            AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER, new TenantIdentifierResolver(),
+            AvailableSettings.GENERATE_STATISTICS, generateStatistics
+        ));
         return result;
     }
 
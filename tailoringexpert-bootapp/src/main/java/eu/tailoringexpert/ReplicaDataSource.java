@@ -0,0 +1,104 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Datasource distributing connections round-robin over the read replicas of a tenant database.
+ * <p>
+ * A replica failing to provide a connection is skipped until its retry interval elapsed.
+ * If no replica is available connections of the primary database are used.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class ReplicaDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final long retryInterval;
+    private final Clock clock;
+
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLongArray unavailableUntil;
+
+    public ReplicaDataSource(@NonNull DataSource primary, @NonNull List<DataSource> replicas,
+                             @NonNull Duration retryInterval) {
+        this(primary, replicas, retryInterval, Clock.systemUTC());
+    }
+
+    ReplicaDataSource(@NonNull DataSource primary, @NonNull List<DataSource> replicas,
+                      @NonNull Duration retryInterval, @NonNull Clock clock) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.retryInterval = retryInterval.toMillis();
+        this.clock = clock;
+        this.unavailableUntil = new AtomicLongArray(this.replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionProvider provider) throws SQLException {
+        if (!replicas.isEmpty()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                int replica = (start + i) % replicas.size();
+                long now = clock.millis();
+                if (unavailableUntil.get(replica) <= now) {
+                    try {
+                        return provider.getConnection(replicas.get(replica));
+                    } catch (SQLException e) {
+                        log.warn("replica " + replica + " not available, retry in " + retryInterval + "ms", e);
+                        unavailableUntil.set(replica, now + retryInterval);
+                    }
+                }
+            }
+            log.warn("no replica available, using primary database");
+        }
+        return provider.getConnection(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionProvider {
+        Connection getConnection(DataSource dataSource) throws SQLException;
+    }
+}
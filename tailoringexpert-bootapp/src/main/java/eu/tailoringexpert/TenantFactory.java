@@ -21,11 +21,14 @@
  */
 package eu.tailoringexpert;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
 import java.io.File;
@@ -33,7 +36,11 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -44,7 +51,20 @@ import static java.util.Optional.ofNullable;
 
 @Log4j2
 @AllArgsConstructor
-public class TenantFactory {
+public class TenantFactory implements AutoCloseable {
+
+    static final String PROPERTY_REPLICA_URLS = "spring.datasource.replica.urls";
+    static final String PROPERTY_REPLICA_USERNAME = "spring.datasource.replica.username";
+    static final String PROPERTY_REPLICA_PASSWORD = "spring.datasource.replica.password";
+    static final String PROPERTY_REPLICA_RETRY_INTERVAL = "spring.datasource.replica.retry-interval";
+    static final String PROPERTY_POOL_MINIMUM_IDLE = "spring.datasource.hikari.minimum-idle";
+    static final String PROPERTY_POOL_MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+    static final String PROPERTY_POOL_IDLE_TIMEOUT = "spring.datasource.hikari.idle-timeout";
+    static final String PROPERTY_POOL_MAX_LIFETIME = "spring.datasource.hikari.max-lifetime";
+    static final String PROPERTY_POOL_CONNECTION_TIMEOUT = "spring.datasource.hikari.connection-timeout";
+    static final String PROPERTY_POOL_LEAK_DETECTION_THRESHOLD = "spring.datasource.hikari.leak-detection-threshold";
+    static final String PROPERTY_POOL_VALIDATION_TIMEOUT = "spring.datasource.hikari.validation-timeout";
+    static final String PROPERTY_POOL_CONNECTION_TEST_QUERY = "spring.datasource.hikari.connection-test-query";
 
     @NonNull
     private DataSource defaultDataSource;
@@ -52,6 +72,17 @@ public class TenantFactory {
     @NonNull
     private String tenantConfigRoot;
 
+    /**
+     * Registry to publish connection pool metrics of tenants to, if available.
+     */
+    private MeterRegistry meterRegistry;
+
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    public TenantFactory(DataSource defaultDataSource, String tenantConfigRoot) {
+        this(defaultDataSource, tenantConfigRoot, null);
+    }
+
     public Map<String, String> tenants() {
         log.debug("Search tenant configuration in " + Paths.get(tenantConfigRoot).toFile());
 
@@ -104,15 +135,93 @@ public class TenantFactory {
         return result;
     }
 
+    /**
+     * Creates datasource of a tenant.
+     * Connections are pooled, the pool is started on first use of the datasource.
+     * If replica urls are configured, connections of read-only transactions are taken from the replicas, see
+     * {@link ReplicaDataSource}. All other connections are taken from the primary database.
+     *
+     * @param properties tenant properties
+     * @return datasource of tenant
+     */
     DataSource buildDataSource(final Properties properties) {
-        final DriverManagerDataSource result = new DriverManagerDataSource();
+        final String tenantId = properties.getProperty("id");
+        final DataSource primary = buildDataSource(
+            properties,
+            "tenant-" + tenantId,
+            properties.getProperty("spring.datasource.url"),
+            properties.getProperty("spring.datasource.username"),
+            properties.getProperty("spring.datasource.password"));
+
+        final List<String> replicaUrls = Arrays.stream(properties.getProperty(PROPERTY_REPLICA_URLS, "").split(","))
+            .map(String::trim)
+            .filter(url -> !url.isEmpty())
+            .toList();
+        final List<DataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(buildDataSource(
+                properties,
+                "tenant-" + tenantId + "-replica-" + i,
+                replicaUrls.get(i),
+                properties.getProperty(PROPERTY_REPLICA_USERNAME, properties.getProperty("spring.datasource.username")),
+                properties.getProperty(PROPERTY_REPLICA_PASSWORD, properties.getProperty("spring.datasource.password"))));
+        }
+        if (replicas.isEmpty()) {
+            return primary;
+        }
+
+        log.info(tenantId + " uses " + replicas.size() + " replica(s) for read-only transactions");
+        final Duration retryInterval = Duration.ofSeconds(
+            Long.parseLong(properties.getProperty(PROPERTY_REPLICA_RETRY_INTERVAL, "30")));
+        // physical connection is fetched on first statement, when read-only state of the transaction is known
+        final LazyConnectionDataSourceProxy result = new LazyConnectionDataSourceProxy(primary);
+        result.setReadOnlyDataSource(new ReplicaDataSource(primary, replicas, retryInterval));
+        return result;
+    }
+
+    private DataSource buildDataSource(Properties properties, String poolName, String url, String username,
+                                       String password) {
+        // pool is created lazily on first getConnection, so unused tenants don't hold any connection
+        final HikariDataSource result = new HikariDataSource();
+        result.setPoolName(poolName);
         result.setDriverClassName(properties.getProperty("spring.datasource.driver-class-name"));
-        result.setUrl(properties.getProperty("spring.datasource.url"));
-        result.setUsername(properties.getProperty("spring.datasource.username"));
-        result.setPassword(properties.getProperty("spring.datasource.password"));
+        result.setJdbcUrl(url);
+        result.setUsername(username);
+        result.setPassword(password);
+
+        setIfPresent(properties, PROPERTY_POOL_MINIMUM_IDLE, Integer::valueOf, result::setMinimumIdle);
+        setIfPresent(properties, PROPERTY_POOL_MAXIMUM_POOL_SIZE, Integer::valueOf, result::setMaximumPoolSize);
+        setIfPresent(properties, PROPERTY_POOL_IDLE_TIMEOUT, Long::valueOf, result::setIdleTimeout);
+        setIfPresent(properties, PROPERTY_POOL_MAX_LIFETIME, Long::valueOf, result::setMaxLifetime);
+        setIfPresent(properties, PROPERTY_POOL_CONNECTION_TIMEOUT, Long::valueOf, result::setConnectionTimeout);
+        setIfPresent(properties, PROPERTY_POOL_LEAK_DETECTION_THRESHOLD, Long::valueOf, result::setLeakDetectionThreshold);
+        setIfPresent(properties, PROPERTY_POOL_VALIDATION_TIMEOUT, Long::valueOf, result::setValidationTimeout);
+        setIfPresent(properties, PROPERTY_POOL_CONNECTION_TEST_QUERY, Function.identity(), result::setConnectionTestQuery);
+
+        if (!isNull(meterRegistry)) {
+            result.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        pools.add(result);
         return result;
     }
 
+    private <T> void setIfPresent(Properties properties, String key, Function<String, T> converter, Consumer<T> setter) {
+        ofNullable(properties.getProperty(key))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(converter)
+            .ifPresent(setter);
+    }
+
+    /**
+     * Closes all connection pools created by this factory.
+     */
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+        pools.clear();
+    }
+
 
     /**
      * Load propertyfile and replaces placeholder.
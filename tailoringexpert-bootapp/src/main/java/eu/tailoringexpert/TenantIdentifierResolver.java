@@ -0,0 +1,51 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Provides the tenant of the current thread to Hibernate.
+ * The tenant is part of all second level cache keys, so cached entities of different tenant databases do not mix up.
+ *
+ * @author Michael Bädorf
+ */
+public class TenantIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    /**
+     * Identifier used if no tenant is set, e.g. while using the default datasource.
+     */
+    static final String DEFAULT_TENANT = "default";
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        String tenant = TenantContext.getCurrentTenant();
+        return isNull(tenant) ? DEFAULT_TENANT : tenant;
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        return false;
+    }
+}
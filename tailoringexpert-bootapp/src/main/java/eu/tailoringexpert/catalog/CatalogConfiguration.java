@@ -22,15 +22,18 @@
 package eu.tailoringexpert.catalog;
 
 import com.github.difflib.text.DiffRowGenerator;
+import eu.tailoringexpert.TenantContext;
 import eu.tailoringexpert.Tenants;
 import eu.tailoringexpert.domain.*;
 import eu.tailoringexpert.renderer.HTMLTemplateEngine;
 import eu.tailoringexpert.renderer.PDFEngine;
 import eu.tailoringexpert.repository.*;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.NonNull;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -49,30 +52,38 @@ public class CatalogConfiguration {
 
     @Bean
     JPACatalogServiceRepositoryMapper catalogServiceRepositoryMapper(
-        @NonNull LogoRepository logoRepository,
-        @NonNull ApplicableDocumentRepository applicableDocumentRepository,
-        @NonNull DRDRepository drdRepository) {
+        @NonNull LogoRepository logoRepository) {
         JPACatalogServiceRepositoryMapperGenerated result = new JPACatalogServiceRepositoryMapperGenerated();
         result.setLogoRepository(logoRepository);
-        result.setApplicableDocumentRepository(applicableDocumentRepository);
-        result.setDrdRepository(drdRepository);
         return result;
     }
 
 
+    @Bean
+    BaseCatalogSnapshotCache baseCatalogSnapshotCache(
+        @Value("${tailoringexpert.cache.basecatalog.maximum-size:5}") int maximumSize) {
+        return new BaseCatalogSnapshotCache(TenantContext::getCurrentTenant, maximumSize);
+    }
+
     @Bean
     CatalogServiceRepository catalogServiceRepository(
         @NonNull JPACatalogServiceRepositoryMapper mapper,
         @NonNull BaseCatalogRepository baseCatalogRepository,
         @NonNull ApplicableDocumentRepository applicableDocumentRepository,
         @NonNull DRDRepository drdRepository,
-        @NonNull TailoringCatalogRepository tailoringCatalogRepository) {
+        @NonNull TailoringCatalogRepository tailoringCatalogRepository,
+        @NonNull BaseCatalogChapterRepository baseCatalogChapterRepository,
+        @NonNull EntityManagerFactory entityManagerFactory,
+        @NonNull BaseCatalogSnapshotCache baseCatalogSnapshotCache) {
         return new JPACatalogServiceRepository(
             mapper,
             baseCatalogRepository,
             applicableDocumentRepository,
             drdRepository,
-            tailoringCatalogRepository
+            tailoringCatalogRepository,
+            baseCatalogChapterRepository,
+            entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class),
+            baseCatalogSnapshotCache
         );
     }
 
@@ -24,13 +24,18 @@ package eu.tailoringexpert.project;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import eu.tailoringexpert.catalog.BaseCatalogSnapshotCache;
 import eu.tailoringexpert.domain.ResourceMapper;
 import eu.tailoringexpert.repository.ApplicableDocumentRepository;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
 import eu.tailoringexpert.screeningsheet.ScreeningSheetService;
+import eu.tailoringexpert.tailoring.BaseRequirementReferenceHandler;
 import eu.tailoringexpert.tailoring.TailoringService;
 import lombok.NonNull;
 
@@ -55,8 +60,15 @@ public class ProjectConfiguration {
     ProjectServiceRepository projectServiceRepository(
             @NonNull JPAProjectServiceRepositoryMapper mapper,
             @NonNull ProjectRepository projectRepository,
-            @NonNull BaseCatalogRepository baseCatalogRepository) {
-        return new JPAProjectServiceRepository(mapper, projectRepository, baseCatalogRepository);
+            @NonNull BaseCatalogRepository baseCatalogRepository,
+            @NonNull BaseCatalogChapterRepository baseCatalogChapterRepository,
+            @NonNull TailoringCatalogChapterRepository tailoringCatalogChapterRepository,
+            @NonNull BaseRequirementReferenceHandler baseRequirementReferenceHandler,
+            @NonNull BaseCatalogSnapshotCache baseCatalogSnapshotCache,
+            @NonNull PurgeJobRepository purgeJobRepository) {
+        return new JPAProjectServiceRepository(mapper, projectRepository, baseCatalogRepository,
+            baseCatalogChapterRepository, tailoringCatalogChapterRepository, baseRequirementReferenceHandler,
+            baseCatalogSnapshotCache, purgeJobRepository);
     }
 
     @Bean
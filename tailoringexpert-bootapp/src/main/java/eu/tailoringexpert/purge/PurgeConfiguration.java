@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
+import eu.tailoringexpert.repository.ScreeningSheetRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
+import eu.tailoringexpert.tailoring.TenantAttachmentService;
+import eu.tailoringexpert.tailoring.TenantTailoringPathProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.security.MessageDigest;
+
+@Configuration
+@EnableScheduling
+public class PurgeConfiguration {
+
+    @Bean
+    JPAPurgeServiceRepositoryMapper purgeServiceRepositoryMapper() {
+        return new JPAPurgeServiceRepositoryMapperGenerated();
+    }
+
+    @Bean
+    PurgeServiceRepository purgeServiceRepository(
+        @NonNull JPAPurgeServiceRepositoryMapper mapper,
+        @NonNull PurgeJobRepository purgeJobRepository,
+        @NonNull ProjectRepository projectRepository,
+        @NonNull TailoringRepository tailoringRepository,
+        @NonNull TailoringCatalogChapterRepository tailoringCatalogChapterRepository,
+        @NonNull TailoringRequirementRepository tailoringRequirementRepository,
+        @NonNull TailoringRequirementChangeRepository tailoringRequirementChangeRepository,
+        @NonNull ScreeningSheetRepository screeningSheetRepository) {
+        return new JPAPurgeServiceRepository(
+            mapper,
+            purgeJobRepository,
+            projectRepository,
+            tailoringRepository,
+            tailoringCatalogChapterRepository,
+            tailoringRequirementRepository,
+            tailoringRequirementChangeRepository,
+            screeningSheetRepository);
+    }
+
+    @Bean
+    PurgeService purgeService(
+        @NonNull PurgeServiceRepository repository,
+        @NonNull @Value("${tailoringexpert.home.attachment}") String basedir,
+        @Value("${tailoringexpert.purge.batch-size:1000}") int batchSize) throws Exception {
+        // deleted tailorings can't be resolved by name anymore, so attachments are addressed by stored identifier
+        TenantAttachmentService attachmentService = new TenantAttachmentService(
+            new TenantTailoringPathProvider(basedir, (project, identifier) -> identifier),
+            MessageDigest.getInstance("SHA-256"));
+        return new PurgeServiceImpl(repository, attachmentService, batchSize);
+    }
+
+    @Bean
+    PurgeScheduler purgeScheduler(
+        @NonNull PurgeService purgeService,
+        @NonNull ObjectProvider<MeterRegistry> meterRegistry) {
+        return new PurgeScheduler(purgeService, meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,118 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Runs the purge of deleted tailorings and projects of all registered tenants in background.
+ * <p>
+ * Purge progress is persisted in the purge jobs of each tenant. If a registry is available the number of open
+ * purge jobs and completed purge jobs are published per tenant as well.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class PurgeScheduler {
+
+    static final String METRIC_OPEN_JOBS = "tailoringexpert.purge.jobs.open";
+    static final String METRIC_COMPLETED_JOBS = "tailoringexpert.purge.jobs.completed";
+
+    @NonNull
+    private final PurgeService purgeService;
+
+    /**
+     * Registry to publish purge metrics of tenants to, if available.
+     */
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> openJobs = new ConcurrentHashMap<>();
+
+    /**
+     * Purge data of deleted tailorings and projects of all tenants.
+     * A failing purge of a tenant is continued with the next run.
+     */
+    @Scheduled(fixedDelayString = "${tailoringexpert.purge.delay:60000}",
+        initialDelayString = "${tailoringexpert.purge.initial-delay:60000}")
+    public void purge() {
+        log.traceEntry();
+
+        String currentTenant = TenantContext.getCurrentTenant();
+        try {
+            TenantContext.getRegisteredTenants().keySet().forEach(this::purge);
+        } finally {
+            TenantContext.setCurrentTenant(currentTenant);
+        }
+
+        log.traceExit();
+    }
+
+    /**
+     * Purge data of deleted tailorings and projects of a tenant.
+     *
+     * @param tenant tenant to purge
+     */
+    void purge(String tenant) {
+        TenantContext.setCurrentTenant(tenant);
+        try {
+            int completed = purgeService.purge();
+            if (nonNull(meterRegistry)) {
+                Counter.builder(METRIC_COMPLETED_JOBS)
+                    .tag("tenant", tenant)
+                    .register(meterRegistry)
+                    .increment(completed);
+                openJobs.computeIfAbsent(tenant, this::registerOpenJobs)
+                    .set(purgeService.getOpenPurgeJobs().size());
+            }
+        } catch (RuntimeException e) {
+            log.error("Purge of tenant " + tenant + " failed", e);
+        }
+    }
+
+    /**
+     * Register gauge of open purge jobs of a tenant.
+     *
+     * @param tenant tenant to register gauge for
+     * @return value of gauge
+     */
+    private AtomicLong registerOpenJobs(String tenant) {
+        AtomicLong result = new AtomicLong();
+        Gauge.builder(METRIC_OPEN_JOBS, result, AtomicLong::get)
+            .tag("tenant", tenant)
+            .register(meterRegistry);
+        return result;
+    }
+}
@@ -23,12 +23,14 @@ package eu.tailoringexpert.requirement;
 
 import eu.tailoringexpert.Tenant;
 import eu.tailoringexpert.domain.ResourceMapper;
-import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.repository.ApplicableDocumentRepository;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
 import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
 import lombok.NonNull;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.context.annotation.Bean;
@@ -37,7 +39,6 @@ import org.springframework.context.annotation.Primary;
 
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -67,14 +68,18 @@ public class RequirementConfiguration {
     @Bean
     RequirementServiceRepository requirementServiceRepository(
             @NonNull JPARequirementServiceRepositoryMapper mapper,
-            @NonNull ProjectRepository projectRepository,
+            @NonNull TailoringCatalogChapterRepository tailoringCatalogChapterRepository,
+            @NonNull TailoringRequirementRepository tailoringRequirementRepository,
             @NonNull TailoringRequirementChangeRepository tailoringRequirementChangeRepository,
-            @NonNull BiConsumer<TailoringRequirementEntity, TailoringRequirementEntity> requirementChangeLog) {
+            @NonNull RequirementChangeLog requirementChangeLog,
+            @NonNull TailoringRepository tailoringRepository) {
         return new JPARequirementServiceRepository(
                 mapper,
-                projectRepository,
+                tailoringCatalogChapterRepository,
+                tailoringRequirementRepository,
                 tailoringRequirementChangeRepository,
-                requirementChangeLog);
+                requirementChangeLog,
+                tailoringRepository);
     }
 
     @Bean
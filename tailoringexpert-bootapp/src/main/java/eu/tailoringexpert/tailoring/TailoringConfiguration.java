@@ -44,6 +44,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -51,11 +52,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
 
 import com.github.difflib.text.DiffRowGenerator;
 
 import eu.tailoringexpert.Tenant;
 import eu.tailoringexpert.Tenants;
+import eu.tailoringexpert.catalog.BaseCatalogSnapshotCache;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Chapter;
@@ -69,11 +75,14 @@ import eu.tailoringexpert.renderer.HTMLTemplateEngine;
 import eu.tailoringexpert.renderer.PDFEngine;
 import eu.tailoringexpert.renderer.RendererRequestConfigurationSupplier;
 import eu.tailoringexpert.repository.ApplicableDocumentRepository;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
 import eu.tailoringexpert.repository.DokumentSigneeRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
 import eu.tailoringexpert.repository.SelectionVectorProfileRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
 import eu.tailoringexpert.repository.TailoringIdentifierProviderRepository;
 import eu.tailoringexpert.repository.TailoringRepository;
 import eu.tailoringexpert.requirement.RequirementService;
@@ -101,10 +110,14 @@ public class TailoringConfiguration {
     @Bean
     JPABaseRequirementsProviderRepository baseRequirementsProviderRepository(
             @NonNull JPABaseRequirementsProviderRepositoryMapper mapper,
-            @NonNull BaseCatalogRepository baseCatalogRepository) {
+            @NonNull BaseCatalogRepository baseCatalogRepository,
+            @NonNull BaseCatalogChapterRepository baseCatalogChapterRepository,
+            @NonNull BaseCatalogSnapshotCache baseCatalogSnapshotCache) {
         return new JPABaseRequirementsProviderRepository(
                 mapper,
-                baseCatalogRepository);
+                baseCatalogRepository,
+                baseCatalogChapterRepository,
+                baseCatalogSnapshotCache);
     }
 
     @Bean
@@ -130,13 +143,24 @@ public class TailoringConfiguration {
             @NonNull ProjectRepository projectRepository,
             @NonNull TailoringRepository tailoringRepository,
             @NonNull SelectionVectorProfileRepository selectionVectorProfileRepository,
-            @NonNull DokumentSigneeRepository dokumentSigneeRepository) {
+            @NonNull DokumentSigneeRepository dokumentSigneeRepository,
+            @NonNull TailoringCatalogChapterRepository tailoringCatalogChapterRepository,
+            @NonNull PurgeJobRepository purgeJobRepository) {
         return new JPATailoringServiceRepository(
                 mapper,
                 projectRepository,
                 tailoringRepository,
                 selectionVectorProfileRepository,
-                dokumentSigneeRepository);
+                dokumentSigneeRepository,
+                tailoringCatalogChapterRepository,
+                purgeJobRepository);
+    }
+
+    @Bean
+    BaseRequirementReferenceHandler baseRequirementReferenceHandler(
+            @NonNull BaseCatalogRepository baseCatalogRepository,
+            @NonNull BaseCatalogChapterRepository baseCatalogChapterRepository) {
+        return new BaseRequirementReferenceHandler(baseCatalogRepository, baseCatalogChapterRepository);
     }
 
     @Bean
@@ -163,10 +187,11 @@ public class TailoringConfiguration {
             @NonNull TailoringDeletablePredicate tailoringDeletablePredicate,
             @NonNull DocumentService documentService,
             @NonNull RequirementService requirementService,
-            @NonNull Function<byte[], Map<String, Collection<ImportRequirement>>> tailoringAnforderungFileReader,
+            @NonNull Function<byte[], Map<String, Map<String, ImportRequirement>>> tailoringAnforderungFileReader,
             @NonNull AttachmentService attachmentService,
-            @NonNull Function<String, Map<String, BaseRequirement>> baseRequirementsProvider) {
-        return new TailoringServiceImpl(
+            @NonNull Function<String, Map<String, BaseRequirement>> baseRequirementsProvider,
+            @NonNull PlatformTransactionManager transactionManager) {
+        TailoringService service = new TailoringServiceImpl(
                 repository,
                 mapper,
                 tailoringDeletablePredicate,
@@ -175,6 +200,22 @@ public class TailoringConfiguration {
                 tailoringAnforderungFileReader,
                 attachmentService,
                 baseRequirementsProvider);
+
+        // pure reading methods are executed in read-only transactions, to be served by tenant replicas if configured
+        RuleBasedTransactionAttribute readOnly = new RuleBasedTransactionAttribute();
+        readOnly.setReadOnly(true);
+        NameMatchTransactionAttributeSource attributeSource = new NameMatchTransactionAttributeSource();
+        Set.of(
+                "createRequirementDocument",
+                "createComparisonDocument",
+                "createDocuments",
+                "createTailoringsDiffDocument",
+                "getCatalog")
+            .forEach(method -> attributeSource.addTransactionalMethod(method, readOnly));
+
+        ProxyFactory proxyFactory = new ProxyFactory(service);
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, attributeSource));
+        return (TailoringService) proxyFactory.getProxy();
     }
 
     @Bean
@@ -216,7 +257,7 @@ public class TailoringConfiguration {
     }
 
     @Bean
-    Function<byte[], Map<String, Collection<ImportRequirement>>> tailoringAnforderungExcelFileReader() {
+    Function<byte[], Map<String, Map<String, ImportRequirement>>> tailoringAnforderungExcelFileReader() {
         return new TailoringRequirementExcelFileReader();
     }
 
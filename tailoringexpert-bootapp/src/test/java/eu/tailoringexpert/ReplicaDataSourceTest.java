@@ -0,0 +1,176 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ReplicaDataSourceTest {
+
+    DataSource primaryMock;
+    DataSource replica1Mock;
+    DataSource replica2Mock;
+    Clock clockMock;
+    ReplicaDataSource dataSource;
+
+    @BeforeEach
+    void beforeEach() {
+        this.primaryMock = mock(DataSource.class);
+        this.replica1Mock = mock(DataSource.class);
+        this.replica2Mock = mock(DataSource.class);
+        this.clockMock = mock(Clock.class);
+        given(clockMock.millis()).willReturn(0L);
+
+        this.dataSource = new ReplicaDataSource(primaryMock, List.of(replica1Mock, replica2Mock),
+            Duration.ofSeconds(30), clockMock);
+    }
+
+    @Test
+    void getConnection_ReplicasAvailable_ConnectionsTakenRoundRobin() throws Exception {
+        // arrange
+        Connection connection1 = mock(Connection.class);
+        given(replica1Mock.getConnection()).willReturn(connection1);
+        Connection connection2 = mock(Connection.class);
+        given(replica2Mock.getConnection()).willReturn(connection2);
+
+        // act
+        List<Connection> actual = List.of(
+            dataSource.getConnection(),
+            dataSource.getConnection(),
+            dataSource.getConnection());
+
+        // assert
+        assertThat(actual).containsExactly(connection1, connection2, connection1);
+        verify(primaryMock, times(0)).getConnection();
+    }
+
+    @Test
+    void getConnection_ReplicaFails_NextReplicaUsedAndFailedReplicaSkipped() throws Exception {
+        // arrange
+        given(replica1Mock.getConnection()).willThrow(new SQLException("down"));
+        Connection connection2 = mock(Connection.class);
+        given(replica2Mock.getConnection()).willReturn(connection2);
+
+        // act
+        Connection actual1 = dataSource.getConnection();
+        Connection actual2 = dataSource.getConnection();
+        Connection actual3 = dataSource.getConnection();
+
+        // assert
+        assertThat(actual1).isEqualTo(connection2);
+        assertThat(actual2).isEqualTo(connection2);
+        assertThat(actual3).isEqualTo(connection2);
+        verify(replica1Mock, times(1)).getConnection();
+    }
+
+    @Test
+    void getConnection_NoReplicaAvailable_PrimaryConnectionReturned() throws Exception {
+        // arrange
+        given(replica1Mock.getConnection()).willThrow(new SQLException("down"));
+        given(replica2Mock.getConnection()).willThrow(new SQLException("down"));
+        Connection connection = mock(Connection.class);
+        given(primaryMock.getConnection()).willReturn(connection);
+
+        // act
+        Connection actual = dataSource.getConnection();
+
+        // assert
+        assertThat(actual).isEqualTo(connection);
+    }
+
+    @Test
+    void getConnection_RetryIntervalElapsed_FailedReplicaUsedAgain() throws Exception {
+        // arrange
+        Connection connection1 = mock(Connection.class);
+        given(replica1Mock.getConnection())
+            .willThrow(new SQLException("down"))
+            .willReturn(connection1);
+        given(replica2Mock.getConnection()).willThrow(new SQLException("down"));
+        Connection primaryConnection = mock(Connection.class);
+        given(primaryMock.getConnection()).willReturn(primaryConnection);
+
+        Connection beforeRetry = dataSource.getConnection();
+        given(clockMock.millis()).willReturn(Duration.ofSeconds(30).toMillis());
+
+        // act
+        Connection actual = dataSource.getConnection();
+
+        // assert
+        assertThat(beforeRetry).isEqualTo(primaryConnection);
+        assertThat(actual).isEqualTo(connection1);
+    }
+
+    @Test
+    void getConnection_EmbeddedDatabases_ReadOnlyTransactionReadsReplica() {
+        // arrange
+        DataSource primary = createDatabase("tailoringexpert-replica-primary", "primary");
+        DataSource replica = createDatabase("tailoringexpert-replica-replica", "replica");
+
+        LazyConnectionDataSourceProxy tenantDataSource = new LazyConnectionDataSourceProxy(primary);
+        tenantDataSource.setReadOnlyDataSource(new ReplicaDataSource(primary, List.of(replica), Duration.ofSeconds(30),
+            Clock.fixed(Instant.EPOCH, ZoneOffset.UTC)));
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(tenantDataSource);
+        TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(tenantDataSource));
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(tenantDataSource));
+        readOnly.setReadOnly(true);
+
+        // act
+        String actualReadWrite = readWrite.execute(status ->
+            jdbcTemplate.queryForObject("SELECT NAME FROM DATABASE_ROLE", String.class));
+        String actualReadOnly = readOnly.execute(status ->
+            jdbcTemplate.queryForObject("SELECT NAME FROM DATABASE_ROLE", String.class));
+
+        // assert
+        assertThat(actualReadWrite).isEqualTo("primary");
+        assertThat(actualReadOnly).isEqualTo("replica");
+    }
+
+    private DataSource createDatabase(String name, String role) {
+        DriverManagerDataSource result = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(result);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS DATABASE_ROLE");
+        jdbcTemplate.execute("CREATE TABLE DATABASE_ROLE(NAME VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO DATABASE_ROLE(NAME) VALUES (?)", role);
+        return result;
+    }
+}
@@ -21,12 +21,15 @@
  */
 package eu.tailoringexpert;
 
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
 import java.io.File;
@@ -36,6 +39,7 @@ import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.sql.Connection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -132,7 +136,7 @@ class TenantFactoryTest {
     }
 
     @Test
-    void buildDataSource_PropertiesGiven_DriverManagerDataSourceReturned() {
+    void buildDataSource_PropertiesGiven_NotStartedHikariDataSourceReturned() {
         // arrange
         Properties properties = createProperties();
 
@@ -142,7 +146,78 @@ class TenantFactoryTest {
         // assert
         assertThat(actual)
             .isNotNull()
-            .isInstanceOf(DriverManagerDataSource.class);
+            .isInstanceOf(HikariDataSource.class);
+        assertThat(((HikariDataSource) actual).getPoolName()).isEqualTo("tenant-demo");
+        assertThat(((HikariDataSource) actual).isRunning()).isFalse();
+    }
+
+    @Test
+    void buildDataSource_PoolPropertiesGiven_PoolConfigured() {
+        // arrange
+        Properties properties = createProperties();
+        properties.put("spring.datasource.hikari.minimum-idle", "1");
+        properties.put("spring.datasource.hikari.maximum-pool-size", "5");
+        properties.put("spring.datasource.hikari.idle-timeout", "60000");
+        properties.put("spring.datasource.hikari.leak-detection-threshold", "20000");
+        properties.put("spring.datasource.hikari.validation-timeout", "1000");
+        properties.put("spring.datasource.hikari.connection-test-query", "SELECT 1");
+
+        // act
+        DataSource actual = factory.buildDataSource(properties);
+
+        // assert
+        HikariDataSource pool = (HikariDataSource) actual;
+        assertThat(pool.getMinimumIdle()).isEqualTo(1);
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(5);
+        assertThat(pool.getIdleTimeout()).isEqualTo(60000);
+        assertThat(pool.getLeakDetectionThreshold()).isEqualTo(20000);
+        assertThat(pool.getValidationTimeout()).isEqualTo(1000);
+        assertThat(pool.getConnectionTestQuery()).isEqualTo("SELECT 1");
+    }
+
+    @Test
+    void buildDataSource_MeterRegistryGiven_PoolMetricsOfTenantPublishedOnFirstUse() throws Exception {
+        // arrange
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TenantFactory metricFactory = new TenantFactory(defaultDataSourceMock, "tenants", meterRegistry);
+
+        Properties properties = createProperties();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:tailoringexpert-metrics;DB_CLOSE_DELAY=-1");
+
+        DataSource dataSource = metricFactory.buildDataSource(properties);
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNull();
+
+        // act
+        try (Connection connection = dataSource.getConnection()) {
+            // assert
+            assertThat(connection).isNotNull();
+            assertThat(meterRegistry.get("hikaricp.connections.active").tag("pool", "tenant-demo").gauge().value())
+                .isEqualTo(1);
+        } finally {
+            metricFactory.close();
+        }
+        assertThat(((HikariDataSource) dataSource).isClosed()).isTrue();
+    }
+
+    @Test
+    void buildDataSource_ReplicaUrlsGiven_LazyConnectionDataSourceProxyWithReplicaReadOnlyDataSourceReturned() throws Exception {
+        // arrange
+        Properties properties = createProperties();
+        properties.put("spring.datasource.replica.urls",
+            "jdbc:h2:mem:tailoringexpert-demo-replica1;DB_CLOSE_DELAY=-1, jdbc:h2:mem:tailoringexpert-demo-replica2;DB_CLOSE_DELAY=-1");
+
+        // act
+        DataSource actual = factory.buildDataSource(properties);
+
+        // assert
+        assertThat(actual)
+            .isNotNull()
+            .isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) actual).getTargetDataSource())
+            .isInstanceOf(HikariDataSource.class);
+        Field field = LazyConnectionDataSourceProxy.class.getDeclaredField("readOnlyDataSource");
+        field.setAccessible(true); //NOPMD - suppressed AvoidAccessibilityAlteration
+        assertThat(field.get(actual)).isInstanceOf(ReplicaDataSource.class);
     }
 
     @Test
@@ -0,0 +1,63 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+class TenantIdentifierResolverTest {
+
+    @Test
+    void resolveCurrentTenantIdentifier_TenantSet_TenantReturned() {
+        // arrange
+        TenantIdentifierResolver resolver = new TenantIdentifierResolver();
+
+        // act
+        String actual;
+        try (MockedStatic<TenantContext> tc = mockStatic(TenantContext.class)) {
+            tc.when(TenantContext::getCurrentTenant).thenReturn("plattform");
+            actual = resolver.resolveCurrentTenantIdentifier();
+        }
+
+        // assert
+        assertThat(actual).isEqualTo("plattform");
+    }
+
+    @Test
+    void resolveCurrentTenantIdentifier_TenantNotSet_DefaultTenantReturned() {
+        // arrange
+        TenantIdentifierResolver resolver = new TenantIdentifierResolver();
+
+        // act
+        String actual;
+        try (MockedStatic<TenantContext> tc = mockStatic(TenantContext.class)) {
+            tc.when(TenantContext::getCurrentTenant).thenReturn(null);
+            actual = resolver.resolveCurrentTenantIdentifier();
+        }
+
+        // assert
+        assertThat(actual).isEqualTo(TenantIdentifierResolver.DEFAULT_TENANT);
+    }
+}
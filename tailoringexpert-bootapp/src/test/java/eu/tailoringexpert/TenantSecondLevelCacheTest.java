@@ -0,0 +1,113 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert;
+
+import eu.tailoringexpert.domain.LogoEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantSecondLevelCacheTest {
+
+    private DataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setup() {
+        this.dataSource = new DriverManagerDataSource("jdbc:h2:mem:tenantcache;DB_CLOSE_DELAY=-1", "sa", "");
+
+        HibernateJpaVendorAdapter jpaVendorAdapter = new HibernateJpaVendorAdapter();
+        jpaVendorAdapter.setDatabase(Database.H2);
+        jpaVendorAdapter.setGenerateDdl(true);
+
+        this.factoryBean = new DatabaseConfiguration().entityManagerFactory(dataSource, jpaVendorAdapter, 100, true);
+        this.factoryBean.afterPropertiesSet();
+        this.entityManagerFactory = factoryBean.getObject();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.setCurrentTenant(null);
+        factoryBean.destroy();
+    }
+
+    @Test
+    void find_SameIdInTwoTenants_EachTenantGetsOwnCachedValue() {
+        // arrange
+        TenantContext.setCurrentTenant("TENANT1");
+        Long id = persist(LogoEntity.builder().name("TENANT1").build());
+        assertThat(find(id).getName()).isEqualTo("TENANT1");
+
+        // database content of other tenant, not passing hibernate and therefore not evicting any cache entry
+        new JdbcTemplate(dataSource).update("UPDATE LOGO SET NAME = 'TENANT2' WHERE LOGO_ID = ?", id);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // act
+        TenantContext.setCurrentTenant("TENANT2");
+        LogoEntity actualTenant2 = find(id);
+        TenantContext.setCurrentTenant("TENANT1");
+        LogoEntity actualTenant1 = find(id);
+
+        // assert
+        assertThat(actualTenant2.getName()).isEqualTo("TENANT2");
+        assertThat(actualTenant1.getName()).isEqualTo("TENANT1");
+        assertThat(statistics.getSecondLevelCacheMissCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    private Long persist(LogoEntity logo) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.persist(logo);
+            entityManager.getTransaction().commit();
+            return logo.getId();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private LogoEntity find(Long id) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.find(LogoEntity.class, id);
+        } finally {
+            entityManager.close();
+        }
+    }
+}
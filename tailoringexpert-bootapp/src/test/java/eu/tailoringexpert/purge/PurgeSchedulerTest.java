@@ -0,0 +1,91 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.TenantContext;
+import eu.tailoringexpert.domain.PurgeJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PurgeSchedulerTest {
+
+    PurgeService purgeServiceMock;
+    MeterRegistry meterRegistry;
+    PurgeScheduler scheduler;
+
+    @BeforeEach
+    void setup() {
+        this.purgeServiceMock = mock(PurgeService.class);
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.scheduler = new PurgeScheduler(purgeServiceMock, meterRegistry);
+    }
+
+    @Test
+    void purge_2Tenants_EachTenantPurgedAndMetricsPublished() {
+        // arrange
+        given(purgeServiceMock.purge()).willReturn(2, 0);
+        given(purgeServiceMock.getOpenPurgeJobs()).willReturn(List.of(), List.of(PurgeJob.builder().id(1L).build()));
+
+        // act
+        try (MockedStatic<TenantContext> tc = mockStatic(TenantContext.class)) {
+            tc.when(TenantContext::getRegisteredTenants).thenReturn(Map.of("plattform", "Plattform"));
+            scheduler.purge();
+            tc.verify(() -> TenantContext.setCurrentTenant("plattform"), times(1));
+        }
+        scheduler.purge("demo");
+
+        // assert
+        verify(purgeServiceMock, times(2)).purge();
+        assertThat(meterRegistry.get(PurgeScheduler.METRIC_COMPLETED_JOBS).tag("tenant", "plattform").counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(PurgeScheduler.METRIC_OPEN_JOBS).tag("tenant", "plattform").gauge().value())
+            .isZero();
+        assertThat(meterRegistry.get(PurgeScheduler.METRIC_OPEN_JOBS).tag("tenant", "demo").gauge().value())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void purge_PurgeFails_ExceptionNotPropagated() {
+        // arrange
+        given(purgeServiceMock.purge()).willThrow(new RuntimeException("Mocked purge failure"));
+
+        // act
+        scheduler.purge("plattform");
+
+        // assert
+        verify(purgeServiceMock, times(1)).purge();
+        assertThat(meterRegistry.find(PurgeScheduler.METRIC_OPEN_JOBS).gauge()).isNull();
+    }
+}
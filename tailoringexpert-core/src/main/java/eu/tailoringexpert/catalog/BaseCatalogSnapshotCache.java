@@ -0,0 +1,126 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.catalog;
+
+import eu.tailoringexpert.domain.BaseCatalogSnapshot;
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of {@link BaseCatalogSnapshot}s.
+ * <p>
+ * Snapshots are held per tenant, each tenant keeps at most <code>maximumSize</code> catalog versions.
+ * The least recently used version is dropped if the limit is exceeded.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class BaseCatalogSnapshotCache {
+
+    /**
+     * Provider of the tenant the cache is used for.
+     */
+    private final Supplier<String> tenantProvider;
+
+    /**
+     * Maximum number of catalog versions per tenant.
+     */
+    private final int maximumSize;
+
+    private final Map<String, Map<String, BaseCatalogSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    public BaseCatalogSnapshotCache(@NonNull Supplier<String> tenantProvider, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximum size must be at least 1");
+        }
+        this.tenantProvider = tenantProvider;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Get snapshot of a base catalog.
+     * If the snapshot is not cached yet, the catalog is loaded and the created snapshot is added to the cache.
+     *
+     * @param version version of base catalog
+     * @param loader  function to load base catalog of requested version
+     * @return snapshot of base catalog if catalog exists, otherwise empty
+     */
+    public Optional<BaseCatalogSnapshot> get(String version,
+                                             @NonNull Function<String, Optional<Catalog<BaseRequirement>>> loader) {
+        log.traceEntry(() -> version);
+
+        Map<String, BaseCatalogSnapshot> tenantSnapshots = tenantSnapshots();
+        BaseCatalogSnapshot result;
+        synchronized (tenantSnapshots) {
+            result = tenantSnapshots.get(version);
+        }
+        if (Objects.isNull(result)) {
+            Optional<BaseCatalogSnapshot> loaded = loader.apply(version).map(BaseCatalogSnapshot::of);
+            if (loaded.isEmpty()) {
+                return log.traceExit(Optional.empty());
+            }
+            synchronized (tenantSnapshots) {
+                result = tenantSnapshots.computeIfAbsent(version, key -> loaded.get());
+            }
+        }
+
+        return log.traceExit(Optional.of(result));
+    }
+
+    /**
+     * Remove snapshot of a base catalog version of the current tenant.
+     *
+     * @param version version of base catalog to remove
+     */
+    public void evict(String version) {
+        log.traceEntry(() -> version);
+
+        Map<String, BaseCatalogSnapshot> tenantSnapshots = tenantSnapshots();
+        synchronized (tenantSnapshots) {
+            tenantSnapshots.remove(version);
+        }
+
+        log.traceExit();
+    }
+
+    private Map<String, BaseCatalogSnapshot> tenantSnapshots() {
+        String tenant = Objects.toString(tenantProvider.get(), "");
+        return snapshots.computeIfAbsent(tenant, key -> new LinkedHashMap<>(maximumSize, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BaseCatalogSnapshot> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+}
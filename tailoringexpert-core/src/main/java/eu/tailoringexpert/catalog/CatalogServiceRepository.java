@@ -80,6 +80,10 @@ public interface CatalogServiceRepository {
 
     /**
      * Deletes base catalog of provided version.
+     * <p>
+     * Requirements of tailorings reference the requirements of their base catalog, so a catalog still used by any
+     * tailoring cannot be deleted. Check with {@link #isCatalogUsed(String)} before, otherwise deletion fails with a
+     * {@link eu.tailoringexpert.TailoringexpertException}.
      *
      * @param version version of base catalog to delete
      * @return true, if deleted
@@ -88,6 +92,7 @@ public interface CatalogServiceRepository {
 
     /**
      * Checks, of base catalog of provided version is used in any tailoring.
+     * Tailorings marked as deleted but not purged yet still use their base catalog.
      *
      * @param version base catalog version to check
      * @return true, if used by at least one tailoring
@@ -0,0 +1,675 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.catalog;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.Document;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.Logo;
+import eu.tailoringexpert.domain.Phase;
+import eu.tailoringexpert.domain.Reference;
+import eu.tailoringexpert.domain.Requirement;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Arrays.asList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Versioned binary snapshot format of base and tailoring catalogs.
+ * <p>
+ * Every string is written once to a string table, equal logos, references, DRDs, documents and identifiers are
+ * written once to object tables. Chapters and requirements refer to table entries by index and all numbers are
+ * written as varints. Snapshot files are read memory mapped.
+ * <p>
+ * Layout: magic <code>TECS</code>, format version, requirement type, string table, logo, reference, DRD, document
+ * and identifier tables, catalog version and table of contents. Tables and collections start with their size,
+ * references to table entries and collection sizes are incremented by one to encode <code>null</code> as 0.
+ * <p>
+ * Decoded requirements get their own copy of their reference, because the changed state of a reference is modified
+ * per requirement. Logos, DRDs, documents and identifiers of a decoded catalog are shared between requirements.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class CatalogSnapshotCodec {
+
+    /**
+     * Current version of the snapshot format.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Leading bytes of each snapshot (<code>TECS</code>).
+     */
+    static final int MAGIC = 0x54454353;
+
+    private static final int BASE_REQUIREMENT = 0;
+    private static final int TAILORING_REQUIREMENT = 1;
+
+    /**
+     * Encode a catalog to a snapshot.
+     *
+     * @param catalog catalog to encode
+     * @param type    requirement type of catalog, either {@link BaseRequirement} or {@link TailoringRequirement}
+     * @param out     stream to write snapshot to
+     * @param <T>     requirement type of catalog
+     * @throws IOException in case of failing to write snapshot
+     */
+    public <T extends Requirement> void encode(@NonNull Catalog<T> catalog,
+                                               @NonNull Class<T> type,
+                                               @NonNull OutputStream out) throws IOException {
+        new Encoder(requirementType(type)).encode(catalog, out);
+    }
+
+    /**
+     * Encode a catalog to a snapshot.
+     *
+     * @param catalog catalog to encode
+     * @param type    requirement type of catalog, either {@link BaseRequirement} or {@link TailoringRequirement}
+     * @param <T>     requirement type of catalog
+     * @return snapshot of catalog
+     */
+    public <T extends Requirement> byte[] encode(@NonNull Catalog<T> catalog, @NonNull Class<T> type) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try {
+            encode(catalog, type, result);
+        } catch (IOException e) {
+            // not thrown by ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Decode a catalog from a snapshot.
+     * Decoding starts at the current position of the buffer.
+     *
+     * @param buffer buffer containing snapshot
+     * @param type   requirement type of catalog, either {@link BaseRequirement} or {@link TailoringRequirement}
+     * @param <T>    requirement type of catalog
+     * @return decoded catalog
+     * @throws StreamCorruptedException in case of buffer not containing a valid snapshot of requested type
+     */
+    public <T extends Requirement> Catalog<T> decode(@NonNull ByteBuffer buffer,
+                                                     @NonNull Class<T> type) throws StreamCorruptedException {
+        try {
+            return new Decoder<T>(buffer, requirementType(type)).decode();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            StreamCorruptedException result = new StreamCorruptedException("catalog snapshot is truncated or corrupted");
+            result.initCause(e);
+            throw result;
+        }
+    }
+
+    /**
+     * Write snapshot of a catalog to a file.
+     *
+     * @param catalog catalog to write
+     * @param type    requirement type of catalog, either {@link BaseRequirement} or {@link TailoringRequirement}
+     * @param file    file to write snapshot to
+     * @param <T>     requirement type of catalog
+     * @throws IOException in case of failing to write file
+     */
+    public <T extends Requirement> void write(@NonNull Catalog<T> catalog,
+                                              @NonNull Class<T> type,
+                                              @NonNull Path file) throws IOException {
+        log.traceEntry(() -> catalog.getVersion(), () -> file);
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            encode(catalog, type, out);
+        }
+
+        log.traceExit();
+    }
+
+    /**
+     * Read snapshot of a catalog from a memory mapped file.
+     *
+     * @param file file to read snapshot of
+     * @param type requirement type of catalog, either {@link BaseRequirement} or {@link TailoringRequirement}
+     * @param <T>  requirement type of catalog
+     * @return read catalog
+     * @throws IOException in case of failing to read file or file not containing a valid snapshot of requested type
+     */
+    public <T extends Requirement> Catalog<T> read(@NonNull Path file, @NonNull Class<T> type) throws IOException {
+        log.traceEntry(() -> file);
+
+        Catalog<T> result;
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            result = decode(channel.map(READ_ONLY, 0, channel.size()), type);
+        }
+
+        return log.traceExit(result);
+    }
+
+    private static int requirementType(Class<?> type) {
+        if (BaseRequirement.class.equals(type)) {
+            return BASE_REQUIREMENT;
+        }
+        if (TailoringRequirement.class.equals(type)) {
+            return TAILORING_REQUIREMENT;
+        }
+        throw new IllegalArgumentException("unsupported requirement type " + type.getName());
+    }
+
+    /**
+     * Byte output with varint support.
+     */
+    private static final class Output extends ByteArrayOutputStream {
+
+        private void varint(int value) {
+            varlong(value & 0xFFFFFFFFL);
+        }
+
+        private void varlong(long value) {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0) {
+                write((int) (remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            write((int) remaining);
+        }
+
+        private void signed(long value) {
+            varlong((value << 1) ^ (value >> 63));
+        }
+    }
+
+    /**
+     * Table of encoded objects, each object is encoded only once.
+     */
+    private static final class Table {
+        private final Map<Object, Integer> references = new HashMap<>();
+        private final Output output = new Output();
+
+        /**
+         * Get reference of an object, encode the object if not contained yet.
+         *
+         * @param key     key identifying equal objects
+         * @param encoder encoder of the object
+         * @return index of object incremented by one
+         */
+        private int reference(Object key, Consumer<Output> encoder) {
+            Integer result = references.get(key);
+            if (isNull(result)) {
+                encoder.accept(output);
+                result = references.size() + 1;
+                references.put(key, result);
+            }
+            return result;
+        }
+
+        private void writeTo(Output out) {
+            out.varint(references.size());
+            out.write(output.toByteArray(), 0, output.size());
+        }
+    }
+
+    private static final class Encoder {
+        private final int requirementType;
+        private final Table strings = new Table();
+        private final Table logos = new Table();
+        private final Table references = new Table();
+        private final Table drds = new Table();
+        private final Table documents = new Table();
+        private final Table identifiers = new Table();
+        private final Output body = new Output();
+
+        private Encoder(int requirementType) {
+            this.requirementType = requirementType;
+        }
+
+        private void encode(Catalog<?> catalog, OutputStream out) throws IOException {
+            body.varint(string(catalog.getVersion()));
+            body.write(isNull(catalog.getToc()) ? 0 : 1);
+            if (nonNull(catalog.getToc())) {
+                chapter(catalog.getToc());
+            }
+
+            Output header = new Output();
+            header.write(MAGIC >>> 24);
+            header.write(MAGIC >>> 16);
+            header.write(MAGIC >>> 8);
+            header.write(MAGIC);
+            header.varint(FORMAT_VERSION);
+            header.varint(requirementType);
+            strings.writeTo(header);
+            logos.writeTo(header);
+            references.writeTo(header);
+            drds.writeTo(header);
+            documents.writeTo(header);
+            identifiers.writeTo(header);
+            header.writeTo(out);
+            body.writeTo(out);
+        }
+
+        private void chapter(Chapter<?> chapter) {
+            body.varint(string(chapter.getName()));
+            body.signed(chapter.getPosition());
+            body.varint(string(chapter.getNumber()));
+            collection(chapter.getChapters(), this::chapter);
+            collection(chapter.getRequirements(), this::requirement);
+        }
+
+        private void requirement(Requirement requirement) {
+            body.varint(string(requirement.getText()));
+            body.varint(string(requirement.getPosition()));
+            body.varint(reference(requirement.getReference()));
+            collection(requirement.getApplicableDocuments(), document -> body.varint(document(document)));
+            collection(requirement.getDrds(), drd -> body.varint(drd(drd)));
+            if (requirementType == BASE_REQUIREMENT) {
+                BaseRequirement baseRequirement = (BaseRequirement) requirement;
+                body.varint(phases(baseRequirement.getPhases()));
+                collection(baseRequirement.getIdentifiers(), identifier -> body.varint(identifier(identifier)));
+            } else {
+                TailoringRequirement tailoringRequirement = (TailoringRequirement) requirement;
+                body.write(isNull(tailoringRequirement.getSelected()) ? 0 : tailoringRequirement.getSelected() ? 2 : 1);
+                dateTime(tailoringRequirement.getSelectionChanged());
+                dateTime(tailoringRequirement.getTextChanged());
+            }
+        }
+
+        private <E> void collection(Collection<E> elements, Consumer<E> encoder) {
+            if (isNull(elements)) {
+                body.varint(0);
+                return;
+            }
+            body.varint(elements.size() + 1);
+            elements.forEach(encoder);
+        }
+
+        private int phases(Collection<Phase> phases) {
+            if (isNull(phases)) {
+                return 0;
+            }
+            int result = 0;
+            for (Phase phase : phases) {
+                result |= nonNull(phase) ? 1 << phase.ordinal() : 0;
+            }
+            return result + 1;
+        }
+
+        private void dateTime(ZonedDateTime dateTime) {
+            if (isNull(dateTime)) {
+                body.varint(0);
+                return;
+            }
+            body.varint(string(dateTime.getZone().getId()));
+            body.signed(dateTime.toEpochSecond());
+            body.varint(dateTime.getNano());
+        }
+
+        private int reference(Reference reference) {
+            return isNull(reference) ? 0 : references.reference(
+                asList(reference.getText(), reference.getIssue(), reference.getReleaseDate(), reference.getChanged(),
+                    reference.getLogo()),
+                out -> {
+                    out.varint(string(reference.getText()));
+                    out.varint(string(reference.getIssue()));
+                    out.varint(string(reference.getReleaseDate()));
+                    out.write(isNull(reference.getChanged()) ? 0 : reference.getChanged() ? 2 : 1);
+                    out.varint(logo(reference.getLogo()));
+                });
+        }
+
+        private int logo(Logo logo) {
+            return isNull(logo) ? 0 : logos.reference(
+                asList(logo.getName(), logo.getUrl()),
+                out -> {
+                    out.varint(string(logo.getName()));
+                    out.varint(string(logo.getUrl()));
+                });
+        }
+
+        private int document(Document document) {
+            return isNull(document) ? 0 : documents.reference(
+                asList(document.getNumber(), document.getTitle(), document.getIssue(), document.getRevision(),
+                    document.getDescription(), document.getApplicable()),
+                out -> {
+                    out.varint(string(document.getNumber()));
+                    out.varint(string(document.getTitle()));
+                    out.varint(string(document.getIssue()));
+                    out.varint(string(document.getRevision()));
+                    out.varint(string(document.getDescription()));
+                    out.write(isNull(document.getApplicable()) ? 0 : document.getApplicable() ? 2 : 1);
+                });
+        }
+
+        private int drd(DRD drd) {
+            return isNull(drd) ? 0 : drds.reference(
+                asList(drd.getNumber(), drd.getTitle(), drd.getSubtitle(), drd.getDeliveryDate(), drd.getAction()),
+                out -> {
+                    out.varint(string(drd.getNumber()));
+                    out.varint(string(drd.getTitle()));
+                    out.varint(string(drd.getSubtitle()));
+                    out.varint(string(drd.getDeliveryDate()));
+                    out.varint(string(drd.getAction()));
+                });
+        }
+
+        private int identifier(Identifier identifier) {
+            return isNull(identifier) ? 0 : identifiers.reference(
+                asList(identifier.getType(), identifier.getLevel(), identifier.getLimitations()),
+                out -> {
+                    out.varint(string(identifier.getType()));
+                    out.signed(identifier.getLevel());
+                    if (isNull(identifier.getLimitations())) {
+                        out.varint(0);
+                    } else {
+                        out.varint(identifier.getLimitations().size() + 1);
+                        identifier.getLimitations().forEach(limitation -> out.varint(string(limitation)));
+                    }
+                });
+        }
+
+        private int string(String value) {
+            return isNull(value) ? 0 : strings.reference(value, out -> {
+                byte[] bytes = value.getBytes(UTF_8);
+                out.varint(bytes.length);
+                out.write(bytes, 0, bytes.length);
+            });
+        }
+    }
+
+    private static final class Decoder<T extends Requirement> {
+        private final ByteBuffer buffer;
+        private final int requirementType;
+        private String[] strings;
+        private Logo[] logos;
+        private Reference[] references;
+        private DRD[] drds;
+        private Document[] documents;
+        private Identifier[] identifiers;
+
+        private Decoder(ByteBuffer buffer, int requirementType) {
+            this.buffer = buffer;
+            this.requirementType = requirementType;
+        }
+
+        private Catalog<T> decode() throws StreamCorruptedException {
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+                throw new StreamCorruptedException("no catalog snapshot");
+            }
+            int formatVersion = varint();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new StreamCorruptedException("unsupported catalog snapshot format version " + formatVersion);
+            }
+            if (varint() != requirementType) {
+                throw new StreamCorruptedException("catalog snapshot contains different requirement type");
+            }
+
+            strings = new String[size(varint())];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[size(varint())];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, UTF_8);
+            }
+            logos = new Logo[size(varint())];
+            for (int i = 0; i < logos.length; i++) {
+                logos[i] = Logo.builder()
+                    .name(string())
+                    .url(string())
+                    .build();
+            }
+            references = new Reference[size(varint())];
+            for (int i = 0; i < references.length; i++) {
+                references[i] = Reference.builder()
+                    .text(string())
+                    .issue(string())
+                    .releaseDate(string())
+                    .changed(bool())
+                    .logo(entry(logos))
+                    .build();
+            }
+            drds = new DRD[size(varint())];
+            for (int i = 0; i < drds.length; i++) {
+                drds[i] = DRD.builder()
+                    .number(string())
+                    .title(string())
+                    .subtitle(string())
+                    .deliveryDate(string())
+                    .action(string())
+                    .build();
+            }
+            documents = new Document[size(varint())];
+            for (int i = 0; i < documents.length; i++) {
+                documents[i] = Document.builder()
+                    .number(string())
+                    .title(string())
+                    .issue(string())
+                    .revision(string())
+                    .description(string())
+                    .applicable(bool())
+                    .build();
+            }
+            identifiers = new Identifier[size(varint())];
+            for (int i = 0; i < identifiers.length; i++) {
+                identifiers[i] = Identifier.builder()
+                    .type(string())
+                    .level((int) signed())
+                    .limitations(strings())
+                    .build();
+            }
+
+            String version = string();
+            return Catalog.<T>builder()
+                .version(version)
+                .toc(buffer.get() == 0 ? null : chapter())
+                .build();
+        }
+
+        private Chapter<T> chapter() throws StreamCorruptedException {
+            Chapter<T> result = Chapter.<T>builder()
+                .name(string())
+                .position((int) signed())
+                .number(string())
+                .build();
+
+            int chapterCount = varint();
+            if (chapterCount != 0) {
+                List<Chapter<T>> chapters = new ArrayList<>(size(chapterCount - 1));
+                for (int i = 1; i < chapterCount; i++) {
+                    chapters.add(chapter());
+                }
+                result.setChapters(chapters);
+            }
+
+            int requirementCount = varint();
+            if (requirementCount != 0) {
+                List<T> requirements = new ArrayList<>(size(requirementCount - 1));
+                for (int i = 1; i < requirementCount; i++) {
+                    requirements.add(requirement());
+                }
+                result.setRequirements(requirements);
+            }
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T requirement() throws StreamCorruptedException {
+            String text = string();
+            String position = string();
+            Reference reference = reference();
+            Collection<Document> applicableDocuments = entries(documents);
+            Collection<DRD> requirementDrds = entries(drds);
+            if (requirementType == BASE_REQUIREMENT) {
+                return (T) BaseRequirement.builder()
+                    .text(text)
+                    .position(position)
+                    .reference(reference)
+                    .applicableDocuments(applicableDocuments)
+                    .drds(requirementDrds)
+                    .phases(phases())
+                    .identifiers(entries(identifiers))
+                    .build();
+            }
+            return (T) TailoringRequirement.builder()
+                .text(text)
+                .position(position)
+                .reference(reference)
+                .applicableDocuments(applicableDocuments)
+                .drds(requirementDrds)
+                .selected(bool())
+                .selectionChanged(dateTime())
+                .textChanged(dateTime())
+                .build();
+        }
+
+        private Reference reference() {
+            Reference reference = entry(references);
+            return isNull(reference) ? null : Reference.builder()
+                .text(reference.getText())
+                .issue(reference.getIssue())
+                .releaseDate(reference.getReleaseDate())
+                .changed(reference.getChanged())
+                .logo(reference.getLogo())
+                .build();
+        }
+
+        private Collection<Phase> phases() {
+            int mask = varint();
+            if (mask == 0) {
+                return null;
+            }
+            Collection<Phase> result = new ArrayList<>();
+            for (Phase phase : Phase.values()) {
+                if (((mask - 1) & 1 << phase.ordinal()) != 0) {
+                    result.add(phase);
+                }
+            }
+            return result;
+        }
+
+        private ZonedDateTime dateTime() {
+            String zone = string();
+            if (isNull(zone)) {
+                return null;
+            }
+            long epochSecond = signed();
+            return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, varint()), ZoneId.of(zone));
+        }
+
+        private Collection<String> strings() throws StreamCorruptedException {
+            int count = varint();
+            if (count == 0) {
+                return null;
+            }
+            Collection<String> result = new ArrayList<>(size(count - 1));
+            for (int i = 1; i < count; i++) {
+                result.add(string());
+            }
+            return result;
+        }
+
+        private <E> Collection<E> entries(E[] table) throws StreamCorruptedException {
+            int count = varint();
+            if (count == 0) {
+                return null;
+            }
+            Collection<E> result = new ArrayList<>(size(count - 1));
+            for (int i = 1; i < count; i++) {
+                result.add(entry(table));
+            }
+            return result;
+        }
+
+        private <E> E entry(E[] table) {
+            int reference = varint();
+            return reference == 0 ? null : table[reference - 1];
+        }
+
+        private String string() {
+            return entry(strings);
+        }
+
+        private Boolean bool() {
+            byte value = buffer.get();
+            return value == 0 ? null : value == 2;
+        }
+
+        /**
+         * Validate size read from buffer. Each element needs at least one byte, so a larger size is corrupted.
+         *
+         * @param size size to validate
+         * @return validated size
+         * @throws StreamCorruptedException in case of an invalid size
+         */
+        private int size(int size) throws StreamCorruptedException {
+            if (size < 0 || size > buffer.remaining()) {
+                throw new StreamCorruptedException("invalid size " + size + " in catalog snapshot");
+            }
+            return size;
+        }
+
+        private int varint() {
+            return (int) varlong();
+        }
+
+        private long varlong() {
+            long result = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte value = buffer.get();
+                result |= (long) (value & 0x7F) << shift;
+                if ((value & 0x80) == 0) {
+                    return result;
+                }
+            }
+            // varint exceeding 64 bit is handled like a truncated snapshot
+            throw new BufferUnderflowException();
+        }
+
+        private long signed() {
+            long value = varlong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
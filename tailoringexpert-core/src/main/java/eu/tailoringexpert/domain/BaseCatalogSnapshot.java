@@ -0,0 +1,226 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.NonNull;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+/**
+ * Read-only copy of a base catalog with precomputed chapter and requirement indexes.
+ * <p>
+ * Requirements are indexed by their full qualified number (chapter number and position, e.g. <code>2.1.a</code>).
+ * <p>
+ * The snapshot holds the expanded catalog, because the indexes refer to its chapters and requirements.
+ * {@link CompactCatalog} is only used to deduplicate equal values of the held catalog, which is never handed out.
+ * All getters return copies with unmodifiable collections and own chapter, requirement, reference, logo, DRD,
+ * document and identifier objects, so a snapshot can be shared between requests and changes of one caller are
+ * not visible to other callers.
+ *
+ * @author Michael Bädorf
+ */
+public final class BaseCatalogSnapshot implements Serializable {
+    private static final long serialVersionUID = -2245079402467183196L;
+
+    /**
+     * Unmodifiable copy of the catalog.
+     */
+    private final Catalog<BaseRequirement> catalog;
+
+    /**
+     * All chapters of the catalog by chapter number.
+     */
+    private final Map<String, Chapter<BaseRequirement>> chapters;
+
+    /**
+     * All requirements of the catalog by full qualified number.
+     */
+    private final Map<String, BaseRequirement> requirements;
+
+    private BaseCatalogSnapshot(Catalog<BaseRequirement> catalog) {
+        this.catalog = catalog;
+
+        Map<String, Chapter<BaseRequirement>> chapterIndex = new HashMap<>();
+        Map<String, BaseRequirement> requirementIndex = new HashMap<>();
+        if (!isNull(catalog.getToc()) && !isNull(catalog.getToc().getChapters())) {
+            catalog.allChapters().forEach(chapter -> {
+                chapterIndex.put(chapter.getNumber(), chapter);
+                ofNullable(chapter.getRequirements())
+                    .orElse(List.of())
+                    .forEach(requirement -> requirementIndex.put(chapter.getNumber() + "." + requirement.getPosition(), requirement));
+            });
+        }
+        this.chapters = Collections.unmodifiableMap(chapterIndex);
+        this.requirements = Collections.unmodifiableMap(requirementIndex);
+    }
+
+    /**
+     * Creates a snapshot of a base catalog.
+     * The snapshot is a copy, later changes of the provided catalog are not visible in the snapshot.
+     *
+     * @param catalog catalog to create snapshot of
+     * @return created snapshot
+     */
+    public static BaseCatalogSnapshot of(@NonNull Catalog<BaseRequirement> catalog) {
+        return new BaseCatalogSnapshot(CompactCatalog.of(catalog).toCatalog());
+    }
+
+    /**
+     * Get a copy of the catalog.
+     *
+     * @return copy of catalog
+     */
+    public Catalog<BaseRequirement> getCatalog() {
+        return Catalog.<BaseRequirement>builder()
+            .version(catalog.getVersion())
+            .toc(isNull(catalog.getToc()) ? null : copy(catalog.getToc()))
+            .build();
+    }
+
+    /**
+     * Get copies of all chapters by chapter number.
+     * Each chapter is copied with its subchapters.
+     *
+     * @return unmodifiable map of copied chapters
+     */
+    public Map<String, Chapter<BaseRequirement>> getChapters() {
+        return chapters.entrySet()
+            .stream()
+            .collect(toUnmodifiableMap(Map.Entry::getKey, entry -> copy(entry.getValue())));
+    }
+
+    /**
+     * Get a copy of a chapter identified by its number.
+     *
+     * @param number number of chapter
+     * @return copy of chapter with its subchapters if exists, otherwise empty
+     */
+    public Optional<Chapter<BaseRequirement>> getChapter(String number) {
+        return ofNullable(chapters.get(number)).map(BaseCatalogSnapshot::copy);
+    }
+
+    /**
+     * Get copies of all requirements by full qualified number.
+     *
+     * @return unmodifiable map of copied requirements
+     */
+    public Map<String, BaseRequirement> getRequirements() {
+        return requirements.entrySet()
+            .stream()
+            .collect(toUnmodifiableMap(Map.Entry::getKey, entry -> copy(entry.getValue())));
+    }
+
+    /**
+     * Get a copy of a requirement identified by its full qualified number.
+     *
+     * @param number chapter number and position of requirement, e.g. <code>2.1.a</code>
+     * @return copy of requirement if exists, otherwise empty
+     */
+    public Optional<BaseRequirement> getRequirement(String number) {
+        return ofNullable(requirements.get(number)).map(BaseCatalogSnapshot::copy);
+    }
+
+    private static Chapter<BaseRequirement> copy(Chapter<BaseRequirement> chapter) {
+        return Chapter.<BaseRequirement>builder()
+            .name(chapter.getName())
+            .position(chapter.getPosition())
+            .number(chapter.getNumber())
+            .chapters(list(chapter.getChapters(), BaseCatalogSnapshot::copy))
+            .requirements(list(chapter.getRequirements(), BaseCatalogSnapshot::copy))
+            .build();
+    }
+
+    private static BaseRequirement copy(BaseRequirement requirement) {
+        return isNull(requirement) ? null : BaseRequirement.builder()
+            .text(requirement.getText())
+            .position(requirement.getPosition())
+            .reference(copy(requirement.getReference()))
+            .applicableDocuments(list(requirement.getApplicableDocuments(), BaseCatalogSnapshot::copy))
+            .drds(list(requirement.getDrds(), BaseCatalogSnapshot::copy))
+            .phases(requirement.getPhases())
+            .identifiers(list(requirement.getIdentifiers(), BaseCatalogSnapshot::copy))
+            .build();
+    }
+
+    private static Reference copy(Reference reference) {
+        return isNull(reference) ? null : Reference.builder()
+            .text(reference.getText())
+            .issue(reference.getIssue())
+            .releaseDate(reference.getReleaseDate())
+            .changed(reference.getChanged())
+            .logo(copy(reference.getLogo()))
+            .build();
+    }
+
+    private static Logo copy(Logo logo) {
+        return isNull(logo) ? null : Logo.builder()
+            .name(logo.getName())
+            .url(logo.getUrl())
+            .build();
+    }
+
+    private static Document copy(Document document) {
+        return isNull(document) ? null : Document.builder()
+            .number(document.getNumber())
+            .title(document.getTitle())
+            .issue(document.getIssue())
+            .revision(document.getRevision())
+            .description(document.getDescription())
+            .applicable(document.getApplicable())
+            .build();
+    }
+
+    private static DRD copy(DRD drd) {
+        return isNull(drd) ? null : DRD.builder()
+            .number(drd.getNumber())
+            .title(drd.getTitle())
+            .subtitle(drd.getSubtitle())
+            .deliveryDate(drd.getDeliveryDate())
+            .action(drd.getAction())
+            .build();
+    }
+
+    private static Identifier copy(Identifier identifier) {
+        return isNull(identifier) ? null : Identifier.builder()
+            .type(identifier.getType())
+            .level(identifier.getLevel())
+            .limitations(identifier.getLimitations())
+            .build();
+    }
+
+    private static <E> List<E> list(Collection<E> elements, Function<E, E> copier) {
+        return isNull(elements) ? null : elements.stream()
+            .map(copier)
+            .toList();
+    }
+}
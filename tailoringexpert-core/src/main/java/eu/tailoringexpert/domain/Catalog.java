@@ -60,13 +60,13 @@ public class Catalog<T extends Requirement> implements Serializable {
 
     /**
      * Get a chapter identified by chapter number of the catalog.
+     * Lookup is done using the chapter index of the table of contents.
      *
      * @param number number of chapter to get
      * @return Chapter if exists otherwise empty
      */
     public Optional<Chapter<T>> getChapter(String number) {
-        return allChapters()
-            .filter(chapter -> number.equals(chapter.getNumber()))
-            .findFirst();
+        return Optional.ofNullable(toc.getChapter(number))
+            .filter(chapter -> chapter != toc);
     }
 }
@@ -21,25 +21,29 @@
  */
 package eu.tailoringexpert.domain;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Stream.of;
+import static lombok.AccessLevel.NONE;
 
 @Data
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class Chapter<T extends Requirement> implements Serializable {
     private static final long serialVersionUID = -3448078519876131441L;
 
@@ -68,17 +72,84 @@ public class Chapter<T extends Requirement> implements Serializable {
      */
     private List<T> requirements;
 
+    /**
+     * Index of chapter and all subchapters by chapter number. Built on first lookup, dropped if outdated.
+     */
+    @Getter(NONE)
+    @Setter(NONE)
+    @ToString.Exclude
+    private transient volatile Map<String, Chapter<T>> chapterIndex;
+
+    /**
+     * Index of requirements by position. Built on first lookup, dropped if outdated.
+     */
+    @Getter(NONE)
+    @Setter(NONE)
+    @ToString.Exclude
+    private transient volatile RequirementIndex<T> requirementIndex;
+
+    @Builder
+    public Chapter(String name, int position, String number, List<Chapter<T>> chapters, List<T> requirements) {
+        this.name = name;
+        this.position = position;
+        this.number = number;
+        this.chapters = chapters;
+        this.requirements = requirements;
+    }
+
+    /**
+     * Set number of chapter.
+     *
+     * @param number number to set
+     */
+    public void setNumber(String number) {
+        this.number = number;
+        this.chapterIndex = null;
+    }
+
+    /**
+     * Set subchapters of chapter.
+     *
+     * @param chapters subchapters to set
+     */
+    public void setChapters(List<Chapter<T>> chapters) {
+        this.chapters = chapters;
+        this.chapterIndex = null;
+    }
+
+    /**
+     * Set requirements of chapter.
+     *
+     * @param requirements requirements to set
+     */
+    public void setRequirements(List<T> requirements) {
+        this.requirements = requirements;
+        this.requirementIndex = null;
+    }
+
     /**
      * Get a chapter identified by chapter number.
+     * Lookup is done using an index, which is rebuilt if a chapter number is missing or outdated.
+     * Chapters removed from a subchapter list are only dropped from the index by setting the subchapters of this chapter.
      *
      * @param number number of chapter to get
      * @return Chapter if exists
      */
     public Chapter<T> getChapter(String number) {
-        return allChapters()
+        Chapter<T> result = chapterIndex().get(number);
+        if (nonNull(result) && number.equals(result.getNumber())) {
+            return result;
+        }
+
+        // index outdated or chapter not existing
+        result = allChapters()
             .filter(chapter -> number.equals(chapter.getNumber()))
             .findFirst()
             .orElse(null);
+        if (nonNull(result)) {
+            chapterIndex = null;
+        }
+        return result;
     }
 
     /**
@@ -110,22 +181,77 @@ public class Chapter<T extends Requirement> implements Serializable {
      * @return requirement if exists, otherwiese empty
      */
     public Optional<T> getRequirement(String position) {
-        return requirements
-            .stream()
-            .filter(requirement -> position.equals(requirement.getPosition()))
-            .findFirst();
+        OptionalInt index = indexOfRequirement(position);
+        return index.isPresent() ? Optional.of(requirements.get(index.getAsInt())) : Optional.empty();
     }
 
     /**
      * Get the index of the requirement at requested position in chapter.
+     * Lookup is done using an index, which is rebuilt if the requirements of the chapter have been changed.
      *
      * @param position position of requirement to get index of
      * @return index of requirement in requirement list
      */
     public OptionalInt indexOfRequirement(String position) {
-        return IntStream.range(0, requirements.size())
+        Integer index = requirementIndex().get(position);
+        if (nonNull(index) && position.equals(requirements.get(index).getPosition())) {
+            return OptionalInt.of(index);
+        }
+
+        // index outdated or requirement not existing
+        OptionalInt result = IntStream.range(0, requirements.size())
             .filter(i -> position.equals(requirements.get(i).getPosition()))
             .findFirst();
+        if (result.isPresent()) {
+            requirementIndex = null;
+        }
+        return result;
+    }
+
+    /**
+     * Get index of chapter and all subchapters by number, build it if not existing.
+     *
+     * @return chapters by number
+     */
+    private Map<String, Chapter<T>> chapterIndex() {
+        Map<String, Chapter<T>> result = chapterIndex;
+        if (isNull(result)) {
+            Map<String, Chapter<T>> index = new HashMap<>();
+            allChapters()
+                .filter(chapter -> nonNull(chapter.getNumber()))
+                .forEach(chapter -> index.putIfAbsent(chapter.getNumber(), chapter));
+            result = index;
+            chapterIndex = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get index of requirements by position, build it if not existing or requirement list has been changed.
+     *
+     * @return index in requirement list by position
+     */
+    private Map<String, Integer> requirementIndex() {
+        RequirementIndex<T> result = requirementIndex;
+        if (isNull(result) || result.requirements() != requirements || result.size() != requirements.size()) {
+            Map<String, Integer> positions = new HashMap<>();
+            int i = 0;
+            for (T requirement : requirements) {
+                positions.putIfAbsent(requirement.getPosition(), i++);
+            }
+            result = new RequirementIndex<>(requirements, requirements.size(), positions);
+            requirementIndex = result;
+        }
+        return result.positions();
     }
 
+    /**
+     * Index of requirements by position with the requirement list it has been built of.
+     *
+     * @param requirements requirement list of index
+     * @param size         size of requirement list when index has been built
+     * @param positions    index in requirement list by position
+     */
+    private record RequirementIndex<T>(List<T> requirements, int size, Map<String, Integer> positions) {
+    }
 }
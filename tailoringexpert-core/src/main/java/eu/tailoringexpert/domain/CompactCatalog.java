@@ -0,0 +1,290 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Compact read-only representation of a base catalog.
+ * <p>
+ * Subchapters and requirements are held in arrays. Equal strings, DRDs, documents, references, logos and identifiers
+ * of the catalog share one instance. Equal phase lists share one unmodifiable list, which keeps the order of the
+ * phases of the source requirement.
+ * Catalogs created by {@link #toCatalog()} reuse the shared instances and only contain unmodifiable collections.
+ *
+ * @author Michael Bädorf
+ */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public final class CompactCatalog implements Serializable {
+    private static final long serialVersionUID = -6412187706219735524L;
+
+    /**
+     * Version of the catalog.
+     */
+    private final String version;
+
+    /**
+     * Table of contents of catalog.
+     */
+    private final CompactChapter toc;
+
+    /**
+     * Create compact representation of a base catalog.
+     * The created object doesn't reference any (mutable) object of the provided catalog.
+     *
+     * @param catalog catalog to create compact representation of
+     * @return compact representation of catalog
+     */
+    public static CompactCatalog of(@NonNull Catalog<BaseRequirement> catalog) {
+        Interner interner = new Interner();
+        return new CompactCatalog(
+            interner.string(catalog.getVersion()),
+            isNull(catalog.getToc()) ? null : interner.chapter(catalog.getToc())
+        );
+    }
+
+    /**
+     * Create the catalog object model of the compact catalog.
+     * All collections of the created catalog are unmodifiable.
+     *
+     * @return catalog object model
+     */
+    public Catalog<BaseRequirement> toCatalog() {
+        return Catalog.<BaseRequirement>builder()
+            .version(version)
+            .toc(isNull(toc) ? null : toc.toChapter())
+            .build();
+    }
+
+    /**
+     * Chapter of a compact catalog.
+     *
+     * @param name         name of chapter
+     * @param position     position in chapter list
+     * @param number       (full) number of chapter
+     * @param chapters     subchapters, null if not defined
+     * @param requirements requirements of chapter, null if not defined
+     */
+    public record CompactChapter(String name,
+                                 int position,
+                                 String number,
+                                 CompactChapter[] chapters,
+                                 CompactRequirement[] requirements) implements Serializable {
+
+        private Chapter<BaseRequirement> toChapter() {
+            return Chapter.<BaseRequirement>builder()
+                .name(name)
+                .position(position)
+                .number(number)
+                .chapters(isNull(chapters) ? null : stream(chapters).map(CompactChapter::toChapter).toList())
+                .requirements(isNull(requirements) ? null : stream(requirements).map(CompactRequirement::toRequirement).toList())
+                .build();
+        }
+    }
+
+    /**
+     * Requirement of a compact catalog.
+     *
+     * @param text                text of requirement
+     * @param position            position of requirement in chapter
+     * @param reference           (shared) reference of requirement
+     * @param applicableDocuments (shared) applicable documents, null if not defined
+     * @param drds                (shared) DRDs, null if not defined
+     * @param phases              (shared) unmodifiable phases in order of source requirement, null if not defined
+     * @param identifiers         (shared) identifiers, null if not defined
+     */
+    public record CompactRequirement(String text,
+                                     String position,
+                                     Reference reference,
+                                     Document[] applicableDocuments,
+                                     DRD[] drds,
+                                     List<Phase> phases,
+                                     Identifier[] identifiers) implements Serializable {
+
+        private BaseRequirement toRequirement() {
+            return BaseRequirement.builder()
+                .text(text)
+                .position(position)
+                .reference(reference)
+                .applicableDocuments(list(applicableDocuments))
+                .drds(list(drds))
+                .phases(phases)
+                .identifiers(list(identifiers))
+                .build();
+        }
+    }
+
+    private static <E> List<E> list(E[] elements) {
+        return isNull(elements) ? null : unmodifiableList(asList(elements));
+    }
+
+    /**
+     * Pool of shared instances used while creating a compact catalog.
+     * Shared objects are copies of the source objects, which are identified by all of their attributes.
+     */
+    private static final class Interner {
+        private final Map<Object, Object> instances = new HashMap<>();
+
+        private CompactChapter chapter(Chapter<BaseRequirement> chapter) {
+            return new CompactChapter(
+                string(chapter.getName()),
+                chapter.getPosition(),
+                string(chapter.getNumber()),
+                isNull(chapter.getChapters()) ? null : chapter.getChapters()
+                    .stream()
+                    .map(this::chapter)
+                    .toArray(CompactChapter[]::new),
+                isNull(chapter.getRequirements()) ? null : chapter.getRequirements()
+                    .stream()
+                    .map(this::requirement)
+                    .toArray(CompactRequirement[]::new)
+            );
+        }
+
+        private CompactRequirement requirement(BaseRequirement requirement) {
+            return new CompactRequirement(
+                string(requirement.getText()),
+                string(requirement.getPosition()),
+                reference(requirement.getReference()),
+                array(requirement.getApplicableDocuments(), this::document, Document[]::new),
+                array(requirement.getDrds(), this::drd, DRD[]::new),
+                phases(requirement.getPhases()),
+                array(requirement.getIdentifiers(), this::identifier, Identifier[]::new)
+            );
+        }
+
+        private List<Phase> phases(Collection<Phase> phases) {
+            if (isNull(phases)) {
+                return null;
+            }
+            List<Phase> result = phases.stream()
+                .filter(Objects::nonNull)
+                .toList();
+            return intern(asList(Phase.class, result), () -> result);
+        }
+
+        private Reference reference(Reference reference) {
+            return isNull(reference) ? null : intern(
+                asList(Reference.class, reference.getText(), reference.getIssue(), reference.getReleaseDate(),
+                    reference.getChanged(), reference.getLogo()),
+                () -> Reference.builder()
+                    .text(string(reference.getText()))
+                    .issue(string(reference.getIssue()))
+                    .releaseDate(string(reference.getReleaseDate()))
+                    .changed(reference.getChanged())
+                    .logo(logo(reference.getLogo()))
+                    .build()
+            );
+        }
+
+        private Logo logo(Logo logo) {
+            return isNull(logo) ? null : intern(
+                asList(Logo.class, logo.getName(), logo.getUrl()),
+                () -> Logo.builder()
+                    .name(string(logo.getName()))
+                    .url(string(logo.getUrl()))
+                    .build()
+            );
+        }
+
+        private Document document(Document document) {
+            return isNull(document) ? null : intern(
+                asList(Document.class, document.getNumber(), document.getTitle(), document.getIssue(),
+                    document.getRevision(), document.getDescription(), document.getApplicable()),
+                () -> Document.builder()
+                    .number(string(document.getNumber()))
+                    .title(string(document.getTitle()))
+                    .issue(string(document.getIssue()))
+                    .revision(string(document.getRevision()))
+                    .description(string(document.getDescription()))
+                    .applicable(document.getApplicable())
+                    .build()
+            );
+        }
+
+        private DRD drd(DRD drd) {
+            return isNull(drd) ? null : intern(
+                asList(DRD.class, drd.getNumber(), drd.getTitle(), drd.getSubtitle(), drd.getDeliveryDate(),
+                    drd.getAction()),
+                () -> DRD.builder()
+                    .number(string(drd.getNumber()))
+                    .title(string(drd.getTitle()))
+                    .subtitle(string(drd.getSubtitle()))
+                    .deliveryDate(string(drd.getDeliveryDate()))
+                    .action(string(drd.getAction()))
+                    .build()
+            );
+        }
+
+        private Identifier identifier(Identifier identifier) {
+            return isNull(identifier) ? null : intern(
+                asList(Identifier.class, identifier.getType(), identifier.getLevel(), identifier.getLimitations()),
+                () -> Identifier.builder()
+                    .type(string(identifier.getType()))
+                    .level(identifier.getLevel())
+                    .limitations(list(array(identifier.getLimitations(), this::string, String[]::new)))
+                    .build()
+            );
+        }
+
+        private String string(String value) {
+            return isNull(value) ? null : intern(value, () -> value);
+        }
+
+        private <S, E> E[] array(Collection<S> elements,
+                                 Function<S, E> mapper,
+                                 IntFunction<E[]> generator) {
+            return isNull(elements) ? null : elements.stream()
+                .map(mapper)
+                .toArray(generator);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <E> E intern(Object key, Supplier<E> instance) {
+            E result = (E) instances.get(key);
+            if (isNull(result)) {
+                result = instance.get();
+                instances.put(key, result);
+            }
+            return result;
+        }
+    }
+}
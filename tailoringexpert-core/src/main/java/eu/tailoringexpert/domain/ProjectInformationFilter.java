@@ -0,0 +1,85 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Restriction and paging of a project overview query.
+ *
+ * @author Michael Bädorf
+ */
+@Value
+@Builder
+public class ProjectInformationFilter {
+
+    /**
+     * Default number of projects of a page.
+     */
+    public static final int DEFAULT_SIZE = 50;
+
+    /**
+     * Upper bound of number of projects of a page.
+     */
+    public static final int MAX_SIZE = 500;
+
+    /**
+     * Default property to sort projects by.
+     */
+    public static final String DEFAULT_SORT = "identifier";
+
+    /**
+     * State of projects to return. If not set, projects of all states are returned.
+     */
+    ProjectState state;
+
+    /**
+     * Catalog version at least one tailoring of a project has to use. If not set, projects are not restricted by
+     * catalog version.
+     */
+    String catalogVersion;
+
+    /**
+     * Number (zero based) of the page to return.
+     */
+    @Builder.Default
+    int page = 0;
+
+    /**
+     * Maximum number of projects of a page, limited to {@link #MAX_SIZE}.
+     */
+    @Builder.Default
+    int size = DEFAULT_SIZE;
+
+    /**
+     * Project property to sort by. Supported are <code>identifier</code>, <code>creationTimestamp</code> and
+     * <code>state</code>.
+     */
+    @Builder.Default
+    String sort = DEFAULT_SORT;
+
+    /**
+     * Sort descending instead of ascending.
+     */
+    boolean descending;
+}
@@ -0,0 +1,93 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+/**
+ * Job to purge the data of a deleted tailoring or project.
+ *
+ * @author Michael Bädorf
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PurgeJob implements Serializable {
+    private static final long serialVersionUID = -3209536113716785341L;
+
+    /**
+     * Technical id of job.
+     */
+    private Long id;
+
+    /**
+     * Identifier of project of deleted object.
+     */
+    private String project;
+
+    /**
+     * Name of deleted tailoring, <code>null</code> if project has been deleted.
+     */
+    private String tailoring;
+
+    /**
+     * Identifier of deleted tailoring used to store its attachments, <code>null</code> if project has been deleted.
+     */
+    private String identifier;
+
+    /**
+     * Processing state of job.
+     */
+    private PurgeState state;
+
+    /**
+     * Number of already purged rows.
+     */
+    private Long purgedRows;
+
+    /**
+     * Number of failed purge attempts.
+     */
+    private Integer failedAttempts;
+
+    /**
+     * Earliest time of next purge attempt after a failed one, <code>null</code> if job has not failed.
+     */
+    private ZonedDateTime nextAttemptTimestamp;
+
+    /**
+     * Timestamp of deletion.
+     */
+    private ZonedDateTime creationTimestamp;
+
+    /**
+     * Timestamp of purge completion.
+     */
+    private ZonedDateTime completionTimestamp;
+}
@@ -31,6 +31,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RequirementChange {
+    Long id;
+    String requirement;
     String changeType;
     String old;
     String changed;
@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Restriction of a requirement change history query.
+ * <p>
+ * Changes are ordered by their id. A page following a previously loaded one is requested by passing the id of the
+ * last loaded change as <code>after</code> together with the unchanged time range.
+ * <p>
+ * The query is meant for browsing the history of already recorded changes, it is not a feed to be polled for new
+ * changes. Ids are allocated in blocks per application instance, so the id order does not reflect the order of
+ * modification and a change committed later may get a lower id than the last one already loaded. Clients interested
+ * in recent changes have to restrict the time range by <code>from</code> instead of reusing an old cursor.
+ *
+ * @author Michael Bädorf
+ */
+@Value
+@Builder
+public class RequirementChangeFilter {
+
+    /**
+     * Default maximum number of changes returned.
+     */
+    public static final int DEFAULT_LIMIT = 100;
+
+    /**
+     * Upper bound of maximum number of changes returned.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    /**
+     * Earliest modification timestamp (inclusive) of changes to return. If not set, changes are not limited in the
+     * past.
+     */
+    ZonedDateTime from;
+
+    /**
+     * Id of the last change of previous page. If set, only changes with a greater id are returned. Only valid to page
+     * through the result of the same query, see class comment.
+     */
+    Long after;
+
+    /**
+     * Modification timestamp (exclusive) until changes shall be returned. If not set, all changes up to now are
+     * returned.
+     */
+    ZonedDateTime to;
+
+    /**
+     * Maximum number of changes to return.
+     */
+    @Builder.Default
+    int limit = DEFAULT_LIMIT;
+}
@@ -0,0 +1,69 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Page of a paged query result.
+ *
+ * @param <T> type of page elements
+ * @author Michael Bädorf
+ */
+@Value
+@Builder
+public class ResultPage<T> {
+
+    /**
+     * Elements of the page.
+     */
+    @Singular("element")
+    List<T> content;
+
+    /**
+     * Number (zero based) of the page.
+     */
+    int page;
+
+    /**
+     * Requested maximum number of elements of the page.
+     */
+    int size;
+
+    /**
+     * Number of elements of all pages.
+     */
+    long totalElements;
+
+    /**
+     * Calculates the number of available pages.
+     *
+     * @return number of pages
+     */
+    public int getTotalPages() {
+        return size < 1 ? 1 : (int) Math.ceil((double) totalElements / size);
+    }
+}
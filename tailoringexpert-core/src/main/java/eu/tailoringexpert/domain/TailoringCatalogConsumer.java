@@ -0,0 +1,52 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import java.io.IOException;
+
+/**
+ * Receiver of the chapters and requirements of a tailoring catalog in document order.<p>
+ * Each chapter is passed before its requirements, followed by its subchapters. Passed chapters only contain name,
+ * number and position, neither subchapters nor requirements. The table of contents itself is not passed.
+ *
+ * @author Michael Bädorf
+ */
+public interface TailoringCatalogConsumer {
+
+    /**
+     * Consume a chapter of the catalog.
+     *
+     * @param chapter chapter without subchapters and requirements
+     * @param level   level of chapter, 1 for chapters of the table of contents
+     * @throws IOException in case of failing to process chapter
+     */
+    void chapter(Chapter<TailoringRequirement> chapter, int level) throws IOException;
+
+    /**
+     * Consume a requirement of the last passed chapter.
+     *
+     * @param chapter     chapter requirement belongs to
+     * @param requirement requirement to consume
+     * @throws IOException in case of failing to process requirement
+     */
+    void requirement(Chapter<TailoringRequirement> chapter, TailoringRequirement requirement) throws IOException;
+}
@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Provider of the chapters and requirements of a tailoring catalog, see {@link TailoringCatalogConsumer}.
+ * Allows to process catalogs without holding them completely in memory.
+ *
+ * @author Michael Bädorf
+ */
+@FunctionalInterface
+public interface TailoringCatalogSource {
+
+    /**
+     * Pass all chapters and requirements of the catalog in document order to consumer.
+     *
+     * @param consumer receiver of chapters and requirements
+     * @throws IOException in case of failing to read or consume catalog
+     */
+    void writeTo(TailoringCatalogConsumer consumer) throws IOException;
+
+    /**
+     * Collect all chapters and requirements into a catalog.
+     *
+     * @param version version of catalog
+     * @return catalog containing all provided chapters and requirements
+     * @throws IOException in case of failing to read catalog
+     */
+    default Catalog<TailoringRequirement> toCatalog(String version) throws IOException {
+        Chapter<TailoringRequirement> toc = newChapter(null);
+        Deque<Chapter<TailoringRequirement>> path = new ArrayDeque<>();
+        path.push(toc);
+
+        writeTo(new TailoringCatalogConsumer() {
+            @Override
+            public void chapter(Chapter<TailoringRequirement> chapter, int level) {
+                while (path.size() > level) {
+                    path.pop();
+                }
+                Chapter<TailoringRequirement> copy = newChapter(chapter);
+                path.element().getChapters().add(copy);
+                path.push(copy);
+            }
+
+            @Override
+            public void requirement(Chapter<TailoringRequirement> chapter, TailoringRequirement requirement) {
+                path.element().getRequirements().add(requirement);
+            }
+        });
+
+        return Catalog.<TailoringRequirement>builder()
+            .version(version)
+            .toc(toc)
+            .build();
+    }
+
+    /**
+     * Create a source providing the chapters and requirements of an already loaded catalog.
+     *
+     * @param catalog catalog to provide
+     * @return source of catalog
+     */
+    static TailoringCatalogSource of(Catalog<TailoringRequirement> catalog) {
+        return consumer -> {
+            for (Chapter<TailoringRequirement> chapter : catalog.getToc().getChapters()) {
+                writeTo(chapter, 1, consumer);
+            }
+        };
+    }
+
+    private static void writeTo(Chapter<TailoringRequirement> chapter, int level, TailoringCatalogConsumer consumer)
+        throws IOException {
+        consumer.chapter(chapter, level);
+        if (nonNull(chapter.getRequirements())) {
+            for (TailoringRequirement requirement : chapter.getRequirements()) {
+                consumer.requirement(chapter, requirement);
+            }
+        }
+        if (nonNull(chapter.getChapters())) {
+            for (Chapter<TailoringRequirement> subChapter : chapter.getChapters()) {
+                writeTo(subChapter, level + 1, consumer);
+            }
+        }
+    }
+
+    private static Chapter<TailoringRequirement> newChapter(Chapter<TailoringRequirement> chapter) {
+        Chapter<TailoringRequirement> result = Chapter.<TailoringRequirement>builder()
+            .chapters(new ArrayList<>())
+            .requirements(new ArrayList<>())
+            .build();
+        if (nonNull(chapter)) {
+            result.setName(chapter.getName());
+            result.setNumber(chapter.getNumber());
+            result.setPosition(chapter.getPosition());
+        }
+        return result;
+    }
+}
@@ -25,11 +25,12 @@ import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationFilter;
 import eu.tailoringexpert.domain.ProjectState;
+import eu.tailoringexpert.domain.ResultPage;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.Tailoring;
 
-import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -81,11 +82,12 @@ public interface ProjectServiceRepository {
     Optional<Tailoring> addTailoring(String project, Tailoring tailoring);
 
     /**
-     * Load core project data of all projects.
+     * Load a page of core project data of all projects matching the filter.
      *
-     * @return All projects with core data set
+     * @param filter restriction, paging and sorting of projects to load
+     * @return requested page of projects with core data set
      */
-    Collection<ProjectInformation> getProjectInformations();
+    ResultPage<ProjectInformation> getProjectInformations(ProjectInformationFilter filter);
 
     /**
      * Load core data of requested project.
@@ -0,0 +1,54 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.domain.PurgeJob;
+
+import java.util.Collection;
+
+/**
+ * Service for removing the data of deleted tailorings and projects in background.
+ * <p>
+ * Deleted tailorings and projects are only marked as deleted. Their catalogs, change logs and attachments are
+ * removed by the purge in bounded batches, so deletion requests return immediately and tables are only locked
+ * for a short time.
+ *
+ * @author Michael Bädorf
+ */
+public interface PurgeService {
+
+    /**
+     * Purge the data of all deleted tailorings and projects of the current tenant.
+     * Interrupted purges are continued where they stopped.
+     * A failing job does not block the following jobs, it is retried with increasing delay.
+     *
+     * @return number of completed purge jobs
+     */
+    int purge();
+
+    /**
+     * Load all not completed purge jobs of the current tenant to observe purge progress.
+     *
+     * @return not completed purge jobs in order of creation
+     */
+    Collection<PurgeJob> getOpenPurgeJobs();
+}
@@ -0,0 +1,134 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.domain.PurgeJob;
+import eu.tailoringexpert.tailoring.AttachmentService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Implementation of {@link PurgeService}.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class PurgeServiceImpl implements PurgeService {
+
+    /**
+     * Delay of the first retry of a failed job, doubled with each further failed attempt.
+     */
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(5);
+
+    /**
+     * Limits the retry delay to 2^8 times {@link #RETRY_DELAY}, about 21 hours.
+     */
+    private static final int MAX_RETRY_DELAY_EXPONENT = 8;
+
+    @NonNull
+    private PurgeServiceRepository repository;
+
+    /**
+     * Attachment service using the stored identifier of a tailoring as tailoring parameter.
+     */
+    @NonNull
+    private AttachmentService attachmentService;
+
+    /**
+     * Maximum number of requirements or chapters deleted in one transaction.
+     */
+    private final int batchSize;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int purge() {
+        log.traceEntry();
+
+        int result = 0;
+        ZonedDateTime now = ZonedDateTime.now();
+        for (PurgeJob job : repository.getOpenPurgeJobs()) {
+            if (nonNull(job.getNextAttemptTimestamp()) && job.getNextAttemptTimestamp().isAfter(now)) {
+                log.debug("Purge job {} of project {} skipped until {}", job.getId(), job.getProject(),
+                    job.getNextAttemptTimestamp());
+                continue;
+            }
+
+            // a failing job must not block the following jobs
+            try {
+                purge(job);
+                result++;
+            } catch (RuntimeException e) {
+                int failedAttempts = isNull(job.getFailedAttempts()) ? 1 : job.getFailedAttempts() + 1;
+                ZonedDateTime nextAttempt = now.plus(RETRY_DELAY.multipliedBy(
+                    1L << Math.min(failedAttempts - 1, MAX_RETRY_DELAY_EXPONENT)));
+                log.error("Purge job {} of project {} failed {} time(s), next attempt not before {}",
+                    job.getId(), job.getProject(), failedAttempts, nextAttempt, e);
+                repository.failPurgeJob(job.getId(), nextAttempt);
+            }
+        }
+
+        return log.traceExit(result);
+    }
+
+    /**
+     * Purge all data of a job and complete it.
+     *
+     * @param job job to process
+     */
+    private void purge(PurgeJob job) {
+        long purgedRows = 0;
+        int deletedRows;
+        do {
+            deletedRows = repository.purge(job.getId(), batchSize);
+            purgedRows += deletedRows;
+        } while (deletedRows > 0);
+
+        // identifier of a deleted tailoring may already be reused by a new tailoring sharing the same directory
+        if (nonNull(job.getIdentifier()) &&
+            !repository.existsTailoringIdentifier(job.getProject(), job.getIdentifier())) {
+            attachmentService.deleteAll(job.getProject(), job.getIdentifier());
+        }
+
+        repository.completePurgeJob(job.getId());
+        log.info("Purge job {} of project {} completed, {} rows purged", job.getId(), job.getProject(), purgedRows);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<PurgeJob> getOpenPurgeJobs() {
+        log.traceEntry();
+        return log.traceExit(repository.getOpenPurgeJobs());
+    }
+}
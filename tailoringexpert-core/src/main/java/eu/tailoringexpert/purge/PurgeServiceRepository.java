@@ -0,0 +1,79 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.domain.PurgeJob;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Service for handling (peristent) data used by @see {@link PurgeService}.
+ *
+ * @author Michael Bädorf
+ */
+public interface PurgeServiceRepository {
+
+    /**
+     * Load all purge jobs not completed yet in order of creation.
+     *
+     * @return purge jobs to process
+     */
+    Collection<PurgeJob> getOpenPurgeJobs();
+
+    /**
+     * Delete the next batch of data of a purge job and update the progress of the job.
+     * Each call is executed in its own transaction.
+     *
+     * @param job       technical id of purge job
+     * @param batchSize maximum number of requirements or chapters to delete
+     * @return number of deleted rows, 0 if no data is left to purge
+     */
+    int purge(Long job, int batchSize);
+
+    /**
+     * Checks if a not deleted tailoring of a project uses the given identifier.
+     *
+     * @param project    identifier of project
+     * @param identifier identifier of tailoring
+     * @return true, if identifier is used by a not deleted tailoring
+     */
+    boolean existsTailoringIdentifier(String project, String identifier);
+
+    /**
+     * Mark a purge job as completed.
+     *
+     * @param job technical id of purge job
+     * @return completed purge job, empty if job does not exist
+     */
+    Optional<PurgeJob> completePurgeJob(Long job);
+
+    /**
+     * Mark a purge job as failed and increase its number of failed attempts.
+     *
+     * @param job         technical id of purge job
+     * @param nextAttempt earliest time of next purge attempt
+     * @return failed purge job, empty if job does not exist
+     */
+    Optional<PurgeJob> failPurgeJob(Long job, ZonedDateTime nextAttempt);
+}
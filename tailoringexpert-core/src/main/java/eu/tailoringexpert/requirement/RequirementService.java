@@ -23,6 +23,7 @@ package eu.tailoringexpert.requirement;
 
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.TailoringRequirement;
 
 import java.util.Collection;
@@ -83,13 +84,24 @@ public interface RequirementService {
     Optional<TailoringRequirement> createRequirement(String project, String tailoring, String chapter, String position, String text);
 
     /**
-     * Returns a list of all changes of a requirement.
+     * Returns a list of changes of a requirement.
      *
      * @param project   identifier of project
      * @param tailoring tailoring identifier
      * @param chapter   chapter to add new requirement
      * @param position  position in chapter after which requirement shall be created
+     * @param filter    restriction of changes to return
      * @return if requirement exists a list of changes, otherwise empty
      */
-    Optional<Collection<RequirementChange>> getRequirementChanges(String project, String tailoring, String chapter, String position);
+    Optional<Collection<RequirementChange>> getRequirementChanges(String project, String tailoring, String chapter, String position, RequirementChangeFilter filter);
+
+    /**
+     * Returns a list of changes of all requirements of a tailoring.
+     *
+     * @param project   identifier of project
+     * @param tailoring tailoring identifier
+     * @param filter    restriction of changes to return
+     * @return if tailoring exists a list of changes, otherwise empty
+     */
+    Optional<Collection<RequirementChange>> getTailoringChanges(String project, String tailoring, RequirementChangeFilter filter);
 }
@@ -23,6 +23,7 @@ package eu.tailoringexpert.requirement;
 
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.domain.TailoringRequirement.TailoringRequirementBuilder;
 import lombok.NonNull;
@@ -34,7 +35,6 @@ import java.util.*;
 
 import static java.lang.Boolean.TRUE;
 import static java.lang.Integer.parseInt;
-import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
@@ -100,21 +100,11 @@ public class RequirementServiceImpl implements RequirementService {
             return empty();
         }
 
-        final ZonedDateTime now = ZonedDateTime.now();
-        Optional<Chapter<TailoringRequirement>> tailoringChapter = repository.getChapter(project, tailoring, chapter);
-        if (tailoringChapter.isPresent()) {
-            tailoringChapter.get().allChapters()
-                    .sorted(comparing(Chapter::getNumber))
-                    .forEachOrdered(subChapter -> {
-                        subChapter.getRequirements().stream().sorted(comparing(TailoringRequirement::getPosition));
-                        handleSelected(subChapter, selected, now);
-                    });
-            log.traceExit();
-            return repository.updateSelected(project, tailoring, tailoringChapter.get());
-        }
+        Optional<Chapter<TailoringRequirement>> result = repository.updateSelected(project, tailoring, chapter,
+                selected, ZonedDateTime.now());
 
         log.traceExit();
-        return empty();
+        return result;
     }
 
     /**
@@ -223,23 +213,28 @@ public class RequirementServiceImpl implements RequirementService {
      */
     @Override
     public Optional<Collection<RequirementChange>> getRequirementChanges(String project, String tailoring,
-            String chapter, String position) {
-        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> position);
+            String chapter, String position, RequirementChangeFilter filter) {
+        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> position, () -> filter);
 
         Optional<Collection<RequirementChange>> result = repository.getRequirementChanges(project, tailoring, chapter,
-                position);
+                position, filter);
 
         log.traceExit();
         return result;
     }
 
-    private Chapter<TailoringRequirement> handleSelected(Chapter<TailoringRequirement> chapter, Boolean selected,
-            ZonedDateTime now) {
-        chapter.getRequirements()
-                .stream()
-                .sorted(comparing(TailoringRequirement::getPosition))
-                .forEachOrdered(requirement -> handleSelected(requirement, selected, now));
-        return chapter;
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Collection<RequirementChange>> getTailoringChanges(String project, String tailoring,
+            RequirementChangeFilter filter) {
+        log.traceEntry(() -> project, () -> tailoring, () -> filter);
+
+        Optional<Collection<RequirementChange>> result = repository.getTailoringChanges(project, tailoring, filter);
+
+        log.traceExit();
+        return result;
     }
 
     private TailoringRequirement handleSelected(TailoringRequirement requirement, Boolean selected, ZonedDateTime now) {
@@ -23,8 +23,10 @@ package eu.tailoringexpert.requirement;
 
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.TailoringRequirement;
 
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -70,15 +72,20 @@ public interface RequirementServiceRepository {
             TailoringRequirement requirement);
 
     /**
-     * Update all direct and indirect requirements state of chapter.
+     * Update selection state of all direct and indirect requirements of chapter.
+     * <p>
+     * Only requirements with a differing state are changed. The selection change timestamp of a changed requirement
+     * is set to the given timestamp, if not set yet, otherwise it will be reset.
      *
      * @param project   project identifier
      * @param tailoring tailoring name
-     * @param chapter   chapter, requirements shall be updated
+     * @param chapter   number of chapter, requirements shall be updated
+     * @param selected  selection state to set
+     * @param changed   timestamp of selection change
      * @return updated chapter
      */
-    Optional<Chapter<TailoringRequirement>> updateSelected(String project, String tailoring,
-            Chapter<TailoringRequirement> chapter);
+    Optional<Chapter<TailoringRequirement>> updateSelected(String project, String tailoring, String chapter,
+            Boolean selected, ZonedDateTime changed);
 
     /**
      * Update chapter.
@@ -100,8 +107,20 @@ public interface RequirementServiceRepository {
      * @param tailoring tailoring name
      * @param chapter   chapter of requirement
      * @param position  position of requirement in chapter
+     * @param filter    restriction of changes to load
      * @return Collection of changes if requirment exists
      */
     Optional<Collection<RequirementChange>> getRequirementChanges(String project, String tailoring, String chapter,
-            String position);
+            String position, RequirementChangeFilter filter);
+
+    /**
+     * Get change log of all requirements of a tailoring.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @param filter    restriction of changes to load
+     * @return changes of all requirements of tailoring if tailoring exists
+     */
+    Optional<Collection<RequirementChange>> getTailoringChanges(String project, String tailoring,
+            RequirementChangeFilter filter);
 }
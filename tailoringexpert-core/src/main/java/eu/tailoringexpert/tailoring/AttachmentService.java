@@ -55,4 +55,13 @@ public interface AttachmentService {
     Optional<File> save(String project, String tailoring, File file);
 
     boolean delete(String project, String tailoring,  String filename);
+
+    /**
+     * Deletes all files of the specified tailoring.
+     *
+     * @param project   name of the project to delete files of
+     * @param tailoring tailoring of the tailoring to delete files of
+     * @return true, if files of tailoring existed and have been deleted
+     */
+    boolean deleteAll(String project, String tailoring);
 }
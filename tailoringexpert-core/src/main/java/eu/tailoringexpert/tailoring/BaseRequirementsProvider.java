@@ -22,21 +22,18 @@
 package eu.tailoringexpert.tailoring;
 
 import eu.tailoringexpert.domain.BaseRequirement;
-import eu.tailoringexpert.domain.Catalog;
-import eu.tailoringexpert.domain.Chapter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Stream;
-
-import static java.util.Optional.ofNullable;
 
+/**
+ * Provides all requirements of a base catalog by their full qualified number (chapter number and position).
+ * The returned map is shared and must not be modified.
+ *
+ * @author Michael Bädorf
+ */
 @RequiredArgsConstructor
 public class BaseRequirementsProvider implements Function<String, Map<String, BaseRequirement>> {
 
@@ -45,31 +42,6 @@ public class BaseRequirementsProvider implements Function<String, Map<String, Ba
 
     @Override
     public Map<String, BaseRequirement> apply(String version) {
-        Map<String, BaseRequirement> result = new HashMap<>();
-
-        Optional<Catalog<BaseRequirement>> catalog = serviceRepository.getBaseCatalog(version);
-        catalog.orElse(
-                Catalog.<BaseRequirement>builder()
-                    .toc(Chapter.<BaseRequirement>builder().build())
-                    .build()
-            )
-            .getToc().allChapters()
-            .forEach(chapter -> accept(chapter, result));
-
-        return result;
-    }
-
-    /**
-     * Add chapter and all requirement to rows object.
-     * All subchapter will be evaluated as well.
-     *
-     * @param chapter             chapter evaluate
-     * @param requirementsMapping collection to add elements to
-     */
-    void accept(Chapter<BaseRequirement> chapter, Map<String, BaseRequirement> requirementsMapping) {
-        ofNullable(chapter.getRequirements())
-            .orElse(List.of())
-            .forEach(requirement -> requirementsMapping.put(chapter.getNumber() + "." + requirement.getPosition(), requirement));
+        return serviceRepository.getBaseRequirements(version);
     }
-
 }
@@ -24,6 +24,7 @@ package eu.tailoringexpert.tailoring;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -33,7 +34,21 @@ import java.util.Optional;
  */
 public interface BaseRequirementsProviderRepository {
 
+    /**
+     * Load a base catalog.
+     *
+     * @param version version of base catalog to load
+     * @return loaded base catalog, empty if version does not exist
+     */
     Optional<Catalog<BaseRequirement>> getBaseCatalog(String version);
+
+    /**
+     * Load all requirements of a base catalog.
+     *
+     * @param version version of base catalog to load requirements of
+     * @return unmodifiable map of requirements by full qualified number (chapter number and position)
+     */
+    Map<String, BaseRequirement> getBaseRequirements(String version);
 }
 
 
@@ -23,9 +23,13 @@ package eu.tailoringexpert.tailoring;
 
 import eu.tailoringexpert.domain.File;
 import eu.tailoringexpert.domain.Tailoring;
+import eu.tailoringexpert.domain.TailoringCatalogSource;
 
+import java.io.IOException;
 import java.util.Map;
 
+import static java.util.Objects.nonNull;
+
 /**
  * Interface for creating a tailoring document.
  *
@@ -42,4 +46,24 @@ public interface DocumentCreator {
      * @return printable document of provided tailoring document data
      */
     File createDocument(String docId, Tailoring tailoring, Map<String, Object> placeholders);
+
+    /**
+     * Create a printable document of a tailoring, whose catalog is provided by a source.<p>
+     * Creators able to build their document incrementally should override this method. By default the catalog is
+     * collected and set as catalog of the provided tailoring.
+     *
+     * @param docId        Identifier of document to create
+     * @param tailoring    tailoring header, catalog only has to provide the version
+     * @param catalog      source of chapters and requirements of tailoring catalog
+     * @param placeholders Placeholders to use in document generation
+     * @return printable document of provided tailoring document data
+     * @throws IOException in case of failing to read catalog
+     */
+    default File createDocument(String docId,
+                                Tailoring tailoring,
+                                TailoringCatalogSource catalog,
+                                Map<String, Object> placeholders) throws IOException {
+        tailoring.setCatalog(catalog.toCatalog(nonNull(tailoring.getCatalog()) ? tailoring.getCatalog().getVersion() : null));
+        return createDocument(docId, tailoring, placeholders);
+    }
 }
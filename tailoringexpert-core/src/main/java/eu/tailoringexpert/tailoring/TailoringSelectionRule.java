@@ -0,0 +1,143 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.Phase;
+import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.ScreeningSheetParameter;
+import eu.tailoringexpert.domain.SelectionVector;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * Rule for selecting base requirements in a tailoring, compiled once of the screeningsheet and selectionvector of
+ * the tailoring.
+ * <p>
+ * The phases of the screeningsheet are encoded as bitmask, the parameter values are held in an unmodifiable set.
+ * Evaluating a requirement doesn't create any objects, a rule is immutable and can be used concurrently.
+ *
+ * @author Michael Bädorf
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class TailoringSelectionRule {
+
+    /**
+     * Bitmask of the phase ordinals of the screeningsheet.
+     */
+    private final int phases;
+
+    /**
+     * Parameter values of the screeningsheet.
+     */
+    private final Set<String> parameterValues;
+
+    /**
+     * Selectionvector to use for identifier levels.
+     */
+    private final SelectionVector selectionVector;
+
+    /**
+     * Compile selection rule.
+     *
+     * @param screeningSheet  screeningsheet providing phases and parameter values
+     * @param selectionVector selectionvector to use for selecting requirements
+     * @return compiled rule
+     */
+    static TailoringSelectionRule compile(@NonNull ScreeningSheet screeningSheet,
+                                          @NonNull SelectionVector selectionVector) {
+        int phases = 0;
+        if (nonNull(screeningSheet.getPhases())) {
+            for (Phase phase : screeningSheet.getPhases()) {
+                phases |= nonNull(phase) ? 1 << phase.ordinal() : 0;
+            }
+        }
+
+        Set<String> parameterValues = isNull(screeningSheet.getParameters()) ? Set.of() : screeningSheet.getParameters()
+            .stream()
+            .map(ScreeningSheetParameter::getName)
+            .filter(Objects::nonNull)
+            .collect(toUnmodifiableSet());
+
+        return new TailoringSelectionRule(phases, parameterValues, selectionVector);
+    }
+
+    /**
+     * Evaluate, if a requirement shall be selected.<p>
+     * A requirement is selected, if it is relevant for one of the screeningsheet phases and at least one of its
+     * identifiers is applicable. An identifier without limitations is applicable, if the level of the selectionvector
+     * is at least the identifier level. An identifier with limitations is applicable, if the levels are equal and all
+     * limitations are screeningsheet parameter values.
+     *
+     * @param requirement base requirement containing rules for selecting in automatic tailoring
+     * @return true, if requirement shall be selected
+     */
+    boolean isSelected(@NonNull BaseRequirement requirement) {
+        if (!isRelevantPhase(requirement.getPhases()) || isNull(requirement.getIdentifiers())) {
+            return false;
+        }
+        for (Identifier identifier : requirement.getIdentifiers()) {
+            if (isApplicable(identifier)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRelevantPhase(Collection<Phase> requirementPhases) {
+        if (isNull(requirementPhases) || requirementPhases.isEmpty()) {
+            return true;
+        }
+        for (Phase phase : requirementPhases) {
+            if (nonNull(phase) && (phases & 1 << phase.ordinal()) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isApplicable(Identifier identifier) {
+        int level = selectionVector.getLevel(identifier.getType());
+        if (!identifier.hasLimitations()) {
+            return level >= identifier.getLevel();
+        }
+        if (level != identifier.getLevel()) {
+            return false;
+        }
+        for (String limitation : identifier.getLimitations()) {
+            if (isNull(limitation) || !parameterValues.contains(limitation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
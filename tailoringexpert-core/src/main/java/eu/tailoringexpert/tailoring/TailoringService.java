@@ -49,6 +49,7 @@ public interface TailoringService {
      * Create a new tailoring.
      * <p>
      * A tailoring con consist of multiple phases.
+     * Requirements of the matrix file not being part of the catalog are reported as additional note of the tailoring.
      *
      * @param name                      Tailoring name
      * @param identifier                DocID identifier
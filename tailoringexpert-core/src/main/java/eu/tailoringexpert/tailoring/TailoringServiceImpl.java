@@ -32,6 +32,7 @@ import static java.util.function.Predicate.not;
 import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -83,7 +84,7 @@ public class TailoringServiceImpl implements TailoringService {
     @NonNull
     private RequirementService requirementService;
     @NonNull
-    private Function<byte[], Map<String, Collection<ImportRequirement>>> tailoringRequirementFileReader;
+    private Function<byte[], Map<String, Map<String, ImportRequirement>>> tailoringRequirementFileReader;
     @NonNull
     private AttachmentService attachmentService;
     @NonNull
@@ -104,7 +105,7 @@ public class TailoringServiceImpl implements TailoringService {
         log.traceEntry(() -> name, () -> identifier, screeningSheet::getParameters, () -> applicableSelectionVector,
                 catalog::getVersion);
 
-        Optional<Map<String, Collection<ImportRequirement>>> matrixRequirements = matrixFileRawData.isPresent()
+        Optional<Map<String, Map<String, ImportRequirement>>> matrixRequirements = matrixFileRawData.isPresent()
                 ? of(tailoringRequirementFileReader.apply(matrixFileRawData.get()))
                 : empty();
 
@@ -121,6 +122,12 @@ public class TailoringServiceImpl implements TailoringService {
                 .state(TailoringState.CREATED)
                 .phases(screeningSheet.getPhases());
 
+        matrixRequirements
+                .map(matrix -> getUnmatchedMatrixRequirements(tailoringCatalog, matrix))
+                .filter(not(List::isEmpty))
+                .ifPresent(unmatched -> log.warn("Matrix requirements not part of catalog {}: {}",
+                        catalog.getVersion(), unmatched));
+
         Tailoring result = tailoringBuilder
                 .notes(nonNull(note) ? List.of(Note.builder()
                         .number(1)
@@ -219,7 +226,7 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<ScreeningSheet> getScreeningSheet(@NonNull String project, @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> oTailoring = repository.getTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.info(MSG_TAILORING_DOES_NOT_EXISTS);
             return log.traceExit(empty());
@@ -235,7 +242,7 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<SelectionVector> getSelectionVector(@NonNull String project, @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> oTailoring = repository.getTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.info(MSG_TAILORING_DOES_NOT_EXISTS);
             return log.traceExit(empty());
@@ -269,7 +276,7 @@ public class TailoringServiceImpl implements TailoringService {
             @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> oTailoring = repository.getTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.info(MSG_TAILORING_DOES_NOT_EXISTS);
             return log.traceExit(empty());
@@ -301,7 +308,7 @@ public class TailoringServiceImpl implements TailoringService {
             return log.traceExit(empty());
         }
 
-        Optional<Tailoring> tailoringWithNewName = repository.getTailoring(project, name);
+        Optional<Tailoring> tailoringWithNewName = repository.getTailoringHeader(project, name);
         if (tailoringWithNewName.isPresent()) {
             log.info("Name not changed because it already exits");
             return log.traceExit(empty());
@@ -326,11 +333,15 @@ public class TailoringServiceImpl implements TailoringService {
             return;
         }
 
-        Map<String, Collection<ImportRequirement>> importRequirements = tailoringRequirementFileReader.apply(data);
-        importRequirements.forEach((chapter, value) -> value.forEach(requirement -> {
+        Map<String, Map<String, ImportRequirement>> importRequirements = tailoringRequirementFileReader.apply(data);
+        List<String> unmatched = new ArrayList<>();
+        importRequirements.forEach((chapter, value) -> value.values().forEach(requirement -> {
             if (YES.equalsIgnoreCase(requirement.getApplicable()) || NO.equalsIgnoreCase(requirement.getApplicable())) {
                 boolean selected = YES.equalsIgnoreCase(requirement.getApplicable());
-                requirementService.handleSelected(project, tailoring, chapter, requirement.getPosition(), selected);
+                if (requirementService.handleSelected(project, tailoring, chapter, requirement.getPosition(), selected)
+                        .isEmpty()) {
+                    unmatched.add(chapter + "." + requirement.getPosition());
+                }
                 ofNullable(requirement.getText())
                         .filter(not(String::isBlank))
                         .ifPresent(text -> requirementService.handleText(project, tailoring, chapter,
@@ -338,6 +349,9 @@ public class TailoringServiceImpl implements TailoringService {
             }
         }));
 
+        if (!unmatched.isEmpty()) {
+            log.warn("Imported requirements not part of tailoring {}: {}", tailoring, unmatched);
+        }
         log.traceExit();
     }
 
@@ -348,7 +362,7 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<Boolean> deleteTailoring(@NonNull String project, @NonNull String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> toDelete = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> toDelete = repository.getTailoringHeader(project, tailoring);
         if (toDelete.isEmpty()) {
             log.info("Tailoring not exists. No deletion.");
             return log.traceExit(empty());
@@ -369,7 +383,7 @@ public class TailoringServiceImpl implements TailoringService {
     @Override
     public Optional<Note> addNote(String project, String tailoring, String note) {
         log.traceEntry(() -> project, () -> tailoring, () -> note);
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> oTailoring = repository.getTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.info("Tailoring not exists. Note not added.");
             return log.traceExit(empty());
@@ -397,7 +411,7 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<Note> getNote(String project, String tailoring, Integer note) {
         log.traceEntry(() -> tailoring, () -> project);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> oTailoring = repository.getTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.info("Tailoring not exist. Note not added.");
             return log.traceExit(empty());
@@ -417,7 +431,7 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<TailoringInformation> updateState(String project, String tailoring, TailoringState state) {
         log.traceEntry(state::name, () -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> oTailoring = repository.getTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.info("Tailoring not existing. Not adding.");
             return log.traceExit(empty());
@@ -444,7 +458,7 @@ public class TailoringServiceImpl implements TailoringService {
     public Optional<Collection<Note>> getNotes(String project, String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        Optional<Tailoring> oTailoring = repository.getTailoring(project, tailoring);
+        Optional<Tailoring> oTailoring = repository.getTailoringHeader(project, tailoring);
         if (oTailoring.isEmpty()) {
             log.info(MSG_TAILORING_DOES_NOT_EXISTS);
             return log.traceExit(empty());
@@ -571,4 +585,28 @@ public class TailoringServiceImpl implements TailoringService {
         zip.write(file.getData(), 0, file.getData().length);
         zip.closeEntry();
     }
+
+    /**
+     * Determine requirements of a matrix without corresponding requirement in tailoring catalog.
+     * Lookups use the chapter and requirement indexes of the catalog.
+     *
+     * @param catalog tailoring catalog created of base catalog
+     * @param matrix  requirements of matrix, indexed by chapter and position
+     * @return chapter and position of all unmatched matrix requirements in matrix order
+     */
+    private List<String> getUnmatchedMatrixRequirements(Catalog<TailoringRequirement> catalog,
+            Map<String, Map<String, ImportRequirement>> matrix) {
+        if (isNull(catalog) || isNull(catalog.getToc())) {
+            return List.of();
+        }
+
+        List<String> result = new ArrayList<>();
+        matrix.forEach((number, requirements) -> {
+            Optional<Chapter<TailoringRequirement>> chapter = catalog.getChapter(number);
+            requirements.keySet().stream()
+                    .filter(position -> chapter.flatMap(c -> c.getRequirement(position)).isEmpty())
+                    .forEach(position -> result.add(number + "." + position));
+        });
+        return result;
+    }
 }
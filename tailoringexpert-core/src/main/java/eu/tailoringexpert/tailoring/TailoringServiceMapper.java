@@ -21,18 +21,13 @@
  */
 package eu.tailoringexpert.tailoring;
 
-import static java.util.Collections.disjoint;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptyMap;
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.toUnmodifiableSet;
+import static java.util.stream.Collectors.toCollection;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import org.mapstruct.AfterMapping;
 import org.mapstruct.Context;
@@ -45,9 +40,7 @@ import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Chapter;
-import eu.tailoringexpert.domain.Phase;
 import eu.tailoringexpert.domain.ScreeningSheet;
-import eu.tailoringexpert.domain.ScreeningSheetParameter;
 import eu.tailoringexpert.domain.SelectionVector;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringInformation;
@@ -68,113 +61,90 @@ public abstract class TailoringServiceMapper {
     @Mapping(target = "catalogVersion", source = "domain.catalog.version")
     abstract TailoringInformation toTailoringInformation(Tailoring domain);
 
+    /**
+     * Create tailoring catalog of a base catalog.
+     * Selection rule of screeningsheet and selectionvector is compiled once for all requirements.
+     *
+     * @param catalog            base catalog to create tailoring catalog of
+     * @param screeningSheet     screeningsheet to use
+     * @param selectionVector    selectionvector to use for selecting the requirements
+     * @param matrixRequirements requirement states to use instead of selection rule, indexed by chapter and position
+     * @return created tailoring catalog
+     */
+    Catalog<TailoringRequirement> toTailoringCatalog(
+            Catalog<BaseRequirement> catalog,
+            ScreeningSheet screeningSheet,
+            SelectionVector selectionVector,
+            Optional<Map<String, Map<String, ImportRequirement>>> matrixRequirements) {
+        if (isNull(catalog)) {
+            return null;
+        }
+        return toTailoringCatalog(catalog, TailoringSelectionRule.compile(screeningSheet, selectionVector),
+                matrixRequirements);
+    }
+
     abstract Catalog<TailoringRequirement> toTailoringCatalog(
             Catalog<BaseRequirement> catalog,
-            @Context ScreeningSheet screeningSheet,
-            @Context SelectionVector selectionVector,
-            @Context Optional<Map<String, Collection<ImportRequirement>>> matrixRequirements);
+            @Context TailoringSelectionRule selectionRule,
+            @Context Optional<Map<String, Map<String, ImportRequirement>>> matrixRequirements);
 
-    @Mapping(target = "requirements", expression = "java(toTailoringRequirements(chapter.getRequirements(), screeningSheet, selectionVector, chapter, matrixRequirements))")
+    @Mapping(target = "requirements", expression = "java(toTailoringRequirements(chapter.getRequirements(), selectionRule, chapter, matrixRequirements))")
     abstract Chapter<TailoringRequirement> toChapter(
             Chapter<BaseRequirement> chapter,
-            @Context ScreeningSheet screeningSheet,
-            @Context SelectionVector selectionVector,
-            @Context Optional<Map<String, Collection<ImportRequirement>>> matrixRequirements);
+            @Context TailoringSelectionRule selectionRule,
+            @Context Optional<Map<String, Map<String, ImportRequirement>>> matrixRequirements);
+
+    /**
+     * Map (sub)chapters. Chapters are mapped in parallel using the common fork/join pool.
+     *
+     * @param chapters           chapters to map
+     * @param selectionRule      rule for selecting requirements
+     * @param matrixRequirements requirement states to use instead of selection rule
+     * @return mapped chapters in order of base chapters
+     */
+    ArrayList<Chapter<TailoringRequirement>> toChapters(
+            List<Chapter<BaseRequirement>> chapters,
+            @Context TailoringSelectionRule selectionRule,
+            @Context Optional<Map<String, Map<String, ImportRequirement>>> matrixRequirements) {
+        if (isNull(chapters)) {
+            return new ArrayList<>();
+        }
+        return chapters.parallelStream()
+                .map(chapter -> toChapter(chapter, selectionRule, matrixRequirements))
+                .collect(toCollection(ArrayList::new));
+    }
 
     abstract ArrayList<TailoringRequirement> toTailoringRequirements(
             List<BaseRequirement> requirements,
-            @Context ScreeningSheet screeningSheet,
-            @Context SelectionVector selectionVector,
+            @Context TailoringSelectionRule selectionRule,
             @Context Chapter<BaseRequirement> chapter,
-            @Context Optional<Map<String, Collection<ImportRequirement>>> matrixRequirements);
+            @Context Optional<Map<String, Map<String, ImportRequirement>>> matrixRequirements);
 
     /**
      * Function to set selected state of a requirement after value mapping has
      * performed/finished.
      *
-     * @param baseRequirement base requirement containing rules for selecting in
-     *                        automatic tailoring
-     * @param screeningSheet  screeningsheet to use
-     * @param selectionVector selectionvector to use for selecting the requirement
-     * @param builder         data object to set selected state
+     * @param baseRequirement    base requirement containing rules for selecting in
+     *                           automatic tailoring
+     * @param selectionRule      compiled rule of screeningsheet and selectionvector
+     * @param chapter            chapter of base requirement
+     * @param matrixRequirements requirement states to use instead of selection rule
+     * @param builder            data object to set selected state
      */
     @AfterMapping
     void toTailoringRequirement(
             BaseRequirement baseRequirement,
-            @Context ScreeningSheet screeningSheet,
-            @Context SelectionVector selectionVector,
+            @Context TailoringSelectionRule selectionRule,
             @Context Chapter<BaseRequirement> chapter,
-            @Context Optional<Map<String, Collection<ImportRequirement>>> matrixRequirements,
+            @Context Optional<Map<String, Map<String, ImportRequirement>>> matrixRequirements,
             @MappingTarget TailoringRequirementBuilder builder) {
         log.traceEntry(baseRequirement::getPosition);
 
-        matrixRequirements.orElseGet(() -> emptyMap()).getOrDefault(chapter.getNumber(), emptyList())
-                .stream()
-                .filter(req -> req.getPosition().equals(baseRequirement.getPosition()))
-                .findFirst()
+        matrixRequirements
+                .map(matrix -> matrix.get(chapter.getNumber()))
+                .map(chapterRequirements -> chapterRequirements.get(baseRequirement.getPosition()))
                 .ifPresentOrElse(
                         requirement -> builder.selected("YES".equals(requirement.getApplicable())),
-                        () -> builder
-                                .selected(tailoringRequiremenState(baseRequirement, screeningSheet, selectionVector)));
-    }
-
-    private Boolean tailoringRequiremenState(
-            BaseRequirement baseRequirement,
-            ScreeningSheet screeningSheet,
-            SelectionVector selectionVector) {
-        log.traceEntry(baseRequirement::getPosition);
-
-        Set<String> parameterValues = screeningSheet.getParameters()
-                .stream()
-                .map(ScreeningSheetParameter::getName)
-                .filter(String.class::isInstance)
-                .map(String.class::cast)
-                .collect(toUnmodifiableSet());
-
-        Collection<Phase> phases = screeningSheet.getPhases();
-        boolean isRelevantPhase = containsPhases(phases, baseRequirement.getPhases());
-        boolean applicable = baseRequirement.getIdentifiers()
-                .stream()
-                .filter(identifier -> isRelevantPhase)
-                .anyMatch(identifier -> {
-                    int level = selectionVector.getLevel(identifier.getType());
-                    // prüfen, ob abwendbarkeit ohne einschränkung
-                    if (!identifier.hasLimitations() && level >= identifier.getLevel()) {
-                        return true;
-                    }
-
-                    // sind alle limitierungen enthalten und ist der level gleich
-                    return containsAllLimitations(parameterValues, identifier.getLimitations())
-                            && level == identifier.getLevel();
-                });
-
-        return log.traceExit(applicable);
-    }
-
-    /**
-     * Check, if phases of screening parameters exists in base catalog requirment
-     * phases.
-     *
-     * @param screeningPhases   phases provided in screeningsheet paranmeters
-     * @param requirementPhases phase defined in base catalog requirement
-     * @return
-     */
-    private boolean containsPhases(
-            Collection<Phase> screeningPhases,
-            Collection<Phase> requirementPhases) {
-        return isNull(requirementPhases) || requirementPhases.isEmpty() ||
-                !disjoint(requirementPhases, screeningPhases);
-    }
-
-    /**
-     * Chek, if all limitation definined in requirement are fulfilled.
-     *
-     * @param screeningParameter
-     * @param requirement
-     * @return
-     */
-    private boolean containsAllLimitations(Collection<String> screeningParameter, Collection<String> requirement) {
-        return screeningParameter.containsAll(requirement);
+                        () -> builder.selected(selectionRule.isSelected(baseRequirement)));
     }
-
 }
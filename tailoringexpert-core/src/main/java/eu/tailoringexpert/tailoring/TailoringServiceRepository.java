@@ -23,6 +23,7 @@ package eu.tailoringexpert.tailoring;
 
 import eu.tailoringexpert.domain.*;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Optional;
 
@@ -59,6 +60,16 @@ public interface TailoringServiceRepository {
      */
     Optional<Tailoring> getTailoring(String project, String tailoring);
 
+    /**
+     * Load tailoring by name without its requirement catalog.
+     * The catalog of the returned tailoring only provides the catalog version, the table of contents is not loaded.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @return loaded tailoring header
+     */
+    Optional<Tailoring> getTailoringHeader(String project, String tailoring);
+
     /**
      * Load screeningsheet (data) of tailoring.
      *
@@ -77,6 +88,19 @@ public interface TailoringServiceRepository {
      */
     Optional<byte[]> getScreeningSheetFile(String project, String tailoring);
 
+    /**
+     * Stream chapters and requirements of the catalog of a tailoring in document order to consumer.<p>
+     * The catalog is read using a forward-only cursor, so it is never completely held in memory.
+     * Therefore the consumer must process all elements within this call.
+     *
+     * @param project   project identifier
+     * @param tailoring tailoring name
+     * @param consumer  receiver of chapters and requirements, only called if tailoring exists
+     * @return true, if tailoring exists and its catalog has been passed to consumer
+     * @throws IOException in case of failing to consume catalog
+     */
+    boolean writeCatalog(String project, String tailoring, TailoringCatalogConsumer consumer) throws IOException;
+
     /**
      * Update document signature of tailoring.
      *
@@ -0,0 +1,155 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.catalog;
+
+import eu.tailoringexpert.domain.BaseCatalogSnapshot;
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BaseCatalogSnapshotCacheTest {
+
+    AtomicReference<String> tenant;
+    Function<String, Optional<Catalog<BaseRequirement>>> loaderMock;
+    BaseCatalogSnapshotCache cache;
+
+    @BeforeEach
+    void setup() {
+        this.tenant = new AtomicReference<>("plattform");
+        this.loaderMock = mock(Function.class);
+        given(loaderMock.apply(anyString()))
+            .willAnswer(invocation -> Optional.of(Catalog.<BaseRequirement>builder().version(invocation.getArgument(0)).build()));
+        this.cache = new BaseCatalogSnapshotCache(tenant::get, 2);
+    }
+
+    @Test
+    void BaseCatalogSnapshotCache_MaximumSizeZero_IllegalArgumentExceptionThrown() {
+        // arrange
+
+        // act
+        Throwable actual = catchThrowable(() -> new BaseCatalogSnapshotCache(tenant::get, 0));
+
+        // assert
+        assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void get_VersionRequestedTwice_CatalogLoadedOnce() {
+        // arrange
+        Optional<BaseCatalogSnapshot> first = cache.get("8.2.1", loaderMock);
+
+        // act
+        Optional<BaseCatalogSnapshot> actual = cache.get("8.2.1", loaderMock);
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get()).isSameAs(first.get());
+        assertThat(actual.get().getCatalog().getVersion()).isEqualTo("8.2.1");
+        verify(loaderMock, times(1)).apply("8.2.1");
+    }
+
+    @Test
+    void get_CatalogNotExisting_EmptyNotCached() {
+        // arrange
+        given(loaderMock.apply("4711")).willReturn(Optional.empty());
+        cache.get("4711", loaderMock);
+
+        // act
+        Optional<BaseCatalogSnapshot> actual = cache.get("4711", loaderMock);
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(loaderMock, times(2)).apply("4711");
+    }
+
+    @Test
+    void get_MaximumSizeExceeded_LeastRecentlyUsedVersionReloaded() {
+        // arrange
+        cache.get("8.2.1", loaderMock);
+        cache.get("8.2.2", loaderMock);
+        cache.get("8.2.1", loaderMock);
+        cache.get("8.3", loaderMock);
+
+        // act
+        cache.get("8.2.1", loaderMock);
+        cache.get("8.2.2", loaderMock);
+
+        // assert
+        verify(loaderMock, times(1)).apply("8.2.1");
+        verify(loaderMock, times(2)).apply("8.2.2");
+    }
+
+    @Test
+    void get_DifferentTenants_CatalogLoadedPerTenant() {
+        // arrange
+        Optional<BaseCatalogSnapshot> plattform = cache.get("8.2.1", loaderMock);
+        tenant.set("demo");
+
+        // act
+        Optional<BaseCatalogSnapshot> actual = cache.get("8.2.1", loaderMock);
+
+        // assert
+        assertThat(actual.get()).isNotSameAs(plattform.get());
+        verify(loaderMock, times(2)).apply("8.2.1");
+    }
+
+    @Test
+    void evict_VersionCached_CatalogReloaded() {
+        // arrange
+        cache.get("8.2.1", loaderMock);
+
+        // act
+        cache.evict("8.2.1");
+        cache.get("8.2.1", loaderMock);
+
+        // assert
+        verify(loaderMock, times(2)).apply("8.2.1");
+    }
+
+    @Test
+    void evict_OtherTenant_CatalogOfTenantNotEvicted() {
+        // arrange
+        cache.get("8.2.1", loaderMock);
+        tenant.set("demo");
+
+        // act
+        cache.evict("8.2.1");
+        tenant.set("plattform");
+        cache.get("8.2.1", loaderMock);
+
+        // assert
+        verify(loaderMock, times(1)).apply("8.2.1");
+    }
+}
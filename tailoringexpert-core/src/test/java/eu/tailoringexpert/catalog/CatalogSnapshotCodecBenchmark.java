@@ -0,0 +1,194 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.catalog;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.Document;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.Logo;
+import eu.tailoringexpert.domain.Reference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.B;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+
+/**
+ * Duration of writing and reading a synthetic base catalog of 10.000 requirements in 100 chapters as JSON
+ * (Jackson, as used by catalog import/export) and as binary snapshot of {@link CatalogSnapshotCodec}, in memory
+ * and from a memory mapped file.
+ * <p>
+ * Run with <code>main</code> from the test classpath.
+ *
+ * @author Michael Bädorf
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogSnapshotCodecBenchmark {
+
+    private static final int CHAPTERS = 100;
+    private static final int REQUIREMENTS = 10_000;
+    private static final int DRDS = 20;
+    private static final int DOCUMENTS = 10;
+
+    private CatalogSnapshotCodec codec;
+    private JsonMapper objectMapper;
+    private JavaType catalogType;
+    private Catalog<BaseRequirement> catalog;
+    private byte[] json;
+    private byte[] snapshot;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        codec = new CatalogSnapshotCodec();
+        objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+        catalogType = objectMapper.getTypeFactory().constructParametricType(Catalog.class, BaseRequirement.class);
+
+        catalog = catalog();
+        json = objectMapper.writeValueAsBytes(catalog);
+        snapshot = codec.encode(catalog, BaseRequirement.class);
+        file = Files.createTempFile("catalog", ".snapshot");
+        codec.write(catalog, BaseRequirement.class, file);
+        System.out.printf("%nsize: json %d bytes, snapshot %d bytes%n", json.length, snapshot.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public byte[] writeJson() {
+        return objectMapper.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public Catalog<BaseRequirement> readJson() {
+        return objectMapper.readValue(json, catalogType);
+    }
+
+    @Benchmark
+    public byte[] writeSnapshot() {
+        return codec.encode(catalog, BaseRequirement.class);
+    }
+
+    @Benchmark
+    public Catalog<BaseRequirement> readSnapshot() throws IOException {
+        return codec.decode(ByteBuffer.wrap(snapshot), BaseRequirement.class);
+    }
+
+    @Benchmark
+    public Catalog<BaseRequirement> readSnapshotFile() throws IOException {
+        return codec.read(file, BaseRequirement.class);
+    }
+
+    private static Catalog<BaseRequirement> catalog() {
+        return Catalog.<BaseRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<BaseRequirement>builder()
+                .chapters(IntStream.rangeClosed(1, CHAPTERS)
+                    .mapToObj(chapter -> Chapter.<BaseRequirement>builder()
+                        .name("Chapter " + chapter)
+                        .number(String.valueOf(chapter))
+                        .position(chapter)
+                        .chapters(List.of())
+                        .requirements(IntStream.range(0, REQUIREMENTS / CHAPTERS)
+                            .mapToObj(position -> requirement(chapter, position))
+                            .toList())
+                        .build())
+                    .toList())
+                .build())
+            .build();
+    }
+
+    private static BaseRequirement requirement(int chapter, int position) {
+        return BaseRequirement.builder()
+            .text("Requirement " + chapter + "." + position)
+            .position(String.valueOf(position))
+            .reference(Reference.builder()
+                .text("ECSS-Q-ST-80")
+                .issue("C")
+                .changed(Boolean.FALSE)
+                .logo(Logo.builder().name("ECSS").url("ecss.png").build())
+                .build())
+            .drds(List.of(DRD.builder()
+                .number("DRD-" + position % DRDS)
+                .title("Document requirement " + position % DRDS)
+                .deliveryDate("SRR")
+                .build()))
+            .applicableDocuments(List.of(Document.builder()
+                .number("AD" + position % DOCUMENTS)
+                .title("Applicable document " + position % DOCUMENTS)
+                .issue("C")
+                .build()))
+            .phases(List.of(ZERO, A, B))
+            .identifiers(List.of(Identifier.builder()
+                .type("Q")
+                .level(position % 3)
+                .limitations(List.of("SW"))
+                .build()))
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CatalogSnapshotCodecBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
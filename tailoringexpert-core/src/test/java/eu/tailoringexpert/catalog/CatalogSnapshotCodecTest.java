@@ -0,0 +1,341 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.catalog;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.Document;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.Logo;
+import eu.tailoringexpert.domain.Reference;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.F;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.util.List.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class CatalogSnapshotCodecTest {
+
+    private CatalogSnapshotCodec codec;
+
+    @BeforeEach
+    void setup() {
+        this.codec = new CatalogSnapshotCodec();
+    }
+
+    @Test
+    void decode_EncodedBaseCatalog_EqualCatalogReturned() throws Exception {
+        // arrange
+        Catalog<BaseRequirement> catalog = createBaseCatalog();
+        byte[] snapshot = codec.encode(catalog, BaseRequirement.class);
+
+        // act
+        Catalog<BaseRequirement> actual = codec.decode(ByteBuffer.wrap(snapshot), BaseRequirement.class);
+
+        // assert
+        assertThat(actual).isEqualTo(catalog);
+        BaseRequirement requirement = actual.getChapter("1").get().getRequirements().get(0);
+        assertThat(requirement)
+            .usingRecursiveComparison()
+            .isEqualTo(catalog.getChapter("1").get().getRequirements().get(0));
+        assertThat(actual.getChapter("1.1").get().getRequirements().get(0))
+            .usingRecursiveComparison()
+            .isEqualTo(catalog.getChapter("1.1").get().getRequirements().get(0));
+    }
+
+    @Test
+    void decode_EncodedTailoringCatalog_EqualCatalogReturned() throws Exception {
+        // arrange
+        ZonedDateTime changed = ZonedDateTime.of(2024, 3, 31, 2, 30, 15, 123_000_000, ZoneId.of("Europe/Berlin"));
+        Catalog<TailoringRequirement> catalog = Catalog.<TailoringRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<TailoringRequirement>builder()
+                .name("/")
+                .chapters(of(Chapter.<TailoringRequirement>builder()
+                    .name("Chapter 1")
+                    .number("1")
+                    .position(1)
+                    .requirements(of(
+                        TailoringRequirement.builder()
+                            .text("Requirement a")
+                            .position("a")
+                            .selected(Boolean.TRUE)
+                            .selectionChanged(changed)
+                            .drds(of(DRD.builder().number("1.1").title("SDP").build()))
+                            .applicableDocuments(of())
+                            .build(),
+                        TailoringRequirement.builder()
+                            .text("Requirement b")
+                            .position("b")
+                            .selected(Boolean.FALSE)
+                            .textChanged(changed.withZoneSameInstant(ZoneId.of("UTC")))
+                            .build(),
+                        TailoringRequirement.builder()
+                            .text("Requirement c")
+                            .position("c")
+                            .build()))
+                    .build()))
+                .build())
+            .build();
+        byte[] snapshot = codec.encode(catalog, TailoringRequirement.class);
+
+        // act
+        Catalog<TailoringRequirement> actual = codec.decode(ByteBuffer.wrap(snapshot), TailoringRequirement.class);
+
+        // assert
+        assertThat(actual)
+            .usingRecursiveComparison()
+            .withEqualsForType(ZonedDateTime::equals, ZonedDateTime.class)
+            .isEqualTo(catalog);
+    }
+
+    @Test
+    void decode_EncodedCatalogWithoutToc_CatalogWithoutTocReturned() throws Exception {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.1")
+            .build();
+        byte[] snapshot = codec.encode(catalog, BaseRequirement.class);
+
+        // act
+        Catalog<BaseRequirement> actual = codec.decode(ByteBuffer.wrap(snapshot), BaseRequirement.class);
+
+        // assert
+        assertThat(actual.getVersion()).isEqualTo("8.2.1");
+        assertThat(actual.getToc()).isNull();
+    }
+
+    @Test
+    void encode_EqualValuesInRequirements_ValuesEncodedOnce() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createBaseCatalog();
+
+        // act
+        byte[] actual = codec.encode(catalog, BaseRequirement.class);
+
+        // assert
+        String content = new String(actual, ISO_8859_1);
+        assertThat(content.split("Software Development Plan", -1)).hasSize(2);
+        assertThat(content.split("Space product assurance", -1)).hasSize(2);
+    }
+
+    @Test
+    void read_WrittenFile_EqualCatalogReturned(@TempDir Path directory) throws Exception {
+        // arrange
+        Path file = directory.resolve("catalog_8.2.1.snapshot");
+        Catalog<BaseRequirement> catalog = createBaseCatalog();
+        codec.write(catalog, BaseRequirement.class, file);
+
+        // act
+        Catalog<BaseRequirement> actual = codec.read(file, BaseRequirement.class);
+
+        // assert
+        assertThat(actual)
+            .usingRecursiveComparison()
+            .isEqualTo(catalog);
+    }
+
+    @Test
+    void decode_NoSnapshot_StreamCorruptedExceptionThrown() {
+        // arrange
+        ByteBuffer buffer = ByteBuffer.wrap("{\"version\":\"8.2.1\"}".getBytes());
+
+        // act
+        Throwable actual = catchThrowable(() -> codec.decode(buffer, BaseRequirement.class));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(StreamCorruptedException.class)
+            .hasMessage("no catalog snapshot");
+    }
+
+    @Test
+    void decode_OtherRequirementType_StreamCorruptedExceptionThrown() {
+        // arrange
+        byte[] snapshot = codec.encode(createBaseCatalog(), BaseRequirement.class);
+
+        // act
+        Throwable actual = catchThrowable(() -> codec.decode(ByteBuffer.wrap(snapshot), TailoringRequirement.class));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(StreamCorruptedException.class)
+            .hasMessage("catalog snapshot contains different requirement type");
+    }
+
+    @Test
+    void decode_UnsupportedFormatVersion_StreamCorruptedExceptionThrown() {
+        // arrange
+        byte[] snapshot = codec.encode(createBaseCatalog(), BaseRequirement.class);
+        snapshot[4] = (byte) (CatalogSnapshotCodec.FORMAT_VERSION + 1);
+
+        // act
+        Throwable actual = catchThrowable(() -> codec.decode(ByteBuffer.wrap(snapshot), BaseRequirement.class));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(StreamCorruptedException.class)
+            .hasMessageStartingWith("unsupported catalog snapshot format version");
+    }
+
+    @Test
+    void decode_TruncatedSnapshot_StreamCorruptedExceptionThrown() {
+        // arrange
+        byte[] snapshot = codec.encode(createBaseCatalog(), BaseRequirement.class);
+        byte[] truncated = Arrays.copyOf(snapshot, snapshot.length - 3);
+
+        // act
+        Throwable actual = catchThrowable(() -> codec.decode(ByteBuffer.wrap(truncated), BaseRequirement.class));
+
+        // assert
+        assertThat(actual).isInstanceOf(StreamCorruptedException.class);
+    }
+
+    @Test
+    void decode_NegativeChapterCount_StreamCorruptedExceptionThrown() {
+        // arrange
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{
+            'T', 'E', 'C', 'S',
+            // format version, requirement type
+            CatalogSnapshotCodec.FORMAT_VERSION, 0,
+            // empty string, logo, reference, drd, document and identifier tables
+            0, 0, 0, 0, 0, 0,
+            // catalog version, toc available
+            0, 1,
+            // chapter name, position, number
+            0, 0, 0,
+            // chapter count -1
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F
+        });
+
+        // act
+        Throwable actual = catchThrowable(() -> codec.decode(buffer, BaseRequirement.class));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(StreamCorruptedException.class)
+            .hasMessageStartingWith("invalid size");
+    }
+
+    @Test
+    void decode_EqualReferencesInRequirements_ReferenceCopiedPerRequirement() throws Exception {
+        // arrange
+        byte[] snapshot = codec.encode(createBaseCatalog(), BaseRequirement.class);
+
+        // act
+        Catalog<BaseRequirement> actual = codec.decode(ByteBuffer.wrap(snapshot), BaseRequirement.class);
+
+        // assert
+        Chapter<BaseRequirement> chapter = actual.getToc().getChapters().get(0);
+        Reference reference = chapter.getRequirements().get(0).getReference();
+        Reference subchapterReference = chapter.getChapters().get(0).getRequirements().get(0).getReference();
+        assertThat(reference)
+            .isEqualTo(subchapterReference)
+            .isNotSameAs(subchapterReference);
+
+        reference.setChanged(Boolean.FALSE);
+        assertThat(subchapterReference.getChanged()).isTrue();
+    }
+
+    @Test
+    void encode_UnsupportedRequirementType_IllegalArgumentExceptionThrown() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createBaseCatalog();
+
+        // act
+        Throwable actual = catchThrowable(() -> codec.encode(catalog, (Class) String.class));
+
+        // assert
+        assertThat(actual).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Catalog<BaseRequirement> createBaseCatalog() {
+        return Catalog.<BaseRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<BaseRequirement>builder()
+                .name("/")
+                .chapters(of(
+                    Chapter.<BaseRequirement>builder()
+                        .name("Chapter 1")
+                        .number("1")
+                        .position(1)
+                        .requirements(of(createRequirement("Requirement 1.a")))
+                        .chapters(of(
+                            Chapter.<BaseRequirement>builder()
+                                .name("Chapter 1.1")
+                                .number("1.1")
+                                .position(-1)
+                                .requirements(of(createRequirement("Anforderung 1.1.a mit Umlauten äöü")))
+                                .build()
+                        ))
+                        .build()
+                ))
+                .build())
+            .build();
+    }
+
+    private BaseRequirement createRequirement(String text) {
+        return BaseRequirement.builder()
+            .text(text)
+            .position("a")
+            .reference(Reference.builder()
+                .text("Q-ST-80")
+                .issue("C")
+                .changed(Boolean.TRUE)
+                .logo(Logo.builder().name("ECSS").url("ecss.png").build())
+                .build())
+            .applicableDocuments(of(Document.builder()
+                .number("AD1")
+                .title("Space product assurance")
+                .issue("C")
+                .applicable(Boolean.TRUE)
+                .build()))
+            .drds(of(DRD.builder()
+                .number("1.1")
+                .title("Software Development Plan")
+                .deliveryDate("SRR")
+                .build()))
+            .phases(of(ZERO, A, F))
+            .identifiers(of(Identifier.builder()
+                .type("Q")
+                .level(300)
+                .limitations(of("SW", "HW"))
+                .build()))
+            .build();
+    }
+}
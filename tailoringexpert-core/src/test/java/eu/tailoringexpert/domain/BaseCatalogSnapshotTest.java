@@ -0,0 +1,255 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.List.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class BaseCatalogSnapshotTest {
+
+    @Test
+    void of_NullRequirementsObject_EmptyRequirementsIndex() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .toc(Chapter.<BaseRequirement>builder()
+                .name("/")
+                .chapters(of(
+                        Chapter.<BaseRequirement>builder()
+                            .number("1")
+                            .requirements(null)
+                            .build()
+                    )
+                )
+                .build()
+            )
+            .build();
+
+        // act
+        BaseCatalogSnapshot actual = BaseCatalogSnapshot.of(catalog);
+
+        // assert
+        assertThat(actual.getRequirements()).isEmpty();
+        assertThat(actual.getChapters()).containsOnlyKeys("1");
+    }
+
+    @Test
+    void of_NullChaptersObject_EmptyIndexes() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .toc(Chapter.<BaseRequirement>builder()
+                .name("/")
+                .chapters(null)
+                .build()
+            )
+            .build();
+
+        // act
+        BaseCatalogSnapshot actual = BaseCatalogSnapshot.of(catalog);
+
+        // assert
+        assertThat(actual.getRequirements()).isEmpty();
+        assertThat(actual.getChapters()).isEmpty();
+        assertThat(actual.getCatalog().getVersion()).isEqualTo("8.2.2");
+    }
+
+    @Test
+    void of_NullToc_EmptyIndexes() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .build();
+
+        // act
+        BaseCatalogSnapshot actual = BaseCatalogSnapshot.of(catalog);
+
+        // assert
+        assertThat(actual.getRequirements()).isEmpty();
+        assertThat(actual.getCatalog().getToc()).isNull();
+    }
+
+    @Test
+    void of_5RequirementsInChapterTree_AllRequirementsIndexed() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createCatalog();
+
+        // act
+        BaseCatalogSnapshot actual = BaseCatalogSnapshot.of(catalog);
+
+        // assert
+        assertThat(actual.getRequirements())
+            .containsOnlyKeys("1.a", "1.1.a", "2.b", "2.1.a", "2.1.1.a");
+        assertThat(actual.getChapters())
+            .containsOnlyKeys("1", "1.1", "2", "2.1", "2.1.1");
+        assertThat(actual.getRequirement("2.1.1.a")).isPresent();
+        assertThat(actual.getRequirement("2.1.1.a").get().getText()).isEqualTo("2.1.1.a");
+        assertThat(actual.getChapter("2.1")).isPresent();
+        assertThat(actual.getChapter("3")).isEmpty();
+        assertThat(actual.getRequirement("3.a")).isEmpty();
+    }
+
+    @Test
+    void of_SourceCatalogChangedAfterCreation_SnapshotNotChanged() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createCatalog();
+        BaseCatalogSnapshot snapshot = BaseCatalogSnapshot.of(catalog);
+
+        // act
+        catalog.getToc().getChapters().getFirst().getRequirements().getFirst().setText("changed");
+        catalog.getToc().getChapters().getFirst().getRequirements().add(BaseRequirement.builder().position("z").build());
+
+        // assert
+        assertThat(snapshot.getRequirement("1.a").get().getText()).isEqualTo("1.a");
+        assertThat(snapshot.getRequirement("1.z")).isEmpty();
+        assertThat(snapshot.getCatalog().getChapter("1").get().getRequirements()).hasSize(1);
+    }
+
+    @Test
+    void of_SnapshotCollectionModified_UnsupportedOperationExceptionThrown() {
+        // arrange
+        BaseCatalogSnapshot snapshot = BaseCatalogSnapshot.of(createCatalog());
+        List<BaseRequirement> requirements = snapshot.getCatalog().getChapter("1").get().getRequirements();
+
+        // act
+        Throwable actual = catchThrowable(() -> requirements.add(BaseRequirement.builder().position("z").build()));
+
+        // assert
+        assertThat(actual).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void getRequirement_EqualReferencesInRequirements_ReferenceNotShared() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createCatalog();
+        catalog.getToc().getChapters().getFirst().getRequirements().getFirst()
+            .setReference(Reference.builder().text("Q-ST-80").issue("C").build());
+        catalog.getToc().getChapters().getLast().getRequirements().getFirst()
+            .setReference(Reference.builder().text("Q-ST-80").issue("C").build());
+
+        BaseCatalogSnapshot snapshot = BaseCatalogSnapshot.of(catalog);
+
+        // act
+        Reference actual = snapshot.getRequirement("1.a").get().getReference();
+
+        // assert
+        assertThat(actual)
+            .isEqualTo(snapshot.getRequirement("2.b").get().getReference())
+            .isNotSameAs(snapshot.getRequirement("2.b").get().getReference())
+            .isNotSameAs(snapshot.getRequirement("1.a").get().getReference());
+    }
+
+    @Test
+    void getCatalog_CopyOfCallerModified_OtherCopiesNotChanged() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createCatalog();
+        catalog.getToc().getChapters().getFirst().getRequirements().getFirst()
+            .setReference(Reference.builder().text("Q-ST-80").issue("C").changed(false).build());
+        catalog.getToc().getChapters().getFirst().getRequirements().getFirst()
+            .setDrds(of(DRD.builder().number("01").title("Plan").build()));
+        BaseCatalogSnapshot snapshot = BaseCatalogSnapshot.of(catalog);
+
+        // act
+        BaseRequirement changed = snapshot.getCatalog().getChapter("1").get().getRequirements().getFirst();
+        changed.setText("changed");
+        changed.getReference().setChanged(true);
+        changed.getDrds().iterator().next().setTitle("changed");
+
+        // assert
+        BaseRequirement actual = snapshot.getCatalog().getChapter("1").get().getRequirements().getFirst();
+        assertThat(actual.getText()).isEqualTo("1.a");
+        assertThat(actual.getReference().getChanged()).isFalse();
+        assertThat(actual.getDrds().iterator().next().getTitle()).isEqualTo("Plan");
+        assertThat(snapshot.getRequirement("1.a").get().getReference().getChanged()).isFalse();
+    }
+
+    private Catalog<BaseRequirement> createCatalog() {
+        return Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .toc(Chapter.<BaseRequirement>builder()
+                .name("/")
+                .chapters(of(
+                        Chapter.<BaseRequirement>builder()
+                            .number("1")
+                            .requirements(new ArrayList<>(asList(
+                                BaseRequirement.builder()
+                                    .position("a")
+                                    .text("1.a")
+                                    .build())
+                            ))
+                            .chapters(of(
+                                Chapter.<BaseRequirement>builder()
+                                    .number("1.1")
+                                    .requirements(asList(
+                                        BaseRequirement.builder()
+                                            .position("a")
+                                            .text("1.1.a")
+                                            .build())
+                                    )
+                                    .build()
+                            ))
+                            .build(),
+                        Chapter.<BaseRequirement>builder()
+                            .number("2")
+                            .requirements(asList(
+                                BaseRequirement.builder()
+                                    .position("b")
+                                    .text("2.b")
+                                    .build())
+                            )
+                            .chapters(of(
+                                Chapter.<BaseRequirement>builder()
+                                    .number("2.1")
+                                    .chapters(of(
+                                        Chapter.<BaseRequirement>builder()
+                                            .number("2.1.1")
+                                            .requirements(asList(
+                                                BaseRequirement.builder()
+                                                    .position("a")
+                                                    .text("2.1.1.a")
+                                                    .build())
+                                            )
+                                            .build()
+                                    ))
+                                    .requirements(asList(
+                                        BaseRequirement.builder()
+                                            .position("a")
+                                            .text("2.1.a")
+                                            .build())
+                                    )
+                                    .build()
+                            ))
+                            .build()
+                    )
+                )
+                .build()
+            )
+            .build();
+    }
+}
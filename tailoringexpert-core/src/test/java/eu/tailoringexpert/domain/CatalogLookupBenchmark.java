@@ -0,0 +1,147 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Duration of looking up every chapter and every requirement of a synthetic catalog of 10.000 requirements in
+ * 100 chapters by chapter number and requirement position, as done when revising base catalogs, comparing
+ * tailorings and updating requirements.
+ * <p>
+ * The <code>scan</code> benchmarks search the chapter tree and requirement lists linearly and serve as reference.
+ * Run with <code>main</code> from the test classpath.
+ *
+ * @author Michael Bädorf
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogLookupBenchmark {
+
+    private static final int CHAPTERS = 100;
+    private static final int REQUIREMENTS = 10_000;
+
+    private Catalog<TailoringRequirement> catalog;
+    private List<String> numbers;
+    private List<String> positions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        numbers = IntStream.rangeClosed(1, CHAPTERS)
+            .mapToObj(String::valueOf)
+            .toList();
+        positions = IntStream.range(0, REQUIREMENTS / CHAPTERS)
+            .mapToObj(String::valueOf)
+            .toList();
+        catalog = Catalog.<TailoringRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<TailoringRequirement>builder()
+                .chapters(numbers.stream()
+                    .map(number -> Chapter.<TailoringRequirement>builder()
+                        .number(number)
+                        .position(Integer.parseInt(number))
+                        .requirements(positions.stream()
+                            .map(position -> TailoringRequirement.builder()
+                                .position(position)
+                                .text("Requirement " + number + "." + position)
+                                .selected(Boolean.TRUE)
+                                .build())
+                            .toList())
+                        .build())
+                    .toList())
+                .build())
+            .build();
+    }
+
+    @Benchmark
+    public void getChapter(Blackhole blackhole) {
+        numbers.forEach(number -> blackhole.consume(catalog.getChapter(number)));
+    }
+
+    @Benchmark
+    public void getRequirement(Blackhole blackhole) {
+        numbers.forEach(number -> {
+            Chapter<TailoringRequirement> chapter = catalog.getChapter(number).orElseThrow();
+            positions.forEach(position -> blackhole.consume(chapter.getRequirement(position)));
+        });
+    }
+
+    @Benchmark
+    public void indexOfRequirement(Blackhole blackhole) {
+        numbers.forEach(number -> {
+            Chapter<TailoringRequirement> chapter = catalog.getChapter(number).orElseThrow();
+            positions.forEach(position -> blackhole.consume(chapter.indexOfRequirement(position)));
+        });
+    }
+
+    @Benchmark
+    public void scanChapter(Blackhole blackhole) {
+        numbers.forEach(number -> blackhole.consume(scanChapter(number)));
+    }
+
+    @Benchmark
+    public void scanRequirement(Blackhole blackhole) {
+        numbers.forEach(number -> {
+            Chapter<TailoringRequirement> chapter = scanChapter(number);
+            positions.forEach(position -> blackhole.consume(chapter.getRequirements()
+                .stream()
+                .filter(requirement -> position.equals(requirement.getPosition()))
+                .findFirst()));
+        });
+    }
+
+    private Chapter<TailoringRequirement> scanChapter(String number) {
+        return catalog.allChapters()
+            .filter(chapter -> number.equals(chapter.getNumber()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CatalogLookupBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
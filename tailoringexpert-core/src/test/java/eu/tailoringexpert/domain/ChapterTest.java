@@ -24,9 +24,13 @@ package eu.tailoringexpert.domain;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
+import static java.util.List.of;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Log4j2
@@ -139,4 +143,128 @@ class ChapterTest {
 
     }
 
+    @Test
+    void getChapter_SubchapterRenumberedAfterLookup_RenumberedChapterReturned() {
+        // arrange
+        Chapter<TailoringRequirement> subchapter = Chapter.<TailoringRequirement>builder()
+            .number("1.1")
+            .build();
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .chapters(of(subchapter))
+            .build();
+        chapter.getChapter("1.1");
+
+        subchapter.setNumber("1.2");
+
+        // act
+        Chapter<TailoringRequirement> actual = chapter.getChapter("1.2");
+
+        // assert
+        assertThat(actual).isSameAs(subchapter);
+        assertThat(chapter.getChapter("1.1")).isNull();
+    }
+
+    @Test
+    void getChapter_SubchaptersReplacedAfterLookup_ReplacedChapterNotReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .chapters(of(Chapter.<TailoringRequirement>builder()
+                .number("1.1")
+                .build()))
+            .build();
+        chapter.getChapter("1.1");
+
+        chapter.setChapters(of(Chapter.<TailoringRequirement>builder()
+            .number("1.2")
+            .build()));
+
+        // act
+        Chapter<TailoringRequirement> actual = chapter.getChapter("1.1");
+
+        // assert
+        assertThat(actual).isNull();
+        assertThat(chapter.getChapter("1.2")).isNotNull();
+    }
+
+    @Test
+    void getRequirement_PositionChangedAfterLookup_RequirementOfNewPositionReturned() {
+        // arrange
+        TailoringRequirement a = TailoringRequirement.builder().position("a").build();
+        TailoringRequirement b = TailoringRequirement.builder().position("b").build();
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .requirements(of(a, b))
+            .build();
+        chapter.getRequirement("a");
+
+        a.setPosition("c");
+
+        // act
+        Optional<TailoringRequirement> actual = chapter.getRequirement("c");
+
+        // assert
+        assertThat(actual).containsSame(a);
+        assertThat(chapter.getRequirement("a")).isEmpty();
+    }
+
+    @Test
+    void indexOfRequirement_RequirementInsertedAfterLookup_ShiftedIndexReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .requirements(new ArrayList<>(of(
+                TailoringRequirement.builder().position("a").build(),
+                TailoringRequirement.builder().position("b").build())))
+            .build();
+        chapter.indexOfRequirement("b");
+
+        chapter.getRequirements().add(1, TailoringRequirement.builder().position("a1").build());
+
+        // act
+        OptionalInt actual = chapter.indexOfRequirement("b");
+
+        // assert
+        assertThat(actual).hasValue(2);
+        assertThat(chapter.indexOfRequirement("a1")).hasValue(1);
+    }
+
+    @Test
+    void indexOfRequirement_DuplicatePosition_FirstIndexReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .requirements(of(
+                TailoringRequirement.builder().position("a").build(),
+                TailoringRequirement.builder().position("a").build()))
+            .build();
+
+        // act
+        OptionalInt actual = chapter.indexOfRequirement("a");
+
+        // assert
+        assertThat(actual).hasValue(0);
+    }
+
+    @Test
+    void indexOfRequirement_RequirementsReplacedAfterLookup_IndexInNewListReturned() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+            .number("1")
+            .requirements(of(TailoringRequirement.builder().position("a").build()))
+            .build();
+        chapter.indexOfRequirement("a");
+
+        chapter.setRequirements(of(
+            TailoringRequirement.builder().position("b").build(),
+            TailoringRequirement.builder().position("a").build()));
+
+        // act
+        OptionalInt actual = chapter.indexOfRequirement("a");
+
+        // assert
+        assertThat(actual).hasValue(1);
+    }
+
 }
@@ -0,0 +1,182 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.B;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+
+/**
+ * Memory footprint of a synthetic base catalog of 10.000 requirements in 100 chapters as loaded from the database
+ * (each requirement with its own DRD, document, reference, identifier and phase objects) compared to the catalog
+ * created by {@link CompactCatalog}.
+ * <p>
+ * The retained heap of both forms is printed at the end of the trial, the benchmarks measure the duration of the
+ * conversions, the GC profiler reports the allocated bytes per conversion.
+ * Run with <code>main</code> from the test classpath.
+ *
+ * @author Michael Bädorf
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CompactCatalogBenchmark {
+
+    private static final int CHAPTERS = 100;
+    private static final int REQUIREMENTS = 10_000;
+    private static final int DRDS = 20;
+    private static final int DOCUMENTS = 10;
+    private static final int COPIES = 10;
+
+    private Catalog<BaseRequirement> catalog;
+    private CompactCatalog compactCatalog;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        catalog = catalog();
+        compactCatalog = CompactCatalog.of(catalog);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nretained bytes per catalog: loaded %d, compact %d, compact catalog object model %d%n",
+            retained(CompactCatalogBenchmark::catalog),
+            retained(() -> CompactCatalog.of(catalog)),
+            retained(() -> CompactCatalog.of(catalog).toCatalog()));
+    }
+
+    @Benchmark
+    public CompactCatalog of() {
+        return CompactCatalog.of(catalog);
+    }
+
+    @Benchmark
+    public Catalog<BaseRequirement> toCatalog() {
+        return compactCatalog.toCatalog();
+    }
+
+    private static long retained(Supplier<Object> factory) {
+        Object[] instances = new Object[COPIES];
+        long before = usedHeap();
+        for (int i = 0; i < COPIES; i++) {
+            instances[i] = factory.get();
+        }
+        long result = (usedHeap() - before) / COPIES;
+        // domain Reference shadows java.lang.ref.Reference
+        java.lang.ref.Reference.reachabilityFence(instances);
+        return result;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Catalog<BaseRequirement> catalog() {
+        return Catalog.<BaseRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<BaseRequirement>builder()
+                .chapters(IntStream.rangeClosed(1, CHAPTERS)
+                    .mapToObj(chapter -> Chapter.<BaseRequirement>builder()
+                        .name(new String("Chapter " + chapter % 10))
+                        .number(String.valueOf(chapter))
+                        .position(chapter)
+                        .chapters(new LinkedList<>())
+                        .requirements(IntStream.range(0, REQUIREMENTS / CHAPTERS)
+                            .mapToObj(position -> requirement(chapter, position))
+                            .collect(Collectors.toCollection(LinkedList::new)))
+                        .build())
+                    .collect(Collectors.toCollection(LinkedList::new)))
+                .build())
+            .build();
+    }
+
+    private static BaseRequirement requirement(int chapter, int position) {
+        return BaseRequirement.builder()
+            .text("Requirement " + chapter + "." + position)
+            .position(String.valueOf(position))
+            .reference(Reference.builder()
+                .text(new String("ECSS-Q-ST-80"))
+                .issue(new String("C"))
+                .changed(Boolean.FALSE)
+                .logo(Logo.builder()
+                    .name(new String("ECSS"))
+                    .url(new String("ecss.png"))
+                    .build())
+                .build())
+            .drds(new LinkedList<>(List.of(DRD.builder()
+                .number("DRD-" + position % DRDS)
+                .title("Document requirement " + position % DRDS)
+                .deliveryDate(new String("SRR"))
+                .build())))
+            .applicableDocuments(new LinkedList<>(List.of(Document.builder()
+                .number("AD" + position % DOCUMENTS)
+                .title("Applicable document " + position % DOCUMENTS)
+                .issue(new String("C"))
+                .build())))
+            .phases(new LinkedList<>(List.of(ZERO, A, B)))
+            .identifiers(new LinkedList<>(List.of(Identifier.builder()
+                .type(new String("Q"))
+                .level(position % 3)
+                .limitations(new LinkedList<>(List.of(new String("SW"))))
+                .build())))
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CompactCatalogBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+            .run();
+    }
+}
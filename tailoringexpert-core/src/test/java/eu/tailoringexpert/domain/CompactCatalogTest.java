@@ -0,0 +1,233 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.F;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static java.util.Arrays.asList;
+import static java.util.List.of;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class CompactCatalogTest {
+
+    @Test
+    void toCatalog_CatalogWithChapterTree_EqualCatalogReturned() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createCatalog();
+
+        // act
+        Catalog<BaseRequirement> actual = CompactCatalog.of(catalog).toCatalog();
+
+        // assert
+        assertThat(actual).isEqualTo(createCatalog());
+    }
+
+    @Test
+    void of_NullToc_NullTocReturned() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .build();
+
+        // act
+        CompactCatalog actual = CompactCatalog.of(catalog);
+
+        // assert
+        assertThat(actual.getVersion()).isEqualTo("8.2.2");
+        assertThat(actual.getToc()).isNull();
+        assertThat(actual.toCatalog().getToc()).isNull();
+    }
+
+    @Test
+    void of_EqualValuesInRequirements_InstancesShared() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createCatalog();
+
+        // act
+        Catalog<BaseRequirement> actual = CompactCatalog.of(catalog).toCatalog();
+
+        // assert
+        BaseRequirement a = actual.getChapter("1").get().getRequirements().get(0);
+        BaseRequirement b = actual.getChapter("1.1").get().getRequirements().get(0);
+        assertThat(a.getDrds().iterator().next()).isSameAs(b.getDrds().iterator().next());
+        assertThat(a.getApplicableDocuments().iterator().next()).isSameAs(b.getApplicableDocuments().iterator().next());
+        assertThat(a.getIdentifiers().iterator().next()).isSameAs(b.getIdentifiers().iterator().next());
+        assertThat(a.getReference()).isSameAs(b.getReference());
+        assertThat(a.getPhases()).isSameAs(b.getPhases());
+        assertThat(a.getPosition()).isSameAs(b.getPosition());
+    }
+
+    @Test
+    void of_DocumentsDifferingInDescription_InstancesNotShared() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(of(
+                    BaseRequirement.builder()
+                        .position("a")
+                        .applicableDocuments(of(Document.builder().number("1").description("first").build()))
+                        .build(),
+                    BaseRequirement.builder()
+                        .position("b")
+                        .applicableDocuments(of(Document.builder().number("1").description("second").build()))
+                        .build()))
+                .build())
+            .build();
+
+        // act
+        Catalog<BaseRequirement> actual = CompactCatalog.of(catalog).toCatalog();
+
+        // assert
+        assertThat(actual.getToc().getRequirements())
+            .extracting(requirement -> requirement.getApplicableDocuments().iterator().next().getDescription())
+            .containsExactly("first", "second");
+    }
+
+    @Test
+    void of_SourceCatalogChangedAfterCreation_CompactCatalogNotChanged() {
+        // arrange
+        Catalog<BaseRequirement> catalog = createCatalog();
+        CompactCatalog compact = CompactCatalog.of(catalog);
+
+        // act
+        BaseRequirement requirement = catalog.getChapter("1").get().getRequirements().get(0);
+        requirement.getDrds().iterator().next().setTitle("changed");
+        requirement.getReference().getLogo().setName("changed");
+
+        // assert
+        BaseRequirement actual = compact.toCatalog().getChapter("1").get().getRequirements().get(0);
+        assertThat(actual.getDrds().iterator().next().getTitle()).isEqualTo("Software Development Plan");
+        assertThat(actual.getReference().getLogo().getName()).isEqualTo("ECSS");
+    }
+
+    @Test
+    void getPhases_NoPhases_NullReturned() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(of(BaseRequirement.builder().position("a").phases(null).build()))
+                .build())
+            .build();
+
+        // act
+        CompactCatalog actual = CompactCatalog.of(catalog);
+
+        // assert
+        assertThat(actual.getToc().requirements()[0].phases()).isNull();
+        assertThat(actual.toCatalog().getToc().getRequirements().get(0).getPhases()).isNull();
+    }
+
+    @Test
+    void of_PhasesNotInOrdinalOrder_OrderOfPhasesKept() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(of(BaseRequirement.builder().position("a").phases(of(F, ZERO)).build()))
+                .build())
+            .build();
+
+        // act
+        CompactCatalog actual = CompactCatalog.of(catalog);
+
+        // assert
+        assertThat(actual.getToc().requirements()[0].phases()).containsExactly(F, ZERO);
+        assertThat(actual.toCatalog().getToc().getRequirements().get(0).getPhases()).containsExactly(F, ZERO);
+    }
+
+    @Test
+    void toCatalog_CollectionModified_UnsupportedOperationExceptionThrown() {
+        // arrange
+        Catalog<BaseRequirement> catalog = CompactCatalog.of(createCatalog()).toCatalog();
+        List<BaseRequirement> requirements = catalog.getChapter("1").get().getRequirements();
+
+        // act
+        Throwable actual = catchThrowable(() -> requirements.add(BaseRequirement.builder().position("z").build()));
+
+        // assert
+        assertThat(actual).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private Catalog<BaseRequirement> createCatalog() {
+        return Catalog.<BaseRequirement>builder()
+            .version("8.2.2")
+            .toc(Chapter.<BaseRequirement>builder()
+                .name("/")
+                .chapters(of(
+                    Chapter.<BaseRequirement>builder()
+                        .name("Chapter 1")
+                        .number("1")
+                        .position(1)
+                        .requirements(new ArrayList<>(asList(createRequirement("1.a"))))
+                        .chapters(of(
+                            Chapter.<BaseRequirement>builder()
+                                .name("Chapter 1.1")
+                                .number("1.1")
+                                .position(1)
+                                .requirements(of(createRequirement("1.1.a")))
+                                .chapters(of())
+                                .build()
+                        ))
+                        .build()
+                ))
+                .build())
+            .build();
+    }
+
+    private BaseRequirement createRequirement(String text) {
+        return BaseRequirement.builder()
+            .text(text)
+            .position("a")
+            .reference(Reference.builder()
+                .text("Q-ST-80")
+                .issue("C")
+                .changed(Boolean.FALSE)
+                .logo(Logo.builder().name("ECSS").url("ecss.png").build())
+                .build())
+            .applicableDocuments(of(Document.builder()
+                .number("AD1")
+                .title("Space product assurance")
+                .issue("C")
+                .build()))
+            .drds(of(DRD.builder()
+                .number("1.1")
+                .title("Software Development Plan")
+                .deliveryDate("SRR")
+                .build()))
+            .phases(of(ZERO, A))
+            .identifiers(of(Identifier.builder()
+                .type("Q")
+                .level(1)
+                .limitations(of("SW"))
+                .build()))
+            .build();
+    }
+}
@@ -0,0 +1,110 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailoringCatalogSourceTest {
+
+    @Test
+    void of_CatalogWithSubchapters_ChaptersAndRequirementsPassedInDocumentOrder() throws IOException {
+        // arrange
+        List<String> actual = new ArrayList<>();
+
+        // act
+        TailoringCatalogSource.of(createCatalog()).writeTo(new TailoringCatalogConsumer() {
+            @Override
+            public void chapter(Chapter<TailoringRequirement> chapter, int level) {
+                actual.add(level + " " + chapter.getNumber());
+            }
+
+            @Override
+            public void requirement(Chapter<TailoringRequirement> chapter, TailoringRequirement requirement) {
+                actual.add(chapter.getNumber() + "." + requirement.getPosition());
+            }
+        });
+
+        // assert
+        assertThat(actual).containsExactly("1 1", "1.a", "2 1.1", "1.1.a", "1.1.b", "3 1.1.1", "1 2", "2.a");
+    }
+
+    @Test
+    void toCatalog_CatalogWithSubchapters_EqualCatalogReturned() throws IOException {
+        // arrange
+        Catalog<TailoringRequirement> catalog = createCatalog();
+
+        // act
+        Catalog<TailoringRequirement> actual = TailoringCatalogSource.of(catalog).toCatalog("8.2.1");
+
+        // assert
+        assertThat(actual.getVersion()).isEqualTo("8.2.1");
+        assertThat(actual.allChapters())
+            .extracting(Chapter::getNumber)
+            .containsExactly("1", "1.1", "1.1.1", "2");
+        assertThat(actual.getToc().allRequirements())
+            .containsExactlyElementsOf(catalog.getToc().allRequirements().toList());
+        assertThat(actual.getChapter("1.1").get().getChapters())
+            .extracting(Chapter::getNumber)
+            .containsExactly("1.1.1");
+    }
+
+    private Catalog<TailoringRequirement> createCatalog() {
+        return Catalog.<TailoringRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<TailoringRequirement>builder()
+                .requirements(emptyList())
+                .chapters(asList(
+                    Chapter.<TailoringRequirement>builder()
+                        .number("1")
+                        .requirements(asList(createRequirement("a")))
+                        .chapters(asList(
+                            Chapter.<TailoringRequirement>builder()
+                                .number("1.1")
+                                .requirements(asList(createRequirement("a"), createRequirement("b")))
+                                .chapters(asList(
+                                    Chapter.<TailoringRequirement>builder()
+                                        .number("1.1.1")
+                                        .build()))
+                                .build()))
+                        .build(),
+                    Chapter.<TailoringRequirement>builder()
+                        .number("2")
+                        .requirements(asList(createRequirement("a")))
+                        .build()))
+                .build())
+            .build();
+    }
+
+    private TailoringRequirement createRequirement(String position) {
+        return TailoringRequirement.builder()
+            .position(position)
+            .build();
+    }
+}
@@ -0,0 +1,229 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.domain.PurgeJob;
+import eu.tailoringexpert.tailoring.AttachmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static eu.tailoringexpert.domain.PurgeState.FAILED;
+import static eu.tailoringexpert.domain.PurgeState.PENDING;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PurgeServiceImplTest {
+
+    PurgeServiceRepository repositoryMock;
+    AttachmentService attachmentServiceMock;
+    PurgeServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        this.repositoryMock = mock(PurgeServiceRepository.class);
+        this.attachmentServiceMock = mock(AttachmentService.class);
+        this.service = new PurgeServiceImpl(repositoryMock, attachmentServiceMock, 100);
+    }
+
+    @Test
+    void purge_NoOpenJobs_NothingPurged() {
+        // arrange
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(emptyList());
+
+        // act
+        int actual = service.purge();
+
+        // assert
+        assertThat(actual).isZero();
+        verifyNoInteractions(attachmentServiceMock);
+    }
+
+    @Test
+    void purge_TailoringJob_BatchesPurgedUntilNothingLeftAndAttachmentsDeleted() {
+        // arrange
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(List.of(PurgeJob.builder()
+            .id(1L)
+            .project("SAMPLE")
+            .tailoring("master1")
+            .identifier("1001")
+            .state(PENDING)
+            .build()));
+        given(repositoryMock.purge(1L, 100)).willReturn(100, 42, 0);
+        given(repositoryMock.existsTailoringIdentifier("SAMPLE", "1001")).willReturn(false);
+
+        // act
+        int actual = service.purge();
+
+        // assert
+        assertThat(actual).isOne();
+        InOrder order = inOrder(repositoryMock, attachmentServiceMock);
+        order.verify(repositoryMock, times(3)).purge(1L, 100);
+        order.verify(attachmentServiceMock, times(1)).deleteAll("SAMPLE", "1001");
+        order.verify(repositoryMock, times(1)).completePurgeJob(1L);
+    }
+
+    @Test
+    void purge_IdentifierReusedByNewTailoring_AttachmentsNotDeleted() {
+        // arrange
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(List.of(PurgeJob.builder()
+            .id(1L)
+            .project("SAMPLE")
+            .tailoring("master1")
+            .identifier("1001")
+            .state(PENDING)
+            .build()));
+        given(repositoryMock.purge(1L, 100)).willReturn(0);
+        given(repositoryMock.existsTailoringIdentifier("SAMPLE", "1001")).willReturn(true);
+
+        // act
+        int actual = service.purge();
+
+        // assert
+        assertThat(actual).isOne();
+        verifyNoInteractions(attachmentServiceMock);
+        verify(repositoryMock, times(1)).completePurgeJob(1L);
+    }
+
+    @Test
+    void purge_ProjectJob_ProjectPurgedWithoutAttachmentDeletion() {
+        // arrange
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(List.of(PurgeJob.builder()
+            .id(2L)
+            .project("SAMPLE")
+            .state(PENDING)
+            .build()));
+        given(repositoryMock.purge(2L, 100)).willReturn(2, 0);
+
+        // act
+        int actual = service.purge();
+
+        // assert
+        assertThat(actual).isOne();
+        verify(repositoryMock, times(2)).purge(2L, 100);
+        verify(attachmentServiceMock, times(0)).deleteAll(anyString(), anyString());
+        verify(repositoryMock, times(1)).completePurgeJob(2L);
+    }
+
+    @Test
+    void purge_FirstJobFails_FailureRecordedAndNextJobCompleted() {
+        // arrange
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(List.of(
+            PurgeJob.builder()
+                .id(1L)
+                .project("SAMPLE")
+                .state(PENDING)
+                .build(),
+            PurgeJob.builder()
+                .id(2L)
+                .project("SAMPLE")
+                .state(PENDING)
+                .build()));
+        given(repositoryMock.purge(1L, 100)).willThrow(new IllegalStateException("constraint violation"));
+        given(repositoryMock.purge(2L, 100)).willReturn(2, 0);
+
+        ZonedDateTime before = ZonedDateTime.now();
+
+        // act
+        int actual = service.purge();
+
+        // assert
+        assertThat(actual).isOne();
+        ArgumentCaptor<ZonedDateTime> nextAttempt = forClass(ZonedDateTime.class);
+        verify(repositoryMock, times(1)).failPurgeJob(eq(1L), nextAttempt.capture());
+        assertThat(nextAttempt.getValue()).isAfterOrEqualTo(before.plusMinutes(5));
+        verify(repositoryMock, times(0)).completePurgeJob(1L);
+        verify(repositoryMock, times(1)).completePurgeJob(2L);
+    }
+
+    @Test
+    void purge_FailedJobRetryDelayNotExpired_JobSkipped() {
+        // arrange
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(List.of(PurgeJob.builder()
+            .id(1L)
+            .project("SAMPLE")
+            .state(FAILED)
+            .failedAttempts(1)
+            .nextAttemptTimestamp(ZonedDateTime.now().plusMinutes(5))
+            .build()));
+
+        // act
+        int actual = service.purge();
+
+        // assert
+        assertThat(actual).isZero();
+        verify(repositoryMock, times(0)).purge(anyLong(), anyInt());
+    }
+
+    @Test
+    void purge_FailedJobFailsAgain_RetryDelayDoubled() {
+        // arrange
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(List.of(PurgeJob.builder()
+            .id(1L)
+            .project("SAMPLE")
+            .state(FAILED)
+            .failedAttempts(2)
+            .nextAttemptTimestamp(ZonedDateTime.now().minusMinutes(1))
+            .build()));
+        given(repositoryMock.purge(1L, 100)).willThrow(new IllegalStateException("constraint violation"));
+
+        ZonedDateTime before = ZonedDateTime.now();
+
+        // act
+        int actual = service.purge();
+
+        // assert
+        assertThat(actual).isZero();
+        ArgumentCaptor<ZonedDateTime> nextAttempt = forClass(ZonedDateTime.class);
+        verify(repositoryMock, times(1)).failPurgeJob(eq(1L), nextAttempt.capture());
+        assertThat(nextAttempt.getValue()).isAfterOrEqualTo(before.plusMinutes(20));
+    }
+
+    @Test
+    void getOpenPurgeJobs_JobsExist_JobsReturned() {
+        // arrange
+        PurgeJob job = PurgeJob.builder().id(1L).build();
+        given(repositoryMock.getOpenPurgeJobs()).willReturn(List.of(job));
+
+        // act
+        Collection<PurgeJob> actual = service.getOpenPurgeJobs();
+
+        // assert
+        assertThat(actual).containsExactly(job);
+    }
+}
@@ -24,22 +24,22 @@ package eu.tailoringexpert.requirement;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.Reference;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
-import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -183,7 +183,6 @@ class RequirementServiceImplTest {
     void handleSelected_NonModifiableTailoringChapter_EmptyReturned() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(false);
-        given(repositoryMock.getChapter("SAMPLE", "master", "1")).willReturn(empty());
 
         // act
         Optional<Chapter<TailoringRequirement>> actual = service.handleSelected("SAMPLE", "master", "1", TRUE);
@@ -192,14 +191,15 @@ class RequirementServiceImplTest {
         assertThat(actual).isEmpty();
 
         verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(0)).updateSelected(any(), any(), any());
+        verify(repositoryMock, times(0)).updateSelected(any(), any(), any(), any(), any());
     }
 
     @Test
     void handleSelected_ChapterNotExisting_EmptyReturned() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getChapter("SAMPLE", "master", "1")).willReturn(empty());
+        given(repositoryMock.updateSelected(eq("SAMPLE"), eq("master"), eq("1"), eq(TRUE), any(ZonedDateTime.class)))
+                .willReturn(empty());
 
         // act
         Optional<Chapter<TailoringRequirement>> actual = service.handleSelected("SAMPLE", "master", "1", TRUE);
@@ -208,61 +208,31 @@ class RequirementServiceImplTest {
         assertThat(actual).isEmpty();
 
         verify(predicateMock, times(1)).test("SAMPLE", "master");
-        verify(repositoryMock, times(0)).updateSelected(anyString(), anyString(), any(Chapter.class));
     }
 
     @Test
-    void handleSelected_RequirementsMixedSelectedState_ChangedStateInRequirements() {
+    void handleSelected_ModifiableTailoringChapter_SelectionUpdatedWithCurrentTimestamp() {
         // arrange
         given(predicateMock.test("SAMPLE", "master")).willReturn(true);
-        given(repositoryMock.getChapter("SAMPLE", "master", "1")).willReturn(of(
-                Chapter.<TailoringRequirement>builder()
-                        .number("1")
-                        .requirements(asList(
-                                TailoringRequirement.builder()
-                                        .text("Requirement 1")
-                                        .selected(FALSE)
-                                        .build()))
-                        .chapters(asList(
-                                Chapter.<TailoringRequirement>builder()
-                                        .number("1.1")
-                                        .requirements(asList(
-                                                TailoringRequirement.builder()
-                                                        .text("Requirement 1.1")
-                                                        .selected(TRUE)
-                                                        .build()))
-                                        .chapters(asList(
-                                                Chapter.<TailoringRequirement>builder()
-                                                        .number("1.1.1")
-                                                        .requirements(asList(
-                                                                TailoringRequirement.builder()
-                                                                        .text("Requirement 1.1.1")
-                                                                        .selected(FALSE)
-                                                                        .build()))
-                                                        .build()))
-                                        .build(),
-                                Chapter.<TailoringRequirement>builder()
-                                        .number("1.2")
-                                        .requirements(asList(TailoringRequirement.builder()
-                                                .text("Requirement 1.2")
-                                                .selected(TRUE)
-                                                .build()))
-                                        .build()))
-                        .build()));
-        given(repositoryMock.updateSelected(anyString(), anyString(), any(Chapter.class)))
-                .willAnswer(invocation -> of(invocation.getArgument(2)));
+        Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+                .number("1")
+                .build();
+        given(repositoryMock.updateSelected(eq("SAMPLE"), eq("master"), eq("1"), eq(TRUE), any(ZonedDateTime.class)))
+                .willReturn(of(chapter));
+
+        ZonedDateTime before = ZonedDateTime.now();
 
         // act
         Optional<Chapter<TailoringRequirement>> actual = service.handleSelected("SAMPLE", "master", "1", TRUE);
 
         // assert
-        assertThat(actual).isPresent();
-        assertThat(actual.get().allRequirements()).allMatch(anforderung -> TRUE.equals(anforderung.getSelected()));
-        assertThat(actual.get().allRequirements())
-                .extracting(TailoringRequirement::getSelectionChanged)
-                .filteredOn(Objects::nonNull)
-                .hasSize(2);
+        assertThat(actual).contains(chapter);
 
+        ArgumentCaptor<ZonedDateTime> changed = ArgumentCaptor.forClass(ZonedDateTime.class);
+        verify(repositoryMock, times(1)).updateSelected(eq("SAMPLE"), eq("master"), eq("1"), eq(TRUE),
+                changed.capture());
+        assertThat(changed.getValue()).isAfterOrEqualTo(before);
+        verify(repositoryMock, times(0)).getChapter(any(), any(), any());
         verify(predicateMock, times(1)).test("SAMPLE", "master");
     }
 
@@ -771,30 +741,58 @@ class RequirementServiceImplTest {
     @Test
     void getRequirementChanges_RequirementNotExisting_EmptyReturned() {
         // arrange
-        given(repositoryMock.getRequirementChanges("SAMPLE", "master", "1.1", "a")).willReturn(empty());
+        RequirementChangeFilter filter = RequirementChangeFilter.builder().build();
+        given(repositoryMock.getRequirementChanges("SAMPLE", "master", "1.1", "a", filter)).willReturn(empty());
 
         // act
-        Optional<Collection<RequirementChange>> actual = service.getRequirementChanges("SAMPLE", "master", "1.1", "a");
+        Optional<Collection<RequirementChange>> actual = service.getRequirementChanges("SAMPLE", "master", "1.1", "a",
+                filter);
 
         // assert
         assertThat(actual).isEmpty();
 
-        verify(repositoryMock, times(1)).getRequirementChanges("SAMPLE", "master", "1.1", "a");
+        verify(repositoryMock, times(1)).getRequirementChanges("SAMPLE", "master", "1.1", "a", filter);
     }
 
     @Test
     void getRequirementChanges_RequirementExistingNoChange_EmptyCollectionOptionalReturned() {
         // arrange
-        given(repositoryMock.getRequirementChanges("SAMPLE", "master", "1.1", "a")).willReturn(Optional.of(List.of()));
+        RequirementChangeFilter filter = RequirementChangeFilter.builder().build();
+        given(repositoryMock.getRequirementChanges("SAMPLE", "master", "1.1", "a", filter))
+                .willReturn(Optional.of(List.of()));
 
         // act
-        Optional<Collection<RequirementChange>> actual = service.getRequirementChanges("SAMPLE", "master", "1.1", "a");
+        Optional<Collection<RequirementChange>> actual = service.getRequirementChanges("SAMPLE", "master", "1.1", "a",
+                filter);
 
         // assert
         assertThat(actual).isPresent();
         assertThat(actual.get()).isEmpty();
 
-        verify(repositoryMock, times(1)).getRequirementChanges("SAMPLE", "master", "1.1", "a");
+        verify(repositoryMock, times(1)).getRequirementChanges("SAMPLE", "master", "1.1", "a", filter);
+    }
+
+    @Test
+    void getTailoringChanges_ChangesSinceTimestamp_ChangesOfRepositoryReturned() {
+        // arrange
+        RequirementChangeFilter filter = RequirementChangeFilter.builder()
+                .from(ZonedDateTime.now().minusDays(1))
+                .limit(10)
+                .build();
+        RequirementChange change = RequirementChange.builder()
+                .id(1L)
+                .requirement("1.1.a")
+                .build();
+        given(repositoryMock.getTailoringChanges("SAMPLE", "master", filter)).willReturn(Optional.of(List.of(change)));
+
+        // act
+        Optional<Collection<RequirementChange>> actual = service.getTailoringChanges("SAMPLE", "master", filter);
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get()).containsExactly(change);
+
+        verify(repositoryMock, times(1)).getTailoringChanges("SAMPLE", "master", filter);
     }
 
 }
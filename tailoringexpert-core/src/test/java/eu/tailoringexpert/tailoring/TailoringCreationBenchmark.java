@@ -0,0 +1,176 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.ScreeningSheetParameter;
+import eu.tailoringexpert.domain.SelectionVector;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.B;
+import static eu.tailoringexpert.domain.Phase.C;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+/**
+ * Duration of creating the tailoring catalog of a synthetic base catalog of 10.000 requirements in 100 chapters
+ * with 10 subchapters each, as done by <code>TailoringService.createTailoring</code>.
+ * Creation is measured without and with a matrix providing the state of every requirement of the catalog.
+ * <p>
+ * Run with <code>main</code> from the test classpath.
+ *
+ * @author Michael Bädorf
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TailoringCreationBenchmark {
+
+    private static final int CHAPTERS = 100;
+    private static final int SUBCHAPTERS = 10;
+    private static final int REQUIREMENTS = 10_000;
+    private static final List<String> TYPES = List.of("G", "E", "M", "P", "A", "Q", "S", "W", "O", "R");
+    private static final List<String> LIMITATIONS = List.of("SAT", "LEO", "GEO", "wissenschaftlich", "kommerziell");
+
+    private TailoringServiceMapper mapper;
+    private Catalog<BaseRequirement> catalog;
+    private ScreeningSheet screeningSheet;
+    private SelectionVector selectionVector;
+    private Map<String, Map<String, ImportRequirement>> matrix;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapper = new TailoringServiceMapperGenerated();
+        screeningSheet = ScreeningSheet.builder()
+            .phases(List.of(ZERO, A))
+            .parameters(List.of(
+                ScreeningSheetParameter.builder().category("Produkttyp").name("SAT").build(),
+                ScreeningSheetParameter.builder().category("Einsatzort").name("LEO").build(),
+                ScreeningSheetParameter.builder().category("Anwendungscharakter").name("wissenschaftlich").build(),
+                ScreeningSheetParameter.builder().category("Kostenorientierung").name("150 <= k").build(),
+                ScreeningSheetParameter.builder().category("Lebensdauer").name("15 Jahre < t").build()))
+            .build();
+        SelectionVector.SelectionVectorBuilder builder = SelectionVector.builder();
+        IntStream.range(0, TYPES.size()).forEach(i -> builder.level(TYPES.get(i), i % 10 + 1));
+        selectionVector = builder.build();
+
+        catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<BaseRequirement>builder()
+                .chapters(IntStream.rangeClosed(1, CHAPTERS)
+                    .mapToObj(chapter -> Chapter.<BaseRequirement>builder()
+                        .number(String.valueOf(chapter))
+                        .requirements(List.of())
+                        .chapters(IntStream.rangeClosed(1, SUBCHAPTERS)
+                            .mapToObj(subchapter -> Chapter.<BaseRequirement>builder()
+                                .number(chapter + "." + subchapter)
+                                .chapters(List.of())
+                                .requirements(IntStream.range(0, REQUIREMENTS / CHAPTERS / SUBCHAPTERS)
+                                    .mapToObj(position -> requirement(chapter * subchapter + position))
+                                    .toList())
+                                .build())
+                            .toList())
+                        .build())
+                    .toList())
+                .build())
+            .build();
+
+        matrix = new LinkedHashMap<>();
+        catalog.getToc().allChapters()
+            .filter(chapter -> nonNull(chapter.getNumber()))
+            .forEach(chapter -> {
+                Map<String, ImportRequirement> requirements = new LinkedHashMap<>();
+                chapter.getRequirements().forEach(requirement -> requirements.put(requirement.getPosition(),
+                    ImportRequirement.builder()
+                        .position(requirement.getPosition())
+                        .applicable(requirements.size() % 2 == 0 ? "YES" : "NO")
+                        .build()));
+                matrix.put(chapter.getNumber(), requirements);
+            });
+    }
+
+    @Benchmark
+    public Catalog<TailoringRequirement> toTailoringCatalog() {
+        return mapper.toTailoringCatalog(catalog, screeningSheet, selectionVector, empty());
+    }
+
+    @Benchmark
+    public Catalog<TailoringRequirement> toTailoringCatalogWithMatrix() {
+        return mapper.toTailoringCatalog(catalog, screeningSheet, selectionVector, of(matrix));
+    }
+
+    private static BaseRequirement requirement(int seed) {
+        return BaseRequirement.builder()
+            .text("Requirement " + seed)
+            .position(String.valueOf(seed))
+            .phases(seed % 3 == 0 ? List.of(B, C) : List.of(ZERO, A, B))
+            .identifiers(List.of(
+                Identifier.builder()
+                    .type(TYPES.get(seed % TYPES.size()))
+                    .level(seed % 7 + 1)
+                    .build(),
+                Identifier.builder()
+                    .type(TYPES.get((seed + 1) % TYPES.size()))
+                    .level(seed % 10 + 1)
+                    .limitations(List.of(LIMITATIONS.get(seed % LIMITATIONS.size()),
+                        LIMITATIONS.get((seed + 1) % LIMITATIONS.size())))
+                    .build()))
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TailoringCreationBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,112 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.Identifier;
+import eu.tailoringexpert.domain.ScreeningSheet;
+import eu.tailoringexpert.domain.ScreeningSheetParameter;
+import eu.tailoringexpert.domain.SelectionVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.F;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TailoringSelectionRuleTest {
+
+    @Test
+    void isSelected_ScreeningSheetWithoutPhasesAndParameters_OnlyRequirementWithoutPhasesSelected() {
+        // arrange
+        TailoringSelectionRule rule = TailoringSelectionRule.compile(
+            ScreeningSheet.builder().build(),
+            SelectionVector.builder().level("Q", 6).build());
+
+        Identifier identifier = Identifier.builder().type("Q").level(6).build();
+
+        // act
+        boolean withPhases = rule.isSelected(BaseRequirement.builder()
+            .phases(List.of(ZERO))
+            .identifiers(List.of(identifier))
+            .build());
+        boolean withoutPhases = rule.isSelected(BaseRequirement.builder()
+            .identifiers(List.of(identifier))
+            .build());
+
+        // assert
+        assertThat(withPhases).isFalse();
+        assertThat(withoutPhases).isTrue();
+    }
+
+    @Test
+    void isSelected_RequirementPhaseInScreeningSheetPhases_RequirementSelected() {
+        // arrange
+        TailoringSelectionRule rule = TailoringSelectionRule.compile(
+            ScreeningSheet.builder().phases(List.of(A, F)).build(),
+            SelectionVector.builder().level("Q", 6).build());
+
+        // act
+        boolean actual = rule.isSelected(BaseRequirement.builder()
+            .phases(List.of(ZERO, F))
+            .identifiers(List.of(Identifier.builder().type("Q").level(5).build()))
+            .build());
+
+        // assert
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void isSelected_NullLimitation_RequirementNotSelected() {
+        // arrange
+        TailoringSelectionRule rule = TailoringSelectionRule.compile(
+            ScreeningSheet.builder()
+                .parameters(List.of(ScreeningSheetParameter.builder().name("SAT").build()))
+                .build(),
+            SelectionVector.builder().level("Q", 6).build());
+
+        // act
+        boolean actual = rule.isSelected(BaseRequirement.builder()
+            .identifiers(List.of(Identifier.builder().type("Q").level(6).limitations(asList("SAT", null)).build()))
+            .build());
+
+        // assert
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void isSelected_NoIdentifiers_RequirementNotSelected() {
+        // arrange
+        TailoringSelectionRule rule = TailoringSelectionRule.compile(
+            ScreeningSheet.builder().build(),
+            SelectionVector.builder().build());
+
+        // act
+        boolean actual = rule.isSelected(BaseRequirement.builder().identifiers(null).build());
+
+        // assert
+        assertThat(actual).isFalse();
+    }
+}
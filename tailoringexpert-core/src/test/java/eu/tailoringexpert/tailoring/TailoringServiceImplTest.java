@@ -42,6 +42,7 @@ import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -61,6 +62,7 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -106,7 +108,7 @@ class TailoringServiceImplTest {
     private TailoringDeletablePredicate tailoringDeletableMock;
     private DocumentService documentServiceMock;
     private RequirementService requirementServiceMock;
-    private Function<byte[], Map<String, Collection<ImportRequirement>>> tailoringAnforderungFileReaderMock;
+    private Function<byte[], Map<String, Map<String, ImportRequirement>>> tailoringAnforderungFileReaderMock;
 
     private AttachmentService attachmentServiceMock;
     private Function<String, Map<String, BaseRequirement>> fqnBaseRequirementsProviderMock;
@@ -385,20 +387,20 @@ class TailoringServiceImplTest {
     @Test
     void getScreeningSheet_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(empty());
 
         // act
         Optional<ScreeningSheet> actual = service.getScreeningSheet("Dummy", "master1");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master1");
     }
 
     @Test
     void getScreeningSheet_TailoringNoScreeningSheet_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(
                 Tailoring.builder().screeningSheet(null).build()));
 
         // act
@@ -406,13 +408,13 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
     void getScreeningSheet_TailoringWithScreningSheet_ScreeningSheeReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(
                 Tailoring.builder().screeningSheet(ScreeningSheet.builder().build()).build()));
 
         // act
@@ -420,7 +422,7 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isNotEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
@@ -448,20 +450,20 @@ class TailoringServiceImplTest {
     @Test
     void getSelectionVector_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(empty());
 
         // act
         Optional<SelectionVector> actual = service.getSelectionVector("Dummy", "master1");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master1");
     }
 
     @Test
     void getSelectionVector_TailoringWithSelectionVector_SelectionVectorReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(
                 Tailoring.builder().selectionVector(SelectionVector.builder().build()).build()));
 
         // act
@@ -469,7 +471,7 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isNotEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
@@ -569,20 +571,20 @@ class TailoringServiceImplTest {
     @Test
     void getDocumentSignatures_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(empty());
 
         // act
         Optional<Collection<DocumentSignature>> actual = service.getDocumentSignatures("Dummy", "master1");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master1");
     }
 
     @Test
     void getDocumentSignatures_TailoringWithSignatuesExists_DocumentSignaturesReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(
                 Tailoring.builder().signatures(asList(
                         DocumentSignature.builder()
                                 .faculty("Software")
@@ -597,7 +599,7 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get()).hasSize(1);
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
@@ -688,7 +690,7 @@ class TailoringServiceImplTest {
     @Test
     void updateName_NewNameAlreadyInUse_NameNotUpdated() {
         // arrange
-        given(repositoryMock.getTailoring("DUMMY", "test"))
+        given(repositoryMock.getTailoringHeader("DUMMY", "test"))
                 .willReturn(of(Tailoring.builder().build()));
 
         // act
@@ -702,7 +704,7 @@ class TailoringServiceImplTest {
     @Test
     void updateName_NewNameNotUsed_NameUpdated() {
         // arrange
-        given(repositoryMock.getTailoring("DUMMY", "test"))
+        given(repositoryMock.getTailoringHeader("DUMMY", "test"))
                 .willReturn(empty());
 
         Tailoring tailoring = Tailoring.builder().build();
@@ -729,7 +731,7 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(0)).getTailoring(anyString(), anyString());
+        verify(repositoryMock, times(0)).getTailoringHeader(anyString(), anyString());
         verify(repositoryMock, times(0)).updateName(anyString(), anyString(), anyString());
     }
 
@@ -870,7 +872,7 @@ class TailoringServiceImplTest {
                 .build();
 
         Optional<byte[]> matrix = of("dummy content".getBytes());
-        Map<String, Collection<ImportRequirement>> matrixRequirements = Map.of();
+        Map<String, Map<String, ImportRequirement>> matrixRequirements = Map.of();
         given(tailoringAnforderungFileReaderMock.apply(matrix.get()))
                 .willReturn(matrixRequirements);
 
@@ -899,6 +901,100 @@ class TailoringServiceImplTest {
         verify(repositoryMock, times(1)).getDefaultSignatures();
     }
 
+    @Test
+    void createTailoring_MatrixRequirementsNotInCatalog_NoNoteAdded() {
+        // arrange
+        ScreeningSheet screeningSheet = ScreeningSheet.builder()
+                .phases(List.of(E, F))
+                .build();
+
+        SelectionVector selectionVector = SelectionVector.builder().build();
+
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+                .version("8.2.1")
+                .build();
+
+        Optional<byte[]> matrix = of("dummy content".getBytes());
+        Map<String, Map<String, ImportRequirement>> matrixRequirements = Map.of(
+                "1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("YES").build()),
+                "1.1", Map.of(
+                        "z", ImportRequirement.builder().position("z").applicable("NO").build()),
+                "9", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("NO").build()));
+        given(tailoringAnforderungFileReaderMock.apply(matrix.get()))
+                .willReturn(matrixRequirements);
+
+        given(mapperMock.toTailoringCatalog(catalog, screeningSheet, selectionVector, of(matrixRequirements)))
+                .willReturn(Catalog.<TailoringRequirement>builder()
+                        .version("8.2.1")
+                        .toc(Chapter.<TailoringRequirement>builder()
+                                .chapters(List.of(
+                                        Chapter.<TailoringRequirement>builder()
+                                                .number("1")
+                                                .requirements(List.of(
+                                                        TailoringRequirement.builder().position("a").build()))
+                                                .chapters(List.of(
+                                                        Chapter.<TailoringRequirement>builder()
+                                                                .number("1.1")
+                                                                .requirements(List.of(
+                                                                        TailoringRequirement.builder().position("a").build()))
+                                                                .build()))
+                                                .build()))
+                                .build())
+                        .build());
+
+        // act
+        Tailoring actual = service.createTailoring("master1", "1000", screeningSheet, selectionVector,
+                "Hello", catalog, matrix);
+
+        // assert
+        assertThat(actual.getNotes())
+                .extracting(Note::getNumber, Note::getText)
+                .containsExactly(tuple(1, "Hello"));
+    }
+
+    @Test
+    void createTailoring_AllMatrixRequirementsInCatalogNoteNull_NotesNull() {
+        // arrange
+        ScreeningSheet screeningSheet = ScreeningSheet.builder()
+                .phases(List.of(E, F))
+                .build();
+
+        SelectionVector selectionVector = SelectionVector.builder().build();
+
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+                .version("8.2.1")
+                .build();
+
+        Optional<byte[]> matrix = of("dummy content".getBytes());
+        Map<String, Map<String, ImportRequirement>> matrixRequirements = Map.of(
+                "1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("YES").build()));
+        given(tailoringAnforderungFileReaderMock.apply(matrix.get()))
+                .willReturn(matrixRequirements);
+
+        given(mapperMock.toTailoringCatalog(catalog, screeningSheet, selectionVector, of(matrixRequirements)))
+                .willReturn(Catalog.<TailoringRequirement>builder()
+                        .version("8.2.1")
+                        .toc(Chapter.<TailoringRequirement>builder()
+                                .chapters(List.of(
+                                        Chapter.<TailoringRequirement>builder()
+                                                .number("1")
+                                                .requirements(List.of(
+                                                        TailoringRequirement.builder().position("a").build()))
+                                                .build()))
+                                .build())
+                        .build());
+
+        // act
+        Tailoring actual = service.createTailoring("master1", "1000", screeningSheet, selectionVector,
+                null, catalog, matrix);
+
+        // assert
+        assertThat(actual.getNotes()).isNull();
+    }
+
     @Test
     void createDocuments_ProjectNull_NullPointerExceptionThrown() {
         // arrange
@@ -1051,9 +1147,9 @@ class TailoringServiceImplTest {
         byte[] data = "Filereader mocked. No file parsing".getBytes(UTF_8);
 
         given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                        ImportRequirement.builder().position("a").applicable("YNO").build(),
-                        ImportRequirement.builder().position("b").applicable("NO").build()))));
+                new AbstractMap.SimpleEntry<>("1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("YNO").build(),
+                        "b", ImportRequirement.builder().position("b").applicable("NO").build()))));
 
         // act
         service.updateImportedRequirements(project, tailoring, data);
@@ -1071,9 +1167,9 @@ class TailoringServiceImplTest {
         byte[] data = "Filereader mocked. No file parsing".getBytes(UTF_8);
 
         given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                        ImportRequirement.builder().position("a").applicable("YES").build(),
-                        ImportRequirement.builder().position("b").applicable("NO").build()))));
+                new AbstractMap.SimpleEntry<>("1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("YES").build(),
+                        "b", ImportRequirement.builder().position("b").applicable("NO").build()))));
 
         // act
         service.updateImportedRequirements(project, tailoring, data);
@@ -1083,6 +1179,29 @@ class TailoringServiceImplTest {
         verify(requirementServiceMock, times(1)).handleSelected("DUMMY", "master", "1", "b", false);
     }
 
+    @Test
+    void updateImportedRequirements_RequirementNotInTailoring_RemainingRequirementsProcessed() {
+        // arrange
+        String project = "DUMMY";
+        String tailoring = "master";
+        byte[] data = "Filereader mocked. No file parsing".getBytes(UTF_8);
+
+        Map<String, ImportRequirement> requirements = new LinkedHashMap<>();
+        requirements.put("z", ImportRequirement.builder().position("z").applicable("YES").build());
+        requirements.put("b", ImportRequirement.builder().position("b").applicable("NO").build());
+        given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.of("1", requirements));
+        given(requirementServiceMock.handleSelected("DUMMY", "master", "1", "z", true)).willReturn(empty());
+        given(requirementServiceMock.handleSelected("DUMMY", "master", "1", "b", false))
+                .willReturn(of(TailoringRequirement.builder().position("b").build()));
+
+        // act
+        service.updateImportedRequirements(project, tailoring, data);
+
+        // assert
+        verify(requirementServiceMock, times(1)).handleSelected("DUMMY", "master", "1", "z", true);
+        verify(requirementServiceMock, times(1)).handleSelected("DUMMY", "master", "1", "b", false);
+    }
+
     @Test
     void updateImportedRequirements_RequirementsValidStateAndTextChanges_AllRequirementsProcesed() {
         // arrange
@@ -1091,10 +1210,10 @@ class TailoringServiceImplTest {
         byte[] data = "Filereader mocked. No file parsing".getBytes(UTF_8);
 
         given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                        ImportRequirement.builder().position("a").applicable("YES").text("Dies ist der neue Text")
+                new AbstractMap.SimpleEntry<>("1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("YES").text("Dies ist der neue Text")
                                 .build(),
-                        ImportRequirement.builder().position("b").applicable("NO").build()))));
+                        "b", ImportRequirement.builder().position("b").applicable("NO").build()))));
 
         // act
         service.updateImportedRequirements(project, tailoring, data);
@@ -1113,9 +1232,9 @@ class TailoringServiceImplTest {
         byte[] data = "Filereader wird gemockt. Kein parsen einer File".getBytes(UTF_8);
 
         given(tailoringAnforderungFileReaderMock.apply(data)).willReturn(Map.ofEntries(
-                new AbstractMap.SimpleEntry<>("1", asList(
-                        ImportRequirement.builder().position("a").applicable("JA").text("").build(),
-                        ImportRequirement.builder().position("b").applicable("NEIN").build()))));
+                new AbstractMap.SimpleEntry<>("1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("JA").text("").build(),
+                        "b", ImportRequirement.builder().position("b").applicable("NEIN").build()))));
 
         // act
         service.updateImportedRequirements(project, tailoring, data);
@@ -1156,14 +1275,14 @@ class TailoringServiceImplTest {
         // arrange
         String project = "DUMMY";
         String tailoring = "master";
-        given(repositoryMock.getTailoring(project, tailoring)).willReturn(empty());
+        given(repositoryMock.getTailoringHeader(project, tailoring)).willReturn(empty());
 
         // act
         Optional<Boolean> actual = service.deleteTailoring(project, tailoring);
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring(project, tailoring);
+        verify(repositoryMock, times(1)).getTailoringHeader(project, tailoring);
         verify(repositoryMock, times(0)).deleteTailoring(project, tailoring);
 
     }
@@ -1174,7 +1293,7 @@ class TailoringServiceImplTest {
         String project = "DUMMY";
         String tailoring = "master";
 
-        given(repositoryMock.getTailoring(project, tailoring))
+        given(repositoryMock.getTailoringHeader(project, tailoring))
                 .willReturn(of(Tailoring.builder().build()));
         given(tailoringDeletableMock.test(project, tailoring))
                 .willReturn(true);
@@ -1187,7 +1306,7 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get()).isTrue();
-        verify(repositoryMock, times(1)).getTailoring(project, tailoring);
+        verify(repositoryMock, times(1)).getTailoringHeader(project, tailoring);
         verify(tailoringDeletableMock, times(1)).test(project, tailoring);
         verify(repositoryMock, times(1)).deleteTailoring(project, tailoring);
     }
@@ -1198,7 +1317,7 @@ class TailoringServiceImplTest {
         String project = "DUMMY";
         String tailoring = "master";
 
-        given(repositoryMock.getTailoring(project, tailoring))
+        given(repositoryMock.getTailoringHeader(project, tailoring))
                 .willReturn(of(Tailoring.builder().build()));
         given(tailoringDeletableMock.test(project, tailoring))
                 .willReturn(false);
@@ -1209,7 +1328,7 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get()).isFalse();
-        verify(repositoryMock, times(1)).getTailoring(project, tailoring);
+        verify(repositoryMock, times(1)).getTailoringHeader(project, tailoring);
         verify(tailoringDeletableMock, times(1)).test(project, tailoring);
         verify(repositoryMock, times(0)).deleteTailoring(any(), any());
     }
@@ -1220,7 +1339,7 @@ class TailoringServiceImplTest {
         String project = "DUMMY";
         String tailoring = "master";
 
-        given(repositoryMock.getTailoring(project, tailoring))
+        given(repositoryMock.getTailoringHeader(project, tailoring))
                 .willReturn(of(Tailoring.builder().state(AGREED).build()));
         given(repositoryMock.deleteTailoring(project, tailoring)).willReturn(TRUE);
 
@@ -1230,7 +1349,7 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get()).isFalse();
-        verify(repositoryMock, times(1)).getTailoring(project, tailoring);
+        verify(repositoryMock, times(1)).getTailoringHeader(project, tailoring);
         verify(repositoryMock, times(0)).deleteTailoring(project, tailoring);
     }
 
@@ -1249,20 +1368,20 @@ class TailoringServiceImplTest {
     @Test
     void getNote_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(empty());
 
         // act
         Optional<Note> actual = service.getNote("Dummy", "master1", 1);
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master1");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master1");
     }
 
     @Test
     void getNote_TailoringNoteNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(
                 Tailoring.builder().notes(List.of(Note.builder().number(1).text("demo").build())).build()));
 
         // act
@@ -1270,13 +1389,13 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
     void getNote_TailoringWithNote_NoteReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(
                 Tailoring.builder().notes(List.of(Note.builder().number(1).text("demo").build())).build()));
 
         // act
@@ -1285,26 +1404,26 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(actual.get().getNumber()).isEqualTo(1);
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
     void addNote_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(empty());
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(empty());
 
         // act
         Optional<Note> actual = service.addNote("Dummy", "master", "This a demo note");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
     void addNote_RespositoryAddError_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(Tailoring.builder().build()));
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(Tailoring.builder().build()));
         given(repositoryMock.addNote(any(), any(), any())).willReturn(empty());
 
         // act
@@ -1312,7 +1431,7 @@ class TailoringServiceImplTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
         verify(repositoryMock, times(1)).addNote(eq("Dummy"), eq("master"), any());
     }
 
@@ -1323,7 +1442,7 @@ class TailoringServiceImplTest {
         List<Note> notes = new ArrayList<>();
         notes.add(note1);
         Tailoring tailoring = Tailoring.builder().notes(notes).build();
-        given(repositoryMock.getTailoring(any(), any())).willReturn(of(tailoring));
+        given(repositoryMock.getTailoringHeader(any(), any())).willReturn(of(tailoring));
 
         ArgumentCaptor<Note> noteCaptor = forClass(Note.class);
         given(repositoryMock.addNote(eq("Dummy"), eq("master"), noteCaptor.capture()))
@@ -1341,7 +1460,7 @@ class TailoringServiceImplTest {
         assertThat(actual).isNotEmpty();
         assertThat(tailoring.getNotes()).hasSize(2);
         assertThat(tailoring.getNotes()).containsExactly(note1, noteCaptor.getValue());
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
@@ -1351,7 +1470,7 @@ class TailoringServiceImplTest {
         List<Note> notes = new ArrayList<>();
         notes.add(note1);
         Tailoring tailoring = Tailoring.builder().notes(notes).build();
-        given(repositoryMock.getTailoring("Dummy", "master")).willReturn(of(tailoring));
+        given(repositoryMock.getTailoringHeader("Dummy", "master")).willReturn(of(tailoring));
 
         // act
         Optional<Collection<Note>> actual = service.getNotes("Dummy", "master");
@@ -1359,20 +1478,20 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isNotEmpty();
         assertThat(tailoring.getNotes()).hasSize(1);
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
     void getNotes_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring("Dummy", "master")).willReturn(ofNullable(null));
+        given(repositoryMock.getTailoringHeader("Dummy", "master")).willReturn(ofNullable(null));
 
         // act
         Optional<Collection<Note>> actual = service.getNotes("Dummy", "master");
 
         // assert
         assertThat(actual).isEmpty();
-        verify(repositoryMock, times(1)).getTailoring("Dummy", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("Dummy", "master");
     }
 
     @Test
@@ -1394,7 +1513,7 @@ class TailoringServiceImplTest {
     @Test
     void updateState_TailoringNotExists_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring("SAMPLE", "master")).willReturn(empty());
+        given(repositoryMock.getTailoringHeader("SAMPLE", "master")).willReturn(empty());
 
         // act
         Optional<TailoringInformation> actual = service.updateState("SAMPLE", "master", AGREED);
@@ -1402,7 +1521,7 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isEmpty();
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("SAMPLE", "master");
         verify(repositoryMock, times(0)).setState(any(), any(), any());
     }
 
@@ -1410,7 +1529,7 @@ class TailoringServiceImplTest {
     void updateState_StateDowngrade_UnmodifiedTailoringReturned() {
         // arrange
         Tailoring tailoring = Tailoring.builder().state(TailoringState.RELEASED).build();
-        given(repositoryMock.getTailoring("SAMPLE", "master")).willReturn(of(tailoring));
+        given(repositoryMock.getTailoringHeader("SAMPLE", "master")).willReturn(of(tailoring));
 
         TailoringInformation tailoringInformation = TailoringInformation.builder().build();
         given(mapperMock.toTailoringInformation(tailoring)).willReturn(tailoringInformation);
@@ -1423,14 +1542,14 @@ class TailoringServiceImplTest {
                 .isPresent()
                 .contains(tailoringInformation);
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("SAMPLE", "master");
         verify(repositoryMock, times(0)).setState(any(), any(), any());
     }
 
     @Test
     void updateState_RespositorySetStateError_EmptyReturned() {
         // arrange
-        given(repositoryMock.getTailoring("SAMPLE", "master"))
+        given(repositoryMock.getTailoringHeader("SAMPLE", "master"))
                 .willReturn(of(Tailoring.builder().state(CREATED).build()));
         given(repositoryMock.setState("SAMPLE", "master", AGREED)).willReturn(empty());
 
@@ -1440,14 +1559,14 @@ class TailoringServiceImplTest {
         // assert
         assertThat(actual).isEmpty();
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("SAMPLE", "master");
         verify(repositoryMock, times(1)).setState(any(), any(), any());
     }
 
     @Test
     void updateState_StateChanged_UpdatedTailoringReturned() {
         // arrange
-        given(repositoryMock.getTailoring("SAMPLE", "master"))
+        given(repositoryMock.getTailoringHeader("SAMPLE", "master"))
                 .willReturn(of(Tailoring.builder().state(CREATED).build()));
 
         Tailoring tailoring = Tailoring.builder().state(AGREED).build();
@@ -1465,7 +1584,7 @@ class TailoringServiceImplTest {
                 .isPresent()
                 .contains(tailoringInformation);
 
-        verify(repositoryMock, times(1)).getTailoring("SAMPLE", "master");
+        verify(repositoryMock, times(1)).getTailoringHeader("SAMPLE", "master");
         verify(repositoryMock, times(1)).setState(any(), any(), any());
     }
 
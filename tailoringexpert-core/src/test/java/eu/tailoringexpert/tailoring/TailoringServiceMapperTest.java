@@ -31,11 +31,12 @@ import static java.util.Collections.emptyList;
 import static java.util.Optional.empty;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -131,8 +132,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -211,8 +214,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -292,8 +297,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -377,8 +384,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -458,8 +467,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -544,8 +555,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -629,8 +642,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -712,8 +727,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -796,8 +813,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -876,8 +895,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -960,8 +981,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -1131,8 +1154,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, empty(),
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, empty(),
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -1159,9 +1184,9 @@ class TailoringServiceMapperTest {
                         requirement))
                 .build();
 
-        Optional<Map<String, Collection<ImportRequirement>>> matrix = Optional.of(Map.ofEntries(
-                entry("1", List.of(
-                        ImportRequirement.builder().position("a").applicable("FALSE").build()))));
+        Optional<Map<String, Map<String, ImportRequirement>>> matrix = Optional.of(Map.ofEntries(
+                entry("1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("FALSE").build()))));
 
         ScreeningSheet screeningSheet = ScreeningSheet.builder()
                 .phases(List.of(ZERO))
@@ -1172,8 +1197,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, matrix,
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, matrix,
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -1200,9 +1227,9 @@ class TailoringServiceMapperTest {
                         requirement))
                 .build();
 
-        Optional<Map<String, Collection<ImportRequirement>>> matrix = Optional.of(Map.ofEntries(
-                entry("1", List.of(
-                        ImportRequirement.builder().position("a").applicable("FALSE").build()))));
+        Optional<Map<String, Map<String, ImportRequirement>>> matrix = Optional.of(Map.ofEntries(
+                entry("1", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("FALSE").build()))));
 
         ScreeningSheet screeningSheet = ScreeningSheet.builder()
                 .phases(List.of(ZERO))
@@ -1256,8 +1283,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, matrix,
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, matrix,
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -1284,9 +1313,9 @@ class TailoringServiceMapperTest {
                         requirement))
                 .build();
 
-        Optional<Map<String, Collection<ImportRequirement>>> matrix = Optional.of(Map.ofEntries(
-                entry("2", List.of(
-                        ImportRequirement.builder().position("a").applicable("FALSE").build()))));
+        Optional<Map<String, Map<String, ImportRequirement>>> matrix = Optional.of(Map.ofEntries(
+                entry("2", Map.of(
+                        "a", ImportRequirement.builder().position("a").applicable("FALSE").build()))));
 
         ScreeningSheet screeningSheet = ScreeningSheet.builder()
                 .phases(List.of(ZERO))
@@ -1340,8 +1369,10 @@ class TailoringServiceMapperTest {
 
         TailoringRequirementBuilder tailoringRequirementBuilder = TailoringRequirement.builder();
 
+        TailoringSelectionRule selectionRule = TailoringSelectionRule.compile(screeningSheet, selectionVector);
+
         // act
-        mapper.toTailoringRequirement(requirement, screeningSheet, selectionVector, chapter, matrix,
+        mapper.toTailoringRequirement(requirement, selectionRule, chapter, matrix,
                 tailoringRequirementBuilder);
         TailoringRequirement actual = tailoringRequirementBuilder.build();
 
@@ -1405,4 +1436,58 @@ class TailoringServiceMapperTest {
         assertThat(actual).isNotNull();
         assertThat(actual.getToc().getRequirements()).isEmpty();
     }
+
+    @Test
+    void toTailoringCatalog_ManyChaptersNoMatrix_ChapterAndRequirementOrderKept() {
+        // arrange
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+                .version("8.2.1")
+                .toc(Chapter.<BaseRequirement>builder()
+                        .chapters(IntStream.rangeClosed(1, 50)
+                                .mapToObj(i -> Chapter.<BaseRequirement>builder()
+                                        .number(String.valueOf(i))
+                                        .chapters(List.of(Chapter.<BaseRequirement>builder()
+                                                .number(i + ".1")
+                                                .requirements(List.of())
+                                                .build()))
+                                        .requirements(List.of(
+                                                BaseRequirement.builder()
+                                                        .position("a")
+                                                        .identifiers(List.of(Identifier.builder()
+                                                                .type("Q")
+                                                                .level(i % 2)
+                                                                .build()))
+                                                        .build(),
+                                                BaseRequirement.builder()
+                                                        .position("b")
+                                                        .identifiers(List.of())
+                                                        .build()))
+                                        .build())
+                                .toList())
+                        .build())
+                .build();
+
+        ScreeningSheet screeningSheet = ScreeningSheet.builder()
+                .phases(List.of(ZERO))
+                .parameters(List.of())
+                .build();
+
+        // act
+        Catalog<TailoringRequirement> actual = mapper.toTailoringCatalog(catalog, screeningSheet,
+                SelectionVector.builder().level("Q", 0).build(), empty());
+
+        // assert
+        assertThat(actual.getToc().getChapters())
+                .extracting(Chapter::getNumber)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 50).mapToObj(String::valueOf).toList());
+        assertThat(actual.getToc().getChapters())
+                .extracting(chapter -> chapter.getChapters().get(0).getNumber())
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 50).mapToObj(i -> i + ".1").toList());
+        assertThat(actual.getChapter("2").get().getRequirements())
+                .extracting(TailoringRequirement::getPosition, TailoringRequirement::getSelected)
+                .containsExactly(tuple("a", true), tuple("b", false));
+        assertThat(actual.getChapter("3").get().getRequirements())
+                .extracting(TailoringRequirement::getSelected)
+                .containsExactly(false, false);
+    }
 }
@@ -0,0 +1,114 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.catalog;
+
+import eu.tailoringexpert.domain.ApplicableDocumentEntity;
+import eu.tailoringexpert.domain.DRD;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.Document;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Identity map of the DRD and applicable document entities referenced by a base catalog to import.
+ * <p>
+ * Used by {@link JPACatalogServiceRepositoryMapper} to resolve references of requirements without querying the
+ * database for each requirement.
+ *
+ * @author Michael Bädorf
+ */
+public class CatalogReferences {
+
+    private final Map<String, DRDEntity> drds = new HashMap<>();
+    private final Map<DocumentKey, ApplicableDocumentEntity> documents = new HashMap<>();
+
+    /**
+     * Add a persistent DRD.
+     *
+     * @param entity DRD to add
+     */
+    public void add(DRDEntity entity) {
+        drds.put(entity.getNumber(), entity);
+    }
+
+    /**
+     * Add a persistent applicable document.
+     *
+     * @param entity document to add
+     */
+    public void add(ApplicableDocumentEntity entity) {
+        documents.put(new DocumentKey(entity.getTitle(), entity.getIssue(), entity.getRevision()), entity);
+    }
+
+    /**
+     * Get the persistent DRD of a domain DRD.
+     *
+     * @param domain DRD to get entity of
+     * @return persistent DRD if contained, otherwise null
+     */
+    public DRDEntity get(DRD domain) {
+        return isNull(domain) ? null : drds.get(domain.getNumber());
+    }
+
+    /**
+     * Get the persistent applicable document of a domain document.
+     *
+     * @param domain document to get entity of
+     * @return persistent document if contained, otherwise null
+     */
+    public ApplicableDocumentEntity get(Document domain) {
+        return isNull(domain) ? null : documents.get(key(domain));
+    }
+
+    /**
+     * Check if the DRD is contained.
+     *
+     * @param domain DRD to check
+     * @return true, if the DRD is contained
+     */
+    public boolean contains(DRD domain) {
+        return drds.containsKey(domain.getNumber());
+    }
+
+    /**
+     * Check if the applicable document is contained.
+     *
+     * @param domain document to check
+     * @return true, if the document is contained
+     */
+    public boolean contains(Document domain) {
+        return documents.containsKey(key(domain));
+    }
+
+    static DocumentKey key(Document domain) {
+        return new DocumentKey(domain.getTitle(), domain.getIssue(), domain.getRevision());
+    }
+
+    /**
+     * Business key of an applicable document.
+     */
+    record DocumentKey(String title, String issue, String revision) {
+    }
+}
@@ -23,8 +23,10 @@ package eu.tailoringexpert.catalog;
 
 import eu.tailoringexpert.TailoringexpertException;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseCatalogSnapshot;
 import eu.tailoringexpert.domain.BaseCatalogVersionProjection;
 import eu.tailoringexpert.domain.BaseRequirement;
+import eu.tailoringexpert.domain.BaseRequirementEntity;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.CatalogVersion;
 import eu.tailoringexpert.domain.Chapter;
@@ -32,6 +34,7 @@ import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.DRDEntity;
 import eu.tailoringexpert.domain.Document;
 import eu.tailoringexpert.domain.ApplicableDocumentEntity;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.ApplicableDocumentRepository;
@@ -39,18 +42,25 @@ import eu.tailoringexpert.repository.TailoringCatalogRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.hibernate.Cache;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.transaction.Transactional;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 
@@ -63,6 +73,11 @@ import static java.util.Optional.ofNullable;
 @RequiredArgsConstructor
 public class JPACatalogServiceRepository implements CatalogServiceRepository {
 
+    private static final Collection<String> CACHED_BASEREQUIREMENT_COLLECTIONS = List.of(
+        BaseRequirementEntity.class.getName() + ".phases",
+        BaseRequirementEntity.class.getName() + ".applicableDocuments",
+        BaseRequirementEntity.class.getName() + ".drds");
+
     @NonNull
     private JPACatalogServiceRepositoryMapper mapper;
 
@@ -78,6 +93,18 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
     @NonNull
     private TailoringCatalogRepository tailoringCatalogRepository;
 
+    @NonNull
+    private BaseCatalogChapterRepository baseCatalogChapterRepository;
+
+    /**
+     * Second level cache holding the (read-only) catalog reference data.
+     */
+    @NonNull
+    private Cache entityCache;
+
+    @NonNull
+    private BaseCatalogSnapshotCache snapshotCache;
+
     /**
      * {@inheritDoc}
      */
@@ -91,28 +118,16 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
             return empty();
         }
 
-        Collection<DRD> drds = applyDRDs(catalog.getToc());
-        drds.forEach(domain -> {
-            DRDEntity entity = drdRepository.findByNumber(domain.getNumber());
-            if (isNull(entity)) {
-                drdRepository.save(mapper.createCatalog(domain));
-            }
-        });
-
-        Collection<Document> documents = applyDocuments(catalog.getToc());
-        documents.forEach(domain -> {
-            ApplicableDocumentEntity entity = applicableDocumentRepository.findByTitleAndIssueAndRevision(
-                domain.getTitle(),
-                domain.getIssue(),
-                domain.getRevision()
-            );
-            if (isNull(entity)) {
-                applicableDocumentRepository.save(mapper.createCatalog(domain));
-            }
-        });
-
-        BaseCatalogEntity toSave = mapper.createCatalog(catalog);
+        CatalogReferences references = new CatalogReferences();
+        if (nonNull(catalog.getToc())) {
+            reconcileDRDs(catalog.getToc(), references);
+            reconcileDocuments(catalog.getToc(), references);
+        }
+
+        BaseCatalogEntity toSave = mapper.createCatalog(catalog, references);
         Optional<Catalog<BaseRequirement>> result = ofNullable(mapper.createCatalog(baseCatalogRepository.save(toSave)));
+        evictCatalogCache();
+        snapshotCache.evict(catalog.getVersion());
 
         log.traceExit();
         return result;
@@ -122,11 +137,16 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Catalog<BaseRequirement>> getCatalog(String version) {
         log.traceEntry(version);
 
-        BaseCatalogEntity entity = baseCatalogRepository.findByVersion(version, BaseCatalogEntity.class);
-        Optional<Catalog<BaseRequirement>> result = ofNullable(mapper.getCatalog(entity));
+        Optional<Catalog<BaseRequirement>> result = snapshotCache.get(version, catalogVersion -> {
+                BaseCatalogEntity entity = baseCatalogRepository.findByVersion(catalogVersion, BaseCatalogEntity.class);
+                baseCatalogChapterRepository.loadCatalog(entity);
+                return ofNullable(mapper.getCatalog(entity));
+            })
+            .map(BaseCatalogSnapshot::getCatalog);
 
         log.traceExit();
         return result;
@@ -160,6 +180,7 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public Optional<CatalogVersion> limitCatalogValidity(String version, ZonedDateTime validUntil) {
         log.traceEntry(() -> version, () -> validUntil);
 
@@ -167,6 +188,7 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
         if (changedItems == 0) {
             return empty();
         }
+        evictCatalogCache();
         BaseCatalogVersionProjection updatedCatalog = baseCatalogRepository.findCatalogByVersion(version);
         CatalogVersion result = mapper.limitCatalogValidity(updatedCatalog);
         return log.traceExit(ofNullable(result));
@@ -184,6 +206,8 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
         } catch (Exception e) {
             throw log.throwing(new TailoringexpertException(e.getMessage()));
         }
+        evictCatalogCache();
+        snapshotCache.evict(version);
 
         return log.traceExit(!existsCatalog(version));
     }
@@ -197,25 +221,81 @@ public class JPACatalogServiceRepository implements CatalogServiceRepository {
 
         return log.traceExit(tailoringCatalogRepository.existsByVersion(version));
     }
+
+    /**
+     * Remove cached base catalogs, requirements and their collections of all tenants after a catalog has been changed.
+     * DRDs and applicable documents are evicted as well, as rows of deleted catalogs might be removed.
+     */
+    private void evictCatalogCache() {
+        entityCache.evict(BaseCatalogEntity.class);
+        entityCache.evict(BaseRequirementEntity.class);
+        entityCache.evict(DRDEntity.class);
+        entityCache.evict(ApplicableDocumentEntity.class);
+        CACHED_BASEREQUIREMENT_COLLECTIONS.forEach(entityCache::evictCollectionData);
+    }
+
     /**
-     * Select all DRDs referenced in requirements of chapter and all subchapters.
+     * Add all DRDs referenced by the requirements of the chapter to the references.
+     * Existing DRDs are loaded with a single query, missing DRDs are saved as one batch.
      *
-     * @param chapter root chapter to start selecting
-     * @return Collection of referenced DRDs
+     * @param chapter    chapter to collect DRDs of
+     * @param references identity map to add DRDs to
      */
-    private Collection<DRD> applyDRDs(Chapter<BaseRequirement> chapter) {
-        return chapter.allRequirements()
+    private void reconcileDRDs(Chapter<BaseRequirement> chapter, CatalogReferences references) {
+        Map<String, DRD> drds = chapter.allRequirements()
             .map(BaseRequirement::getDrds)
             .filter(Objects::nonNull)
             .flatMap(Collection::stream)
-            .collect(Collectors.toSet());
+            .collect(toMap(DRD::getNumber, identity(), (first, second) -> first, LinkedHashMap::new));
+        if (drds.isEmpty()) {
+            return;
+        }
+
+        drdRepository.findByNumberIn(drds.keySet()).forEach(references::add);
+
+        List<DRDEntity> missing = drds.values()
+            .stream()
+            .filter(domain -> !references.contains(domain))
+            .map(mapper::createCatalog)
+            .toList();
+        if (!missing.isEmpty()) {
+            drdRepository.saveAll(missing).forEach(references::add);
+        }
     }
 
-    private Collection<Document> applyDocuments(Chapter<BaseRequirement> chapter) {
-        return chapter.allRequirements()
+    /**
+     * Add all applicable documents referenced by the requirements of the chapter to the references.
+     * Existing documents are loaded with a single query, missing documents are saved as one batch.
+     *
+     * @param chapter    chapter to collect documents of
+     * @param references identity map to add documents to
+     */
+    private void reconcileDocuments(Chapter<BaseRequirement> chapter, CatalogReferences references) {
+        Map<CatalogReferences.DocumentKey, Document> documents = chapter.allRequirements()
             .map(BaseRequirement::getApplicableDocuments)
             .filter(Objects::nonNull)
             .flatMap(Collection::stream)
-            .collect(Collectors.toSet());
+            .collect(toMap(CatalogReferences::key, identity(), (first, second) -> first, LinkedHashMap::new));
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        Set<String> titles = documents.values()
+            .stream()
+            .map(Document::getTitle)
+            .collect(toSet());
+        applicableDocumentRepository.findByTitleIn(titles)
+            .stream()
+            .filter(entity -> documents.containsKey(new CatalogReferences.DocumentKey(entity.getTitle(), entity.getIssue(), entity.getRevision())))
+            .forEach(references::add);
+
+        List<ApplicableDocumentEntity> missing = documents.values()
+            .stream()
+            .filter(domain -> !references.contains(domain))
+            .map(mapper::createCatalog)
+            .toList();
+        if (!missing.isEmpty()) {
+            applicableDocumentRepository.saveAll(missing).forEach(references::add);
+        }
     }
 }
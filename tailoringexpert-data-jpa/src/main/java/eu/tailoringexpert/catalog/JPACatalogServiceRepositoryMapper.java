@@ -25,11 +25,10 @@ import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.*;
 import eu.tailoringexpert.domain.BaseCatalogChapterEntity.BaseCatalogChapterEntityBuilder;
 import eu.tailoringexpert.domain.ApplicableDocumentEntity;
-import eu.tailoringexpert.repository.DRDRepository;
-import eu.tailoringexpert.repository.ApplicableDocumentRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import lombok.Setter;
 import org.mapstruct.AfterMapping;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -53,14 +52,8 @@ public abstract class JPACatalogServiceRepositoryMapper {
     @Setter
     private LogoRepository logoRepository;
 
-    @Setter
-    private DRDRepository drdRepository;
-
-    @Setter
-    private ApplicableDocumentRepository applicableDocumentRepository;
-
     @Mapping(target = "validFrom", expression = "java( java.time.ZonedDateTime.now())")
-    public abstract BaseCatalogEntity createCatalog(Catalog<BaseRequirement> domain);
+    public abstract BaseCatalogEntity createCatalog(Catalog<BaseRequirement> domain, @Context CatalogReferences references);
 
     public abstract Catalog<BaseRequirement> createCatalog(BaseCatalogEntity entity);
 
@@ -74,12 +67,12 @@ public abstract class JPACatalogServiceRepositoryMapper {
     @DoNotSelectForMapping
     public abstract ApplicableDocumentEntity createCatalog(Document domain);
 
-    DRDEntity resolve(DRD domain) {
-        return nonNull(domain) ? drdRepository.findByNumber(domain.getNumber()) : null;
+    DRDEntity resolve(DRD domain, @Context CatalogReferences references) {
+        return references.get(domain);
     }
 
-    ApplicableDocumentEntity resolve(Document domain)  {
-        return nonNull(domain) ? applicableDocumentRepository.findByTitleAndIssueAndRevision(domain.getTitle(), domain.getIssue(), domain.getRevision()) : null;
+    ApplicableDocumentEntity resolve(Document domain, @Context CatalogReferences references) {
+        return references.get(domain);
     }
 
     public abstract Catalog<BaseRequirement> getCatalog(BaseCatalogEntity entity);
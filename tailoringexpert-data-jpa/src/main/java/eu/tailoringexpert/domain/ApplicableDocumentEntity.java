@@ -23,15 +23,19 @@ package eu.tailoringexpert.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
 
 import java.io.Serializable;
 
 import static jakarta.persistence.GenerationType.TABLE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_ONLY;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = READ_ONLY)
 @Entity(name = "ApplicableDocument")
 @Table(name = "APPLICABLEDOCUMENT")
 public class ApplicableDocumentEntity implements Serializable {
@@ -42,7 +46,8 @@ public class ApplicableDocumentEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_DOCUMENT", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_DOCUMENT", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_DOCUMENT", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_DOCUMENT")
     @Column(name = "APPLICABLEDOCUMENT_ID")
     private Long id;
@@ -26,7 +26,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -42,6 +44,7 @@ import java.time.ZonedDateTime;
 import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.TABLE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_ONLY;
 
 
 /**
@@ -54,6 +57,8 @@ import static jakarta.persistence.GenerationType.TABLE;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = READ_ONLY)
 @Entity(name = "BaseCatalog")
 @Table(name = "BASECATALOG")
 public class BaseCatalogEntity implements Serializable {
@@ -64,7 +69,8 @@ public class BaseCatalogEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_BASECATALOG", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASECATALOG", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASECATALOG", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_BASECATALOG")
     @Column(name = "CATALOG_ID")
     private Long id;
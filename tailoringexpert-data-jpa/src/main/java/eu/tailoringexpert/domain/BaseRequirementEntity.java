@@ -26,9 +26,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.Singular;
+import org.hibernate.annotations.Cache;
 
 import jakarta.persistence.AssociationOverride;
 import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Embedded;
@@ -54,11 +56,14 @@ import static jakarta.persistence.CascadeType.REFRESH;
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.TABLE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_ONLY;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = READ_ONLY)
 @Entity(name = "BaseRequirement")
 @Table(name = "BASEREQUIREMENT")
 public class BaseRequirementEntity implements Serializable {
@@ -69,7 +74,8 @@ public class BaseRequirementEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_BASEREQUIREMENT", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASEREQUIREMENT", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_BASEREQUIREMENT", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.BULK)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_BASEREQUIREMENT")
     @Column(name = "REQUIREMENT_ID")
     private Long id;
@@ -104,6 +110,7 @@ public class BaseRequirementEntity implements Serializable {
     /**
      * Phases the requirement belongs to.
      */
+    @Cache(usage = READ_ONLY)
     @Singular(value = "phase", ignoreNullCollections = true)
     @ElementCollection
     @CollectionTable(
@@ -117,6 +124,7 @@ public class BaseRequirementEntity implements Serializable {
     /**
      * List of applicable documents of the requirement.
      */
+    @Cache(usage = READ_ONLY)
     @OneToMany(cascade = {DETACH, MERGE, PERSIST, REFRESH}, orphanRemoval = false, fetch = LAZY)
     @JoinTable(
         name = "BASEREQUIREMENT_APPLICABLEDOC",
@@ -128,6 +136,7 @@ public class BaseRequirementEntity implements Serializable {
     /**
      * List of drd requirement shall be part of.
      */
+    @Cache(usage = READ_ONLY)
     @OneToMany(cascade = {DETACH, MERGE, PERSIST, REFRESH}, orphanRemoval = false, fetch = LAZY)
     @JoinTable(
         name = "BASEREQUIREMENT_DRD",
@@ -25,7 +25,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
@@ -37,12 +39,15 @@ import java.io.Serializable;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.GenerationType.TABLE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_ONLY;
 
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = READ_ONLY)
 @Entity(name = "DocumentSignee")
 @Table(name = "DOCUMENTSIGNEE")
 public class DocumentSigneeEntity implements Serializable {
@@ -53,7 +58,8 @@ public class DocumentSigneeEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_DOCUMENTSIGNEE", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_DOCUMENTSIGNEE", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_DOCUMENTSIGNEE", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_DOCUMENTSIGNEE")
     @Column(name = "DOCUMENTSIGNEE_ID")
     private Long id;
@@ -0,0 +1,47 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+/**
+ * Block sizes of the identifiers allocated at once from table <code>SEQUENCE</code>.
+ * <p>
+ * Identifiers are allocated using the <code>pooled-lo</code> optimizer, so a stored <code>SEQ_COUNT</code> is always
+ * the first identifier of the next free block. Block sizes can therefore be changed without invalidating
+ * already stored counters.
+ *
+ * @author Michael Bädorf
+ */
+public final class IdentifierAllocationSize {
+
+    /**
+     * Block size of entities created in large numbers with each base catalog import, tailoring creation or bulk requirement change.
+     */
+    public static final int BULK = 1000;
+
+    /**
+     * Block size of all other entities.
+     */
+    public static final int DEFAULT = 50;
+
+    private IdentifierAllocationSize() {
+    }
+}
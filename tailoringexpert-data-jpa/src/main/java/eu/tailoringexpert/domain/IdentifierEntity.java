@@ -54,7 +54,8 @@ public class IdentifierEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_IDENTIFIER", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_IDENTIFIER", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_IDENTIFIER", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.BULK)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_IDENTIFIER")
     @Column(name = "IDENTIFIER_ID")
     private Long id;
@@ -25,7 +25,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -35,11 +37,14 @@ import jakarta.persistence.TableGenerator;
 import java.io.Serializable;
 
 import static jakarta.persistence.GenerationType.TABLE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_ONLY;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = READ_ONLY)
 @Entity(name = "Logo")
 @Table(name = "LOGO")
 public class LogoEntity implements Serializable {
@@ -50,7 +55,8 @@ public class LogoEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_LOGO", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_LOGO", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_LOGO", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_LOGO")
     @Column(name = "LOGO_ID")
     private Long id;
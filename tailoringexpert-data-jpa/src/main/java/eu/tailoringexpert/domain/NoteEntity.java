@@ -50,7 +50,8 @@ public class NoteEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_NOTE", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_NOTE", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_NOTE", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_NOTE")
     @Column(name = "NOTE_ID")
     private Long id;
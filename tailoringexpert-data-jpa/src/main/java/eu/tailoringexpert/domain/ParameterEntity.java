@@ -25,7 +25,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
@@ -37,11 +39,14 @@ import java.io.Serializable;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.GenerationType.TABLE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_ONLY;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = READ_ONLY)
 @Entity(name = "Parameter")
 @Table(name = "PARAMETER")
 public class ParameterEntity implements Serializable {
@@ -52,7 +57,8 @@ public class ParameterEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_PARAMETER", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_PARAMETER", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_PARAMETER", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_PARAMETER")
     @Column(name = "PARAMETER_ID")
     private Long id;
@@ -26,6 +26,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -56,6 +57,7 @@ import static jakarta.persistence.GenerationType.TABLE;
 @AllArgsConstructor
 @Entity(name = "Project")
 @Table(name = "PROJECT")
+@SQLRestriction("DELETIONTIMESTAMP IS NULL")
 public class ProjectEntity implements Serializable {
     private static final long serialVersionUID = -7657514213994672871L;
 
@@ -63,7 +65,7 @@ public class ProjectEntity implements Serializable {
      * Technical ID.
      */
     @Id
-    @TableGenerator(name = "SEQ_PROJECT", table = "SEQUENCE", pkColumnName = "SEQ_NAME", valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_PROJECT", initialValue = 1)
+    @TableGenerator(name = "SEQ_PROJECT", table = "SEQUENCE", pkColumnName = "SEQ_NAME", valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_PROJECT", initialValue = 1, allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_PROJECT")
     @Column(name = "PROJECT_ID")
     private Long id;
@@ -102,6 +104,12 @@ public class ProjectEntity implements Serializable {
     @Column(name = "STATE")
     private ProjectState state;
 
+    /**
+     * Deletion timestamp of project. Deleted projects are not loaded anymore, their data is purged afterwards.
+     */
+    @Column(name = "DELETIONTIMESTAMP")
+    private ZonedDateTime deletionTimestamp;
+
     /**
      * Find a tailoring by given name.
      *
@@ -0,0 +1,134 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.io.Serializable;
+import java.time.ZonedDateTime;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.TABLE;
+
+/**
+ * Progress of purging the data of a deleted tailoring or project.<p>
+ * Deleted objects are referenced by their technical id only, because the purge removes them.
+ *
+ * @author Michael Bädorf
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "PurgeJob")
+@Table(name = "PURGEJOB")
+public class PurgeJobEntity implements Serializable {
+    private static final long serialVersionUID = 5482911306730950276L;
+
+    /**
+     * Technical ID.
+     */
+    @Id
+    @TableGenerator(name = "SEQ_PURGEJOB", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_PURGEJOB", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
+    @GeneratedValue(strategy = TABLE, generator = "SEQ_PURGEJOB")
+    @Column(name = "PURGEJOB_ID")
+    private Long id;
+
+    /**
+     * Technical id of (deleted) project.
+     */
+    @Column(name = "PROJECT_ID")
+    private Long projectId;
+
+    /**
+     * Technical id of deleted tailoring, <code>null</code> if project has been deleted.
+     */
+    @Column(name = "TAILORING_ID")
+    private Long tailoringId;
+
+    /**
+     * Identifier of project.
+     */
+    @Column(name = "PROJECT")
+    private String project;
+
+    /**
+     * Name of deleted tailoring.
+     */
+    @Column(name = "TAILORING")
+    private String tailoring;
+
+    /**
+     * Identifier of deleted tailoring.
+     */
+    @Column(name = "IDENTIFIER")
+    private String identifier;
+
+    /**
+     * Processing state of job.
+     */
+    @Enumerated(STRING)
+    @Column(name = "STATE")
+    private PurgeState state;
+
+    /**
+     * Number of already purged rows.
+     */
+    @Column(name = "PURGEDROWS")
+    private Long purgedRows;
+
+    /**
+     * Number of failed purge attempts.
+     */
+    @Column(name = "FAILEDATTEMPTS")
+    private Integer failedAttempts;
+
+    /**
+     * Earliest time of next purge attempt after a failed one.
+     */
+    @Column(name = "NEXTATTEMPTTIMESTAMP")
+    private ZonedDateTime nextAttemptTimestamp;
+
+    /**
+     * Timestamp of deletion.
+     */
+    @Column(name = "CREATIONTIMESTAMP")
+    private ZonedDateTime creationTimestamp;
+
+    /**
+     * Timestamp of purge completion.
+     */
+    @Column(name = "COMPLETIONTIMESTAMP")
+    private ZonedDateTime completionTimestamp;
+}
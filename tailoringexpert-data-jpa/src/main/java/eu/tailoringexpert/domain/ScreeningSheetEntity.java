@@ -24,7 +24,9 @@ package eu.tailoringexpert.domain;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -57,16 +59,20 @@ public class ScreeningSheetEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_SCREENINGSHEET", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SCREENINGSHEET", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SCREENINGSHEET", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_SCREENINGSHEET")
     @Column(name = "SCREENINGSHEET_ID")
     private Long id;
 
     /**
-     * Raw data of the file.
+     * Raw data of the file, only loaded on access.
      */
-    @Column(name = "DATA")
-    private byte[] data;
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @OneToOne(cascade = ALL, fetch = LAZY, orphanRemoval = true)
+    @JoinColumn(name = "SCREENINGSHEETFILE_ID")
+    private ScreeningSheetFileEntity file;
 
     /**
      * Parameters extracted of screeningsheet.
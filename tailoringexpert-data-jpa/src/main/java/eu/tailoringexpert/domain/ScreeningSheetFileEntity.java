@@ -0,0 +1,70 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import java.io.Serializable;
+
+import static jakarta.persistence.GenerationType.TABLE;
+
+/**
+ * Raw data (file) of a screeningsheet.<p>
+ * Stored separately of the screeningsheet to load file content only when explicitly requested.
+ *
+ * @author Michael Bädorf
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "ScreeningSheetFile")
+@Table(name = "SCREENINGSHEETFILE")
+public class ScreeningSheetFileEntity implements Serializable {
+    private static final long serialVersionUID = 2617405862207410346L;
+
+    /**
+     * Technical ID.
+     */
+    @Id
+    @TableGenerator(name = "SEQ_SCREENINGSHEETFILE", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SCREENINGSHEETFILE", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
+    @GeneratedValue(strategy = TABLE, generator = "SEQ_SCREENINGSHEETFILE")
+    @Column(name = "SCREENINGSHEETFILE_ID")
+    private Long id;
+
+    /**
+     * Raw data of the file.
+     */
+    @Column(name = "DATA")
+    private byte[] data;
+}
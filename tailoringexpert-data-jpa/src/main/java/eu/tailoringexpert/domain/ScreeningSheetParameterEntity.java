@@ -51,7 +51,8 @@ public class ScreeningSheetParameterEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_SCREENINGSHEETPARAMETER", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SCREENINGSHEETPARAMETER", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SCREENINGSHEETPARAMETER", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_SCREENINGSHEETPARAMETER")
     @Column(name = "SCREENINGSHEETPARAMETER_ID")
     private Long id;
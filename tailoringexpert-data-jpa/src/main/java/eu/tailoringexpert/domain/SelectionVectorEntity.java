@@ -55,7 +55,8 @@ public class SelectionVectorEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_SELECTIONVECTOR", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SELECTIONVECTOR", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SELECTIONVECTOR", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_SELECTIONVECTOR")
     @Column(name = "SELECTIONVECTOR_ID")
     private Long id;
@@ -25,8 +25,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
 
 import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -41,11 +43,14 @@ import java.util.Map;
 
 import static jakarta.persistence.FetchType.EAGER;
 import static jakarta.persistence.GenerationType.TABLE;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_ONLY;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = READ_ONLY)
 @Entity(name = "SelectionVectorProfile")
 @Table(name = "SELECTIONVECTORPROFILE")
 public class SelectionVectorProfileEntity implements Serializable {
@@ -56,7 +61,8 @@ public class SelectionVectorProfileEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_SELECTIONVECTORPROFILE", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SELECTIONVECTORPROFILE", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_SELECTIONVECTORPROFILE", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_SELECTIONVECTORPROFILE")
     @Column(name = "SELECTIONVECTORPROFILE_ID")
     private Long id;
@@ -75,6 +81,7 @@ public class SelectionVectorProfileEntity implements Serializable {
     /**
      * Mapping between types and levels.
      */
+    @Cache(usage = READ_ONLY)
     @MapKeyColumn(name = "TYPE")
     @Column(name = "LEVEL")
     @CollectionTable(name = "SELECTIONVECTORPROFILEPARAMETER", joinColumns = @JoinColumn(name = "SELECTIONVECTORPROFILE_ID"))
@@ -62,7 +62,8 @@ public class TailoringCatalogChapterEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_TAILORINGCATALOGCHAPTER", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGCATALOGCHAPTER", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGCATALOGCHAPTER", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.BULK)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_TAILORINGCATALOGCHAPTER")
     @Column(name = "CHAPTER_ID")
     private Long id;
@@ -85,6 +86,20 @@ public class TailoringCatalogChapterEntity implements Serializable {
     @Column(name = "NUMBER")
     private String number;
 
+    /**
+     * Technical ID of tailoring chapter belongs to.
+     * Maintained by database statements only, see <code>TailoringCatalogChapterRepository</code>.
+     */
+    @Column(name = "TAILORING_ID", insertable = false, updatable = false)
+    private Long tailoringId;
+
+    /**
+     * Materialized path of chapter, i.e. number of chapter followed by a dot. Table of contents has an empty path.
+     * Maintained by database statements only, see <code>TailoringCatalogChapterRepository</code>.
+     */
+    @Column(name = "PATH", insertable = false, updatable = false)
+    private String path;
+
     /**
      * List of subchapters.
      */
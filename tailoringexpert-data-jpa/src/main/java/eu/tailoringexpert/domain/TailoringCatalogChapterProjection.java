@@ -0,0 +1,65 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+/**
+ * Chapter of a tailoring catalog without requirements and subchapters, used to read a catalog in document order.
+ *
+ * @author Michael Bädorf
+ */
+public interface TailoringCatalogChapterProjection {
+
+    /**
+     * Returns technical id of the parent chapter.
+     *
+     * @return id of parent chapter
+     */
+    Long getParentId();
+
+    /**
+     * Returns technical id of the chapter.
+     *
+     * @return id of chapter
+     */
+    Long getId();
+
+    /**
+     * Returns name of the chapter.
+     *
+     * @return name of chapter
+     */
+    String getName();
+
+    /**
+     * Returns (full) number of the chapter.
+     *
+     * @return number of chapter
+     */
+    String getNumber();
+
+    /**
+     * Returns position of the chapter in chapter list of its parent.
+     *
+     * @return position of chapter
+     */
+    int getPosition();
+}
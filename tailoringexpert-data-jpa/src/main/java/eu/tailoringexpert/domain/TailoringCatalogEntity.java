@@ -62,7 +62,8 @@ public class TailoringCatalogEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_TAILORINGCATALOG", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGCATALOG", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGCATALOG", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_TAILORINGCATALOG")
     @Column(name = "CATALOG_ID")
     private Long id;
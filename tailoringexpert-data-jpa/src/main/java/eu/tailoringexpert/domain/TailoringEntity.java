@@ -26,6 +26,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.Singular;
+import org.hibernate.annotations.SQLRestriction;
 
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
@@ -56,6 +57,7 @@ import static jakarta.persistence.GenerationType.TABLE;
 @AllArgsConstructor
 @Entity(name = "Tailoring")
 @Table(name = "TAILORING")
+@SQLRestriction("DELETIONTIMESTAMP IS NULL")
 public class TailoringEntity implements Serializable {
     private static final long serialVersionUID = -2503249103618921192L;
 
@@ -64,7 +66,8 @@ public class TailoringEntity implements Serializable {
      */
     @Id
     @TableGenerator(name = "SEQ_TAILORING", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORING", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORING", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.DEFAULT)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_TAILORING")
     @Column(name = "TAILORING_ID")
     private Long id;
@@ -145,4 +148,11 @@ public class TailoringEntity implements Serializable {
      */
     @Column(name = "CREATIONTIMESTAMP")
     private ZonedDateTime creationTimestamp;
+
+    /**
+     * Deletion timestamp of tailoring. Deleted tailorings are no longer part of the project, their data is purged
+     * afterwards.
+     */
+    @Column(name = "DELETIONTIMESTAMP")
+    private ZonedDateTime deletionTimestamp;
 }
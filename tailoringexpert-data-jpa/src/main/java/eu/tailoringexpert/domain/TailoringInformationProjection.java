@@ -0,0 +1,65 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.domain;
+
+/**
+ * Columns of a tailoring listed in the project overview.
+ *
+ * @author Michael Bädorf
+ */
+public interface TailoringInformationProjection {
+
+    /**
+     * Returns technical id of the project the tailoring belongs to.
+     *
+     * @return id of project
+     */
+    Long getProjectId();
+
+    /**
+     * Returns technical id of the tailoring.
+     *
+     * @return id of tailoring
+     */
+    Long getId();
+
+    /**
+     * Returns name of the tailoring.
+     *
+     * @return name of tailoring
+     */
+    String getName();
+
+    /**
+     * Returns version of the catalog used by the tailoring.
+     *
+     * @return catalog version
+     */
+    String getCatalogVersion();
+
+    /**
+     * Returns state of the tailoring.
+     *
+     * @return state of tailoring
+     */
+    TailoringState getState();
+}
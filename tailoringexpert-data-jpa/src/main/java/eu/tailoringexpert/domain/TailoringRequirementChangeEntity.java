@@ -46,7 +46,8 @@ public class TailoringRequirementChangeEntity {
 
     @Id
     @TableGenerator(name = "SEQ_TAILORINGREQUIREMENTCHANGE", table = "SEQUENCE", pkColumnName = "SEQ_NAME",
-        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGREQUIREMENTCHANGE", initialValue = 1)
+        valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGREQUIREMENTCHANGE", initialValue = 1,
+        allocationSize = IdentifierAllocationSize.BULK)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_TAILORINGREQUIREMENTCHANGE")
     @Column(name = "REQUIREMENTCHANGE_ID")
     private Long id;
@@ -69,5 +70,11 @@ public class TailoringRequirementChangeEntity {
     @Column(name = "MODIFICATIONTIMESTAMP", nullable = false)
     private ZonedDateTime modificationTimestamp;
 
+    /**
+     * Modification timestamp as milliseconds since epoch, used for time range queries independent of time zones.
+     */
+    @Column(name = "MODIFICATIONEPOCH", nullable = false)
+    private Long modificationEpoch;
+
 
 }
@@ -27,10 +27,13 @@ import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.CascadeType.REFRESH;
 import static jakarta.persistence.FetchType.LAZY;
 import static jakarta.persistence.GenerationType.TABLE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import java.io.Serializable;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import jakarta.persistence.AssociationOverride;
@@ -41,14 +44,25 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
+/**
+ * Requirement of a tailoring catalog.
+ * <p>
+ * Requirements taken over unchanged from the base catalog only reference their base requirement. Text and reference
+ * are stored only if changed in the tailoring, drds and applicable documents are always the ones of the base
+ * requirement. A requirement with changed drds or applicable documents is detached from its base requirement and stores
+ * all values itself. The getters of these properties return the effective values.
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -62,7 +76,7 @@ public class TailoringRequirementEntity implements Serializable {
      * Technical ID.
      */
     @Id
-    @TableGenerator(name = "SEQ_TAILORINGREQUIREMENT", table = "SEQUENCE", pkColumnName = "SEQ_NAME", valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGREQUIREMENT", initialValue = 1)
+    @TableGenerator(name = "SEQ_TAILORINGREQUIREMENT", table = "SEQUENCE", pkColumnName = "SEQ_NAME", valueColumnName = "SEQ_COUNT", pkColumnValue = "SEQ_TAILORINGREQUIREMENT", initialValue = 1, allocationSize = IdentifierAllocationSize.BULK)
     @GeneratedValue(strategy = TABLE, generator = "SEQ_TAILORINGREQUIREMENT")
     @Column(name = "REQUIREMENT_ID")
     private Long id;
@@ -127,4 +141,82 @@ public class TailoringRequirementEntity implements Serializable {
      */
     @Column(name = "NUMBER")
     private String number;
+
+    /**
+     * Technical ID of tailoring requirement belongs to.
+     * Maintained by database statements only, see <code>TailoringCatalogChapterRepository</code>.
+     */
+    @Column(name = "TAILORING_ID", insertable = false, updatable = false)
+    private Long tailoringId;
+
+    /**
+     * Materialized path of chapter requirement belongs to, e.g. <code>1.2.</code>.
+     * Maintained by database statements only, see <code>TailoringCatalogChapterRepository</code>.
+     */
+    @Column(name = "PATH", insertable = false, updatable = false)
+    private String path;
+
+    /**
+     * Base requirement the requirement has been taken over unchanged from.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "BASEREQUIREMENT_ID", referencedColumnName = "REQUIREMENT_ID")
+    private BaseRequirementEntity baseRequirement;
+
+    /**
+     * Effective text of the requirement.
+     *
+     * @return changed text or text of base requirement if not changed
+     */
+    public String getText() {
+        return isNull(text) && nonNull(baseRequirement) ? baseRequirement.getText() : text;
+    }
+
+    /**
+     * Set text of requirement. Only stored if different to text of base requirement.
+     *
+     * @param text text to set
+     */
+    public void setText(String text) {
+        this.text = nonNull(baseRequirement) && Objects.equals(text, baseRequirement.getText()) ? null : text;
+    }
+
+    /**
+     * Effective reference of the requirement.
+     *
+     * @return changed reference or reference of base requirement if not changed
+     */
+    public ReferenceEntity getReference() {
+        return isNull(reference) && nonNull(baseRequirement) ? baseRequirement.getReference() : reference;
+    }
+
+    /**
+     * Set reference of requirement. Only stored if different to reference of base requirement.
+     *
+     * @param reference reference to set
+     */
+    public void setReference(ReferenceEntity reference) {
+        this.reference = nonNull(baseRequirement) && Objects.equals(reference, baseRequirement.getReference()) ?
+            null : reference;
+    }
+
+    /**
+     * Effective applicable documents of the requirement.
+     *
+     * @return applicable documents of base requirement if referenced, otherwise own ones
+     */
+    public List<ApplicableDocumentEntity> getApplicableDocuments() {
+        return nonNull(baseRequirement) ? baseRequirement.getApplicableDocuments() : applicableDocuments;
+    }
+
+    /**
+     * Effective drds of the requirement.
+     *
+     * @return drds of base requirement if referenced, otherwise own ones
+     */
+    public Set<DRDEntity> getDrds() {
+        return nonNull(baseRequirement) ? baseRequirement.getDrds() : drds;
+    }
 }
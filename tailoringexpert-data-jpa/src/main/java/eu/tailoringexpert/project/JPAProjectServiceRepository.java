@@ -23,30 +23,60 @@ package eu.tailoringexpert.project;
 
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.catalog.BaseCatalogSnapshotCache;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseCatalogSnapshot;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.Phase;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationFilter;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
 import eu.tailoringexpert.domain.ProjectState;
+import eu.tailoringexpert.domain.PurgeJobEntity;
+import eu.tailoringexpert.domain.ResultPage;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformation;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
+import eu.tailoringexpert.domain.TailoringPhaseProjection;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
+import eu.tailoringexpert.tailoring.BaseRequirementReferenceHandler;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.cache.annotation.Cacheable;
-
-import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
+import static eu.tailoringexpert.domain.PurgeState.PENDING;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 /**
  * Implementation of {@link ProjectServiceRepository}.
@@ -58,7 +88,7 @@ import static java.util.Optional.ofNullable;
 @Transactional
 public class JPAProjectServiceRepository implements ProjectServiceRepository {
 
-    public static final String CACHE_BASECATALOG = "ProjectServiceRepository#BaseCatalog";
+    private static final Set<String> SORTABLE_PROJECT_PROPERTIES = Set.of("identifier", "creationTimestamp", "state");
 
     @NonNull
     private JPAProjectServiceRepositoryMapper mapper;
@@ -69,16 +99,36 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
     @NonNull
     private BaseCatalogRepository baseCatalogRepository;
 
+    @NonNull
+    private BaseCatalogChapterRepository baseCatalogChapterRepository;
+
+    @NonNull
+    private TailoringCatalogChapterRepository tailoringCatalogChapterRepository;
+
+    @NonNull
+    private BaseRequirementReferenceHandler baseRequirementReferenceHandler;
+
+    @NonNull
+    private BaseCatalogSnapshotCache snapshotCache;
+
+    @NonNull
+    private PurgeJobRepository purgeJobRepository;
+
     /**
      * {@inheritDoc}
      */
-    @Cacheable(CACHE_BASECATALOG)
     @Override
+    @Transactional(readOnly = true)
     public Catalog<BaseRequirement> getBaseCatalog(String version) {
         log.traceEntry(() -> version);
 
-        BaseCatalogEntity entity = baseCatalogRepository.findByVersion(version, BaseCatalogEntity.class);
-        Catalog<BaseRequirement> result = mapper.toDomain(entity);
+        Catalog<BaseRequirement> result = snapshotCache.get(version, catalogVersion -> {
+                BaseCatalogEntity entity = baseCatalogRepository.findByVersion(catalogVersion, BaseCatalogEntity.class);
+                baseCatalogChapterRepository.loadCatalog(entity);
+                return ofNullable(mapper.toDomain(entity));
+            })
+            .map(BaseCatalogSnapshot::getCatalog)
+            .orElse(null);
 
         log.traceExit();
         return result;
@@ -92,7 +142,15 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
         log.traceEntry(project::getIdentifier);
 
         ProjectEntity toSave = mapper.createProject(project);
+        if (nonNull(toSave.getTailorings())) {
+            toSave.getTailorings().forEach(tailoring -> baseRequirementReferenceHandler.accept(tailoring.getCatalog()));
+        }
         toSave = projectRepository.save(toSave);
+        projectRepository.flush();
+        if (nonNull(toSave.getTailorings())) {
+            toSave.getTailorings().forEach(tailoring -> tailoringCatalogChapterRepository.updateTailoringPath(
+                tailoring.getId(), tailoring.getCatalog()));
+        }
         Project result = mapper.toDomain(toSave);
 
         log.traceExit();
@@ -105,8 +163,38 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
     @Override
     public boolean deleteProject(String project) {
         log.traceEntry(() -> project);
-        Long deletedProjekte = projectRepository.deleteByIdentifier(project);
-        return log.traceExit(deletedProjekte.intValue() > 0);
+
+        ProjectEntity toDelete = projectRepository.findByIdentifier(project);
+        if (isNull(toDelete)) {
+            return log.traceExit(false);
+        }
+
+        // project is only marked as deleted, its data is removed by the purge starting with its tailorings
+        ZonedDateTime now = ZonedDateTime.now();
+        List<PurgeJobEntity> jobs = toDelete.getTailorings()
+            .stream()
+            .map(tailoring -> PurgeJobEntity.builder()
+                .projectId(toDelete.getId())
+                .tailoringId(tailoring.getId())
+                .project(project)
+                .tailoring(tailoring.getName())
+                .identifier(tailoring.getIdentifier())
+                .state(PENDING)
+                .purgedRows(0L)
+                .creationTimestamp(now)
+                .build())
+            .collect(toCollection(ArrayList::new));
+        jobs.add(PurgeJobEntity.builder()
+            .projectId(toDelete.getId())
+            .project(project)
+            .state(PENDING)
+            .purgedRows(0L)
+            .creationTimestamp(now)
+            .build());
+        purgeJobRepository.saveAll(jobs);
+        projectRepository.markDeleted(toDelete.getId(), now);
+
+        return log.traceExit(true);
     }
 
     /**
@@ -129,10 +217,12 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
 
         ProjectEntity eProject = projectRepository.findByIdentifier(project);
         TailoringEntity eTailoring = mapper.toEntity(tailoring);
+        baseRequirementReferenceHandler.accept(eTailoring.getCatalog());
 
         eProject.getTailorings().add(eTailoring);
 
         projectRepository.flush();
+        tailoringCatalogChapterRepository.updateTailoringPath(eTailoring.getId(), eTailoring.getCatalog());
         Optional<Tailoring> result = ofNullable(mapper.toDomain(eTailoring));
 
         log.traceExit();
@@ -143,13 +233,34 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
      * {@inheritDoc}
      */
     @Override
-    public Collection<ProjectInformation> getProjectInformations() {
-        log.traceEntry();
-
-        List<ProjectInformation> result = projectRepository.findAll()
-            .stream()
-            .map(mapper::getProjectInformationen)
-            .toList();
+    @Transactional(readOnly = true)
+    public ResultPage<ProjectInformation> getProjectInformations(ProjectInformationFilter filter) {
+        log.traceEntry(() -> filter);
+
+        Sort sort = Sort.by(
+            filter.isDescending() ? DESC : ASC,
+            SORTABLE_PROJECT_PROPERTIES.contains(filter.getSort()) ? filter.getSort() : ProjectInformationFilter.DEFAULT_SORT);
+        Page<ProjectInformationProjection> projects = projectRepository.findProjectInformations(
+            filter.getState(),
+            filter.getCatalogVersion(),
+            PageRequest.of(max(filter.getPage(), 0), filter.getSize() > 0 ?
+                min(filter.getSize(), ProjectInformationFilter.MAX_SIZE) : ProjectInformationFilter.DEFAULT_SIZE, sort));
+
+        Map<Long, List<TailoringInformation>> tailorings = getTailoringInformations(projects.getContent());
+        ResultPage<ProjectInformation> result = ResultPage.<ProjectInformation>builder()
+            .content(projects.getContent()
+                .stream()
+                .map(project -> ProjectInformation.builder()
+                    .identifier(project.getIdentifier())
+                    .creationTimestamp(project.getCreationTimestamp())
+                    .state(project.getState())
+                    .tailorings(tailorings.getOrDefault(project.getId(), List.of()))
+                    .build())
+                .toList())
+            .page(projects.getNumber())
+            .size(projects.getSize())
+            .totalElements(projects.getTotalElements())
+            .build();
 
         log.traceExit();
         return result;
@@ -159,6 +270,7 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<ProjectInformation> getProjectInformation(String project) {
         log.traceEntry(() -> project);
         Optional<ProjectInformation> result = ofNullable(mapper.getProjectInformationen(projectRepository.findByIdentifier(project)));
@@ -170,16 +282,17 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<byte[]> getScreeningSheetFile(String project) {
         log.traceEntry(() -> project);
 
         ProjectEntity entity = projectRepository.findByIdentifier(project);
-        if (isNull(entity)) {
+        if (isNull(entity) || isNull(entity.getScreeningSheet()) || isNull(entity.getScreeningSheet().getFile())) {
             log.traceExit();
             return empty();
         }
 
-        Optional<byte[]> result = Optional.of(entity.getScreeningSheet().getData());
+        Optional<byte[]> result = ofNullable(entity.getScreeningSheet().getFile().getData());
 
         log.traceExit();
         return result;
@@ -232,4 +345,42 @@ public class JPAProjectServiceRepository implements ProjectServiceRepository {
         log.traceEntry(() -> project);
         return log.traceExit(projectRepository.existsProjectByIdentifier(project));
     }
+
+    /**
+     * Load overview columns of the tailorings of the projects with one query for tailorings and one for their phases.
+     *
+     * @param projects projects to load tailorings of
+     * @return tailorings of the projects in tailoring order, grouped by project id
+     */
+    private Map<Long, List<TailoringInformation>> getTailoringInformations(Collection<ProjectInformationProjection> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+
+        List<TailoringInformationProjection> tailorings = projectRepository.findTailoringInformations(projects
+            .stream()
+            .map(ProjectInformationProjection::getId)
+            .toList());
+        if (tailorings.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<Phase>> phases = projectRepository.findTailoringPhases(tailorings
+                .stream()
+                .map(TailoringInformationProjection::getId)
+                .toList())
+            .stream()
+            .collect(groupingBy(TailoringPhaseProjection::getTailoringId, mapping(TailoringPhaseProjection::getPhase, toList())));
+
+        return tailorings.stream()
+            .collect(groupingBy(
+                TailoringInformationProjection::getProjectId,
+                LinkedHashMap::new,
+                mapping(tailoring -> TailoringInformation.builder()
+                    .name(tailoring.getName())
+                    .catalogVersion(tailoring.getCatalogVersion())
+                    .state(tailoring.getState())
+                    .phases(phases.getOrDefault(tailoring.getId(), List.of()))
+                    .build(), toList())));
+    }
 }
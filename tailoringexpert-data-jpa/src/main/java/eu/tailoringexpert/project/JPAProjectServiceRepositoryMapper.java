@@ -36,6 +36,7 @@ import eu.tailoringexpert.domain.ProjectEntity;
 import eu.tailoringexpert.domain.ProjectInformation;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
+import eu.tailoringexpert.domain.ScreeningSheetFileEntity;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
 import eu.tailoringexpert.domain.TailoringEntity;
@@ -73,7 +74,6 @@ public abstract class JPAProjectServiceRepositoryMapper {
     @Setter
     private ApplicableDocumentRepository applicableDocumentRepository;
 
-    @Mapping(target = "screeningSheet.data", source = "entity.screeningSheet.data")
     abstract Project toDomain(ProjectEntity entity);
 
     @Mapping(target = "creationTimestamp", expression = "java( java.time.ZonedDateTime.now())")
@@ -110,6 +110,13 @@ public abstract class JPAProjectServiceRepositoryMapper {
     @Mapping(target = "data", ignore = true)
     abstract ScreeningSheet getScreeningSheet(ScreeningSheetEntity entity);
 
+    @Mapping(target = "file", source = "data")
+    abstract ScreeningSheetEntity toEntity(ScreeningSheet domain);
+
+    ScreeningSheetFileEntity toScreeningSheetFile(byte[] data) {
+        return nonNull(data) ? ScreeningSheetFileEntity.builder().data(data).build() : null;
+    }
+
     BaseCatalogEntity resolve(Catalog<BaseRequirement> domain) {
         return nonNull(domain) ? baseCatalogRepository.findByVersion(domain.getVersion(), BaseCatalogEntity.class) : null;
     }
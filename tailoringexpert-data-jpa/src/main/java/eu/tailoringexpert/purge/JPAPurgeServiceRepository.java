@@ -0,0 +1,221 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.domain.PurgeJob;
+import eu.tailoringexpert.domain.PurgeJobEntity;
+import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
+import eu.tailoringexpert.repository.ScreeningSheetRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static eu.tailoringexpert.domain.PurgeState.COMPLETED;
+import static eu.tailoringexpert.domain.PurgeState.FAILED;
+import static eu.tailoringexpert.domain.PurgeState.RUNNING;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Implementation of {@link PurgeServiceRepository}.
+ * <p>
+ * Data of a deleted tailoring is purged in the order requirements (including their changes and references),
+ * chapters and finally the tailoring itself. Each call of {@link #purge(Long, int)} deletes at most one batch
+ * with set based statements, so no catalog entities are loaded.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+@RequiredArgsConstructor
+@Transactional
+public class JPAPurgeServiceRepository implements PurgeServiceRepository {
+
+    @NonNull
+    private JPAPurgeServiceRepositoryMapper mapper;
+
+    @NonNull
+    private PurgeJobRepository purgeJobRepository;
+
+    @NonNull
+    private ProjectRepository projectRepository;
+
+    @NonNull
+    private TailoringRepository tailoringRepository;
+
+    @NonNull
+    private TailoringCatalogChapterRepository tailoringCatalogChapterRepository;
+
+    @NonNull
+    private TailoringRequirementRepository tailoringRequirementRepository;
+
+    @NonNull
+    private TailoringRequirementChangeRepository tailoringRequirementChangeRepository;
+
+    @NonNull
+    private ScreeningSheetRepository screeningSheetRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Collection<PurgeJob> getOpenPurgeJobs() {
+        log.traceEntry();
+        return log.traceExit(purgeJobRepository.findByStateNotOrderById(COMPLETED)
+            .stream()
+            .map(mapper::toDomain)
+            .toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int purge(Long job, int batchSize) {
+        log.traceEntry(() -> job, () -> batchSize);
+
+        PurgeJobEntity entity = purgeJobRepository.findById(job).orElse(null);
+        if (isNull(entity) || COMPLETED == entity.getState()) {
+            return log.traceExit(0);
+        }
+
+        int result = nonNull(entity.getTailoringId()) ?
+            purgeTailoring(entity.getTailoringId(), batchSize) :
+            purgeProject(entity.getProjectId(), batchSize);
+        purgeJobRepository.updateProgress(job, RUNNING, result);
+
+        return log.traceExit(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsTailoringIdentifier(String project, String identifier) {
+        log.traceEntry(() -> project, () -> identifier);
+        return log.traceExit(projectRepository.existsTailoringIdentifier(project, identifier));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<PurgeJob> completePurgeJob(Long job) {
+        log.traceEntry(() -> job);
+
+        Optional<PurgeJob> result = purgeJobRepository.findById(job)
+            .map(entity -> {
+                entity.setState(COMPLETED);
+                entity.setCompletionTimestamp(ZonedDateTime.now());
+                return mapper.toDomain(entity);
+            });
+
+        return log.traceExit(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<PurgeJob> failPurgeJob(Long job, ZonedDateTime nextAttempt) {
+        log.traceEntry(() -> job, () -> nextAttempt);
+
+        Optional<PurgeJob> result = purgeJobRepository.findById(job)
+            .map(entity -> {
+                entity.setState(FAILED);
+                entity.setFailedAttempts(isNull(entity.getFailedAttempts()) ? 1 : entity.getFailedAttempts() + 1);
+                entity.setNextAttemptTimestamp(nextAttempt);
+                return mapper.toDomain(entity);
+            });
+
+        return log.traceExit(result);
+    }
+
+    /**
+     * Delete next batch of data of a deleted tailoring.
+     *
+     * @param tailoring technical id of tailoring
+     * @param batchSize maximum number of requirements or chapters to delete
+     * @return number of deleted rows
+     */
+    private int purgeTailoring(Long tailoring, int batchSize) {
+        List<Long> requirements = tailoringRequirementRepository.findPurgeableRequirements(
+            tailoring, PageRequest.of(0, batchSize));
+        if (!requirements.isEmpty()) {
+            return tailoringRequirementChangeRepository.deleteRequirementChanges(requirements) +
+                tailoringRequirementRepository.deleteDRDReferences(requirements) +
+                tailoringRequirementRepository.deleteApplicableDocumentReferences(requirements) +
+                tailoringRequirementRepository.deleteRequirements(requirements);
+        }
+
+        List<Long> chapters = tailoringCatalogChapterRepository.findPurgeableChapters(
+            tailoring, PageRequest.of(0, batchSize));
+        if (!chapters.isEmpty()) {
+            tailoringCatalogChapterRepository.detachChapters(tailoring);
+            return tailoringCatalogChapterRepository.deleteChapters(chapters);
+        }
+
+        // only the tailoring itself with its small dependent data is left
+        return tailoringRepository.findIncludingDeleted(tailoring)
+            .map(entity -> {
+                tailoringRepository.delete(entity);
+                return 1;
+            })
+            .orElse(0);
+    }
+
+    /**
+     * Delete next batch of data of a deleted project.
+     *
+     * @param project   technical id of project
+     * @param batchSize maximum number of requirements or chapters to delete
+     * @return number of deleted rows
+     */
+    private int purgeProject(Long project, int batchSize) {
+        // tailorings of project are purged by their own jobs, remaining ones are purged here
+        List<Long> tailorings = tailoringRepository.findAllTailorings(project);
+        if (!tailorings.isEmpty()) {
+            return purgeTailoring(tailorings.get(0), batchSize);
+        }
+
+        Long screeningSheet = projectRepository.findScreeningSheet(project);
+        int result = projectRepository.deleteMarkedProject(project);
+        if (result > 0 && nonNull(screeningSheet)) {
+            screeningSheetRepository.deleteById(screeningSheet);
+            result++;
+        }
+        return result;
+    }
+}
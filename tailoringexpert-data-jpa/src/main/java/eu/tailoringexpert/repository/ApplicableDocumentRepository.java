@@ -24,6 +24,9 @@ package eu.tailoringexpert.repository;
 import eu.tailoringexpert.domain.ApplicableDocumentEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Spring Data access layer of {@link ApplicableDocumentEntity}.
  *
@@ -38,4 +41,12 @@ public interface ApplicableDocumentRepository extends JpaRepository<ApplicableDo
      * @return loaded document
      */
     ApplicableDocumentEntity findByTitleAndIssueAndRevision(String title, String issue, String revision);
+
+    /**
+     * Load all documents (of any issue and revision) of the provided titles.
+     *
+     * @param titles titles of documents to load
+     * @return loaded documents
+     */
+    List<ApplicableDocumentEntity> findByTitleIn(Collection<String> titles);
 }
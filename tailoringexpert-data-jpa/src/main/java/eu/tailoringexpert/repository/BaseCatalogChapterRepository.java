@@ -0,0 +1,180 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
+import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseRequirementEntity;
+import jakarta.persistence.PersistenceUtil;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+import static jakarta.persistence.Persistence.getPersistenceUtil;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Spring Data access layer of {@link BaseCatalogChapterEntity}.
+ *
+ * @author Michael Bädorf
+ */
+public interface BaseCatalogChapterRepository extends JpaRepository<BaseCatalogChapterEntity, Long> {
+
+    /**
+     * Load the complete chapter tree of a catalog, see {@link #loadTree(Long)}.
+     * Catalogs already loaded completely (e.g. cached ones) are not loaded again.
+     *
+     * @param catalog catalog to load chapter tree of
+     */
+    default void loadCatalog(BaseCatalogEntity catalog) {
+        if (nonNull(catalog) && nonNull(catalog.getToc()) && !isLoaded(getPersistenceUtil(), catalog.getToc())) {
+            loadTree(catalog.getToc().getId());
+        }
+    }
+
+    /**
+     * Checks if chapter, its subchapters and requirements are loaded including all their lazy collections.
+     *
+     * @param util    utility to check load state
+     * @param chapter chapter to check
+     * @return true, if the complete tree of chapter is loaded
+     */
+    private boolean isLoaded(PersistenceUtil util, BaseCatalogChapterEntity chapter) {
+        if (!util.isLoaded(chapter) || !util.isLoaded(chapter, "chapters") || !util.isLoaded(chapter, "requirements")) {
+            return false;
+        }
+
+        boolean requirementsLoaded = isNull(chapter.getRequirements()) || chapter.getRequirements()
+            .stream()
+            .allMatch(requirement -> util.isLoaded(requirement, "identifiers") &&
+                util.isLoaded(requirement, "phases") &&
+                util.isLoaded(requirement, "drds") &&
+                util.isLoaded(requirement, "applicableDocuments"));
+        return requirementsLoaded && (isNull(chapter.getChapters()) || chapter.getChapters()
+            .stream()
+            .allMatch(subChapter -> isLoaded(util, subChapter)));
+    }
+
+    /**
+     * Load the complete chapter tree of a base catalog including requirements, identifiers, phases, drds and
+     * applicable documents with a fixed number of queries.
+     * All lazy collections of the tree are initialized afterwards, so it can be traversed without further queries.
+     *
+     * @param toc technical id of table of contents of catalog
+     * @return loaded table of contents
+     */
+    default BaseCatalogChapterEntity loadTree(Long toc) {
+        Collection<Long> chapters = findChapterTree(toc);
+        if (chapters.isEmpty()) {
+            return null;
+        }
+
+        List<BaseCatalogChapterEntity> result = fetchChapters(chapters);
+        fetchRequirements(chapters);
+        fetchRequirementIdentifiers(chapters);
+        fetchRequirementPhases(chapters);
+        fetchRequirementDRDs(chapters);
+        fetchRequirementApplicableDocuments(chapters);
+        return result.stream()
+            .filter(chapter -> toc.equals(chapter.getId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Load technical ids of a chapter and all of its (sub)chapters.
+     *
+     * @param toc technical id of root chapter
+     * @return ids of all chapters of tree
+     */
+    @Query(nativeQuery = true, value = "WITH RECURSIVE CHAPTERTREE (CHAPTER_ID) AS ("
+        + " SELECT CHAPTER_ID FROM BASECATALOGCHAPTER WHERE CHAPTER_ID = :toc"
+        + " UNION ALL"
+        + " SELECT c.CHAPTER_ID FROM BASECATALOGCHAPTER c"
+        + " INNER JOIN CHAPTERTREE parent ON c.PARENTCHAPTER_ID = parent.CHAPTER_ID"
+        + ")"
+        + " SELECT CHAPTER_ID FROM CHAPTERTREE")
+    List<Long> findChapterTree(@Param("toc") Long toc);
+
+    /**
+     * Load chapters with initialized subchapters.
+     *
+     * @param chapters technical ids of chapters to load
+     * @return loaded chapters
+     */
+    @Query("select c from BaseCatalogChapter c left join fetch c.chapters where c.id in :chapters")
+    List<BaseCatalogChapterEntity> fetchChapters(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load chapters with initialized requirements.
+     *
+     * @param chapters technical ids of chapters to load
+     * @return loaded chapters
+     */
+    @Query("select c from BaseCatalogChapter c left join fetch c.requirements where c.id in :chapters")
+    List<BaseCatalogChapterEntity> fetchRequirements(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load requirements of chapters with initialized identifiers and their limitations.
+     *
+     * @param chapters technical ids of chapters to load requirements of
+     * @return loaded requirements
+     */
+    @Query("select r from BaseCatalogChapter c inner join c.requirements r"
+        + " left join fetch r.identifiers i left join fetch i.limitations"
+        + " where c.id in :chapters")
+    List<BaseRequirementEntity> fetchRequirementIdentifiers(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load requirements of chapters with initialized phases.
+     *
+     * @param chapters technical ids of chapters to load requirements of
+     * @return loaded requirements
+     */
+    @Query("select r from BaseCatalogChapter c inner join c.requirements r left join fetch r.phases"
+        + " where c.id in :chapters")
+    List<BaseRequirementEntity> fetchRequirementPhases(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load requirements of chapters with initialized drds.
+     *
+     * @param chapters technical ids of chapters to load requirements of
+     * @return loaded requirements
+     */
+    @Query("select r from BaseCatalogChapter c inner join c.requirements r left join fetch r.drds"
+        + " where c.id in :chapters")
+    List<BaseRequirementEntity> fetchRequirementDRDs(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load requirements of chapters with initialized applicable documents.
+     *
+     * @param chapters technical ids of chapters to load requirements of
+     * @return loaded requirements
+     */
+    @Query("select r from BaseCatalogChapter c inner join c.requirements r left join fetch r.applicableDocuments"
+        + " where c.id in :chapters")
+    List<BaseRequirementEntity> fetchRequirementApplicableDocuments(@Param("chapters") Collection<Long> chapters);
+}
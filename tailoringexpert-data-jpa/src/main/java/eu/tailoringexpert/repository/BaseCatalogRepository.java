@@ -41,7 +41,6 @@ import java.util.Collection;
  */
 public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity, Long> {
 
-    String CACHE_BASECATALOG = "BaseCatalogRepository#BaseCatalog";
     String CACHE_BASECATALOGLIST = "BaseCatalogRepository#BaseCatalogList";
 
     /**
@@ -51,7 +50,6 @@ public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity,
      * @param <T> clz type of query result ot return
      * @return loaded base catalog
      */
-    @Cacheable(CACHE_BASECATALOG)
     <T> T findByVersion(String version, Class<T> clz);
 
     /**
@@ -77,7 +75,7 @@ public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity,
      * @return saved base catalog
      */
     @Override
-    @CacheEvict(value = {CACHE_BASECATALOGLIST, CACHE_BASECATALOG}, allEntries = true)
+    @CacheEvict(value = CACHE_BASECATALOGLIST, allEntries = true)
     <S extends BaseCatalogEntity> S save(S entity);
 
     /**
@@ -98,7 +96,7 @@ public interface BaseCatalogRepository extends JpaRepository<BaseCatalogEntity,
     @Transactional
     @Modifying
     @Query("update #{#entityName} c set c.validUntil=:validUntil where c.version=:version")
-    @CacheEvict(value = {CACHE_BASECATALOGLIST, CACHE_BASECATALOG}, allEntries = true)
+    @CacheEvict(value = CACHE_BASECATALOGLIST, allEntries = true)
     int setValidUntilForVersion(@Param("version") String version, @Param("validUntil") ZonedDateTime pointOfTime);
 
     /**
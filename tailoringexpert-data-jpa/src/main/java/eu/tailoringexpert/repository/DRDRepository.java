@@ -24,6 +24,9 @@ package eu.tailoringexpert.repository;
 import eu.tailoringexpert.domain.DRDEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Spring Data access layer of {@link DRDEntity}.
  *
@@ -39,4 +42,12 @@ public interface DRDRepository extends JpaRepository<DRDEntity, Long> {
      */
     DRDEntity findByNumber(String number);
 
+    /**
+     * Load all DRDs of the provided numbers.
+     *
+     * @param numbers numbers of DRDs to load
+     * @return loaded DRDs
+     */
+    List<DRDEntity> findByNumberIn(Collection<String> numbers);
+
 }
@@ -22,12 +22,23 @@
 package eu.tailoringexpert.repository;
 
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
+import eu.tailoringexpert.domain.ProjectState;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
+import eu.tailoringexpert.domain.TailoringPhaseProjection;
 import eu.tailoringexpert.domain.TailoringState;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Spring Data access layer of {@link ProjectEntity}.
  *
@@ -88,4 +99,89 @@ public interface ProjectRepository extends JpaRepository<ProjectEntity, Long> {
      */
     boolean existsProjectByIdentifier(String project);
 
+    /**
+     * Load a page of the overview columns of projects.
+     *
+     * @param state   state of projects to load, <code>null</code> for all states
+     * @param catalog catalog version at least one tailoring of the project has to use, <code>null</code> for all
+     *                versions
+     * @param page    page and sorting to load
+     * @return loaded page of projects
+     */
+    @Query(value = "select p.id as id, p.identifier as identifier, p.creationTimestamp as creationTimestamp, p.state as state"
+        + " from #{#entityName} p"
+        + " where (:state is null or p.state = :state)"
+        + " and (:catalog is null or exists (select t.id from p.tailorings t where t.catalog.version = :catalog))",
+        countQuery = "select count(p) from #{#entityName} p"
+            + " where (:state is null or p.state = :state)"
+            + " and (:catalog is null or exists (select t.id from p.tailorings t where t.catalog.version = :catalog))")
+    Page<ProjectInformationProjection> findProjectInformations(
+        @Param("state") ProjectState state,
+        @Param("catalog") String catalog,
+        Pageable page);
+
+    /**
+     * Load the overview columns of the tailorings of projects.
+     *
+     * @param projects ids of projects to load tailorings of
+     * @return tailorings ordered by project and tailoring order of project
+     */
+    @Query("select p.id as projectId, t.id as id, t.name as name, c.version as catalogVersion, t.state as state"
+        + " from #{#entityName} p inner join p.tailorings t left join t.catalog c"
+        + " where p.id in :projects"
+        + " order by p.id, index(t)")
+    List<TailoringInformationProjection> findTailoringInformations(@Param("projects") Collection<Long> projects);
+
+    /**
+     * Load the phases of tailorings.
+     *
+     * @param tailorings ids of tailorings to load phases of
+     * @return phases ordered by tailoring and phase order of tailoring
+     */
+    @Query("select t.id as tailoringId, ph as phase"
+        + " from Tailoring t inner join t.phases ph"
+        + " where t.id in :tailorings"
+        + " order by t.id, index(ph)")
+    List<TailoringPhaseProjection> findTailoringPhases(@Param("tailorings") Collection<Long> tailorings);
+
+    /**
+     * Checks if a tailoring of a project uses an identifier.
+     *
+     * @param project    identifier of project
+     * @param identifier identifier of tailoring
+     * @return true if identifier is used by a tailoring of the project
+     */
+    @Query("select case when count(t)> 0 then true else false end from #{#entityName} p inner join p.tailorings t where p.identifier=:project and t.identifier=:identifier")
+    boolean existsTailoringIdentifier(@Param("project") String project, @Param("identifier") String identifier);
+
+    /**
+     * Mark a project as deleted.
+     *
+     * @param project technical id of project to delete
+     * @param deleted deletion timestamp
+     * @return number of updated projects
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update #{#entityName} p set p.deletionTimestamp = :deleted where p.id = :project")
+    int markDeleted(@Param("project") Long project, @Param("deleted") ZonedDateTime deleted);
+
+    /**
+     * Load id of screeningsheet of a (deleted) project.
+     *
+     * @param project technical id of project
+     * @return id of screeningsheet
+     */
+    @Query(nativeQuery = true, value = "SELECT SCREENINGSHEET_ID FROM PROJECT WHERE PROJECT_ID = :project")
+    Long findScreeningSheet(@Param("project") Long project);
+
+    /**
+     * Delete a project marked as deleted. Tailorings of the project have to be deleted before.
+     *
+     * @param project technical id of project to delete
+     * @return number of deleted projects
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM PROJECT WHERE PROJECT_ID = :project AND DELETIONTIMESTAMP IS NOT NULL")
+    int deleteMarkedProject(@Param("project") Long project);
+
 }
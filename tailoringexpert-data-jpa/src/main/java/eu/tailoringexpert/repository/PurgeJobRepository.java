@@ -0,0 +1,59 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.PurgeJobEntity;
+import eu.tailoringexpert.domain.PurgeState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Spring Data access layer of {@link PurgeJobEntity}.
+ *
+ * @author Michael Bädorf
+ */
+public interface PurgeJobRepository extends JpaRepository<PurgeJobEntity, Long> {
+
+    /**
+     * Load all jobs not in requested state in order of creation.
+     *
+     * @param state state of jobs not to load
+     * @return loaded jobs
+     */
+    List<PurgeJobEntity> findByStateNotOrderById(PurgeState state);
+
+    /**
+     * Add number of purged rows to a job.
+     *
+     * @param job   technical id of job
+     * @param state state to set
+     * @param rows  number of purged rows to add
+     * @return number of updated jobs
+     */
+    @Modifying
+    @Query("update PurgeJob j set j.state = :state, j.purgedRows = j.purgedRows + :rows where j.id = :job")
+    int updateProgress(@Param("job") Long job, @Param("state") PurgeState state, @Param("rows") long rows);
+}
@@ -0,0 +1,367 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.BaseRequirementEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterProjection;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Spring Data access layer of {@link TailoringCatalogChapterEntity}.
+ *
+ * @author Michael Bädorf
+ */
+public interface TailoringCatalogChapterRepository extends JpaRepository<TailoringCatalogChapterEntity, Long>,
+    TailoringCatalogCursorRepository {
+
+    /**
+     * Load a chapter of a tailoring catalog.
+     *
+     * @param project   project identifier
+     * @param tailoring name of tailoring
+     * @param chapter   (full qualified) number of chapter to load
+     * @return loaded chapter
+     */
+    @Query("select c from TailoringCatalogChapter c, Project p inner join p.tailorings t"
+        + " where p.identifier = :project and t.name = :tailoring"
+        + " and c.tailoringId = t.id and c.path = concat(:chapter, '.')")
+    TailoringCatalogChapterEntity findChapter(
+        @Param("project") String project,
+        @Param("tailoring") String tailoring,
+        @Param("chapter") String chapter);
+
+    /**
+     * Load all chapters of a tailoring catalog except table of contents without requirements and subchapters.
+     *
+     * @param tailoring technical id of tailoring
+     * @return chapters ordered by parent chapter and position in chapter list of parent
+     */
+    @Query("select p.id as parentId, c.id as id, c.name as name, c.number as number, c.position as position"
+        + " from TailoringCatalogChapter p inner join p.chapters c"
+        + " where p.tailoringId = :tailoring"
+        + " order by p.id, index(c)")
+    List<TailoringCatalogChapterProjection> findChapterStructure(@Param("tailoring") Long tailoring);
+
+    /**
+     * Set tailoring and materialized path of all chapters and requirements of a (new) tailoring catalog.
+     * Has to be called after the catalog is flushed. The values are set on the provided (managed) entities as well, as
+     * the update statements bypass the persistence context.
+     *
+     * @param tailoring technical id of tailoring
+     * @param catalog   catalog of tailoring
+     */
+    default void updateTailoringPath(Long tailoring, TailoringCatalogEntity catalog) {
+        if (nonNull(catalog) && nonNull(catalog.getToc())) {
+            List<Long> chapters = catalog.getToc().allChapters()
+                .map(TailoringCatalogChapterEntity::getId)
+                .toList();
+            updateChapterTailoringPath(tailoring, chapters);
+            updateRequirementTailoringPath(tailoring, chapters);
+
+            catalog.getToc().allChapters().forEach(chapter -> {
+                chapter.setTailoringId(tailoring);
+                chapter.setPath(chapter == catalog.getToc() ? "" : chapter.getNumber() + ".");
+                if (nonNull(chapter.getRequirements())) {
+                    chapter.getRequirements().forEach(requirement -> {
+                        requirement.setTailoringId(tailoring);
+                        requirement.setPath(chapter.getPath());
+                    });
+                }
+            });
+        }
+    }
+
+    /**
+     * Set tailoring and materialized path of chapters.
+     *
+     * @param tailoring technical id of tailoring
+     * @param chapters  technical ids of chapters to update
+     * @return number of updated chapters
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE TAILORINGCATALOGCHAPTER SET TAILORING_ID = :tailoring,"
+        + " PATH = CASE WHEN PARENTCHAPTER_ID IS NULL THEN '' ELSE CONCAT(NUMBER, '.') END"
+        + " WHERE CHAPTER_ID IN (:chapters)")
+    int updateChapterTailoringPath(@Param("tailoring") Long tailoring, @Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Set tailoring and materialized path of requirements of chapters to the ones of their chapter.
+     *
+     * @param tailoring technical id of tailoring
+     * @param chapters  technical ids of chapters to update requirements of
+     * @return number of updated requirements
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE TAILORINGREQUIREMENT SET TAILORING_ID = :tailoring,"
+        + " PATH = (SELECT c.PATH FROM TAILORINGCATALOGCHAPTER c WHERE c.CHAPTER_ID = TAILORINGREQUIREMENT.CHAPTER_ID)"
+        + " WHERE CHAPTER_ID IN (:chapters)")
+    int updateRequirementTailoringPath(@Param("tailoring") Long tailoring, @Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load a chapter and all of its (sub)chapters including requirements, drds and applicable documents
+     * as well as referenced base requirements using the materialized path of the chapter.
+     * All lazy collections of the subtree are initialized afterwards, so it can be traversed without further queries.
+     *
+     * @param chapter chapter to load subtree of
+     */
+    default void loadSubtree(TailoringCatalogChapterEntity chapter) {
+        String path = chapter.getPath() + "%";
+        fetchSubtreeChapters(chapter.getTailoringId(), path);
+        fetchSubtreeRequirements(chapter.getTailoringId(), path);
+        fetchSubtreeRequirementDRDs(chapter.getTailoringId(), path);
+        fetchSubtreeRequirementApplicableDocuments(chapter.getTailoringId(), path);
+        fetchSubtreeBaseRequirementApplicableDocuments(chapter.getTailoringId(), path);
+    }
+
+    /**
+     * Load chapters of a subtree with initialized subchapters.
+     *
+     * @param tailoring technical id of tailoring
+     * @param path      path prefix of subtree
+     * @return loaded chapters
+     */
+    @Query("select c from TailoringCatalogChapter c left join fetch c.chapters"
+        + " where c.tailoringId = :tailoring and c.path like :path")
+    List<TailoringCatalogChapterEntity> fetchSubtreeChapters(
+        @Param("tailoring") Long tailoring,
+        @Param("path") String path);
+
+    /**
+     * Load chapters of a subtree with initialized requirements and their base requirements.
+     *
+     * @param tailoring technical id of tailoring
+     * @param path      path prefix of subtree
+     * @return loaded chapters
+     */
+    @Query("select c from TailoringCatalogChapter c left join fetch c.requirements r left join fetch r.baseRequirement"
+        + " where c.tailoringId = :tailoring and c.path like :path")
+    List<TailoringCatalogChapterEntity> fetchSubtreeRequirements(
+        @Param("tailoring") Long tailoring,
+        @Param("path") String path);
+
+    /**
+     * Load requirements of a subtree with initialized drds of requirements and their base requirements.
+     *
+     * @param tailoring technical id of tailoring
+     * @param path      path prefix of subtree
+     * @return loaded requirements
+     */
+    @Query("select r from TailoringRequirement r left join fetch r.drds"
+        + " left join fetch r.baseRequirement b left join fetch b.drds"
+        + " where r.tailoringId = :tailoring and r.path like :path")
+    List<TailoringRequirementEntity> fetchSubtreeRequirementDRDs(
+        @Param("tailoring") Long tailoring,
+        @Param("path") String path);
+
+    /**
+     * Load requirements of a subtree with initialized applicable documents.
+     *
+     * @param tailoring technical id of tailoring
+     * @param path      path prefix of subtree
+     * @return loaded requirements
+     */
+    @Query("select r from TailoringRequirement r left join fetch r.applicableDocuments"
+        + " where r.tailoringId = :tailoring and r.path like :path")
+    List<TailoringRequirementEntity> fetchSubtreeRequirementApplicableDocuments(
+        @Param("tailoring") Long tailoring,
+        @Param("path") String path);
+
+    /**
+     * Load base requirements referenced by requirements of a subtree with initialized applicable documents.
+     *
+     * @param tailoring technical id of tailoring
+     * @param path      path prefix of subtree
+     * @return loaded base requirements
+     */
+    @Query("select b from TailoringRequirement r inner join r.baseRequirement b left join fetch b.applicableDocuments"
+        + " where r.tailoringId = :tailoring and r.path like :path")
+    List<BaseRequirementEntity> fetchSubtreeBaseRequirementApplicableDocuments(
+        @Param("tailoring") Long tailoring,
+        @Param("path") String path);
+
+    /**
+     * Load the complete chapter tree of a catalog, see {@link #loadTree(Long)}.
+     *
+     * @param catalog catalog to load chapter tree of
+     */
+    default void loadCatalog(TailoringCatalogEntity catalog) {
+        if (nonNull(catalog) && nonNull(catalog.getToc())) {
+            loadTree(catalog.getToc().getId());
+        }
+    }
+
+    /**
+     * Load the complete chapter tree of a tailoring catalog including requirements, drds and applicable documents
+     * as well as referenced base requirements with a fixed number of queries.
+     * All lazy collections of the tree are initialized afterwards, so it can be traversed without further queries.
+     *
+     * @param toc technical id of table of contents of catalog
+     * @return loaded table of contents
+     */
+    default TailoringCatalogChapterEntity loadTree(Long toc) {
+        Collection<Long> chapters = findChapterTree(toc);
+        if (chapters.isEmpty()) {
+            return null;
+        }
+
+        List<TailoringCatalogChapterEntity> result = fetchChapters(chapters);
+        fetchRequirements(chapters);
+        fetchRequirementDRDs(chapters);
+        fetchRequirementApplicableDocuments(chapters);
+        fetchBaseRequirementApplicableDocuments(chapters);
+        return result.stream()
+            .filter(chapter -> toc.equals(chapter.getId()))
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Load technical ids of a chapter and all of its (sub)chapters.
+     *
+     * @param toc technical id of root chapter
+     * @return ids of all chapters of tree
+     */
+    @Query(nativeQuery = true, value = "WITH RECURSIVE CHAPTERTREE (CHAPTER_ID) AS ("
+        + " SELECT CHAPTER_ID FROM TAILORINGCATALOGCHAPTER WHERE CHAPTER_ID = :toc"
+        + " UNION ALL"
+        + " SELECT c.CHAPTER_ID FROM TAILORINGCATALOGCHAPTER c"
+        + " INNER JOIN CHAPTERTREE parent ON c.PARENTCHAPTER_ID = parent.CHAPTER_ID"
+        + ")"
+        + " SELECT CHAPTER_ID FROM CHAPTERTREE")
+    List<Long> findChapterTree(@Param("toc") Long toc);
+
+    /**
+     * Load chapters with initialized subchapters.
+     *
+     * @param chapters technical ids of chapters to load
+     * @return loaded chapters
+     */
+    @Query("select c from TailoringCatalogChapter c left join fetch c.chapters where c.id in :chapters")
+    List<TailoringCatalogChapterEntity> fetchChapters(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load chapters with initialized requirements and their base requirements.
+     *
+     * @param chapters technical ids of chapters to load
+     * @return loaded chapters
+     */
+    @Query("select c from TailoringCatalogChapter c left join fetch c.requirements r left join fetch r.baseRequirement"
+        + " where c.id in :chapters")
+    List<TailoringCatalogChapterEntity> fetchRequirements(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load requirements of chapters with initialized drds of requirements and their base requirements.
+     *
+     * @param chapters technical ids of chapters to load requirements of
+     * @return loaded requirements
+     */
+    @Query("select r from TailoringCatalogChapter c inner join c.requirements r left join fetch r.drds"
+        + " left join fetch r.baseRequirement b left join fetch b.drds"
+        + " where c.id in :chapters")
+    List<TailoringRequirementEntity> fetchRequirementDRDs(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load requirements of chapters with initialized applicable documents.
+     *
+     * @param chapters technical ids of chapters to load requirements of
+     * @return loaded requirements
+     */
+    @Query("select r from TailoringCatalogChapter c inner join c.requirements r left join fetch r.applicableDocuments"
+        + " where c.id in :chapters")
+    List<TailoringRequirementEntity> fetchRequirementApplicableDocuments(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Load base requirements referenced by requirements of chapters with initialized applicable documents.
+     *
+     * @param chapters technical ids of chapters to load base requirements of
+     * @return loaded base requirements
+     */
+    @Query("select b from TailoringCatalogChapter c inner join c.requirements r inner join r.baseRequirement b"
+        + " left join fetch b.applicableDocuments where c.id in :chapters")
+    List<BaseRequirementEntity> fetchBaseRequirementApplicableDocuments(@Param("chapters") Collection<Long> chapters);
+
+    /**
+     * Remove all references between the chapters of a tailoring catalog and to its table of contents,
+     * so chapters can be deleted in any order.
+     *
+     * @param tailoring technical id of (deleted) tailoring
+     */
+    default void detachChapters(Long tailoring) {
+        detachTableOfContents(tailoring);
+        detachSubChapters(tailoring);
+    }
+
+    /**
+     * Remove the table of contents of the catalog of a tailoring.
+     *
+     * @param tailoring technical id of (deleted) tailoring
+     * @return number of updated catalogs
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE TAILORINGCATALOG SET CHAPTER_ID = NULL"
+        + " WHERE CATALOG_ID = (SELECT t.TAILORINGCATALOG_ID FROM TAILORING t WHERE t.TAILORING_ID = :tailoring)"
+        + " AND CHAPTER_ID IS NOT NULL")
+    int detachTableOfContents(@Param("tailoring") Long tailoring);
+
+    /**
+     * Remove the parent chapter references of all chapters of a tailoring.
+     *
+     * @param tailoring technical id of (deleted) tailoring
+     * @return number of updated chapters
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE TAILORINGCATALOGCHAPTER SET PARENTCHAPTER_ID = NULL"
+        + " WHERE TAILORING_ID = :tailoring AND PARENTCHAPTER_ID IS NOT NULL")
+    int detachSubChapters(@Param("tailoring") Long tailoring);
+
+    /**
+     * Load ids of chapters of a tailoring to purge.
+     *
+     * @param tailoring technical id of (deleted) tailoring
+     * @param page      maximum number of ids to load
+     * @return ids of chapters
+     */
+    @Query("select c.id from TailoringCatalogChapter c where c.tailoringId = :tailoring")
+    List<Long> findPurgeableChapters(@Param("tailoring") Long tailoring, Pageable page);
+
+    /**
+     * Delete chapters. Requirements of the chapters have to be deleted and the chapters detached before.
+     *
+     * @param chapters technical ids of chapters to delete
+     * @return number of deleted chapters
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM TAILORINGCATALOGCHAPTER WHERE CHAPTER_ID IN (:chapters)")
+    int deleteChapters(@Param("chapters") Collection<Long> chapters);
+}
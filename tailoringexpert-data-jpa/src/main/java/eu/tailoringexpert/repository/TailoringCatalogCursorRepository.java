@@ -0,0 +1,48 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Forward-only read access of the requirements of tailoring catalog chapters.
+ *
+ * @author Michael Bädorf
+ */
+public interface TailoringCatalogCursorRepository {
+
+    /**
+     * Pass all requirements of a tailoring catalog together with the technical id of their chapter to consumer.
+     * Requirements are ordered by chapter id and position in chapter.<p>
+     * Requirements are read using a database cursor. After each {@code fetchSize} passed requirements the
+     * persistence context is cleared, so requirements must be processed by the consumer immediately
+     * and must not be kept. Drds and applicable documents of requirements not referencing a base requirement are
+     * fetched once per block.
+     *
+     * @param tailoring technical id of tailoring
+     * @param fetchSize number of requirements to read from database at once
+     * @param consumer  receiver of chapter id and requirement
+     */
+    void forEachRequirement(Long tailoring, int fetchSize, BiConsumer<Long, TailoringRequirementEntity> consumer);
+}
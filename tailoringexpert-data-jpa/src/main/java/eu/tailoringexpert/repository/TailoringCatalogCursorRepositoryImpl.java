@@ -0,0 +1,124 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Implementation of {@link TailoringCatalogCursorRepository}.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+public class TailoringCatalogCursorRepositoryImpl implements TailoringCatalogCursorRepository {
+
+    private static final String QUERY_REQUIREMENTS = "select c.id, r from TailoringCatalogChapter c"
+        + " inner join c.requirements r left join fetch r.baseRequirement"
+        + " where c.tailoringId = :tailoring"
+        + " order by c.id, index(r)";
+
+    private static final String QUERY_DRDS = "select distinct r from TailoringRequirement r"
+        + " left join fetch r.drds"
+        + " where r.id in :requirements";
+
+    private static final String QUERY_APPLICABLEDOCUMENTS = "select distinct r from TailoringRequirement r"
+        + " left join fetch r.applicableDocuments"
+        + " where r.id in :requirements";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void forEachRequirement(Long tailoring, int fetchSize, BiConsumer<Long, TailoringRequirementEntity> consumer) {
+        log.traceEntry(() -> tailoring, () -> fetchSize);
+
+        try (Stream<Object[]> rows = entityManager.createQuery(QUERY_REQUIREMENTS, Object[].class)
+            .setParameter("tailoring", tailoring)
+            .setHint(HINT_FETCH_SIZE, fetchSize)
+            .setHint(HINT_READ_ONLY, true)
+            .getResultStream()) {
+            List<Object[]> block = new ArrayList<>(fetchSize);
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                block.add(iterator.next());
+                if (block.size() == fetchSize) {
+                    accept(block, consumer);
+                }
+            }
+            accept(block, consumer);
+        }
+
+        log.traceExit();
+    }
+
+    /**
+     * Pass a block of read requirements to consumer and detach them afterwards.
+     * Requirements not referencing a base requirement own their drds and applicable documents, these are fetched for
+     * the whole block at once instead of lazily per requirement.
+     *
+     * @param block    rows of chapter id and requirement, cleared after processing
+     * @param consumer receiver of chapter id and requirement
+     */
+    private void accept(List<Object[]> block, BiConsumer<Long, TailoringRequirementEntity> consumer) {
+        if (block.isEmpty()) {
+            return;
+        }
+
+        Collection<Long> requirements = block.stream()
+            .map(row -> (TailoringRequirementEntity) row[1])
+            .filter(requirement -> isNull(requirement.getBaseRequirement()))
+            .map(TailoringRequirementEntity::getId)
+            .toList();
+        if (!requirements.isEmpty()) {
+            fetch(QUERY_DRDS, requirements);
+            fetch(QUERY_APPLICABLEDOCUMENTS, requirements);
+        }
+
+        block.forEach(row -> consumer.accept((Long) row[0], (TailoringRequirementEntity) row[1]));
+        block.clear();
+        entityManager.clear();
+    }
+
+    private void fetch(String query, Collection<Long> requirements) {
+        entityManager.createQuery(query, TailoringRequirementEntity.class)
+            .setParameter("requirements", requirements)
+            .setHint(HINT_READ_ONLY, true)
+            .getResultList();
+    }
+}
@@ -23,6 +23,13 @@ package eu.tailoringexpert.repository;
 
 import eu.tailoringexpert.domain.TailoringEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data access layer of {@link TailoringEntity}.
@@ -30,4 +37,57 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @author Michael Bädorf
  */
 public interface TailoringRepository extends JpaRepository<TailoringEntity, Long> {
+
+    /**
+     * Mark a tailoring as deleted. Its identifier is released to be used by new tailorings of the project.
+     *
+     * @param tailoring technical id of tailoring to delete
+     * @param deleted   deletion timestamp
+     * @return number of updated tailorings
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Tailoring t set t.deletionTimestamp = :deleted, t.identifier = null where t.id = :tailoring")
+    int markDeleted(@Param("tailoring") Long tailoring, @Param("deleted") ZonedDateTime deleted);
+
+    /**
+     * Close the gap in the tailoring order of a project left by a tailoring marked as deleted.
+     * The order position of the deleted tailoring is released, so it does not collide with the moved tailorings.
+     *
+     * @param project  technical id of project
+     * @param position order position of deleted tailoring
+     * @return number of updated tailorings
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(nativeQuery = true, value = "UPDATE TAILORING"
+        + " SET TAILORING_ORDER = CASE WHEN DELETIONTIMESTAMP IS NULL THEN TAILORING_ORDER - 1 ELSE NULL END"
+        + " WHERE PROJECT_ID = :project AND TAILORING_ORDER >= :position")
+    int closeOrderGap(@Param("project") Long project, @Param("position") int position);
+
+    /**
+     * Load a tailoring regardless of being marked as deleted.
+     *
+     * @param tailoring technical id of tailoring
+     * @return tailoring, if existing
+     */
+    @Query(nativeQuery = true, value = "SELECT * FROM TAILORING WHERE TAILORING_ID = :tailoring")
+    Optional<TailoringEntity> findIncludingDeleted(@Param("tailoring") Long tailoring);
+
+    /**
+     * Load technical id of a tailoring of a project.
+     *
+     * @param project identifier of project
+     * @param name    name of tailoring
+     * @return technical id of tailoring, <code>null</code> if tailoring does not exist
+     */
+    @Query("select t.id from Project p inner join p.tailorings t where p.identifier = :project and t.name = :name")
+    Long findTailoringId(@Param("project") String project, @Param("name") String name);
+
+    /**
+     * Load ids of all tailorings of a project including deleted ones.
+     *
+     * @param project technical id of project
+     * @return ids of tailorings
+     */
+    @Query(nativeQuery = true, value = "SELECT TAILORING_ID FROM TAILORING WHERE PROJECT_ID = :project")
+    List<Long> findAllTailorings(@Param("project") Long project);
 }
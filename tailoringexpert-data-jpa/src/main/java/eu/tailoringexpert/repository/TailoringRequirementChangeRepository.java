@@ -22,13 +22,78 @@
 package eu.tailoringexpert.repository;
 
 import eu.tailoringexpert.domain.TailoringRequirementChangeEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface TailoringRequirementChangeRepository extends JpaRepository<TailoringRequirementChangeEntity, Long> {
 
+    /**
+     * Load a page of changes of a requirement ordered by id.
+     * Ids are allocated in blocks and do not reflect the order of modification, so paging by id is only stable for
+     * already recorded history.
+     *
+     * @param requirement id of requirement
+     * @param from        earliest modification epoch millis (inclusive), <code>null</code> for no lower bound
+     * @param after       id of last change of previous page, <code>null</code> to load first page
+     * @param to          modification epoch millis (exclusive) to load changes until, <code>null</code> for no upper
+     *                    bound
+     * @param page        maximum number of changes to load
+     * @return loaded changes
+     */
     @Transactional(readOnly = true)
-    Collection<TailoringRequirementChangeEntity> findAllByRequirementId(Long requirementId);
+    @Query("select c from TailoringRequirementChangeEntity c"
+        + " where c.requirementId = :requirement"
+        + " and (:after is null or c.id > :after)"
+        + " and (:from is null or c.modificationEpoch >= :from)"
+        + " and (:to is null or c.modificationEpoch < :to)"
+        + " order by c.id")
+    List<TailoringRequirementChangeEntity> findRequirementChanges(
+        @Param("requirement") Long requirement,
+        @Param("from") Long from,
+        @Param("after") Long after,
+        @Param("to") Long to,
+        Pageable page);
+
+    /**
+     * Load a page of changes of all requirements of a tailoring ordered by id.
+     * See {@link #findRequirementChanges(Long, Long, Long, Long, Pageable)} regarding order of ids.
+     *
+     * @param tailoring technical id of tailoring
+     * @param from      earliest modification epoch millis (inclusive), <code>null</code> for no lower bound
+     * @param after     id of last change of previous page, <code>null</code> to load first page
+     * @param to        modification epoch millis (exclusive) to load changes until, <code>null</code> for no upper
+     *                  bound
+     * @param page      maximum number of changes to load
+     * @return loaded changes
+     */
+    @Transactional(readOnly = true)
+    @Query("select c from TailoringRequirementChangeEntity c"
+        + " where c.requirementId in (select r.id from TailoringRequirement r where r.tailoringId = :tailoring)"
+        + " and (:after is null or c.id > :after)"
+        + " and (:from is null or c.modificationEpoch >= :from)"
+        + " and (:to is null or c.modificationEpoch < :to)"
+        + " order by c.id")
+    List<TailoringRequirementChangeEntity> findTailoringChanges(
+        @Param("tailoring") Long tailoring,
+        @Param("from") Long from,
+        @Param("after") Long after,
+        @Param("to") Long to,
+        Pageable page);
+
+    /**
+     * Delete all changes of requirements.
+     *
+     * @param requirements technical ids of requirements to delete changes of
+     * @return number of deleted changes
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM TAILORINGREQUIREMENTCHANGE WHERE REQUIREMENT_ID IN (:requirements)")
+    int deleteRequirementChanges(@Param("requirements") Collection<Long> requirements);
 }
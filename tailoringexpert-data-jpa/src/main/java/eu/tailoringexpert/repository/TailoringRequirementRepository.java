@@ -0,0 +1,131 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data access layer of {@link TailoringRequirementEntity}.
+ *
+ * @author Michael Bädorf
+ */
+public interface TailoringRequirementRepository extends JpaRepository<TailoringRequirementEntity, Long> {
+
+    /**
+     * Load a requirement of a tailoring catalog chapter.
+     *
+     * @param chapter id of chapter requirement belongs to
+     * @param number  (full qualified) number of requirement, i.e. chapter number and position
+     * @return loaded requirement
+     */
+    @Query("select r from TailoringCatalogChapter c inner join c.requirements r where c.id=:chapter and r.number=:number")
+    TailoringRequirementEntity findRequirement(@Param("chapter") Long chapter, @Param("number") String number);
+
+    /**
+     * Load ids of all requirements of a tailoring catalog subtree, whose selection state differs from the
+     * requested one.
+     *
+     * @param tailoring technical id of tailoring
+     * @param path      path prefix of subtree
+     * @param selected  requested selection state
+     * @return ids of requirements to change
+     */
+    @Query("select r.id from TailoringRequirement r"
+        + " where r.tailoringId = :tailoring and r.path like :path and r.selected <> :selected")
+    List<Long> findSelectionChanges(
+        @Param("tailoring") Long tailoring,
+        @Param("path") String path,
+        @Param("selected") Boolean selected);
+
+    /**
+     * Set selection state of all requirements of a tailoring catalog subtree with a single statement.
+     * <p>
+     * Only requirements with a differing state are changed. As with a single requirement the selection change
+     * timestamp of a changed requirement is set, if not set yet, otherwise it will be reset because the
+     * requirement returns to its original state.
+     *
+     * @param tailoring technical id of tailoring
+     * @param path      path prefix of subtree
+     * @param selected  selection state to set
+     * @param changed   timestamp of selection change
+     * @return number of updated requirements
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update TailoringRequirement r"
+        + " set r.selected = :selected,"
+        + " r.selectionChanged = case when r.selectionChanged is null then :changed else null end"
+        + " where r.tailoringId = :tailoring and r.path like :path and r.selected <> :selected")
+    int updateSelected(
+        @Param("tailoring") Long tailoring,
+        @Param("path") String path,
+        @Param("selected") Boolean selected,
+        @Param("changed") ZonedDateTime changed);
+
+    /**
+     * Load ids of requirements of a tailoring to purge.
+     *
+     * @param tailoring technical id of (deleted) tailoring
+     * @param page      maximum number of ids to load
+     * @return ids of requirements
+     */
+    @Query("select r.id from TailoringRequirement r where r.tailoringId = :tailoring")
+    List<Long> findPurgeableRequirements(@Param("tailoring") Long tailoring, Pageable page);
+
+    /**
+     * Delete the drd references of requirements.
+     *
+     * @param requirements technical ids of requirements
+     * @return number of deleted references
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM TAILORINGREQUIREMENT_DRD WHERE REQUIREMENT_ID IN (:requirements)")
+    int deleteDRDReferences(@Param("requirements") Collection<Long> requirements);
+
+    /**
+     * Delete the applicable document references of requirements.
+     *
+     * @param requirements technical ids of requirements
+     * @return number of deleted references
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM TAILORINGREQUIREMENT_APPLICABLEDOC WHERE REQUIREMENT_ID IN (:requirements)")
+    int deleteApplicableDocumentReferences(@Param("requirements") Collection<Long> requirements);
+
+    /**
+     * Delete requirements. Changes and references of the requirements have to be deleted before.
+     *
+     * @param requirements technical ids of requirements to delete
+     * @return number of deleted requirements
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM TAILORINGREQUIREMENT WHERE REQUIREMENT_ID IN (:requirements)")
+    int deleteRequirements(@Param("requirements") Collection<Long> requirements);
+}
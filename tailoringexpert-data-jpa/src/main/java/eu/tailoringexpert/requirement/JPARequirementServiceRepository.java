@@ -21,28 +21,35 @@
  */
 package eu.tailoringexpert.requirement;
 
-import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiConsumer;
 
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
-import eu.tailoringexpert.domain.TailoringEntity;
 import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringRequirementChangeEntity;
 import eu.tailoringexpert.domain.TailoringRequirementEntity;
-import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
 import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
 import jakarta.transaction.Transactional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.PageRequest;
 
 /**
  * Implementation of {@link RequirementServiceRepository}.
@@ -58,13 +65,19 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
     private JPARequirementServiceRepositoryMapper mapper;
 
     @NonNull
-    private ProjectRepository projectRepository;
+    private TailoringCatalogChapterRepository tailoringCatalogChapterRepository;
+
+    @NonNull
+    private TailoringRequirementRepository tailoringRequirementRepository;
 
     @NonNull
     private TailoringRequirementChangeRepository tailoringRequirementChangeRepository;
 
     @NonNull
-    private BiConsumer<TailoringRequirementEntity, TailoringRequirementEntity> requirementChangeLog;
+    private RequirementChangeLog requirementChangeLog;
+
+    @NonNull
+    private TailoringRepository tailoringRepository;
 
     /**
      * {@inheritDoc}
@@ -83,12 +96,8 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             return empty();
         }
 
-        Optional<TailoringRequirement> result = ofNullable(mapper.toDomain(oChapter.get()
-                .getRequirements()
-                .stream()
-                .filter(requirement -> position.equals(requirement.getPosition()))
-                .findFirst()
-                .orElse(null)));
+        Optional<TailoringRequirement> result = ofNullable(mapper.toDomain(
+                findRequirement(oChapter.get(), position).orElse(null)));
 
         log.traceExit();
         return result;
@@ -111,11 +120,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             return empty();
         }
 
-        Optional<TailoringRequirementEntity> oRequirement = oChapter.get()
-                .getRequirements()
-                .stream()
-                .filter(a -> requirement.getPosition().equals(a.getPosition()))
-                .findFirst();
+        Optional<TailoringRequirementEntity> oRequirement = findRequirement(oChapter.get(), requirement.getPosition());
 
         if (oRequirement.isEmpty()) {
             log.traceExit();
@@ -140,6 +145,7 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
         log.traceEntry(() -> project, () -> tailoring, () -> chapter);
 
         Optional<TailoringCatalogChapterEntity> oChapter = findChapter(project, tailoring, chapter);
+        oChapter.ifPresent(tailoringCatalogChapterRepository::loadSubtree);
         Optional<Chapter<TailoringRequirement>> result = ofNullable(mapper.toDomain(oChapter.orElse(null)));
 
         log.traceExit();
@@ -153,26 +159,26 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
     public Optional<Chapter<TailoringRequirement>> updateSelected(
             @NonNull String project,
             @NonNull String tailoring,
-            @NonNull Chapter<TailoringRequirement> chapter) {
-        log.traceEntry(() -> project, () -> tailoring, () -> chapter);
+            @NonNull String chapter,
+            @NonNull Boolean selected,
+            @NonNull ZonedDateTime changed) {
+        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> selected);
 
-        Optional<TailoringCatalogChapterEntity> oChapter = findChapter(project, tailoring, chapter.getNumber());
+        Optional<TailoringCatalogChapterEntity> oChapter = findChapter(project, tailoring, chapter);
         if (oChapter.isEmpty()) {
             log.traceExit();
             return empty();
         }
 
-        oChapter.get().allChapters()
-                .forEachOrdered(subChapter -> {
-                    Chapter<TailoringRequirement> domainChapter = chapter.getChapter(subChapter.getNumber());
-                    subChapter.getRequirements()
-                            .stream()
-                            .sorted(comparing(TailoringRequirementEntity::getPosition))
-                            .forEachOrdered(requirement -> mapper.updateRequirement(
-                                    domainChapter.getRequirement(requirement.getPosition()).get(),
-                                    requirement));
-                });
-        Optional<Chapter<TailoringRequirement>> result = of(mapper.toDomain(oChapter.get()));
+        Long tailoringId = oChapter.get().getTailoringId();
+        String path = oChapter.get().getPath() + "%";
+        Collection<Long> requirements = tailoringRequirementRepository.findSelectionChanges(tailoringId, path, selected);
+        if (!requirements.isEmpty()) {
+            tailoringRequirementRepository.updateSelected(tailoringId, path, selected, changed);
+            requirementChangeLog.acceptSelection(requirements, selected);
+        }
+
+        Optional<Chapter<TailoringRequirement>> result = getChapter(project, tailoring, chapter);
 
         log.traceExit();
         return result;
@@ -199,6 +205,21 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
                 .filter(requirement -> isNull(requirement.getNumber()))
                 .forEach(requirement -> requirement.setNumber(chapter.getNumber() + "." + requirement.getPosition()));
 
+        // tailoring and path of new requirements are only set by update statement after insert
+        List<TailoringRequirementEntity> added = oEntity.get().getRequirements()
+                .stream()
+                .filter(requirement -> isNull(requirement.getTailoringId()))
+                .toList();
+        if (!added.isEmpty()) {
+            tailoringCatalogChapterRepository.flush();
+            tailoringCatalogChapterRepository.updateRequirementTailoringPath(
+                    oEntity.get().getTailoringId(), List.of(oEntity.get().getId()));
+            added.forEach(requirement -> {
+                requirement.setTailoringId(oEntity.get().getTailoringId());
+                requirement.setPath(oEntity.get().getPath());
+            });
+        }
+
         Optional<Chapter<TailoringRequirement>> result = of(mapper.toDomain(oEntity.get()));
 
         log.traceExit();
@@ -213,8 +234,9 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             @NonNull String project,
             @NonNull String tailoring,
             @NonNull String chapter,
-            @NonNull String position) {
-        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> position);
+            @NonNull String position,
+            @NonNull RequirementChangeFilter filter) {
+        log.traceEntry(() -> project, () -> tailoring, () -> chapter, () -> position, () -> filter);
 
         Optional<TailoringCatalogChapterEntity> oChapter = findChapter(project, tailoring, chapter);
         if (oChapter.isEmpty()) {
@@ -222,25 +244,64 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             return empty();
         }
 
-        Optional<TailoringRequirementEntity> oRequirement = oChapter.get()
-                .getRequirements()
-                .stream()
-                .filter(requirement -> position.equals(requirement.getPosition()))
-                .findFirst();
+        Optional<TailoringRequirementEntity> oRequirement = findRequirement(oChapter.get(), position);
         if (oRequirement.isEmpty()) {
             log.traceExit();
             return empty();
         }
 
+        String number = oRequirement.get().getNumber();
         Optional<Collection<RequirementChange>> result = of(
-                tailoringRequirementChangeRepository.findAllByRequirementId(oRequirement.get().getId())
+                tailoringRequirementChangeRepository.findRequirementChanges(
+                                oRequirement.get().getId(),
+                                toEpoch(filter.getFrom()),
+                                filter.getAfter(),
+                                toEpoch(filter.getTo()),
+                                PageRequest.of(0, filter.getLimit()))
                         .stream()
-                        .map(mapper::getRequirementChanges)
+                        .map(change -> mapper.getRequirementChanges(change, number))
                         .toList());
         log.traceExit();
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Collection<RequirementChange>> getTailoringChanges(
+            @NonNull String project,
+            @NonNull String tailoring,
+            @NonNull RequirementChangeFilter filter) {
+        log.traceEntry(() -> project, () -> tailoring, () -> filter);
+
+        Long tailoringId = tailoringRepository.findTailoringId(project, tailoring);
+        if (isNull(tailoringId)) {
+            log.traceExit();
+            return empty();
+        }
+
+        List<TailoringRequirementChangeEntity> changes = tailoringRequirementChangeRepository.findTailoringChanges(
+                tailoringId,
+                toEpoch(filter.getFrom()),
+                filter.getAfter(),
+                toEpoch(filter.getTo()),
+                PageRequest.of(0, filter.getLimit()));
+
+        Map<Long, String> numbers = tailoringRequirementRepository.findAllById(changes.stream()
+                        .map(TailoringRequirementChangeEntity::getRequirementId)
+                        .collect(toSet()))
+                .stream()
+                .collect(toMap(TailoringRequirementEntity::getId, TailoringRequirementEntity::getNumber));
+
+        Optional<Collection<RequirementChange>> result = of(changes.stream()
+                .map(change -> mapper.getRequirementChanges(change, numbers.get(change.getRequirementId())))
+                .toList());
+
+        log.traceExit();
+        return result;
+    }
+
     /**
      * Load a requested tailoring catalog chapter.
      *
@@ -255,18 +316,39 @@ public class JPARequirementServiceRepository implements RequirementServiceReposi
             String chapter) {
         log.traceEntry(() -> project, () -> tailoring, () -> chapter);
 
-        TailoringEntity eTailoring = projectRepository.findTailoring(project, tailoring);
-        if (isNull(eTailoring)) {
-            log.traceExit();
-            return empty();
-        }
+        Optional<TailoringCatalogChapterEntity> result = ofNullable(
+                tailoringCatalogChapterRepository.findChapter(project, tailoring, chapter));
 
-        Optional<TailoringCatalogChapterEntity> result = eTailoring
-                .getCatalog()
-                .getToc()
-                .getChapter(chapter);
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Load a requested requirement of a tailoring catalog chapter.
+     *
+     * @param chapter  chapter requirement belongs to
+     * @param position position of requirement in chapter
+     * @return if exists the requirement, otherwise empty
+     */
+    private Optional<TailoringRequirementEntity> findRequirement(
+            TailoringCatalogChapterEntity chapter,
+            String position) {
+        log.traceEntry(chapter::getNumber, () -> position);
+
+        Optional<TailoringRequirementEntity> result = ofNullable(
+                tailoringRequirementRepository.findRequirement(chapter.getId(), chapter.getNumber() + "." + position));
 
         log.traceExit();
         return result;
     }
+
+    /**
+     * Convert a timestamp to milliseconds since epoch as used for time range queries of changes.
+     *
+     * @param timestamp timestamp to convert
+     * @return epoch millis of timestamp, <code>null</code> if no timestamp provided
+     */
+    private static Long toEpoch(ZonedDateTime timestamp) {
+        return isNull(timestamp) ? null : timestamp.toInstant().toEpochMilli();
+    }
 }
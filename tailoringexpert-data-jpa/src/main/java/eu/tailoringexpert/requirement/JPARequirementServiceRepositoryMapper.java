@@ -27,10 +27,22 @@ import eu.tailoringexpert.repository.ApplicableDocumentRepository;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import lombok.Setter;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toCollection;
 
 /**
  * Mapper used by {@link JPARequirementServiceRepository} to convert domain and
@@ -52,8 +64,43 @@ public abstract class JPARequirementServiceRepositoryMapper {
 
     abstract TailoringRequirement toDomain(TailoringRequirementEntity entity);
 
+    @Mapping(target = "reference", ignore = true)
+    @Mapping(target = "drds", ignore = true)
+    @Mapping(target = "applicableDocuments", ignore = true)
+    @Mapping(target = "baseRequirement", ignore = true)
     abstract void updateRequirement(TailoringRequirement domain, @MappingTarget TailoringRequirementEntity entity);
 
+    abstract ReferenceEntity toEntity(Reference domain);
+
+    /**
+     * Sets reference, drds and applicable documents as new values instead of updating the (effective) ones of entity,
+     * which might be the ones of the base requirement.
+     * <p>
+     * Drds and applicable documents are always taken from the base requirement. If they differ, the requirement is
+     * detached from its base requirement and stores all its values itself.
+     *
+     * @param domain source of update
+     * @param entity requirement to update
+     */
+    @AfterMapping
+    void updateBaseRequirementValues(TailoringRequirement domain, @MappingTarget TailoringRequirementEntity entity) {
+        Set<DRDEntity> drds = resolveDRDs(domain.getDrds());
+        List<ApplicableDocumentEntity> applicableDocuments = resolveApplicableDocuments(domain.getApplicableDocuments());
+
+        if (nonNull(entity.getBaseRequirement()) &&
+            (!isEqual(drds, entity.getDrds()) || !isEqual(applicableDocuments, entity.getApplicableDocuments()))) {
+            String text = entity.getText();
+            entity.setBaseRequirement(null);
+            entity.setText(text);
+        }
+
+        entity.setReference(toEntity(domain.getReference()));
+        if (isNull(entity.getBaseRequirement())) {
+            entity.setDrds(drds);
+            entity.setApplicableDocuments(applicableDocuments);
+        }
+    }
+
     abstract Chapter<TailoringRequirement> toDomain(TailoringCatalogChapterEntity entity);
 
     abstract void updateChapter(Chapter<TailoringRequirement> domain,
@@ -61,7 +108,8 @@ public abstract class JPARequirementServiceRepositoryMapper {
 
     abstract TailoringRequirementEntity clone(TailoringRequirementEntity entity);
 
-    abstract RequirementChange getRequirementChanges(TailoringRequirementChangeEntity entity);
+    @Mapping(target = "requirement", source = "requirement")
+    abstract RequirementChange getRequirementChanges(TailoringRequirementChangeEntity entity, String requirement);
 
     LogoEntity resolve(Logo domain) {
         return nonNull(domain) ? logoRepository.findByName(domain.getName()) : null;
@@ -78,4 +126,25 @@ public abstract class JPARequirementServiceRepositoryMapper {
                 : null;
     }
 
+    private Set<DRDEntity> resolveDRDs(Collection<DRD> drds) {
+        return isNull(drds) ? null : drds.stream()
+                .map(this::resolve)
+                .collect(toCollection(HashSet::new));
+    }
+
+    private List<ApplicableDocumentEntity> resolveApplicableDocuments(Collection<Document> documents) {
+        return isNull(documents) ? null : documents.stream()
+                .map(this::resolve)
+                .collect(toCollection(ArrayList::new));
+    }
+
+    private static boolean isEqual(Set<DRDEntity> drds, Set<DRDEntity> other) {
+        return Objects.equals(nonNull(drds) ? drds : Set.of(), nonNull(other) ? new HashSet<>(other) : Set.of());
+    }
+
+    private static boolean isEqual(List<ApplicableDocumentEntity> documents, List<ApplicableDocumentEntity> other) {
+        return Objects.equals(nonNull(documents) ? documents : emptyList(),
+                nonNull(other) ? new ArrayList<>(other) : emptyList());
+    }
+
 }
@@ -0,0 +1,46 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.requirement;
+
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+/**
+ * Log of changes of tailoring requirements {@link TailoringRequirementEntity}.
+ * <p>
+ * Single changes are logged by comparing the original and the revised requirement, bulk changes are logged using
+ * the ids of all changed requirements.
+ *
+ * @author Michael Bädorf
+ */
+public interface RequirementChangeLog extends BiConsumer<TailoringRequirementEntity, TailoringRequirementEntity> {
+
+    /**
+     * Log a selection change of several requirements at once.
+     *
+     * @param requirements ids of changed requirements
+     * @param selected     new selection state of requirements
+     */
+    void acceptSelection(Collection<Long> requirements, Boolean selected);
+}
@@ -26,18 +26,32 @@ import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
 
 import java.time.ZonedDateTime;
-import java.util.function.BiConsumer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.function.Supplier;
 
+import static java.util.Objects.isNull;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.bindResource;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.getResource;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.unbindResourceIfPossible;
+
 /**
  * Handler for logging text and applicibility changes of a tailoring requirement {@link TailoringRequirementEntity}.
+ * <p>
+ * Within a transaction all changes are collected and written at once right before commit, so the number of logged
+ * changes does not add database round trips to each single edit. Without an active transaction changes are written
+ * immediately.
  *
  * @author Michael Bädorf
  */
 @RequiredArgsConstructor
-public class RequirementChangeLogHandler implements BiConsumer<TailoringRequirementEntity, TailoringRequirementEntity> {
+public class RequirementChangeLogHandler implements RequirementChangeLog {
 
     private static final String CHANGETYPE_APPLICABILITY = "SELECTED";
     private static final String CHANGETYPE_TEXT = "TEXT";
@@ -48,32 +62,105 @@ public class RequirementChangeLogHandler implements BiConsumer<TailoringRequirem
     @NonNull
     TailoringRequirementChangeRepository repository;
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
     public void accept(TailoringRequirementEntity original, TailoringRequirementEntity revised) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<TailoringRequirementChangeEntity> changes = new ArrayList<>(2);
         if (!original.getSelected().equals(revised.getSelected())) {
-            repository.save(
-                TailoringRequirementChangeEntity.builder()
-                    .changeType(CHANGETYPE_APPLICABILITY)
-                    .user(username.get())
-                    .requirementId(original.getId())
-                    .old(String.valueOf(original.getSelected()))
-                    .changed(String.valueOf(revised.getSelected()))
-                    .modificationTimestamp(ZonedDateTime.now())
-                    .build()
-            );
+            changes.add(TailoringRequirementChangeEntity.builder()
+                .changeType(CHANGETYPE_APPLICABILITY)
+                .requirementId(original.getId())
+                .old(String.valueOf(original.getSelected()))
+                .changed(String.valueOf(revised.getSelected()))
+                .modificationTimestamp(now)
+                .modificationEpoch(now.toInstant().toEpochMilli())
+                .build());
         }
 
         if (!original.getText().equals(revised.getText())) {
-            repository.save(
-                TailoringRequirementChangeEntity.builder()
-                    .changeType(CHANGETYPE_TEXT)
-                    .user(username.get())
-                    .requirementId(original.getId())
-                    .old(original.getText())
-                    .changed(revised.getText())
-                    .modificationTimestamp(ZonedDateTime.now())
-                    .build()
-            );
+            changes.add(TailoringRequirementChangeEntity.builder()
+                .changeType(CHANGETYPE_TEXT)
+                .requirementId(original.getId())
+                .old(original.getText())
+                .changed(revised.getText())
+                .modificationTimestamp(now)
+                .modificationEpoch(now.toInstant().toEpochMilli())
+                .build());
+        }
+
+        if (!changes.isEmpty()) {
+            write(changes);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acceptSelection(Collection<Long> requirements, Boolean selected) {
+        ZonedDateTime now = ZonedDateTime.now();
+        write(requirements.stream()
+            .map(requirement -> TailoringRequirementChangeEntity.builder()
+                .changeType(CHANGETYPE_APPLICABILITY)
+                .requirementId(requirement)
+                .old(String.valueOf(!selected))
+                .changed(String.valueOf(selected))
+                .modificationTimestamp(now)
+                .modificationEpoch(now.toInstant().toEpochMilli())
+                .build())
+            .toList());
+    }
+
+    /**
+     * Write changes immediately or, if a transaction is active, add them to the pending changes of the transaction.
+     *
+     * @param changes changes to write
+     */
+    private void write(Collection<TailoringRequirementChangeEntity> changes) {
+        if (!isSynchronizationActive()) {
+            String user = username.get();
+            changes.forEach(change -> change.setUser(user));
+            repository.saveAll(changes);
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) getResource(this);
+        if (isNull(pending)) {
+            pending = new PendingChanges(username.get());
+            bindResource(this, pending);
+            registerSynchronization(pending);
+        }
+        pending.add(changes);
+    }
+
+    /**
+     * Changes of a transaction, which will be saved in one batch before the transaction commits.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final String user;
+        private final List<TailoringRequirementChangeEntity> changes = new ArrayList<>();
+
+        private PendingChanges(String user) {
+            this.user = user;
+        }
+
+        private void add(Collection<TailoringRequirementChangeEntity> toAdd) {
+            toAdd.forEach(change -> change.setUser(user));
+            changes.addAll(toAdd);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            repository.saveAll(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            unbindResourceIfPossible(RequirementChangeLogHandler.this);
         }
     }
 }
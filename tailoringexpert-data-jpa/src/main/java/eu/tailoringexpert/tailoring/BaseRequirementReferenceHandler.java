@@ -0,0 +1,146 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.ApplicableDocumentEntity;
+import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseRequirementEntity;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
+import eu.tailoringexpert.repository.BaseCatalogRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Links requirements of a new tailoring catalog to the requirements of its base catalog.
+ * <p>
+ * Requirements taken over unchanged only reference their base requirement. Their text, reference, drds and
+ * applicable documents are not stored again, see {@link TailoringRequirementEntity}.
+ * Has to be called before the tailoring catalog is saved.
+ *
+ * @author Michael Bädorf
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class BaseRequirementReferenceHandler implements Consumer<TailoringCatalogEntity> {
+
+    @NonNull
+    private BaseCatalogRepository baseCatalogRepository;
+
+    @NonNull
+    private BaseCatalogChapterRepository baseCatalogChapterRepository;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void accept(TailoringCatalogEntity catalog) {
+        log.traceEntry();
+
+        if (isNull(catalog) || isNull(catalog.getToc())) {
+            log.traceExit();
+            return;
+        }
+
+        BaseCatalogEntity baseCatalog = baseCatalogRepository.findByVersion(catalog.getVersion(), BaseCatalogEntity.class);
+        if (isNull(baseCatalog) || isNull(baseCatalog.getToc())) {
+            log.traceExit();
+            return;
+        }
+
+        Map<String, BaseRequirementEntity> baseRequirements = getBaseRequirements(baseCatalog.getToc().getId());
+        catalog.getToc().allChapters()
+            .filter(chapter -> nonNull(chapter.getRequirements()))
+            .forEach(chapter -> chapter.getRequirements()
+                .stream()
+                .filter(requirement -> isNull(requirement.getBaseRequirement()))
+                .forEach(requirement -> {
+                    BaseRequirementEntity baseRequirement = baseRequirements.get(number(chapter, requirement));
+                    if (nonNull(baseRequirement) && isUnchanged(requirement, baseRequirement)) {
+                        requirement.setBaseRequirement(baseRequirement);
+                        requirement.setText(null);
+                        requirement.setReference(null);
+                        requirement.setDrds(null);
+                        requirement.setApplicableDocuments(null);
+                    }
+                }));
+
+        log.traceExit();
+    }
+
+    /**
+     * Loads all requirements of a base catalog with initialized drds and applicable documents.
+     *
+     * @param toc technical id of table of contents of base catalog
+     * @return requirements of base catalog mapped by their number
+     */
+    private Map<String, BaseRequirementEntity> getBaseRequirements(Long toc) {
+        Collection<Long> chapters = baseCatalogChapterRepository.findChapterTree(toc);
+        if (chapters.isEmpty()) {
+            return Map.of();
+        }
+
+        baseCatalogChapterRepository.fetchRequirementApplicableDocuments(chapters);
+        return baseCatalogChapterRepository.fetchRequirementDRDs(chapters)
+            .stream()
+            .filter(requirement -> nonNull(requirement.getNumber()))
+            .collect(toMap(BaseRequirementEntity::getNumber, identity(), (first, second) -> first));
+    }
+
+    private String number(TailoringCatalogChapterEntity chapter, TailoringRequirementEntity requirement) {
+        return nonNull(requirement.getNumber()) ? requirement.getNumber() :
+            chapter.getNumber() + "." + requirement.getPosition();
+    }
+
+    private boolean isUnchanged(TailoringRequirementEntity requirement, BaseRequirementEntity baseRequirement) {
+        return Objects.equals(requirement.getText(), baseRequirement.getText()) &&
+            Objects.equals(requirement.getReference(), baseRequirement.getReference()) &&
+            drds(requirement.getDrds()).equals(drds(baseRequirement.getDrds())) &&
+            applicableDocuments(requirement.getApplicableDocuments())
+                .equals(applicableDocuments(baseRequirement.getApplicableDocuments()));
+    }
+
+    private Set<Long> drds(Set<DRDEntity> drds) {
+        return nonNull(drds) ? drds.stream().map(DRDEntity::getId).collect(toSet()) : Set.of();
+    }
+
+    private List<Long> applicableDocuments(List<ApplicableDocumentEntity> documents) {
+        return nonNull(documents) ? documents.stream().map(ApplicableDocumentEntity::getId).toList() : List.of();
+    }
+}
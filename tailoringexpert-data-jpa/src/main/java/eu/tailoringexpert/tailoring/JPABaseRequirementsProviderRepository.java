@@ -21,9 +21,12 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.catalog.BaseCatalogSnapshotCache;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseCatalogSnapshot;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +34,7 @@ import lombok.extern.log4j.Log4j2;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Optional.ofNullable;
@@ -51,19 +55,47 @@ public class JPABaseRequirementsProviderRepository implements BaseRequirementsPr
     @NonNull
     private BaseCatalogRepository baseCatalogRepository;
 
+    @NonNull
+    private BaseCatalogChapterRepository baseCatalogChapterRepository;
+
+    @NonNull
+    private BaseCatalogSnapshotCache snapshotCache;
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Catalog<BaseRequirement>> getBaseCatalog(String version) {
         log.traceEntry(version);
 
-        BaseCatalogEntity entity = baseCatalogRepository.findByVersion(version, BaseCatalogEntity.class);
-        Optional<Catalog<BaseRequirement>> result = ofNullable(mapper.getBaseCatalog(entity));
+        Optional<Catalog<BaseRequirement>> result = snapshotCache.get(version, this::loadBaseCatalog)
+            .map(BaseCatalogSnapshot::getCatalog);
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, BaseRequirement> getBaseRequirements(String version) {
+        log.traceEntry(version);
+
+        Map<String, BaseRequirement> result = snapshotCache.get(version, this::loadBaseCatalog)
+            .map(BaseCatalogSnapshot::getRequirements)
+            .orElse(Map.of());
 
         log.traceExit();
         return result;
     }
 
+    private Optional<Catalog<BaseRequirement>> loadBaseCatalog(String version) {
+        BaseCatalogEntity entity = baseCatalogRepository.findByVersion(version, BaseCatalogEntity.class);
+        baseCatalogChapterRepository.loadCatalog(entity);
+        return ofNullable(mapper.getBaseCatalog(entity));
+    }
+
 }
@@ -29,6 +29,9 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -49,6 +52,11 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
 
     public static final String CACHE_PROFILES = "JPATailoringServiceRepository#Profiles";
 
+    /**
+     * Number of requirements read at once when streaming a tailoring catalog.
+     */
+    private static final int CATALOG_FETCH_SIZE = 500;
+
     @NonNull
     private JPATailoringServiceRepositoryMapper mapper;
 
@@ -64,6 +72,12 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
     @NonNull
     private DokumentSigneeRepository dokumentSigneeRepository;
 
+    @NonNull
+    private TailoringCatalogChapterRepository tailoringCatalogChapterRepository;
+
+    @NonNull
+    private PurgeJobRepository purgeJobRepository;
+
     /**
      * {@inheritDoc}
      */
@@ -86,6 +100,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         if (nonNull(toUpdate)) {
             mapper.updateTailoring(tailoring, toUpdate);
             projectRepository.flush();
+            tailoringCatalogChapterRepository.updateTailoringPath(toUpdate.getId(), toUpdate.getCatalog());
             return mapper.toDomain(toUpdate);
         }
 
@@ -105,12 +120,29 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
             return empty();
         }
         TailoringEntity entity = projectRepository.findTailoring(project, tailoring);
+        if (nonNull(entity)) {
+            tailoringCatalogChapterRepository.loadCatalog(entity.getCatalog());
+        }
         Optional<Tailoring> result = ofNullable(mapper.toDomain(entity));
 
         log.traceExit();
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Tailoring> getTailoringHeader(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        Optional<Tailoring> result = findTailoring(project, tailoring)
+            .map(mapper::toHeader);
+
+        log.traceExit();
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -133,20 +165,46 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<byte[]> getScreeningSheetFile(String project, String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
         TailoringEntity eTailoring = projectRepository.findTailoring(project, tailoring);
-        if (isNull(eTailoring)) {
+        if (isNull(eTailoring) || isNull(eTailoring.getScreeningSheet()) || isNull(eTailoring.getScreeningSheet().getFile())) {
             log.traceExit();
             return empty();
         }
-        Optional<byte[]> result = ofNullable(eTailoring.getScreeningSheet().getData());
+        Optional<byte[]> result = ofNullable(eTailoring.getScreeningSheet().getFile().getData());
 
         log.traceExit();
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean writeCatalog(String project, String tailoring, TailoringCatalogConsumer consumer) throws IOException {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        TailoringEntity eTailoring = projectRepository.findTailoring(project, tailoring);
+        if (isNull(eTailoring)) {
+            return log.traceExit(false);
+        }
+
+        TailoringCatalogWriter writer = new TailoringCatalogWriter(
+            tailoringCatalogChapterRepository.findChapterStructure(eTailoring.getId()), mapper::toDomain, consumer);
+        try {
+            tailoringCatalogChapterRepository.forEachRequirement(eTailoring.getId(), CATALOG_FETCH_SIZE, writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.close();
+
+        return log.traceExit(true);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -187,7 +245,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         Optional<TailoringEntity> oTailoring = findTailoring(project, tailoring);
         if (oTailoring.isPresent()) {
             oTailoring.get().setName(name);
-            Optional<Tailoring> result = of(mapper.toDomain(oTailoring.get()));
+            Optional<Tailoring> result = of(mapper.toHeader(oTailoring.get()));
             log.traceExit();
             return result;
         }
@@ -236,12 +294,29 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
     public boolean deleteTailoring(String project, String tailoring) {
         log.traceEntry(() -> project, () -> tailoring);
 
-        TailoringEntity toDelete = projectRepository.findTailoring(project, tailoring);
-        if (isNull(toDelete)) {
+        ProjectEntity eProject = projectRepository.findByIdentifier(project);
+        Optional<TailoringEntity> toDelete = isNull(eProject) ? empty() : eProject.getTailoring(tailoring);
+        if (toDelete.isEmpty()) {
             return log.traceExit(false);
         }
 
-        tailoringRepository.delete(toDelete);
+        // tailoring is only marked as deleted, its data is removed by the purge
+        ZonedDateTime now = ZonedDateTime.now();
+        TailoringEntity eTailoring = toDelete.get();
+        purgeJobRepository.save(PurgeJobEntity.builder()
+            .projectId(eProject.getId())
+            .tailoringId(eTailoring.getId())
+            .project(project)
+            .tailoring(tailoring)
+            .identifier(eTailoring.getIdentifier())
+            .state(PurgeState.PENDING)
+            .purgedRows(0L)
+            .creationTimestamp(now)
+            .build());
+        int position = eProject.getTailorings().indexOf(eTailoring);
+        tailoringRepository.markDeleted(eTailoring.getId(), now);
+        tailoringRepository.closeOrderGap(eProject.getId(), position);
+
         return log.traceExit(true);
     }
 
@@ -260,7 +335,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         }
 
         oTailoring.get().getNotes().add(mapper.toEntity(note));
-        Optional<Tailoring> result = of(mapper.toDomain(oTailoring.get()));
+        Optional<Tailoring> result = of(mapper.toHeader(oTailoring.get()));
 
         log.traceExit();
         return result;
@@ -289,7 +364,7 @@ public class JPATailoringServiceRepository implements TailoringServiceRepository
         }
 
         oTailoring.get().setState(state);
-        Optional<Tailoring> result = of(mapper.toDomain(oTailoring.get()));
+        Optional<Tailoring> result = of(mapper.toHeader(oTailoring.get()));
 
         log.traceExit();
         return result;
@@ -32,6 +32,7 @@ import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import java.util.LinkedList;
 import java.util.stream.Collectors;
@@ -57,6 +58,12 @@ public abstract class JPATailoringServiceRepositoryMapper {
 
     abstract Tailoring toDomain(TailoringEntity entity);
 
+    abstract TailoringRequirement toDomain(TailoringRequirementEntity entity);
+
+    @Named("header")
+    @Mapping(target = "catalog", source = "catalog", qualifiedByName = "catalogVersion")
+    abstract Tailoring toHeader(TailoringEntity entity);
+
     @Mapping(target = "name", ignore = true)
     @Mapping(target = "identifier", ignore = true)
     @Mapping(target = "catalog", source = "domain.catalog")
@@ -97,6 +104,18 @@ public abstract class JPATailoringServiceRepositoryMapper {
 
     abstract NoteEntity toEntity(Note domain);
 
+    /**
+     * Creates a catalog only containing the version of the tailoring catalog.
+     * Table of contents is not mapped to avoid loading the complete requirement catalog.
+     *
+     * @param entity tailoring catalog to get version of
+     * @return catalog without table of contents
+     */
+    @Named("catalogVersion")
+    Catalog<TailoringRequirement> toCatalogVersion(TailoringCatalogEntity entity) {
+        return nonNull(entity) ? Catalog.<TailoringRequirement>builder().version(entity.getVersion()).build() : null;
+    }
+
     LogoEntity resolve(Logo domain) {
         return nonNull(domain) ? logoRepository.findByName(domain.getName()) : null;
     }
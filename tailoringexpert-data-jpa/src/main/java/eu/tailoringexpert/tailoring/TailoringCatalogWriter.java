@@ -0,0 +1,216 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.TailoringCatalogChapterProjection;
+import eu.tailoringexpert.domain.TailoringCatalogConsumer;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * Passes requirements read in order of the technical id of their chapter to a {@link TailoringCatalogConsumer}
+ * in document order.<p>
+ * Requirements of a chapter read before the chapter is in turn are buffered until all preceding chapters are passed.
+ * As chapters are created in document order, usually no requirements have to be buffered at all.
+ *
+ * @author Michael Bädorf
+ */
+class TailoringCatalogWriter implements BiConsumer<Long, TailoringRequirementEntity> {
+
+    private final Function<TailoringRequirementEntity, TailoringRequirement> mapper;
+    private final TailoringCatalogConsumer consumer;
+
+    /**
+     * Chapters in document order.
+     */
+    private final List<Node> chapters = new ArrayList<>();
+
+    /**
+     * Chapters by technical id.
+     */
+    private final Map<Long, Node> index = new HashMap<>();
+
+    /**
+     * Index of the next chapter to be passed completely.
+     */
+    private int next;
+
+    /**
+     * Technical id of the chapter currently read.
+     */
+    private Long current;
+
+    /**
+     * Creates a writer of a catalog with the provided chapter structure.
+     *
+     * @param structure chapters of catalog ordered by parent and position in parent
+     * @param mapper    mapper of requirement entities, called immediately for each read requirement
+     * @param consumer  receiver of chapters and requirements
+     */
+    TailoringCatalogWriter(Collection<TailoringCatalogChapterProjection> structure,
+                           Function<TailoringRequirementEntity, TailoringRequirement> mapper,
+                           TailoringCatalogConsumer consumer) {
+        this.mapper = mapper;
+        this.consumer = consumer;
+
+        Map<Long, List<TailoringCatalogChapterProjection>> children = structure.stream()
+            .collect(groupingBy(TailoringCatalogChapterProjection::getParentId, LinkedHashMap::new, toList()));
+        Set<Long> subChapters = structure.stream()
+            .map(TailoringCatalogChapterProjection::getId)
+            .collect(toSet());
+        children.keySet()
+            .stream()
+            .filter(parent -> !subChapters.contains(parent))
+            .findFirst()
+            .ifPresent(toc -> addChapters(children, toc, 1));
+    }
+
+    /**
+     * Map read requirement and pass it to consumer if its chapter is in turn, otherwise buffer it.
+     *
+     * @param chapter     technical id of chapter of requirement
+     * @param requirement requirement read
+     */
+    @Override
+    public void accept(Long chapter, TailoringRequirementEntity requirement) {
+        try {
+            if (!chapter.equals(current)) {
+                current = chapter;
+                drain(false);
+            }
+
+            Node node = index.get(chapter);
+            if (isNull(node)) {
+                return;
+            }
+
+            TailoringRequirement domain = mapper.apply(requirement);
+            if (next < chapters.size() && chapters.get(next) == node) {
+                consumer.requirement(node.chapter, domain);
+            } else {
+                node.requirements.add(domain);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Pass all remaining chapters and buffered requirements to consumer after all requirements are read.
+     *
+     * @throws IOException in case of failing to consume catalog
+     */
+    void close() throws IOException {
+        current = null;
+        drain(true);
+    }
+
+    /**
+     * Pass all chapters, whose requirements are read completely, in document order to consumer.
+     * A chapter is read completely if a chapter with a greater technical id is read or reading is finished.
+     * The chapter currently read is passed without its requirements, if all preceding chapters are passed already.
+     *
+     * @param finished true, if all requirements are read
+     * @throws IOException in case of failing to consume catalog
+     */
+    private void drain(boolean finished) throws IOException {
+        while (next < chapters.size()) {
+            Node node = chapters.get(next);
+            boolean complete = finished || node.id < current;
+            if (!complete && node.id != current.longValue()) {
+                return;
+            }
+
+            if (!node.passed) {
+                consumer.chapter(node.chapter, node.level);
+                node.passed = true;
+            }
+            for (TailoringRequirement requirement : node.requirements) {
+                consumer.requirement(node.chapter, requirement);
+            }
+            node.requirements.clear();
+
+            if (!complete) {
+                return;
+            }
+            next++;
+        }
+    }
+
+    /**
+     * Add subchapters of a chapter and recursively their subchapters in document order.
+     *
+     * @param children subchapters by technical id of parent chapter
+     * @param parent   technical id of chapter to add subchapters of
+     * @param level    level of subchapters
+     */
+    private void addChapters(Map<Long, List<TailoringCatalogChapterProjection>> children, Long parent, int level) {
+        List<TailoringCatalogChapterProjection> subChapters = children.get(parent);
+        if (nonNull(subChapters)) {
+            for (TailoringCatalogChapterProjection subChapter : subChapters) {
+                Node node = new Node(subChapter.getId(), level, Chapter.<TailoringRequirement>builder()
+                    .name(subChapter.getName())
+                    .number(subChapter.getNumber())
+                    .position(subChapter.getPosition())
+                    .chapters(emptyList())
+                    .requirements(emptyList())
+                    .build());
+                chapters.add(node);
+                index.put(node.id, node);
+                addChapters(children, subChapter.getId(), level + 1);
+            }
+        }
+    }
+
+    /**
+     * Chapter of catalog with its buffered requirements.
+     */
+    @RequiredArgsConstructor
+    private static final class Node {
+        private final long id;
+        private final int level;
+        private final Chapter<TailoringRequirement> chapter;
+        private final List<TailoringRequirement> requirements = new ArrayList<>();
+        private boolean passed;
+    }
+}
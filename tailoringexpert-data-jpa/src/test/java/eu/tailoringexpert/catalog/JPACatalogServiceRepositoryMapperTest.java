@@ -35,8 +35,6 @@ import eu.tailoringexpert.domain.Document;
 import eu.tailoringexpert.domain.Logo;
 import eu.tailoringexpert.domain.LogoEntity;
 import eu.tailoringexpert.domain.Phase;
-import eu.tailoringexpert.repository.ApplicableDocumentRepository;
-import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,19 +53,13 @@ import static org.mockito.Mockito.verify;
 class JPACatalogServiceRepositoryMapperTest {
 
     private LogoRepository logoRepositoryMock;
-    private DRDRepository drdRepositoryMock;
-    private ApplicableDocumentRepository applicableDocumentRepositoryMock;
     private JPACatalogServiceRepositoryMapper mapper;
 
     @BeforeEach
     void setup() {
         this.logoRepositoryMock = mock(LogoRepository.class);
-        this.drdRepositoryMock = mock(DRDRepository.class);
-        this.applicableDocumentRepositoryMock = mock(ApplicableDocumentRepository.class);
         this.mapper = new JPACatalogServiceRepositoryMapperGenerated();
         this.mapper.setLogoRepository(logoRepositoryMock);
-        this.mapper.setDrdRepository(drdRepositoryMock);
-        this.mapper.setApplicableDocumentRepository(applicableDocumentRepositoryMock);
     }
 
     @Test
@@ -76,7 +68,7 @@ class JPACatalogServiceRepositoryMapperTest {
         Catalog<BaseRequirement> catalog = null;
 
         // act
-        BaseCatalogEntity actual = mapper.createCatalog(catalog);
+        BaseCatalogEntity actual = mapper.createCatalog(catalog, new CatalogReferences());
 
         // assert
         assertThat(actual).isNull();
@@ -91,7 +83,7 @@ class JPACatalogServiceRepositoryMapperTest {
             .build();
 
         // act
-        BaseCatalogEntity actual = mapper.createCatalog(catalog);
+        BaseCatalogEntity actual = mapper.createCatalog(catalog, new CatalogReferences());
 
         // assert
         assertThat(actual).isNotNull();
@@ -117,7 +109,7 @@ class JPACatalogServiceRepositoryMapperTest {
             .build();
 
         // act
-        BaseCatalogEntity actual = mapper.createCatalog(catalog);
+        BaseCatalogEntity actual = mapper.createCatalog(catalog, new CatalogReferences());
 
         // assert
         assertThat(actual).isNotNull();
@@ -209,28 +201,26 @@ class JPACatalogServiceRepositoryMapperTest {
         DRD drd = null;
 
         // act
-        DRDEntity actual = mapper.resolve(drd);
+        DRDEntity actual = mapper.resolve(drd, new CatalogReferences());
 
         // assert
         assertThat(actual).isNull();
-        verify(drdRepositoryMock, times(0)).findByNumber(any());
     }
 
     @Test
-    void resolve_DRDValid_ExistingDRDReturned() {
+    void resolve_DRDReferenced_ReferencedDRDReturned() {
         // arrange
         DRD drd = DRD.builder().number("drd-47.11").build();
 
-        DRDEntity drdEntity = DRDEntity.builder().id(12l).build();
-        given(drdRepositoryMock.findByNumber("drd-47.11")).willReturn(drdEntity);
+        DRDEntity drdEntity = DRDEntity.builder().id(12l).number("drd-47.11").build();
+        CatalogReferences references = new CatalogReferences();
+        references.add(drdEntity);
 
         // act
-        DRDEntity actual = mapper.resolve(drd);
+        DRDEntity actual = mapper.resolve(drd, references);
 
         // assert
-        assertThat(actual).isNotNull();
-        assertThat(actual.getId()).isNotNull();
-        verify(drdRepositoryMock, times(1)).findByNumber("drd-47.11");
+        assertThat(actual).isSameAs(drdEntity);
     }
 
     @Test
@@ -239,15 +229,14 @@ class JPACatalogServiceRepositoryMapperTest {
         Document document = null;
 
         // act
-        ApplicableDocumentEntity actual = mapper.resolve(document);
+        ApplicableDocumentEntity actual = mapper.resolve(document, new CatalogReferences());
 
         // assert
         assertThat(actual).isNull();
-        verify(applicableDocumentRepositoryMock, times(0)).findByTitleAndIssueAndRevision(any(), any(), any());
     }
 
     @Test
-    void resolve_DocumentValid_ExistingDcoumentReturned() {
+    void resolve_DocumentReferenced_ReferencedDocumentReturned() {
         // arrange
         Document document  = Document.builder()
                 .title("ECSS-Q-ST-80")
@@ -255,16 +244,56 @@ class JPACatalogServiceRepositoryMapperTest {
                 .revision("Rev.1")
                 .build();
 
-        ApplicableDocumentEntity documentEntity = ApplicableDocumentEntity.builder().id(12l).build();
-        given(applicableDocumentRepositoryMock.findByTitleAndIssueAndRevision("ECSS-Q-ST-80", "C", "Rev.1")).willReturn(documentEntity);
+        ApplicableDocumentEntity documentEntity = ApplicableDocumentEntity.builder()
+            .id(12l)
+            .title("ECSS-Q-ST-80")
+            .issue("C")
+            .revision("Rev.1")
+            .build();
+        CatalogReferences references = new CatalogReferences();
+        references.add(documentEntity);
 
         // act
-        ApplicableDocumentEntity actual = mapper.resolve(document);
+        ApplicableDocumentEntity actual = mapper.resolve(document, references);
 
         // assert
-        assertThat(actual).isNotNull();
-        assertThat(actual.getId()).isNotNull();
-        verify(applicableDocumentRepositoryMock, times(1)).findByTitleAndIssueAndRevision("ECSS-Q-ST-80", "C", "Rev.1");
+        assertThat(actual).isSameAs(documentEntity);
+    }
+
+    @Test
+    void createCatalog_RequirementWithReferences_ReferencedEntitiesUsed() {
+        // arrange
+        DRDEntity drdEntity = DRDEntity.builder().id(12l).number("drd-47.11").build();
+        ApplicableDocumentEntity documentEntity = ApplicableDocumentEntity.builder()
+            .id(13l)
+            .title("ECSS-Q-ST-80")
+            .issue("C")
+            .build();
+        CatalogReferences references = new CatalogReferences();
+        references.add(drdEntity);
+        references.add(documentEntity);
+
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .version("8.2.1")
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(asList(
+                    BaseRequirement.builder()
+                        .position("a")
+                        .text("Requirement")
+                        .drds(asList(DRD.builder().number("drd-47.11").build()))
+                        .applicableDocuments(asList(Document.builder().title("ECSS-Q-ST-80").issue("C").build()))
+                        .build()
+                ))
+                .build())
+            .build();
+
+        // act
+        BaseCatalogEntity actual = mapper.createCatalog(catalog, references);
+
+        // assert
+        BaseRequirementEntity requirement = actual.getToc().getRequirements().getFirst();
+        assertThat(requirement.getDrds()).containsExactly(drdEntity);
+        assertThat(requirement.getApplicableDocuments()).containsExactly(documentEntity);
     }
 
 
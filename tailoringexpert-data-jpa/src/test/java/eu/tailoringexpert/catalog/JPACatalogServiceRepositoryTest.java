@@ -23,22 +23,27 @@ package eu.tailoringexpert.catalog;
 
 import eu.tailoringexpert.TailoringexpertException;
 import eu.tailoringexpert.domain.*;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.ApplicableDocumentRepository;
 import eu.tailoringexpert.repository.TailoringCatalogRepository;
+import org.hibernate.Cache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -52,6 +57,9 @@ class JPACatalogServiceRepositoryTest {
     DRDRepository drdRepositoryMock;
     ApplicableDocumentRepository applicableDocumentRepositoryMock;
     TailoringCatalogRepository tailoringCatalogRepositoryMock;
+    BaseCatalogChapterRepository baseCatalogChapterRepositoryMock;
+    Cache entityCacheMock;
+    BaseCatalogSnapshotCache snapshotCache;
     JPACatalogServiceRepository repository;
 
     @BeforeEach
@@ -61,12 +69,18 @@ class JPACatalogServiceRepositoryTest {
         this.applicableDocumentRepositoryMock = mock(ApplicableDocumentRepository.class);
         this.mapperMock = mock(JPACatalogServiceRepositoryMapper.class);
         this.tailoringCatalogRepositoryMock = mock(TailoringCatalogRepository.class);
+        this.baseCatalogChapterRepositoryMock = mock(BaseCatalogChapterRepository.class);
+        this.entityCacheMock = mock(Cache.class);
+        this.snapshotCache = new BaseCatalogSnapshotCache(() -> "plattform", 5);
         this.repository = new JPACatalogServiceRepository(
             this.mapperMock,
             this.baseCatalogRepositoryMock,
             this.applicableDocumentRepositoryMock,
             this.drdRepositoryMock,
-            this.tailoringCatalogRepositoryMock
+            this.tailoringCatalogRepositoryMock,
+            this.baseCatalogChapterRepositoryMock,
+            this.entityCacheMock,
+            this.snapshotCache
         );
     }
 
@@ -77,7 +91,7 @@ class JPACatalogServiceRepositoryTest {
             .toc(Chapter.<BaseRequirement>builder().build())
             .build();
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        given(mapperMock.createCatalog(eq(catalog), any(CatalogReferences.class))).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -90,7 +104,7 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(mapperMock, times(1)).createCatalog(eq(catalog), any(CatalogReferences.class));
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -102,7 +116,7 @@ class JPACatalogServiceRepositoryTest {
             .toc(Chapter.<BaseRequirement>builder().build())
             .build();
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        given(mapperMock.createCatalog(eq(catalog), any(CatalogReferences.class))).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -115,11 +129,66 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isPresent();
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(mapperMock, times(1)).createCatalog(eq(catalog), any(CatalogReferences.class));
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
 
+    @Test
+    void createCatalog_DocumentOtherIssueExisting_OnlyMatchingDocumentReferenced() {
+        // arrange
+        Document existingDocument = Document.builder().title("Q-ST-80").issue("C").build();
+        Document newDocument = Document.builder().title("Q-ST-80").issue("D").build();
+
+        Catalog<BaseRequirement> catalog = Catalog.<BaseRequirement>builder()
+            .toc(Chapter.<BaseRequirement>builder()
+                .requirements(asList(
+                    BaseRequirement.builder()
+                        .applicableDocuments(asList(existingDocument))
+                        .build(),
+                    BaseRequirement.builder()
+                        .applicableDocuments(asList(existingDocument, newDocument))
+                        .build())
+                )
+                .build())
+            .build();
+
+        ApplicableDocumentEntity existingDocumentEntity = ApplicableDocumentEntity.builder()
+            .id(1L)
+            .title("Q-ST-80")
+            .issue("C")
+            .build();
+        ApplicableDocumentEntity otherIssueEntity = ApplicableDocumentEntity.builder()
+            .id(2L)
+            .title("Q-ST-80")
+            .issue("B")
+            .build();
+        given(applicableDocumentRepositoryMock.findByTitleIn(Set.of("Q-ST-80")))
+            .willReturn(List.of(existingDocumentEntity, otherIssueEntity));
+        ApplicableDocumentEntity newDocumentEntity = ApplicableDocumentEntity.builder()
+            .title("Q-ST-80")
+            .issue("D")
+            .build();
+        given(mapperMock.createCatalog(newDocument)).willReturn(newDocumentEntity);
+        given(applicableDocumentRepositoryMock.saveAll(List.of(newDocumentEntity))).willReturn(List.of(newDocumentEntity));
+
+        ArgumentCaptor<CatalogReferences> referencesCaptor = ArgumentCaptor.forClass(CatalogReferences.class);
+        given(mapperMock.createCatalog(eq(catalog), referencesCaptor.capture())).willReturn(BaseCatalogEntity.builder().build());
+
+        // act
+        repository.createCatalog(catalog, ZonedDateTime.now());
+
+        // assert
+        verify(applicableDocumentRepositoryMock, times(1)).findByTitleIn(Set.of("Q-ST-80"));
+        verify(applicableDocumentRepositoryMock, times(1)).saveAll(List.of(newDocumentEntity));
+        verify(applicableDocumentRepositoryMock, times(0)).findByTitleAndIssueAndRevision(any(), any(), any());
+
+        CatalogReferences references = referencesCaptor.getValue();
+        assertThat(references.get(existingDocument)).isSameAs(existingDocumentEntity);
+        assertThat(references.get(newDocument)).isSameAs(newDocumentEntity);
+        assertThat(references.get(Document.builder().title("Q-ST-80").issue("B").build())).isNull();
+    }
+
     @Test
     void createCatalog_CatalogNull_OptionalNullReturnd() {
         // arrange
@@ -131,7 +200,7 @@ class JPACatalogServiceRepositoryTest {
         // assert
         assertThat(actual).isEmpty();
         verify(baseCatalogRepositoryMock, times(0)).save(any());
-        verify(mapperMock, times(0)).createCatalog(any(Catalog.class));
+        verify(mapperMock, times(0)).createCatalog(any(Catalog.class), any());
         verify(mapperMock, times(0)).createCatalog(any(BaseCatalogEntity.class));
         verify(baseCatalogRepositoryMock, times(0)).save(any());
     }
@@ -152,9 +221,9 @@ class JPACatalogServiceRepositoryTest {
             .build();
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
 
-        given(drdRepositoryMock.findByNumber("04.11")).willReturn(DRDEntity.builder().build());
+        given(drdRepositoryMock.findByNumberIn(Set.of("04.11"))).willReturn(List.of(DRDEntity.builder().number("04.11").build()));
 
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        given(mapperMock.createCatalog(eq(catalog), any(CatalogReferences.class))).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -167,8 +236,9 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(drdRepositoryMock, times(0)).save(any());
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(drdRepositoryMock, times(1)).findByNumberIn(Set.of("04.11"));
+        verify(drdRepositoryMock, times(0)).saveAll(any());
+        verify(mapperMock, times(1)).createCatalog(eq(catalog), any(CatalogReferences.class));
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -194,10 +264,12 @@ class JPACatalogServiceRepositoryTest {
                 .build())
             .build();
 
-        given(drdRepositoryMock.findByNumber("04.11")).willReturn(null);
+        given(drdRepositoryMock.findByNumberIn(Set.of("04.11"))).willReturn(List.of());
+        DRDEntity drdEntity = DRDEntity.builder().number("04.11").build();
+        given(mapperMock.createCatalog(drd)).willReturn(drdEntity);
 
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        given(mapperMock.createCatalog(eq(catalog), any(CatalogReferences.class))).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -210,8 +282,8 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(drdRepositoryMock, times(1)).save(any());
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(drdRepositoryMock, times(1)).saveAll(List.of(drdEntity));
+        verify(mapperMock, times(1)).createCatalog(eq(catalog), any(CatalogReferences.class));
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -241,6 +313,7 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isPresent();
+        verify(baseCatalogChapterRepositoryMock, times(1)).loadCatalog(baseCatalogEntity);
         verify(mapperMock, times(1)).getCatalog(baseCatalogEntity);
     }
 
@@ -318,6 +391,7 @@ class JPACatalogServiceRepositoryTest {
             .isPresent();
         verify(baseCatalogRepositoryMock, times(1)).findCatalogByVersion("8.2.1");
         verify(mapperMock, times(1)).limitCatalogValidity(projection);
+        verify(entityCacheMock, times(1)).evict(BaseCatalogEntity.class);
     }
 
     @Test
@@ -399,6 +473,34 @@ class JPACatalogServiceRepositoryTest {
         assertThat(actual).isTrue();
         verify(baseCatalogRepositoryMock, times(1)).deleteByVersion("8.3");
         verify(baseCatalogRepositoryMock, times(1)).existsByVersion("8.3");
+        verify(entityCacheMock, times(1)).evict(BaseCatalogEntity.class);
+        verify(entityCacheMock, times(1)).evict(BaseRequirementEntity.class);
+        verify(entityCacheMock, times(1)).evict(DRDEntity.class);
+        verify(entityCacheMock, times(1)).evict(ApplicableDocumentEntity.class);
+        verify(entityCacheMock, times(1)).evictCollectionData(BaseRequirementEntity.class.getName() + ".phases");
+        verify(entityCacheMock, times(1))
+            .evictCollectionData(BaseRequirementEntity.class.getName() + ".applicableDocuments");
+        verify(entityCacheMock, times(1)).evictCollectionData(BaseRequirementEntity.class.getName() + ".drds");
+    }
+
+    @Test
+    void deleteCatalog_CatalogCached_CatalogReloadedAfterDeletion() {
+        // arrange
+        BaseCatalogEntity baseCatalogEntity = BaseCatalogEntity.builder().build();
+        given(baseCatalogRepositoryMock.findByVersion("8.3", BaseCatalogEntity.class)).willReturn(baseCatalogEntity);
+        given(mapperMock.getCatalog(baseCatalogEntity)).willReturn(Catalog.<BaseRequirement>builder().build());
+        repository.getCatalog("8.3");
+
+        given(baseCatalogRepositoryMock.existsByVersion("8.3")).willReturn(false);
+        given(baseCatalogRepositoryMock.findByVersion("8.3", BaseCatalogEntity.class)).willReturn(null);
+
+        // act
+        repository.deleteCatalog("8.3");
+        Optional<Catalog<BaseRequirement>> actual = repository.getCatalog("8.3");
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(baseCatalogRepositoryMock, times(2)).findByVersion("8.3", BaseCatalogEntity.class);
     }
 
     @Test
@@ -448,10 +550,16 @@ class JPACatalogServiceRepositoryTest {
                 .build())
             .build();
 
-        given(applicableDocumentRepositoryMock.findByTitleAndIssueAndRevision("ECSS-Q-ST-80", "C", "Rev.1")).willReturn(null);
+        given(applicableDocumentRepositoryMock.findByTitleIn(Set.of("ECSS-Q-ST-80"))).willReturn(List.of());
+        ApplicableDocumentEntity documentEntity = ApplicableDocumentEntity.builder()
+            .title("ECSS-Q-ST-80")
+            .issue("C")
+            .revision("Rev.1")
+            .build();
+        given(mapperMock.createCatalog(document)).willReturn(documentEntity);
 
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        given(mapperMock.createCatalog(eq(catalog), any(CatalogReferences.class))).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -464,8 +572,8 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(applicableDocumentRepositoryMock, times(1)).save(any());
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(applicableDocumentRepositoryMock, times(1)).saveAll(List.of(documentEntity));
+        verify(mapperMock, times(1)).createCatalog(eq(catalog), any(CatalogReferences.class));
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -490,9 +598,15 @@ class JPACatalogServiceRepositoryTest {
             .build();
         BaseCatalogEntity toSave = BaseCatalogEntity.builder().build();
 
-        given(applicableDocumentRepositoryMock.findByTitleAndIssueAndRevision("ECSS-Q-ST-80", "C", "Rev.1")).willReturn(ApplicableDocumentEntity.builder().build());
+        given(applicableDocumentRepositoryMock.findByTitleIn(Set.of("ECSS-Q-ST-80"))).willReturn(List.of(
+            ApplicableDocumentEntity.builder()
+                .title("ECSS-Q-ST-80")
+                .issue("C")
+                .revision("Rev.1")
+                .build()
+        ));
 
-        given(mapperMock.createCatalog(catalog)).willReturn(toSave);
+        given(mapperMock.createCatalog(eq(catalog), any(CatalogReferences.class))).willReturn(toSave);
 
         BaseCatalogEntity savedKatalog = null;
         given(baseCatalogRepositoryMock.save(toSave)).willReturn(savedKatalog);
@@ -505,8 +619,9 @@ class JPACatalogServiceRepositoryTest {
 
         // assert
         assertThat(actual).isEmpty();
-        verify(applicableDocumentRepositoryMock, times(0)).save(any());
-        verify(mapperMock, times(1)).createCatalog(catalog);
+        verify(applicableDocumentRepositoryMock, times(1)).findByTitleIn(Set.of("ECSS-Q-ST-80"));
+        verify(applicableDocumentRepositoryMock, times(0)).saveAll(any());
+        verify(mapperMock, times(1)).createCatalog(eq(catalog), any(CatalogReferences.class));
         verify(mapperMock, times(1)).createCatalog(savedKatalog);
         verify(baseCatalogRepositoryMock, times(1)).save(toSave);
     }
@@ -0,0 +1,213 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.project;
+
+import eu.tailoringexpert.domain.ApplicableDocumentEntity;
+import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
+import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseRequirementEntity;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import eu.tailoringexpert.repository.ApplicableDocumentRepository;
+import eu.tailoringexpert.repository.BaseCatalogRepository;
+import eu.tailoringexpert.repository.DBConfiguration;
+import eu.tailoringexpert.repository.DRDRepository;
+import eu.tailoringexpert.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+
+/**
+ * Duration of persisting a synthetic catalog of 10.000 requirements, each linked to a DRD and an applicable
+ * document, as base catalog (<code>CatalogService.doImport</code>) and as tailoring catalog of a new project
+ * (<code>ProjectService.createProject</code>).
+ * <p>
+ * <code>batchSize</code> is passed as <code>hibernate.jdbc.batch_size</code>; a size of 1 writes every row
+ * with its own statement.
+ * Run with <code>main</code> from the test classpath.
+ *
+ * @author Michael Bädorf
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CatalogPersistenceBenchmark {
+
+    private static final int CHAPTERS = 100;
+    private static final int REQUIREMENTS = 10_000;
+
+    @Param({"1", "100"})
+    private String batchSize;
+
+    private AnnotationConfigApplicationContext context;
+    private BaseCatalogRepository baseCatalogRepository;
+    private ProjectRepository projectRepository;
+    private DRDRepository drdRepository;
+    private ApplicableDocumentRepository documentRepository;
+    private TransactionTemplate transaction;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        System.setProperty("spring.jpa.properties.hibernate.jdbc.batch_size", batchSize);
+        context = new AnnotationConfigApplicationContext(DBConfiguration.class);
+        baseCatalogRepository = context.getBean(BaseCatalogRepository.class);
+        projectRepository = context.getBean(ProjectRepository.class);
+        drdRepository = context.getBean(DRDRepository.class);
+        documentRepository = context.getBean(ApplicableDocumentRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        transaction.executeWithoutResult(status -> drdRepository.saveAll(IntStream.range(0, 50)
+            .mapToObj(drd -> DRDEntity.builder()
+                .number("DRD-" + drd)
+                .title("DRD " + drd)
+                .build())
+            .toList()));
+
+        transaction.executeWithoutResult(status -> documentRepository.saveAll(IntStream.range(0, 20)
+            .mapToObj(document -> ApplicableDocumentEntity.builder()
+                .number("AD-" + document)
+                .title("Document " + document)
+                .issue("A")
+                .build())
+            .toList()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        System.clearProperty("spring.jpa.properties.hibernate.jdbc.batch_size");
+    }
+
+    @Benchmark
+    public Long createBaseCatalog() {
+        String version = "8.2." + counter.incrementAndGet();
+        return transaction.execute(status -> baseCatalogRepository.save(
+            baseCatalog(version, drdRepository.findAll(), documentRepository.findAll())).getId());
+    }
+
+    @Benchmark
+    public Long createProject() {
+        String identifier = "SAMPLE-" + counter.incrementAndGet();
+        return transaction.execute(status -> projectRepository.save(
+            project(identifier, drdRepository.findAll(), documentRepository.findAll())).getId());
+    }
+
+    private BaseCatalogEntity baseCatalog(String version,
+                                          List<DRDEntity> drds,
+                                          List<ApplicableDocumentEntity> documents) {
+        return BaseCatalogEntity.builder()
+            .version(version)
+            .toc(BaseCatalogChapterEntity.builder()
+                .chapters(IntStream.rangeClosed(1, CHAPTERS)
+                    .mapToObj(chapter -> BaseCatalogChapterEntity.builder()
+                        .number(String.valueOf(chapter))
+                        .position(chapter)
+                        .requirements(IntStream.range(0, REQUIREMENTS / CHAPTERS)
+                            .mapToObj(position -> BaseRequirementEntity.builder()
+                                .position(String.valueOf(position))
+                                .number(chapter + "." + position)
+                                .text("Requirement " + chapter + "." + position)
+                                .drds(new HashSet<>(Set.of(drds.get(position % drds.size()))))
+                                .applicableDocuments(List.of(documents.get(position % documents.size())))
+                                .build())
+                            .toList())
+                        .build())
+                    .toList())
+                .build())
+            .build();
+    }
+
+    private ProjectEntity project(String identifier,
+                                  List<DRDEntity> drds,
+                                  List<ApplicableDocumentEntity> documents) {
+        return ProjectEntity.builder()
+            .identifier(identifier)
+            .state(ONGOING)
+            .tailorings(List.of(TailoringEntity.builder()
+                .name("master")
+                .phase(ZERO)
+                .catalog(TailoringCatalogEntity.builder()
+                    .version("8.2.1")
+                    .toc(TailoringCatalogChapterEntity.builder()
+                        .chapters(IntStream.rangeClosed(1, CHAPTERS)
+                            .mapToObj(chapter -> TailoringCatalogChapterEntity.builder()
+                                .number(String.valueOf(chapter))
+                                .position(chapter)
+                                .requirements(IntStream.range(0, REQUIREMENTS / CHAPTERS)
+                                    .mapToObj(position -> TailoringRequirementEntity.builder()
+                                        .position(String.valueOf(position))
+                                        .number(chapter + "." + position)
+                                        .text("Requirement " + chapter + "." + position)
+                                        .selected(Boolean.TRUE)
+                                        .drds(new HashSet<>(Set.of(drds.get(position % drds.size()))))
+                                        .applicableDocuments(List.of(documents.get(position % documents.size())))
+                                        .build())
+                                    .toList())
+                                .build())
+                            .toList())
+                        .build())
+                    .build())
+                .build()))
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CatalogPersistenceBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
@@ -30,6 +30,7 @@ import eu.tailoringexpert.repository.LogoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
@@ -215,6 +216,33 @@ class JPAProjectServiceRepositoryMapperTest {
         assertThat(actual.getSelectionVector().getLevel("G")).isZero();
     }
 
+    @Test
+    void toEntity_ScreeningSheetWithData_FileWithDataReturned() {
+        // arrange
+        ScreeningSheet screeningSheet = ScreeningSheet.builder()
+            .data("Hi there".getBytes(UTF_8))
+            .build();
+
+        // act
+        ScreeningSheetEntity actual = mapper.toEntity(screeningSheet);
+
+        // assert
+        assertThat(actual.getFile()).isNotNull();
+        assertThat(actual.getFile().getData()).isEqualTo("Hi there".getBytes(UTF_8));
+    }
+
+    @Test
+    void toEntity_ScreeningSheetWithoutData_FileNullReturned() {
+        // arrange
+        ScreeningSheet screeningSheet = ScreeningSheet.builder().build();
+
+        // act
+        ScreeningSheetEntity actual = mapper.toEntity(screeningSheet);
+
+        // assert
+        assertThat(actual.getFile()).isNull();
+    }
+
     @Test
     void resolve_LogoNull_NullReturned() {
         // arrange
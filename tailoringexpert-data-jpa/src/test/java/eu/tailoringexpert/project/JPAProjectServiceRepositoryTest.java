@@ -21,53 +21,91 @@
  */
 package eu.tailoringexpert.project;
 
+import eu.tailoringexpert.catalog.BaseCatalogSnapshotCache;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.Phase;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationFilter;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
+import eu.tailoringexpert.domain.PurgeJobEntity;
+import eu.tailoringexpert.domain.ResultPage;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
+import eu.tailoringexpert.domain.ScreeningSheetFileEntity;
 import eu.tailoringexpert.domain.Tailoring;
 import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformation;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
+import eu.tailoringexpert.domain.TailoringPhaseProjection;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
+import eu.tailoringexpert.tailoring.BaseRequirementReferenceHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static eu.tailoringexpert.domain.ProjectState.COMPLETED;
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+import static eu.tailoringexpert.domain.PurgeState.PENDING;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 class JPAProjectServiceRepositoryTest {
 
     ProjectRepository projectRepositoryMock;
     BaseCatalogRepository baseCatalogRepositoryMock;
+    BaseCatalogChapterRepository baseCatalogChapterRepositoryMock;
+    TailoringCatalogChapterRepository tailoringCatalogChapterRepositoryMock;
     JPAProjectServiceRepositoryMapper mapperMock;
+    BaseRequirementReferenceHandler baseRequirementReferenceHandlerMock;
+    PurgeJobRepository purgeJobRepositoryMock;
     JPAProjectServiceRepository repository;
 
     @BeforeEach
     void setup() {
         this.projectRepositoryMock = mock(ProjectRepository.class);
         this.baseCatalogRepositoryMock = mock(BaseCatalogRepository.class);
+        this.baseCatalogChapterRepositoryMock = mock(BaseCatalogChapterRepository.class);
+        this.tailoringCatalogChapterRepositoryMock = mock(TailoringCatalogChapterRepository.class);
         this.mapperMock = mock(JPAProjectServiceRepositoryMapper.class);
+        this.baseRequirementReferenceHandlerMock = mock(BaseRequirementReferenceHandler.class);
+        this.purgeJobRepositoryMock = mock(PurgeJobRepository.class);
         this.repository = new JPAProjectServiceRepository(
             this.mapperMock,
             this.projectRepositoryMock,
-            this.baseCatalogRepositoryMock
+            this.baseCatalogRepositoryMock,
+            this.baseCatalogChapterRepositoryMock,
+            this.tailoringCatalogChapterRepositoryMock,
+            this.baseRequirementReferenceHandlerMock,
+            new BaseCatalogSnapshotCache(() -> "plattform", 5),
+            this.purgeJobRepositoryMock
         );
     }
 
@@ -97,6 +135,7 @@ class JPAProjectServiceRepositoryTest {
 
         // assert
         assertThat(actual).isNotNull();
+        verify(baseCatalogChapterRepositoryMock, times(1)).loadCatalog(baseCatalog);
     }
 
     @Test
@@ -117,27 +156,73 @@ class JPAProjectServiceRepositoryTest {
     }
 
     @Test
-    void deleteProject_ProjectExists_ProjectDeleted() {
+    void createProject_ProjectWithTailoring_TailoringPathUpdated() {
         // arrange
-        given(projectRepositoryMock.deleteByIdentifier("SAMPLE")).willReturn(1l);
+        Project project = Project.builder().build();
+        TailoringCatalogEntity catalog = TailoringCatalogEntity.builder().build();
+        TailoringEntity tailoring = TailoringEntity.builder()
+            .id(42L)
+            .catalog(catalog)
+            .build();
+        ProjectEntity projectToSave = ProjectEntity.builder()
+            .tailorings(List.of(tailoring))
+            .build();
+
+        given(mapperMock.createProject(project)).willReturn(projectToSave);
+        given(mapperMock.toDomain(projectToSave)).willReturn(Project.builder().build());
+        given(projectRepositoryMock.save(projectToSave)).willReturn(projectToSave);
+
+        // act
+        Project actual = repository.createProject(project);
+
+        // assert
+        assertThat(actual).isNotNull();
+        verify(baseRequirementReferenceHandlerMock, times(1)).accept(catalog);
+        verify(projectRepositoryMock, times(1)).flush();
+        verify(tailoringCatalogChapterRepositoryMock, times(1)).updateTailoringPath(42L, catalog);
+    }
+
+    @Test
+    void deleteProject_ProjectExists_ProjectMarkedDeletedAndPurgeJobsCreated() {
+        // arrange
+        given(projectRepositoryMock.findByIdentifier("SAMPLE")).willReturn(ProjectEntity.builder()
+            .id(42L)
+            .identifier("SAMPLE")
+            .tailorings(List.of(
+                TailoringEntity.builder().id(43L).name("master").identifier("1000").build(),
+                TailoringEntity.builder().id(44L).name("master1").identifier("1001").build()))
+            .build());
 
         // act
         boolean actual = repository.deleteProject("SAMPLE");
 
         // assert
         assertThat(actual).isTrue();
+        verify(projectRepositoryMock, times(1)).markDeleted(eq(42L), any());
+        verify(projectRepositoryMock, times(0)).deleteByIdentifier(anyString());
+        ArgumentCaptor<List<PurgeJobEntity>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(purgeJobRepositoryMock, times(1)).saveAll(jobs.capture());
+        assertThat(jobs.getValue())
+            .extracting(PurgeJobEntity::getProjectId, PurgeJobEntity::getTailoringId, PurgeJobEntity::getIdentifier,
+                PurgeJobEntity::getState)
+            .containsExactly(
+                tuple(42L, 43L, "1000", PENDING),
+                tuple(42L, 44L, "1001", PENDING),
+                tuple(42L, null, null, PENDING));
     }
 
     @Test
     void deleteProject_ProjectNotExists_NoProjectDeleted() {
         // arrange
-        given(projectRepositoryMock.deleteByIdentifier("SAMPLE")).willReturn(0l);
+        given(projectRepositoryMock.findByIdentifier("SAMPLE")).willReturn(null);
 
         // act
         boolean actual = repository.deleteProject("SAMPLE");
 
         // assert
         assertThat(actual).isFalse();
+        verify(projectRepositoryMock, times(0)).markDeleted(any(), any());
+        verifyNoInteractions(purgeJobRepositoryMock);
     }
 
     @Test
@@ -177,7 +262,11 @@ class JPAProjectServiceRepositoryTest {
         Tailoring tailoring = Tailoring.builder()
             .catalog(Catalog.<TailoringRequirement>builder().version("8.2.1").build())
             .build();
-        TailoringEntity tailoringToAdd = TailoringEntity.builder().build();
+        TailoringCatalogEntity catalog = TailoringCatalogEntity.builder().build();
+        TailoringEntity tailoringToAdd = TailoringEntity.builder()
+            .id(42L)
+            .catalog(catalog)
+            .build();
 
         given(mapperMock.toEntity(tailoring)).willReturn(tailoringToAdd);
         given(mapperMock.toDomain(tailoringToAdd)).willReturn(Tailoring.builder().build());
@@ -188,32 +277,99 @@ class JPAProjectServiceRepositoryTest {
         // assert
         assertThat(actual).isPresent();
         assertThat(projectEntity.getTailorings()).contains(tailoringToAdd);
+        verify(baseRequirementReferenceHandlerMock, times(1)).accept(catalog);
+        verify(tailoringCatalogChapterRepositoryMock, times(1)).updateTailoringPath(42L, catalog);
     }
 
     @Test
-    void getProjektInformationen() {
+    void getProjectInformations_ProjectsWithTailoringsExist_PageWithTailoringsReturned() {
         // arrange
-        given(projectRepositoryMock.findAll())
-            .willReturn(Arrays.asList(
-                    ProjectEntity.builder()
-                        .identifier("SAMPLE")
-                        .build(),
-                    ProjectEntity.builder()
-                        .identifier("H3SAT")
-                        .build(),
-                    ProjectEntity.builder()
-                        .identifier("H4SAT")
-                        .build()
-                )
-            );
-
-        given(mapperMock.getProjectInformationen(any(ProjectEntity.class))).willReturn(ProjectInformation.builder().build());
+        ProjectInformationProjection sample = mock(ProjectInformationProjection.class);
+        given(sample.getId()).willReturn(1L);
+        given(sample.getIdentifier()).willReturn("SAMPLE");
+        given(sample.getState()).willReturn(ONGOING);
+        ProjectInformationProjection h3sat = mock(ProjectInformationProjection.class);
+        given(h3sat.getId()).willReturn(2L);
+        given(h3sat.getIdentifier()).willReturn("H3SAT");
+
+        ProjectInformationFilter filter = ProjectInformationFilter.builder()
+            .state(ONGOING)
+            .catalogVersion("8.2.1")
+            .page(1)
+            .size(2)
+            .sort("creationTimestamp")
+            .descending(true)
+            .build();
+        PageRequest pageRequest = PageRequest.of(1, 2, Sort.by(DESC, "creationTimestamp"));
+        given(projectRepositoryMock.findProjectInformations(ONGOING, "8.2.1", pageRequest))
+            .willReturn(new PageImpl<>(List.of(sample, h3sat), pageRequest, 5));
+
+        TailoringInformationProjection master = mock(TailoringInformationProjection.class);
+        given(master.getProjectId()).willReturn(1L);
+        given(master.getId()).willReturn(10L);
+        given(master.getName()).willReturn("master");
+        given(master.getCatalogVersion()).willReturn("8.2.1");
+        given(projectRepositoryMock.findTailoringInformations(List.of(1L, 2L))).willReturn(List.of(master));
+
+        TailoringPhaseProjection phase = mock(TailoringPhaseProjection.class);
+        given(phase.getTailoringId()).willReturn(10L);
+        given(phase.getPhase()).willReturn(Phase.E);
+        given(projectRepositoryMock.findTailoringPhases(List.of(10L))).willReturn(List.of(phase));
 
         // act
-        Collection<ProjectInformation> actual = repository.getProjectInformations();
+        ResultPage<ProjectInformation> actual = repository.getProjectInformations(filter);
 
         // assert
-        assertThat(actual).hasSize(3);
+        assertThat(actual.getPage()).isEqualTo(1);
+        assertThat(actual.getSize()).isEqualTo(2);
+        assertThat(actual.getTotalElements()).isEqualTo(5);
+        assertThat(actual.getTotalPages()).isEqualTo(3);
+        assertThat(actual.getContent())
+            .extracting(ProjectInformation::getIdentifier)
+            .containsExactly("SAMPLE", "H3SAT");
+        assertThat(actual.getContent().get(0).getTailorings())
+            .extracting(TailoringInformation::getName, TailoringInformation::getCatalogVersion, TailoringInformation::getPhases)
+            .containsExactly(tuple("master", "8.2.1", List.of(Phase.E)));
+        assertThat(actual.getContent().get(1).getTailorings()).isEmpty();
+        verify(projectRepositoryMock, times(0)).findAll();
+    }
+
+    @Test
+    void getProjectInformations_UnsupportedSortProperty_SortedByIdentifier() {
+        // arrange
+        ProjectInformationFilter filter = ProjectInformationFilter.builder()
+            .sort("screeningSheet")
+            .build();
+        PageRequest pageRequest = PageRequest.of(0, ProjectInformationFilter.DEFAULT_SIZE, Sort.by(ASC, "identifier"));
+        given(projectRepositoryMock.findProjectInformations(null, null, pageRequest))
+            .willReturn(new PageImpl<>(List.of(), pageRequest, 0));
+
+        // act
+        ResultPage<ProjectInformation> actual = repository.getProjectInformations(filter);
+
+        // assert
+        assertThat(actual.getContent()).isEmpty();
+        assertThat(actual.getTotalElements()).isZero();
+        verify(projectRepositoryMock, times(1)).findProjectInformations(null, null, pageRequest);
+        verify(projectRepositoryMock, times(0)).findTailoringInformations(any());
+    }
+
+    @Test
+    void getProjectInformations_SizeExceedsMaximum_SizeLimited() {
+        // arrange
+        ProjectInformationFilter filter = ProjectInformationFilter.builder()
+            .size(ProjectInformationFilter.MAX_SIZE + 1)
+            .build();
+        PageRequest pageRequest = PageRequest.of(0, ProjectInformationFilter.MAX_SIZE, Sort.by(ASC, "identifier"));
+        given(projectRepositoryMock.findProjectInformations(null, null, pageRequest))
+            .willReturn(new PageImpl<>(List.of(), pageRequest, 0));
+
+        // act
+        ResultPage<ProjectInformation> actual = repository.getProjectInformations(filter);
+
+        // assert
+        assertThat(actual.getSize()).isEqualTo(ProjectInformationFilter.MAX_SIZE);
+        verify(projectRepositoryMock, times(1)).findProjectInformations(null, null, pageRequest);
     }
 
     @Test
@@ -315,7 +471,9 @@ class JPAProjectServiceRepositoryTest {
             .identifier("SAMPLE")
             .screeningSheet(ScreeningSheetEntity.builder()
                 .id(4711L)
-                .data("Hi there".getBytes(UTF_8))
+                .file(ScreeningSheetFileEntity.builder()
+                    .data("Hi there".getBytes(UTF_8))
+                    .build())
                 .build())
             .build();
         given(projectRepositoryMock.findByIdentifier(project)).willReturn(entity);
@@ -324,9 +482,8 @@ class JPAProjectServiceRepositoryTest {
         Optional<byte[]> actual = repository.getScreeningSheetFile(project);
 
         // assert
-        assertThat(actual).isNotEmpty();
+        assertThat(actual).contains("Hi there".getBytes(UTF_8));
         verify(projectRepositoryMock, times(1)).findByIdentifier(project);
-
     }
 
     @Test
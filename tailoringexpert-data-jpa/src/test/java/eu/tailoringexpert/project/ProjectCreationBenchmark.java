@@ -0,0 +1,141 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.project;
+
+import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import eu.tailoringexpert.repository.DBConfiguration;
+import eu.tailoringexpert.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+
+/**
+ * Throughput of persisting new projects including a tailoring catalog, i.e. the database part of
+ * <code>ProjectService.createProject</code>.
+ * <p>
+ * Run with <code>main</code> from the test classpath. Compare results before and after changing
+ * {@link eu.tailoringexpert.domain.IdentifierAllocationSize}.
+ *
+ * @author Michael Bädorf
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProjectCreationBenchmark {
+
+    @Param({"1000", "5000"})
+    private int requirements;
+
+    private AnnotationConfigApplicationContext context;
+    private ProjectRepository repository;
+    private TransactionTemplate transaction;
+    private final AtomicLong counter = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new AnnotationConfigApplicationContext(DBConfiguration.class);
+        repository = context.getBean(ProjectRepository.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Long createProject() {
+        ProjectEntity project = project("SAMPLE-" + counter.incrementAndGet());
+        return transaction.execute(status -> repository.save(project).getId());
+    }
+
+    private ProjectEntity project(String identifier) {
+        int chapters = 10;
+        return ProjectEntity.builder()
+            .identifier(identifier)
+            .state(ONGOING)
+            .tailorings(List.of(TailoringEntity.builder()
+                .name("master")
+                .phase(ZERO)
+                .catalog(TailoringCatalogEntity.builder()
+                    .version("8.2.1")
+                    .toc(TailoringCatalogChapterEntity.builder()
+                        .chapters(IntStream.rangeClosed(1, chapters)
+                            .mapToObj(chapter -> TailoringCatalogChapterEntity.builder()
+                                .number(String.valueOf(chapter))
+                                .position(chapter)
+                                .requirements(IntStream.range(0, requirements / chapters)
+                                    .mapToObj(position -> TailoringRequirementEntity.builder()
+                                        .position(String.valueOf(position))
+                                        .number(chapter + "." + position)
+                                        .text("Requirement " + chapter + "." + position)
+                                        .selected(Boolean.TRUE)
+                                        .build())
+                                    .toList())
+                                .build())
+                            .toList())
+                        .build())
+                    .build())
+                .build()))
+            .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ProjectCreationBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,302 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.purge;
+
+import eu.tailoringexpert.domain.PurgeJob;
+import eu.tailoringexpert.domain.PurgeJobEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
+import eu.tailoringexpert.repository.ScreeningSheetRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static eu.tailoringexpert.domain.PurgeState.COMPLETED;
+import static eu.tailoringexpert.domain.PurgeState.FAILED;
+import static eu.tailoringexpert.domain.PurgeState.PENDING;
+import static eu.tailoringexpert.domain.PurgeState.RUNNING;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JPAPurgeServiceRepositoryTest {
+
+    PurgeJobRepository purgeJobRepositoryMock;
+    ProjectRepository projectRepositoryMock;
+    TailoringRepository tailoringRepositoryMock;
+    TailoringCatalogChapterRepository tailoringCatalogChapterRepositoryMock;
+    TailoringRequirementRepository tailoringRequirementRepositoryMock;
+    TailoringRequirementChangeRepository tailoringRequirementChangeRepositoryMock;
+    ScreeningSheetRepository screeningSheetRepositoryMock;
+    JPAPurgeServiceRepository repository;
+
+    @BeforeEach
+    void setup() {
+        this.purgeJobRepositoryMock = mock(PurgeJobRepository.class);
+        this.projectRepositoryMock = mock(ProjectRepository.class);
+        this.tailoringRepositoryMock = mock(TailoringRepository.class);
+        this.tailoringCatalogChapterRepositoryMock = mock(TailoringCatalogChapterRepository.class);
+        this.tailoringRequirementRepositoryMock = mock(TailoringRequirementRepository.class);
+        this.tailoringRequirementChangeRepositoryMock = mock(TailoringRequirementChangeRepository.class);
+        this.screeningSheetRepositoryMock = mock(ScreeningSheetRepository.class);
+        this.repository = new JPAPurgeServiceRepository(
+            new JPAPurgeServiceRepositoryMapperGenerated(),
+            purgeJobRepositoryMock,
+            projectRepositoryMock,
+            tailoringRepositoryMock,
+            tailoringCatalogChapterRepositoryMock,
+            tailoringRequirementRepositoryMock,
+            tailoringRequirementChangeRepositoryMock,
+            screeningSheetRepositoryMock
+        );
+    }
+
+    @Test
+    void purge_RequirementsLeft_RequirementBatchWithChangesAndReferencesDeleted() {
+        // arrange
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.of(tailoringJob()));
+        given(tailoringRequirementRepositoryMock.findPurgeableRequirements(43L, PageRequest.of(0, 2)))
+            .willReturn(List.of(100L, 101L));
+        given(tailoringRequirementChangeRepositoryMock.deleteRequirementChanges(List.of(100L, 101L))).willReturn(3);
+        given(tailoringRequirementRepositoryMock.deleteDRDReferences(List.of(100L, 101L))).willReturn(1);
+        given(tailoringRequirementRepositoryMock.deleteApplicableDocumentReferences(List.of(100L, 101L))).willReturn(0);
+        given(tailoringRequirementRepositoryMock.deleteRequirements(List.of(100L, 101L))).willReturn(2);
+
+        // act
+        int actual = repository.purge(1L, 2);
+
+        // assert
+        assertThat(actual).isEqualTo(6);
+        verify(purgeJobRepositoryMock, times(1)).updateProgress(1L, RUNNING, 6);
+        verify(tailoringCatalogChapterRepositoryMock, times(0)).deleteChapters(any());
+        verify(tailoringRepositoryMock, times(0)).delete(any());
+    }
+
+    @Test
+    void purge_OnlyChaptersLeft_ChapterBatchDeleted() {
+        // arrange
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.of(tailoringJob()));
+        given(tailoringRequirementRepositoryMock.findPurgeableRequirements(43L, PageRequest.of(0, 2)))
+            .willReturn(emptyList());
+        given(tailoringCatalogChapterRepositoryMock.findPurgeableChapters(43L, PageRequest.of(0, 2)))
+            .willReturn(List.of(10L, 11L));
+        given(tailoringCatalogChapterRepositoryMock.deleteChapters(List.of(10L, 11L))).willReturn(2);
+
+        // act
+        int actual = repository.purge(1L, 2);
+
+        // assert
+        assertThat(actual).isEqualTo(2);
+        verify(tailoringCatalogChapterRepositoryMock, times(1)).detachChapters(43L);
+        verify(purgeJobRepositoryMock, times(1)).updateProgress(1L, RUNNING, 2);
+        verify(tailoringRepositoryMock, times(0)).delete(any());
+    }
+
+    @Test
+    void purge_OnlyTailoringLeft_TailoringDeleted() {
+        // arrange
+        TailoringEntity tailoring = TailoringEntity.builder().id(43L).build();
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.of(tailoringJob()));
+        given(tailoringRequirementRepositoryMock.findPurgeableRequirements(43L, PageRequest.of(0, 2)))
+            .willReturn(emptyList());
+        given(tailoringCatalogChapterRepositoryMock.findPurgeableChapters(43L, PageRequest.of(0, 2)))
+            .willReturn(emptyList());
+        given(tailoringRepositoryMock.findIncludingDeleted(43L)).willReturn(Optional.of(tailoring));
+
+        // act
+        int actual = repository.purge(1L, 2);
+
+        // assert
+        assertThat(actual).isOne();
+        verify(tailoringRepositoryMock, times(1)).delete(tailoring);
+    }
+
+    @Test
+    void purge_TailoringAlreadyPurged_ZeroReturned() {
+        // arrange
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.of(tailoringJob()));
+        given(tailoringRequirementRepositoryMock.findPurgeableRequirements(43L, PageRequest.of(0, 2)))
+            .willReturn(emptyList());
+        given(tailoringCatalogChapterRepositoryMock.findPurgeableChapters(43L, PageRequest.of(0, 2)))
+            .willReturn(emptyList());
+        given(tailoringRepositoryMock.findIncludingDeleted(43L)).willReturn(Optional.empty());
+
+        // act
+        int actual = repository.purge(1L, 2);
+
+        // assert
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void purge_ProjectWithoutTailorings_ProjectAndScreeningSheetDeleted() {
+        // arrange
+        given(purgeJobRepositoryMock.findById(2L)).willReturn(Optional.of(PurgeJobEntity.builder()
+            .id(2L)
+            .projectId(42L)
+            .project("SAMPLE")
+            .state(PENDING)
+            .purgedRows(0L)
+            .build()));
+        given(tailoringRepositoryMock.findAllTailorings(42L)).willReturn(emptyList());
+        given(projectRepositoryMock.findScreeningSheet(42L)).willReturn(7L);
+        given(projectRepositoryMock.deleteMarkedProject(42L)).willReturn(1);
+
+        // act
+        int actual = repository.purge(2L, 2);
+
+        // assert
+        assertThat(actual).isEqualTo(2);
+        verify(screeningSheetRepositoryMock, times(1)).deleteById(7L);
+        verify(purgeJobRepositoryMock, times(1)).updateProgress(2L, RUNNING, 2);
+    }
+
+    @Test
+    void purge_ProjectWithTailoring_TailoringPurgedFirst() {
+        // arrange
+        given(purgeJobRepositoryMock.findById(2L)).willReturn(Optional.of(PurgeJobEntity.builder()
+            .id(2L)
+            .projectId(42L)
+            .project("SAMPLE")
+            .state(RUNNING)
+            .purgedRows(0L)
+            .build()));
+        given(tailoringRepositoryMock.findAllTailorings(42L)).willReturn(List.of(43L));
+        given(tailoringRequirementRepositoryMock.findPurgeableRequirements(43L, PageRequest.of(0, 2)))
+            .willReturn(List.of(100L));
+        given(tailoringRequirementRepositoryMock.deleteRequirements(List.of(100L))).willReturn(1);
+
+        // act
+        int actual = repository.purge(2L, 2);
+
+        // assert
+        assertThat(actual).isOne();
+        verify(projectRepositoryMock, times(0)).deleteMarkedProject(anyLong());
+    }
+
+    @Test
+    void purge_JobCompleted_NothingPurged() {
+        // arrange
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.of(PurgeJobEntity.builder()
+            .id(1L)
+            .tailoringId(43L)
+            .state(COMPLETED)
+            .build()));
+
+        // act
+        int actual = repository.purge(1L, 2);
+
+        // assert
+        assertThat(actual).isZero();
+        verifyNoInteractions(tailoringRequirementRepositoryMock, tailoringCatalogChapterRepositoryMock,
+            tailoringRepositoryMock);
+    }
+
+    @Test
+    void completePurgeJob_JobExists_JobCompleted() {
+        // arrange
+        PurgeJobEntity job = tailoringJob();
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.of(job));
+
+        // act
+        Optional<PurgeJob> actual = repository.completePurgeJob(1L);
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getState()).isEqualTo(COMPLETED);
+        assertThat(actual.get().getCompletionTimestamp()).isNotNull();
+        assertThat(job.getState()).isEqualTo(COMPLETED);
+    }
+
+    @Test
+    void failPurgeJob_JobExists_FailedAttemptsIncreasedAndNextAttemptSet() {
+        // arrange
+        PurgeJobEntity job = tailoringJob();
+        job.setFailedAttempts(1);
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.of(job));
+        ZonedDateTime nextAttempt = ZonedDateTime.now().plusMinutes(10);
+
+        // act
+        Optional<PurgeJob> actual = repository.failPurgeJob(1L, nextAttempt);
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get().getState()).isEqualTo(FAILED);
+        assertThat(actual.get().getFailedAttempts()).isEqualTo(2);
+        assertThat(actual.get().getNextAttemptTimestamp()).isEqualTo(nextAttempt);
+    }
+
+    @Test
+    void failPurgeJob_JobNotExists_EmptyReturned() {
+        // arrange
+        given(purgeJobRepositoryMock.findById(1L)).willReturn(Optional.empty());
+
+        // act
+        Optional<PurgeJob> actual = repository.failPurgeJob(1L, ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getOpenPurgeJobs_JobsExist_NotCompletedJobsReturned() {
+        // arrange
+        given(purgeJobRepositoryMock.findByStateNotOrderById(COMPLETED)).willReturn(List.of(tailoringJob()));
+
+        // act
+        List<PurgeJob> actual = List.copyOf(repository.getOpenPurgeJobs());
+
+        // assert
+        assertThat(actual)
+            .extracting(PurgeJob::getId, PurgeJob::getProject, PurgeJob::getTailoring, PurgeJob::getIdentifier)
+            .containsExactly(tuple(1L, "SAMPLE", "master1", "1001"));
+    }
+
+    private PurgeJobEntity tailoringJob() {
+        return PurgeJobEntity.builder()
+            .id(1L)
+            .projectId(42L)
+            .tailoringId(43L)
+            .project("SAMPLE")
+            .tailoring("master1")
+            .identifier("1001")
+            .state(PENDING)
+            .purgedRows(0L)
+            .build();
+    }
+}
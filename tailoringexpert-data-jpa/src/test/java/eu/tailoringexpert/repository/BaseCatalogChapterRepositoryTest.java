@@ -0,0 +1,210 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.ApplicableDocumentEntity;
+import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
+import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseRequirementEntity;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.IdentifierEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static eu.tailoringexpert.domain.Phase.A;
+import static eu.tailoringexpert.domain.Phase.ZERO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Log4j2
+@SpringJUnitConfig(classes = {DBConfiguration.class})
+@Transactional
+class BaseCatalogChapterRepositoryTest {
+
+    @Autowired
+    BaseCatalogRepository baseCatalogRepository;
+
+    @Autowired
+    BaseCatalogChapterRepository repository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    Statistics statistics;
+
+    BaseCatalogEntity catalog;
+
+    @BeforeEach
+    void setup() {
+        catalog = baseCatalogRepository.saveAndFlush(BaseCatalogEntity.builder()
+            .version("8.2.1")
+            .toc(BaseCatalogChapterEntity.builder()
+                .chapters(List.of(
+                    BaseCatalogChapterEntity.builder()
+                        .number("1")
+                        .chapters(List.of(
+                            BaseCatalogChapterEntity.builder()
+                                .number("1.1")
+                                .requirements(List.of(
+                                    createRequirement("1.1", "a"),
+                                    createRequirement("1.1", "b")))
+                                .build()))
+                        .build(),
+                    BaseCatalogChapterEntity.builder()
+                        .number("2")
+                        .requirements(List.of(createRequirement("2", "a")))
+                        .build()))
+                .build())
+            .build());
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void loadTree_CatalogExists_CompleteTreeLoadedWithFixedNumberOfStatements() {
+        // arrange
+        Long toc = catalog.getToc().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        // act
+        BaseCatalogChapterEntity actual = repository.loadTree(toc);
+
+        // assert
+        List<BaseRequirementEntity> requirements = actual.getChapters().stream()
+            .flatMap(this::allRequirements)
+            .toList();
+        assertThat(requirements).hasSize(3);
+        assertThat(requirements).allSatisfy(requirement -> {
+            assertThat(requirement.getPhases()).containsExactlyInAnyOrder(ZERO, A);
+            assertThat(requirement.getIdentifiers()).hasSize(1);
+            assertThat(requirement.getIdentifiers().iterator().next().getLimitations()).containsExactly("SAT");
+            assertThat(requirement.getDrds()).hasSize(1);
+            assertThat(requirement.getApplicableDocuments()).hasSize(1);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+    }
+
+    @Test
+    void loadTree_ChapterNotExists_NullReturned() {
+        // arrange
+
+        // act
+        BaseCatalogChapterEntity actual = repository.loadTree(-1L);
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void loadCatalog_TocAlreadyLoaded_NoStatementExecuted() {
+        // arrange
+        statistics.clear();
+
+        // act
+        repository.loadCatalog(catalog);
+
+        // assert
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void loadCatalog_TocNotLoaded_TreeLoaded() {
+        // arrange
+        entityManager.clear();
+        BaseCatalogEntity entity = baseCatalogRepository.findByVersion("8.2.1", BaseCatalogEntity.class);
+        statistics.clear();
+
+        // act
+        repository.loadCatalog(entity);
+
+        // assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+        assertThat(entity.getToc().getChapters()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+    }
+
+    @Test
+    void loadCatalog_OnlyTocLoaded_TreeLoaded() {
+        // arrange
+        entityManager.clear();
+        BaseCatalogEntity entity = baseCatalogRepository.findByVersion("8.2.1", BaseCatalogEntity.class);
+        entity.getToc().getChapters().size();
+        entity.getToc().getRequirements().size();
+        statistics.clear();
+
+        // act
+        repository.loadCatalog(entity);
+
+        // assert
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+        assertThat(allRequirements(entity.getToc()).flatMap(requirement -> requirement.getDrds().stream())).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+    }
+
+    private Stream<BaseRequirementEntity> allRequirements(BaseCatalogChapterEntity chapter) {
+        return Stream.concat(
+            chapter.getRequirements().stream(),
+            chapter.getChapters().stream().flatMap(this::allRequirements));
+    }
+
+    private BaseRequirementEntity createRequirement(String chapter, String position) {
+        return BaseRequirementEntity.builder()
+            .position(position)
+            .number(chapter + "." + position)
+            .text(chapter + "." + position)
+            .phase(ZERO)
+            .phase(A)
+            .identifiers(Set.of(IdentifierEntity.builder()
+                .type("Q")
+                .level(1)
+                .limitations(Set.of("SAT"))
+                .build()))
+            .drds(Set.of(DRDEntity.builder()
+                .number(chapter + "." + position)
+                .title("DRD")
+                .build()))
+            .applicableDocuments(List.of(ApplicableDocumentEntity.builder()
+                .title(chapter + "." + position)
+                .issue("A")
+                .build()))
+            .build();
+    }
+}
@@ -22,21 +22,37 @@
 package eu.tailoringexpert.repository;
 
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.ProjectInformationProjection;
+import eu.tailoringexpert.domain.ProjectState;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringInformationProjection;
+import eu.tailoringexpert.domain.TailoringPhaseProjection;
 import eu.tailoringexpert.domain.TailoringState;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static eu.tailoringexpert.domain.Phase.E;
 import static eu.tailoringexpert.domain.Phase.F;
 import static eu.tailoringexpert.domain.Phase.ZERO;
+import static eu.tailoringexpert.domain.ProjectState.COMPLETED;
 import static eu.tailoringexpert.domain.ProjectState.ONGOING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @Log4j2
 @SpringJUnitConfig(classes = {DBConfiguration.class})
@@ -49,6 +65,12 @@ class ProjectRepositoryTest {
     @Autowired
     ProjectRepository repository;
 
+    @Autowired
+    TailoringRepository tailoringRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
     @Test
     void save_ProjectEntityValid_ProjectSaved() {
         // arrange
@@ -251,4 +273,149 @@ class ProjectRepositoryTest {
         assertThat(actual).isTrue();
     }
 
+
+    @Test
+    void findProjectInformations_FilterByStateAndCatalog_MatchingProjectsPaged() {
+        // arrange
+        repository.save(createProject("SAMPLE1", ONGOING, "8.2.1"));
+        repository.save(createProject("SAMPLE2", ONGOING, "7.2.1"));
+        repository.save(createProject("SAMPLE3", COMPLETED, "8.2.1"));
+        repository.save(createProject("SAMPLE4", ONGOING, "8.2.1"));
+        repository.flush();
+
+        // act
+        Page<ProjectInformationProjection> actual = repository.findProjectInformations(ONGOING, "8.2.1",
+            PageRequest.of(0, 1, Sort.by(DESC, "identifier")));
+
+        // assert
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+        assertThat(actual.getTotalPages()).isEqualTo(2);
+        assertThat(actual.getContent())
+            .extracting(ProjectInformationProjection::getIdentifier)
+            .containsExactly("SAMPLE4");
+    }
+
+    @Test
+    void findProjectInformations_NoFilter_AllProjectsReturned() {
+        // arrange
+        repository.save(createProject("SAMPLE1", ONGOING, "8.2.1"));
+        repository.save(createProject("SAMPLE2", COMPLETED, "7.2.1"));
+        repository.flush();
+
+        // act
+        Page<ProjectInformationProjection> actual = repository.findProjectInformations(null, null,
+            PageRequest.of(0, 10, Sort.by("identifier")));
+
+        // assert
+        assertThat(actual.getContent())
+            .extracting(ProjectInformationProjection::getIdentifier, ProjectInformationProjection::getState)
+            .containsExactly(tuple("SAMPLE1", ONGOING), tuple("SAMPLE2", COMPLETED));
+    }
+
+    @Test
+    void findTailoringInformations_ProjectsWithTailorings_TailoringColumnsAndPhasesReturned() {
+        // arrange
+        ProjectEntity project = repository.save(createProject("SAMPLE1", ONGOING, "8.2.1"));
+        repository.flush();
+
+        // act
+        List<TailoringInformationProjection> actual = repository.findTailoringInformations(List.of(project.getId()));
+        List<TailoringPhaseProjection> phases = repository.findTailoringPhases(
+            actual.stream().map(TailoringInformationProjection::getId).toList());
+
+        // assert
+        assertThat(actual)
+            .extracting(TailoringInformationProjection::getProjectId, TailoringInformationProjection::getName,
+                TailoringInformationProjection::getCatalogVersion, TailoringInformationProjection::getState)
+            .containsExactly(tuple(project.getId(), "master", "8.2.1", TailoringState.CREATED));
+        assertThat(phases)
+            .extracting(TailoringPhaseProjection::getPhase)
+            .containsExactly(E, F);
+    }
+
+    @Test
+    void markDeleted_ProjectExists_ProjectNotLoadedAnymore() {
+        // arrange
+        ProjectEntity project = repository.save(ProjectEntity.builder().identifier("SAMPLE").state(ONGOING).build());
+
+        // act
+        int actual = repository.markDeleted(project.getId(), ZonedDateTime.now());
+
+        // assert
+        assertThat(actual).isOne();
+        assertThat(repository.findByIdentifier("SAMPLE")).isNull();
+        assertThat(repository.existsProjectByIdentifier("SAMPLE")).isFalse();
+    }
+
+    @Test
+    void markDeleted_TailoringExists_TailoringNotPartOfProjectAnymore() {
+        // arrange
+        ProjectEntity project = repository.saveAndFlush(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(new ArrayList<>(List.of(
+                TailoringEntity.builder().name("master").identifier("1000").build(),
+                TailoringEntity.builder().name("master1").identifier("1001").build(),
+                TailoringEntity.builder().name("master2").identifier("1002").build()
+            )))
+            .build());
+        Long tailoring = project.getTailorings().get(1).getId();
+
+        // act
+        tailoringRepository.markDeleted(tailoring, ZonedDateTime.now());
+        tailoringRepository.closeOrderGap(project.getId(), 1);
+
+        // assert
+        assertThat(repository.findTailoring("SAMPLE", "master1")).isNull();
+        assertThat(repository.existsTailoringIdentifier("SAMPLE", "1001")).isFalse();
+        assertThat(repository.findByIdentifier("SAMPLE").getTailorings())
+            .extracting(TailoringEntity::getName)
+            .containsExactly("master", "master2");
+        assertThat(tailoringRepository.findAllTailorings(project.getId())).hasSize(3);
+        assertThat(tailoringRepository.findIncludingDeleted(tailoring)).isPresent();
+    }
+
+    @Test
+    void closeOrderGap_TailoringAddedAfterDeletion_OrderOfActiveTailoringsKept() {
+        // arrange
+        ProjectEntity project = repository.saveAndFlush(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(new ArrayList<>(List.of(
+                TailoringEntity.builder().name("master").identifier("1000").build(),
+                TailoringEntity.builder().name("master1").identifier("1001").build()
+            )))
+            .build());
+        tailoringRepository.markDeleted(project.getTailorings().get(0).getId(), ZonedDateTime.now());
+
+        // act
+        tailoringRepository.closeOrderGap(project.getId(), 0);
+        ProjectEntity loaded = repository.findByIdentifier("SAMPLE");
+        loaded.getTailorings().add(TailoringEntity.builder().name("master2").identifier("1002").build());
+        repository.flush();
+        entityManager.clear();
+
+        // assert
+        assertThat(repository.findByIdentifier("SAMPLE").getTailorings())
+            .extracting(TailoringEntity::getName)
+            .containsExactly("master1", "master2");
+    }
+
+    private ProjectEntity createProject(String identifier, ProjectState state, String catalogVersion) {
+        return ProjectEntity.builder()
+            .identifier(identifier)
+            .state(state)
+            .tailorings(new ArrayList<>(List.of(
+                TailoringEntity.builder()
+                    .name("master")
+                    .state(TailoringState.CREATED)
+                    .phase(E)
+                    .phase(F)
+                    .catalog(TailoringCatalogEntity.builder()
+                        .version(catalogVersion)
+                        .build())
+                    .build()
+            )))
+            .build();
+    }
 }
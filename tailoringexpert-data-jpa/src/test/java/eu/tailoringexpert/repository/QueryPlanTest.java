@@ -0,0 +1,212 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.BaseCatalogEntity;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the queries of the hot lookup paths are executed using the indexes defined by liquibase.
+ * Schema is created by liquibase only, so the indexes are the same as in production.
+ */
+@Log4j2
+@SpringJUnitConfig(classes = {DBConfiguration.class})
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:tailoringexpert-queryplan;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=eu.tailoringexpert.repository.SQLStatementInspector"
+})
+@Transactional
+class QueryPlanTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    BaseCatalogRepository baseCatalogRepository;
+
+    @Autowired
+    TailoringCatalogRepository tailoringCatalogRepository;
+
+    @Autowired
+    TailoringRequirementRepository tailoringRequirementRepository;
+
+    @Autowired
+    DRDRepository drdRepository;
+
+    @Autowired
+    ApplicableDocumentRepository applicableDocumentRepository;
+
+    @Autowired
+    TailoringRequirementChangeRepository tailoringRequirementChangeRepository;
+
+    @BeforeEach
+    void setup() {
+        SQLStatementInspector.clear();
+    }
+
+    @Test
+    void findByIdentifier_ProjectIdentifier_IndexUsed() throws SQLException {
+        // arrange
+        projectRepository.findByIdentifier("SAMPLE");
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual)
+            .contains("IDX_PROJECT_IDENTIFIER")
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findTailoring_ProjectIdentifierAndTailoringName_IndexUsed() throws SQLException {
+        // arrange
+        projectRepository.findTailoring("SAMPLE", "master");
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual)
+            .contains("IDX_PROJECT_IDENTIFIER")
+            .contains("IDX_TAILORING_PROJECT_NAME")
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findByVersion_BaseCatalogVersion_IndexUsed() throws SQLException {
+        // arrange
+        baseCatalogRepository.findByVersion("8.2.1", BaseCatalogEntity.class);
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void existsByVersion_TailoringCatalogVersion_IndexUsed() throws SQLException {
+        // arrange
+        tailoringCatalogRepository.existsByVersion("8.2.1");
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual)
+            .contains("IDX_TAILORINGCATALOG_VERSION")
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findRequirement_ChapterAndNumber_IndexUsed() throws SQLException {
+        // arrange
+        tailoringRequirementRepository.findRequirement(1L, "1.1.a");
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual)
+            .contains("IDX_TAILORINGREQUIREMENT_CHAPTER_NUMBER")
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findByNumber_DRDNumber_IndexUsed() throws SQLException {
+        // arrange
+        drdRepository.findByNumber("01");
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual)
+            .contains("IDX_DRD_NUMBER")
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findByTitleAndIssueAndRevision_Document_IndexUsed() throws SQLException {
+        // arrange
+        applicableDocumentRepository.findByTitleAndIssueAndRevision("ECSS-Q-ST-80C", "C", "Rev.1");
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual)
+            .contains("IDX_APPLICABLEDOCUMENT_TITLE_ISSUE_REVISION")
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void findRequirementChanges_RequirementIdAndCursor_IndexUsed() throws SQLException {
+        // arrange
+        tailoringRequirementChangeRepository.findRequirementChanges(1L, null, 42L, null, PageRequest.of(0, 10));
+
+        // act
+        String actual = explain(SQLStatementInspector.last());
+
+        // assert
+        assertThat(actual)
+            .contains("IDX_TAILORINGREQUIREMENTCHANGE_REQUIREMENT_PAGE")
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    private String explain(String sql) throws SQLException {
+        log.debug(sql);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setString(i, "1");
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                String result = plan.getString(1);
+                log.debug(result);
+                return result;
+            }
+        }
+    }
+}
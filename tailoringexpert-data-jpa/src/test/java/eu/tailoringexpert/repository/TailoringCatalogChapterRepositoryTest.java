@@ -0,0 +1,450 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.ApplicableDocumentEntity;
+import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
+import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseRequirementEntity;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterProjection;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Log4j2
+@SpringJUnitConfig(classes = {DBConfiguration.class})
+@Transactional
+class TailoringCatalogChapterRepositoryTest {
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    TailoringCatalogChapterRepository repository;
+
+    @Autowired
+    BaseCatalogRepository baseCatalogRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @BeforeEach
+    void setup() {
+        ProjectEntity project = projectRepository.saveAndFlush(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(List.of(
+                TailoringEntity.builder()
+                    .name("master")
+                    .catalog(createCatalog("master"))
+                    .build(),
+                TailoringEntity.builder()
+                    .name("master1")
+                    .catalog(createCatalog("master1"))
+                    .build()
+            ))
+            .build());
+        project.getTailorings()
+            .forEach(tailoring -> repository.updateTailoringPath(tailoring.getId(), tailoring.getCatalog()));
+        entityManager.clear();
+    }
+
+    @Test
+    void findChapter_TopLevelChapterExists_ChapterReturned() {
+        // arrange
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.findChapter("SAMPLE", "master1", "2");
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getNumber()).isEqualTo("2");
+        assertThat(actual.getName()).isEqualTo("master1 2");
+    }
+
+    @Test
+    void findChapter_SubChapterExists_ChapterOfRequestedTailoringReturned() {
+        // arrange
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.findChapter("SAMPLE", "master", "1.1.1");
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getNumber()).isEqualTo("1.1.1");
+        assertThat(actual.getName()).isEqualTo("master 1.1.1");
+    }
+
+    @Test
+    void findChapter_ChapterNumberPrefixOfOtherChapter_ExactChapterReturned() {
+        // arrange
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.findChapter("SAMPLE", "master", "1.1");
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getName()).isEqualTo("master 1.1");
+    }
+
+    @Test
+    void findChapter_ChapterNotExists_NullReturned() {
+        // arrange
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.findChapter("SAMPLE", "master", "1.3");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void findChapter_TailoringNotExists_NullReturned() {
+        // arrange
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.findChapter("SAMPLE", "master2", "1.1");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void updateTailoringPath_TailoringSaved_ChapterAndRequirementPathsSet() {
+        // arrange
+        TailoringEntity tailoring = projectRepository.findTailoring("SAMPLE", "master");
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.findChapter("SAMPLE", "master", "1.1");
+
+        // assert
+        assertThat(tailoring.getCatalog().getToc().getTailoringId()).isEqualTo(tailoring.getId());
+        assertThat(tailoring.getCatalog().getToc().getPath()).isEmpty();
+        assertThat(actual.getTailoringId()).isEqualTo(tailoring.getId());
+        assertThat(actual.getPath()).isEqualTo("1.1.");
+        assertThat(actual.getRequirements())
+            .extracting(TailoringRequirementEntity::getPath)
+            .containsOnly("1.1.");
+    }
+
+    @Test
+    void updateTailoringPath_CatalogManaged_ManagedChaptersAndRequirementsUpdated() {
+        // arrange
+        ProjectEntity project = projectRepository.findByIdentifier("SAMPLE");
+        TailoringEntity tailoring = TailoringEntity.builder()
+            .name("master2")
+            .catalog(createCatalog("master2"))
+            .build();
+        project.getTailorings().add(tailoring);
+        projectRepository.flush();
+
+        // act
+        repository.updateTailoringPath(tailoring.getId(), tailoring.getCatalog());
+
+        // assert
+        TailoringCatalogChapterEntity actual = tailoring.getCatalog().getToc().getChapter("1.1").orElseThrow();
+        assertThat(tailoring.getCatalog().getToc().getPath()).isEmpty();
+        assertThat(actual.getTailoringId()).isEqualTo(tailoring.getId());
+        assertThat(actual.getPath()).isEqualTo("1.1.");
+        assertThat(actual.getRequirements())
+            .extracting(TailoringRequirementEntity::getTailoringId, TailoringRequirementEntity::getPath)
+            .containsOnly(tuple(tailoring.getId(), "1.1."));
+    }
+
+    @Test
+    void loadSubtree_ChapterExists_SubtreeOfTailoringLoadedWithFixedNumberOfStatements() {
+        // arrange
+        TailoringCatalogChapterEntity chapter = repository.findChapter("SAMPLE", "master", "1");
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // act
+        repository.loadSubtree(chapter);
+
+        // assert
+        List<TailoringCatalogChapterEntity> chapters = chapter.allChapters().toList();
+        List<TailoringRequirementEntity> requirements = chapters.stream()
+            .flatMap(subChapter -> subChapter.getRequirements().stream())
+            .toList();
+        assertThat(chapters)
+            .extracting(TailoringCatalogChapterEntity::getName)
+            .containsExactlyInAnyOrder("master 1", "master 1.1", "master 1.1.1", "master 1.10");
+        assertThat(requirements).hasSize(2);
+        assertThat(requirements).allSatisfy(requirement -> {
+            assertThat(requirement.getDrds()).hasSize(1);
+            assertThat(requirement.getApplicableDocuments()).hasSize(1);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void loadTree_RequirementReferencesBaseRequirement_ValuesOfBaseRequirementLoadedWithFixedNumberOfStatements() {
+        // arrange
+        BaseRequirementEntity baseRequirement = BaseRequirementEntity.builder()
+            .position("a")
+            .number("3.a")
+            .text("base 3.a")
+            .drds(Set.of(DRDEntity.builder()
+                .number("base 3.a")
+                .title("DRD")
+                .build()))
+            .applicableDocuments(List.of(ApplicableDocumentEntity.builder()
+                .title("base 3.a")
+                .issue("A")
+                .build()))
+            .build();
+        baseCatalogRepository.saveAndFlush(BaseCatalogEntity.builder()
+            .version("8.2.2")
+            .toc(BaseCatalogChapterEntity.builder()
+                .chapters(List.of(BaseCatalogChapterEntity.builder()
+                    .number("3")
+                    .requirements(List.of(baseRequirement))
+                    .build()))
+                .build())
+            .build());
+
+        ProjectEntity project = projectRepository.saveAndFlush(ProjectEntity.builder()
+            .identifier("BASE")
+            .state(ONGOING)
+            .tailorings(List.of(TailoringEntity.builder()
+                .name("master")
+                .catalog(TailoringCatalogEntity.builder()
+                    .version("8.2.2")
+                    .toc(TailoringCatalogChapterEntity.builder()
+                        .name("base")
+                        .chapters(List.of(TailoringCatalogChapterEntity.builder()
+                            .name("base 3")
+                            .number("3")
+                            .requirements(List.of(TailoringRequirementEntity.builder()
+                                .position("a")
+                                .number("3.a")
+                                .selected(Boolean.TRUE)
+                                .baseRequirement(baseRequirement)
+                                .build()))
+                            .build()))
+                        .build())
+                    .build())
+                .build()))
+            .build());
+        Long toc = project.getTailorings().get(0).getCatalog().getToc().getId();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.loadTree(toc);
+
+        // assert
+        TailoringRequirementEntity requirement = actual.getChapters().get(0).getRequirements().get(0);
+        assertThat(requirement.getText()).isEqualTo("base 3.a");
+        assertThat(requirement.getDrds())
+            .extracting(DRDEntity::getNumber)
+            .containsExactly("base 3.a");
+        assertThat(requirement.getApplicableDocuments())
+            .extracting(ApplicableDocumentEntity::getTitle)
+            .containsExactly("base 3.a");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void loadTree_CatalogExists_CompleteTreeLoadedWithFixedNumberOfStatements() {
+        // arrange
+        Long toc = projectRepository.findTailoring("SAMPLE", "master").getCatalog().getToc().getId();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.loadTree(toc);
+
+        // assert
+        List<TailoringCatalogChapterEntity> chapters = actual.allChapters().toList();
+        List<TailoringRequirementEntity> requirements = chapters.stream()
+            .flatMap(chapter -> chapter.getRequirements().stream())
+            .toList();
+        assertThat(chapters).hasSize(6);
+        assertThat(requirements).hasSize(3);
+        assertThat(requirements).allSatisfy(requirement -> {
+            assertThat(requirement.getDrds()).hasSize(1);
+            assertThat(requirement.getApplicableDocuments()).hasSize(1);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void loadTree_ChapterNotExists_NullReturned() {
+        // arrange
+
+        // act
+        TailoringCatalogChapterEntity actual = repository.loadTree(-1L);
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void findChapterStructure_TailoringExists_AllChaptersExceptTocOrderedByParentReturned() {
+        // arrange
+        TailoringEntity tailoring = projectRepository.findTailoring("SAMPLE", "master");
+        Long toc = tailoring.getCatalog().getToc().getId();
+
+        // act
+        List<TailoringCatalogChapterProjection> actual = repository.findChapterStructure(tailoring.getId());
+
+        // assert
+        assertThat(actual)
+            .extracting(TailoringCatalogChapterProjection::getName)
+            .containsExactlyInAnyOrder("master 1", "master 1.1", "master 1.1.1", "master 1.10", "master 2");
+        assertThat(actual)
+            .filteredOn(chapter -> toc.equals(chapter.getParentId()))
+            .extracting(TailoringCatalogChapterProjection::getNumber)
+            .containsExactly("1", "2");
+    }
+
+    @Test
+    void forEachRequirement_TailoringExists_RequirementsOfTailoringPassedInChapterOrder() {
+        // arrange
+        TailoringEntity tailoring = projectRepository.findTailoring("SAMPLE", "master");
+        Long chapter11 = repository.findChapter("SAMPLE", "master", "1.1").getId();
+        Long chapter2 = repository.findChapter("SAMPLE", "master", "2").getId();
+        List<String> actual = new ArrayList<>();
+
+        // act
+        repository.forEachRequirement(tailoring.getId(), 1,
+            (chapter, requirement) -> actual.add(chapter + " " + requirement.getText()));
+
+        // assert
+        assertThat(actual).containsExactly(
+            chapter11 + " master 1.1.a",
+            chapter11 + " master 1.1.b",
+            chapter2 + " master 2.a");
+    }
+
+    @Test
+    void forEachRequirement_RequirementsWithoutBaseRequirement_DrdsAndDocumentsFetchedOncePerBlock() {
+        // arrange
+        TailoringEntity tailoring = projectRepository.findTailoring("SAMPLE", "master");
+        entityManager.clear();
+        List<String> actual = new ArrayList<>();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // act
+        repository.forEachRequirement(tailoring.getId(), 10, (chapter, requirement) -> {
+            requirement.getDrds().forEach(drd -> actual.add(drd.getNumber()));
+            requirement.getApplicableDocuments().forEach(document -> actual.add(document.getTitle()));
+        });
+
+        // assert
+        assertThat(actual).containsExactly(
+            "master 1.1.a", "master 1.1.a",
+            "master 1.1.b", "master 1.1.b",
+            "master 2.a", "master 2.a");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        statistics.setStatisticsEnabled(false);
+    }
+
+    private TailoringCatalogEntity createCatalog(String tailoring) {
+        return TailoringCatalogEntity.builder()
+            .version("8.2.1")
+            .toc(TailoringCatalogChapterEntity.builder()
+                .name(tailoring)
+                .chapters(List.of(
+                    TailoringCatalogChapterEntity.builder()
+                        .name(tailoring + " 1")
+                        .number("1")
+                        .chapters(List.of(
+                            TailoringCatalogChapterEntity.builder()
+                                .name(tailoring + " 1.1")
+                                .number("1.1")
+                                .requirements(List.of(
+                                    createRequirement(tailoring, "1.1", "a"),
+                                    createRequirement(tailoring, "1.1", "b")))
+                                .chapters(List.of(
+                                    TailoringCatalogChapterEntity.builder()
+                                        .name(tailoring + " 1.1.1")
+                                        .number("1.1.1")
+                                        .build()))
+                                .build(),
+                            TailoringCatalogChapterEntity.builder()
+                                .name(tailoring + " 1.10")
+                                .number("1.10")
+                                .build()))
+                        .build(),
+                    TailoringCatalogChapterEntity.builder()
+                        .name(tailoring + " 2")
+                        .number("2")
+                        .requirements(List.of(createRequirement(tailoring, "2", "a")))
+                        .build()))
+                .build())
+            .build();
+    }
+
+    private TailoringRequirementEntity createRequirement(String tailoring, String chapter, String position) {
+        return TailoringRequirementEntity.builder()
+            .position(position)
+            .number(chapter + "." + position)
+            .text(tailoring + " " + chapter + "." + position)
+            .selected(Boolean.TRUE)
+            .drds(Set.of(DRDEntity.builder()
+                .number(tailoring + " " + chapter + "." + position)
+                .title("DRD")
+                .build()))
+            .applicableDocuments(List.of(ApplicableDocumentEntity.builder()
+                .title(tailoring + " " + chapter + "." + position)
+                .issue("A")
+                .build()))
+            .build();
+    }
+}
@@ -21,17 +21,24 @@
  */
 package eu.tailoringexpert.repository;
 
+import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
 import eu.tailoringexpert.domain.TailoringRequirementChangeEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.Collection;
 import java.util.List;
 
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Log4j2
@@ -42,41 +49,171 @@ class TailoringRequirementChangeRepositoryTest {
     @Autowired
     TailoringRequirementChangeRepository repository;
 
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    TailoringCatalogChapterRepository tailoringCatalogChapterRepository;
+
+    @Autowired
+    TailoringRepository tailoringRepository;
+
+    @Test
+    void findRequirementChanges_PageContinuedAfterLastId_NoGapOrDuplicate() {
+        // arrange
+        ZonedDateTime timestamp = ZonedDateTime.now().withNano(0);
+        List<TailoringRequirementChangeEntity> changes = repository.saveAll(List.of(
+            createChange(1L, timestamp.minusHours(1)),
+            createChange(1L, timestamp),
+            createChange(1L, timestamp),
+            createChange(1L, timestamp),
+            createChange(2L, timestamp)));
+        repository.flush();
+
+        // act
+        List<TailoringRequirementChangeEntity> page1 = repository.findRequirementChanges(1L, null, null, null,
+            PageRequest.of(0, 2));
+        TailoringRequirementChangeEntity last = page1.get(page1.size() - 1);
+        List<TailoringRequirementChangeEntity> page2 = repository.findRequirementChanges(1L, null, last.getId(), null,
+            PageRequest.of(0, 2));
+
+        // assert
+        assertThat(page1)
+            .extracting(TailoringRequirementChangeEntity::getId)
+            .containsExactly(changes.get(0).getId(), changes.get(1).getId());
+        assertThat(page2)
+            .extracting(TailoringRequirementChangeEntity::getId)
+            .containsExactly(changes.get(2).getId(), changes.get(3).getId());
+    }
+
     @Test
-    void findAllByRequirementId_RequirementIdNotExist_EmptyListReturned() {
+    void findRequirementChanges_TimeRange_OnlyChangesInRangeReturned() {
         // arrange
+        ZonedDateTime timestamp = ZonedDateTime.now().withNano(0);
+        List<TailoringRequirementChangeEntity> changes = repository.saveAll(List.of(
+            createChange(1L, timestamp.minusDays(2)),
+            createChange(1L, timestamp.minusDays(1)),
+            createChange(1L, timestamp)));
+        repository.flush();
 
         // act
-        Collection<TailoringRequirementChangeEntity> actual = repository.findAllByRequirementId(10000L);
+        List<TailoringRequirementChangeEntity> actual = repository.findRequirementChanges(1L,
+            epoch(timestamp.minusDays(1)), null, epoch(timestamp), PageRequest.of(0, 10));
 
         // assert
         assertThat(actual)
-                .isEmpty();
+            .extracting(TailoringRequirementChangeEntity::getId)
+            .containsExactly(changes.get(1).getId());
     }
 
     @Test
-    void findAllByRequirementId_RequirementIdExist_ListWithDataReturned() {
+    void findRequirementChanges_TimestampsWithDifferentOffsets_FilteredByInstant() {
         // arrange
-        repository.saveAll(List.of(
-                TailoringRequirementChangeEntity.builder()
-                        .requirementId(1L)
-                        .old("Old Text")
-                        .changed("Changed Text")
-                        .modificationTimestamp(ZonedDateTime.now())
-                        .build(),
-                TailoringRequirementChangeEntity.builder()
-                        .requirementId(1L)
-                        .old(String.valueOf(Boolean.TRUE))
-                        .changed(String.valueOf(Boolean.FALSE))
-                        .modificationTimestamp(ZonedDateTime.now())
-                        .build()));
+        ZonedDateTime timestamp = ZonedDateTime.of(2024, 3, 1, 8, 30, 0, 0, ZoneOffset.UTC);
+        List<TailoringRequirementChangeEntity> changes = repository.saveAll(List.of(
+            createChange(1L, ZonedDateTime.of(2024, 3, 1, 10, 0, 0, 0, ZoneOffset.ofHours(2))),
+            createChange(1L, ZonedDateTime.of(2024, 3, 1, 9, 0, 0, 0, ZoneOffset.UTC))));
+        repository.flush();
 
         // act
-        Collection<TailoringRequirementChangeEntity> actual = repository.findAllByRequirementId(1L);
+        List<TailoringRequirementChangeEntity> actual = repository.findRequirementChanges(1L, epoch(timestamp), null,
+            null, PageRequest.of(0, 10));
 
         // assert
         assertThat(actual)
-                .hasSize(2);
+            .extracting(TailoringRequirementChangeEntity::getId)
+            .containsExactly(changes.get(1).getId());
     }
 
+    @Test
+    void findTailoringChanges_ChangesOfSeveralTailorings_OnlyChangesOfRequestedTailoringReturned() {
+        // arrange
+        ProjectEntity project = projectRepository.saveAndFlush(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(List.of(createTailoring("master"), createTailoring("master1")))
+            .build());
+        project.getTailorings()
+            .forEach(tailoring -> tailoringCatalogChapterRepository.updateTailoringPath(tailoring.getId(),
+                tailoring.getCatalog()));
+
+        Long requirementMaster = requirementId(project, "master");
+        Long requirementMaster1 = requirementId(project, "master1");
+        ZonedDateTime timestamp = ZonedDateTime.now().withNano(0);
+        List<TailoringRequirementChangeEntity> changes = repository.saveAll(List.of(
+            createChange(requirementMaster, timestamp.minusDays(2)),
+            createChange(requirementMaster, timestamp),
+            createChange(requirementMaster1, timestamp)));
+        repository.flush();
+
+        // act
+        List<TailoringRequirementChangeEntity> actual = repository.findTailoringChanges(
+            project.getTailoring("master").orElseThrow().getId(), epoch(timestamp.minusDays(1)), null, null,
+            PageRequest.of(0, 10));
+
+        // assert
+        assertThat(actual)
+            .extracting(TailoringRequirementChangeEntity::getId)
+            .containsExactly(changes.get(1).getId());
+    }
+
+    @Test
+    void findTailoringId_TailoringExists_IdReturned() {
+        // arrange
+        ProjectEntity project = projectRepository.saveAndFlush(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(List.of(createTailoring("master"), createTailoring("master1")))
+            .build());
+
+        // act
+        Long actual = tailoringRepository.findTailoringId("SAMPLE", "master1");
+
+        // assert
+        assertThat(actual).isEqualTo(project.getTailoring("master1").orElseThrow().getId());
+        assertThat(tailoringRepository.findTailoringId("SAMPLE", "master2")).isNull();
+    }
+
+    private TailoringRequirementChangeEntity createChange(Long requirement, ZonedDateTime timestamp) {
+        return TailoringRequirementChangeEntity.builder()
+            .requirementId(requirement)
+            .changeType("SELECTED")
+            .old(String.valueOf(Boolean.TRUE))
+            .changed(String.valueOf(Boolean.FALSE))
+            .modificationTimestamp(timestamp)
+            .modificationEpoch(epoch(timestamp))
+            .build();
+    }
+
+    private static Long epoch(ZonedDateTime timestamp) {
+        return timestamp.toInstant().toEpochMilli();
+    }
+
+    private TailoringEntity createTailoring(String name) {
+        return TailoringEntity.builder()
+            .name(name)
+            .catalog(TailoringCatalogEntity.builder()
+                .toc(TailoringCatalogChapterEntity.builder()
+                    .chapters(List.of(TailoringCatalogChapterEntity.builder()
+                        .number("1")
+                        .requirements(List.of(TailoringRequirementEntity.builder()
+                            .position("a")
+                            .number("1.a")
+                            .text(name + " 1.a")
+                            .selected(Boolean.TRUE)
+                            .build()))
+                        .build()))
+                    .build())
+                .build())
+            .build();
+    }
+
+    private Long requirementId(ProjectEntity project, String tailoring) {
+        return project.getTailorings()
+            .stream()
+            .filter(entity -> tailoring.equals(entity.getName()))
+            .findFirst()
+            .map(entity -> entity.getCatalog().getToc().getChapters().get(0).getRequirements().get(0).getId())
+            .orElseThrow();
+    }
 }
@@ -0,0 +1,196 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ * 
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.repository;
+
+import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Log4j2
+@SpringJUnitConfig(classes = {DBConfiguration.class})
+@Transactional
+class TailoringRequirementRepositoryTest {
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    TailoringRequirementRepository repository;
+
+    @Autowired
+    TailoringCatalogChapterRepository tailoringCatalogChapterRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    private TailoringCatalogChapterEntity chapter;
+
+    private TailoringEntity tailoring;
+
+    @BeforeEach
+    void setup() {
+        chapter = TailoringCatalogChapterEntity.builder()
+            .number("1.1")
+            .requirements(List.of(
+                TailoringRequirementEntity.builder()
+                    .position("a")
+                    .number("1.1.a")
+                    .text("Requirement a")
+                    .selected(Boolean.TRUE)
+                    .build(),
+                TailoringRequirementEntity.builder()
+                    .position("b")
+                    .number("1.1.b")
+                    .text("Requirement b")
+                    .selected(Boolean.FALSE)
+                    .selectionChanged(ZonedDateTime.now().minusDays(1))
+                    .build()))
+            .build();
+
+        tailoring = TailoringEntity.builder()
+            .name("master")
+            .catalog(TailoringCatalogEntity.builder()
+                .toc(TailoringCatalogChapterEntity.builder()
+                    .chapters(List.of(
+                        TailoringCatalogChapterEntity.builder()
+                            .number("1")
+                            .requirements(List.of(
+                                TailoringRequirementEntity.builder()
+                                    .position("a")
+                                    .number("1.a")
+                                    .text("Requirement 1.a")
+                                    .selected(Boolean.FALSE)
+                                    .build()))
+                            .chapters(List.of(chapter))
+                            .build()))
+                    .build())
+                .build())
+            .build();
+
+        projectRepository.saveAndFlush(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(List.of(tailoring))
+            .build());
+        tailoringCatalogChapterRepository.updateTailoringPath(tailoring.getId(), tailoring.getCatalog());
+    }
+
+    @Test
+    void findRequirement_RequirementExists_RequirementReturned() {
+        // arrange
+
+        // act
+        TailoringRequirementEntity actual = repository.findRequirement(chapter.getId(), "1.1.b");
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(actual.getText()).isEqualTo("Requirement b");
+    }
+
+    @Test
+    void findRequirement_RequirementNotExists_NullReturned() {
+        // arrange
+
+        // act
+        TailoringRequirementEntity actual = repository.findRequirement(chapter.getId(), "1.1.c");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void findRequirement_RequirementOfOtherChapter_NullReturned() {
+        // arrange
+
+        // act
+        TailoringRequirementEntity actual = repository.findRequirement(chapter.getId() + 1000, "1.1.a");
+
+        // assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void findSelectionChanges_SubtreeWithMixedStates_OnlyRequirementsWithDifferentStateReturned() {
+        // arrange
+
+        // act
+        List<Long> actual = repository.findSelectionChanges(tailoring.getId(), "1.%", Boolean.TRUE);
+
+        // assert
+        assertThat(actual).hasSize(2);
+        assertThat(actual).doesNotContain(chapter.getRequirements().get(0).getId());
+    }
+
+    @Test
+    void updateSelected_SubtreeWithMixedStates_StateAndSelectionChangedUpdated() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // act
+        int actual = repository.updateSelected(tailoring.getId(), "1.%", Boolean.TRUE, now);
+
+        // assert
+        assertThat(actual).isEqualTo(2);
+
+        entityManager.clear();
+        TailoringRequirementEntity requirement1a = repository.findRequirement(
+            tailoringCatalogChapterRepository.findChapter("SAMPLE", "master", "1").getId(), "1.a");
+        assertThat(requirement1a.getSelected()).isTrue();
+        assertThat(requirement1a.getSelectionChanged()).isNotNull();
+
+        TailoringRequirementEntity requirement11a = repository.findRequirement(chapter.getId(), "1.1.a");
+        assertThat(requirement11a.getSelected()).isTrue();
+        assertThat(requirement11a.getSelectionChanged()).isNull();
+
+        TailoringRequirementEntity requirement11b = repository.findRequirement(chapter.getId(), "1.1.b");
+        assertThat(requirement11b.getSelected()).isTrue();
+        assertThat(requirement11b.getSelectionChanged()).isNull();
+    }
+
+    @Test
+    void updateSelected_OtherSubtree_NothingUpdated() {
+        // arrange
+        ZonedDateTime now = ZonedDateTime.now();
+
+        // act
+        int actual = repository.updateSelected(tailoring.getId(), "2.%", Boolean.TRUE, now);
+
+        // assert
+        assertThat(actual).isZero();
+    }
+}
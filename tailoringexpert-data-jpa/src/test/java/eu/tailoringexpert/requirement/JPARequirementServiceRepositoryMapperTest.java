@@ -21,15 +21,25 @@
  */
 package eu.tailoringexpert.requirement;
 
+import eu.tailoringexpert.domain.BaseRequirementEntity;
 import eu.tailoringexpert.domain.DRD;
 import eu.tailoringexpert.domain.DRDEntity;
 import eu.tailoringexpert.domain.Logo;
 import eu.tailoringexpert.domain.LogoEntity;
+import eu.tailoringexpert.domain.Reference;
+import eu.tailoringexpert.domain.ReferenceEntity;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.repository.DRDRepository;
 import eu.tailoringexpert.repository.LogoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Set;
+
+import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -114,4 +124,135 @@ class JPARequirementServiceRepositoryMapperTest {
         assertThat(actual.getNumber()).isEqualTo("01");
         verify(drdRepositoryMock, times(1)).findByNumber("01");
     }
+
+    @Test
+    void updateRequirement_BaseRequirementReferenced_OnlyRequirementChanged() {
+        // arrange
+        BaseRequirementEntity baseRequirement = BaseRequirementEntity.builder()
+            .text("Base text")
+            .reference(ReferenceEntity.builder().text("Q-ST-80").changed(FALSE).build())
+            .build();
+
+        TailoringRequirementEntity entity = TailoringRequirementEntity.builder()
+            .position("a")
+            .selected(TRUE)
+            .baseRequirement(baseRequirement)
+            .build();
+
+        TailoringRequirement domain = TailoringRequirement.builder()
+            .position("a")
+            .text("Changed text")
+            .reference(Reference.builder().text("Q-ST-80").changed(TRUE).build())
+            .selected(TRUE)
+            .build();
+
+        // act
+        mapper.updateRequirement(domain, entity);
+
+        // assert
+        assertThat(entity.getText()).isEqualTo("Changed text");
+        assertThat(entity.getReference().getChanged()).isTrue();
+        assertThat(entity.getBaseRequirement()).isSameAs(baseRequirement);
+        assertThat(baseRequirement.getText()).isEqualTo("Base text");
+        assertThat(baseRequirement.getReference().getChanged()).isFalse();
+    }
+
+    @Test
+    void updateRequirement_TextOfBaseRequirement_TextOfBaseRequirementUsed() {
+        // arrange
+        BaseRequirementEntity baseRequirement = BaseRequirementEntity.builder()
+            .text("Base text")
+            .build();
+
+        TailoringRequirementEntity entity = TailoringRequirementEntity.builder()
+            .position("a")
+            .selected(TRUE)
+            .baseRequirement(baseRequirement)
+            .build();
+
+        TailoringRequirement domain = TailoringRequirement.builder()
+            .position("a")
+            .text("Base text")
+            .selected(FALSE)
+            .build();
+
+        // act
+        mapper.updateRequirement(domain, entity);
+        baseRequirement.setText("Revised base text");
+
+        // assert
+        assertThat(entity.getSelected()).isFalse();
+        assertThat(entity.getText()).isEqualTo("Revised base text");
+    }
+
+    @Test
+    void updateRequirement_DRDsOfBaseRequirement_BaseRequirementKept() {
+        // arrange
+        DRDEntity drd = DRDEntity.builder().number("01").build();
+        given(drdRepositoryMock.findByNumber("01")).willReturn(drd);
+
+        BaseRequirementEntity baseRequirement = BaseRequirementEntity.builder()
+            .text("Base text")
+            .drds(Set.of(drd))
+            .build();
+
+        TailoringRequirementEntity entity = TailoringRequirementEntity.builder()
+            .position("a")
+            .selected(TRUE)
+            .baseRequirement(baseRequirement)
+            .build();
+
+        TailoringRequirement domain = TailoringRequirement.builder()
+            .position("a")
+            .text("Base text")
+            .drds(List.of(DRD.builder().number("01").build()))
+            .selected(TRUE)
+            .build();
+
+        // act
+        mapper.updateRequirement(domain, entity);
+
+        // assert
+        assertThat(entity.getBaseRequirement()).isSameAs(baseRequirement);
+        assertThat(entity.getDrds()).containsOnly(drd);
+    }
+
+    @Test
+    void updateRequirement_DRDsChanged_BaseRequirementDetached() {
+        // arrange
+        DRDEntity drd = DRDEntity.builder().number("01").build();
+        DRDEntity addedDRD = DRDEntity.builder().number("02").build();
+        given(drdRepositoryMock.findByNumber("01")).willReturn(drd);
+        given(drdRepositoryMock.findByNumber("02")).willReturn(addedDRD);
+
+        BaseRequirementEntity baseRequirement = BaseRequirementEntity.builder()
+            .text("Base text")
+            .reference(ReferenceEntity.builder().text("Q-ST-80").changed(FALSE).build())
+            .drds(Set.of(drd))
+            .build();
+
+        TailoringRequirementEntity entity = TailoringRequirementEntity.builder()
+            .position("a")
+            .selected(TRUE)
+            .baseRequirement(baseRequirement)
+            .build();
+
+        TailoringRequirement domain = TailoringRequirement.builder()
+            .position("a")
+            .text("Base text")
+            .reference(Reference.builder().text("Q-ST-80").changed(FALSE).build())
+            .drds(List.of(DRD.builder().number("01").build(), DRD.builder().number("02").build()))
+            .selected(TRUE)
+            .build();
+
+        // act
+        mapper.updateRequirement(domain, entity);
+
+        // assert
+        assertThat(entity.getBaseRequirement()).isNull();
+        assertThat(entity.getText()).isEqualTo("Base text");
+        assertThat(entity.getReference().getText()).isEqualTo("Q-ST-80");
+        assertThat(entity.getDrds()).containsOnly(drd, addedDRD);
+        assertThat(baseRequirement.getDrds()).containsOnly(drd);
+    }
 }
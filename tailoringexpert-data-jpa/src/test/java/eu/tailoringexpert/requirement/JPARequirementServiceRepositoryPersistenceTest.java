@@ -0,0 +1,165 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.requirement;
+
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import eu.tailoringexpert.repository.ApplicableDocumentRepository;
+import eu.tailoringexpert.repository.DBConfiguration;
+import eu.tailoringexpert.repository.DRDRepository;
+import eu.tailoringexpert.repository.LogoRepository;
+import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
+import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@SpringJUnitConfig(classes = {DBConfiguration.class})
+@Transactional
+class JPARequirementServiceRepositoryPersistenceTest {
+
+    @Autowired
+    ProjectRepository projectRepository;
+
+    @Autowired
+    TailoringCatalogChapterRepository tailoringCatalogChapterRepository;
+
+    @Autowired
+    TailoringRequirementRepository tailoringRequirementRepository;
+
+    @Autowired
+    TailoringRequirementChangeRepository tailoringRequirementChangeRepository;
+
+    @Autowired
+    LogoRepository logoRepository;
+
+    @Autowired
+    DRDRepository drdRepository;
+
+    @Autowired
+    ApplicableDocumentRepository applicableDocumentRepository;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    private TailoringEntity tailoring;
+
+    private JPARequirementServiceRepository repository;
+
+    @BeforeEach
+    void setup() {
+        JPARequirementServiceRepositoryMapperGenerated mapper = new JPARequirementServiceRepositoryMapperGenerated();
+        mapper.setLogoRepository(logoRepository);
+        mapper.setDrdRepository(drdRepository);
+        mapper.setApplicableDocumentRepository(applicableDocumentRepository);
+
+        this.repository = new JPARequirementServiceRepository(
+            mapper,
+            tailoringCatalogChapterRepository,
+            tailoringRequirementRepository,
+            tailoringRequirementChangeRepository,
+            mock(RequirementChangeLog.class),
+            mock(TailoringRepository.class));
+
+        tailoring = TailoringEntity.builder()
+            .name("master")
+            .catalog(TailoringCatalogEntity.builder()
+                .toc(TailoringCatalogChapterEntity.builder()
+                    .chapters(List.of(
+                        TailoringCatalogChapterEntity.builder()
+                            .number("1")
+                            .chapters(List.of(
+                                TailoringCatalogChapterEntity.builder()
+                                    .number("1.1")
+                                    .requirements(new ArrayList<>(List.of(
+                                        TailoringRequirementEntity.builder()
+                                            .position("a")
+                                            .number("1.1.a")
+                                            .text("Requirement a")
+                                            .selected(Boolean.TRUE)
+                                            .build())))
+                                    .build()))
+                            .build()))
+                    .build())
+                .build())
+            .build();
+
+        projectRepository.saveAndFlush(ProjectEntity.builder()
+            .identifier("SAMPLE")
+            .state(ONGOING)
+            .tailorings(List.of(tailoring))
+            .build());
+        tailoringCatalogChapterRepository.updateTailoringPath(tailoring.getId(), tailoring.getCatalog());
+        entityManager.clear();
+    }
+
+    @Test
+    void updateChapter_NewRequirement_RequirementPartOfSubtreeSelectionAndPurge() {
+        // arrange
+        Chapter<TailoringRequirement> chapter = repository.getChapter("SAMPLE", "master", "1.1").orElseThrow();
+        List<TailoringRequirement> requirements = new ArrayList<>(chapter.getRequirements());
+        requirements.add(TailoringRequirement.builder()
+            .position("a1")
+            .text("Requirement a1")
+            .selected(Boolean.TRUE)
+            .build());
+        chapter.setRequirements(requirements);
+
+        // act
+        repository.updateChapter("SAMPLE", "master", chapter);
+
+        // assert
+        entityManager.flush();
+        entityManager.clear();
+        Long created = tailoringRequirementRepository.findRequirement(
+            tailoringCatalogChapterRepository.findChapter("SAMPLE", "master", "1.1").getId(), "1.1.a1").getId();
+
+        repository.updateSelected("SAMPLE", "master", "1", Boolean.FALSE, ZonedDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(tailoringRequirementRepository.findById(created).orElseThrow().getSelected()).isFalse();
+
+        assertThat(tailoringRequirementRepository.findPurgeableRequirements(tailoring.getId(), PageRequest.of(0, 10)))
+            .contains(created);
+    }
+}
@@ -21,24 +21,23 @@
  */
 package eu.tailoringexpert.requirement;
 
-import static eu.tailoringexpert.domain.Phase.E;
-import static eu.tailoringexpert.domain.Phase.F;
-import static eu.tailoringexpert.domain.Phase.ZERO;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.BiConsumer;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -46,52 +45,60 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.domain.PageRequest;
 
 import eu.tailoringexpert.domain.Chapter;
-import eu.tailoringexpert.domain.ProjectEntity;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
-import eu.tailoringexpert.domain.TailoringCatalogEntity;
-import eu.tailoringexpert.domain.TailoringEntity;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.domain.TailoringRequirementChangeEntity;
 import eu.tailoringexpert.domain.TailoringRequirementEntity;
-import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
+import eu.tailoringexpert.repository.TailoringRepository;
 import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
+import eu.tailoringexpert.repository.TailoringRequirementRepository;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 class JPARequirementServiceRepositoryTest {
 
-        ProjectRepository projectRepositoryMock;
+        TailoringCatalogChapterRepository tailoringCatalogChapterRepositoryMock;
+        TailoringRequirementRepository tailoringRequirementRepositoryMock;
         TailoringRequirementChangeRepository tailoringRequirementChangeRepositoryMock;
         JPARequirementServiceRepositoryMapper mapperMock;
-        BiConsumer<TailoringRequirementEntity, TailoringRequirementEntity> changeLogMock;
+        RequirementChangeLog changeLogMock;
+        TailoringRepository tailoringRepositoryMock;
         JPARequirementServiceRepository repository;
 
         @BeforeEach
         void setup() {
-                this.projectRepositoryMock = mock(ProjectRepository.class);
+                this.tailoringCatalogChapterRepositoryMock = mock(TailoringCatalogChapterRepository.class);
+                this.tailoringRequirementRepositoryMock = mock(TailoringRequirementRepository.class);
                 this.tailoringRequirementChangeRepositoryMock = mock(TailoringRequirementChangeRepository.class);
                 this.mapperMock = mock(JPARequirementServiceRepositoryMapper.class);
-                this.changeLogMock = mock(BiConsumer.class);
+                this.changeLogMock = mock(RequirementChangeLog.class);
+                this.tailoringRepositoryMock = mock(TailoringRepository.class);
                 this.repository = new JPARequirementServiceRepository(
                                 this.mapperMock,
-                                this.projectRepositoryMock,
+                                this.tailoringCatalogChapterRepositoryMock,
+                                this.tailoringRequirementRepositoryMock,
                                 this.tailoringRequirementChangeRepositoryMock,
-                                this.changeLogMock);
+                                this.changeLogMock,
+                                this.tailoringRepositoryMock);
         }
 
         @Test
         void getRequirement_TailoringNotExists_EmptyReturned() {
                 // arrange
-                when(projectRepositoryMock.findTailoring("SAMPLE", "master1")).thenReturn(null);
+                when(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master1", "1.2.1")).thenReturn(null);
 
                 // act
                 Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master1", "1.2.1", "b");
 
                 // assert
                 assertThat(actual).isEmpty();
+                verify(tailoringRequirementRepositoryMock, times(0)).findRequirement(anyLong(), anyString());
         }
 
         @ParameterizedTest
@@ -120,70 +127,30 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void getRequirement_ChapterNotExists_EmptyReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .chapters(asList(
-                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                .builder()
-                                                                                                                                .number("1.1")
-                                                                                                                                .chapters(asList(
-                                                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                                                .builder()
-                                                                                                                                                                .number("1.1.1")
-                                                                                                                                                                .build()))
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
-                                .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1.2")).willReturn(null);
 
                 // act
                 Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master", "1.1.2", "b");
 
                 // assert
                 assertThat(actual).isEmpty();
+                verify(tailoringRequirementRepositoryMock, times(0)).findRequirement(anyLong(), anyString());
         }
 
         @Test
         void getRequirement_RequirementNoExists_EmptyReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .chapters(asList(
-                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                .builder()
-                                                                                                                                .number("1.1")
-                                                                                                                                .requirements(asList(
-                                                                                                                                                TailoringRequirementEntity
-                                                                                                                                                                .builder()
-                                                                                                                                                                .position("a")
-                                                                                                                                                                .build()))
-                                                                                                                                .chapters(asList(
-                                                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                                                .builder()
-                                                                                                                                                                .number("1.1.1")
-                                                                                                                                                                .build()))
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
+                TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+                                .id(11L)
+                                .number("1.1")
+                                .requirements(asList(
+                                                TailoringRequirementEntity.builder()
+                                                                .position("a")
+                                                                .number("1.1.a")
+                                                                .build()))
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1")).willReturn(chapter);
+                given(tailoringRequirementRepositoryMock.findRequirement(11L, "1.1.b")).willReturn(null);
 
                 // act
                 Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master", "1.1", "b");
@@ -195,55 +162,34 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void getRequirement_RequirementExists_RequirementReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(3L)
-                                .name("master1")
-                                .phase(E)
-                                .phase(F)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .chapters(asList(
-                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                .builder()
-                                                                                                                                .number("1.1")
-                                                                                                                                .chapters(asList(
-                                                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                                                .builder()
-                                                                                                                                                                .number("1.1.1")
-                                                                                                                                                                .build()))
-                                                                                                                                .build(),
-                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                .builder()
-                                                                                                                                .number("1.2")
-                                                                                                                                .chapters(asList(
-                                                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                                                .builder()
-                                                                                                                                                                .number("1.2.1")
-                                                                                                                                                                .requirements(asList(
-                                                                                                                                                                                TailoringRequirementEntity
-                                                                                                                                                                                                .builder()
-                                                                                                                                                                                                .position("a")
-                                                                                                                                                                                                .build(),
-                                                                                                                                                                                TailoringRequirementEntity
-                                                                                                                                                                                                .builder()
-                                                                                                                                                                                                .position("b")
-                                                                                                                                                                                                .build()))
-                                                                                                                                                                .build()))
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
+                TailoringRequirementEntity requirement = TailoringRequirementEntity.builder()
+                                .position("b")
+                                .number("1.2.1.b")
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master1")).willReturn(tailoring);
+                TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+                                .id(121L)
+                                .number("1.2.1")
+                                .requirements(asList(
+                                                TailoringRequirementEntity.builder()
+                                                                .position("a")
+                                                                .number("1.2.1.a")
+                                                                .build(),
+                                                requirement))
+                                .build();
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master1", "1.2.1"))
+                                .willReturn(chapter);
+                given(tailoringRequirementRepositoryMock.findRequirement(121L, "1.2.1.b")).willReturn(requirement);
+                given(mapperMock.toDomain(requirement)).willReturn(TailoringRequirement.builder()
+                                .position("b")
+                                .build());
 
                 // act
                 Optional<TailoringRequirement> actual = repository.getRequirement("SAMPLE", "master1", "1.2.1", "b");
 
                 // assert
-                assertThat(actual).isNotNull();
+                assertThat(actual).isPresent();
+                assertThat(actual.get().getPosition()).isEqualTo("b");
+                verify(tailoringRequirementRepositoryMock, times(1)).findRequirement(121L, "1.2.1.b");
         }
 
         @Test
@@ -299,7 +245,7 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void updateRequirement_ChapterNotExists_EmptyReturned() {
                 // arrange
-                when(projectRepositoryMock.findByIdentifier("SAMPLE")).thenReturn(null);
+                when(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1")).thenReturn(null);
 
                 TailoringRequirement requirement = TailoringRequirement.builder()
                                 .position("a")
@@ -317,30 +263,17 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void updateRequirement_RequirementNotExists_EmptyReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .chapters(asList(
-                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                .builder()
-                                                                                                                                .number("1.1")
-                                                                                                                                .requirements(asList(
-                                                                                                                                                TailoringRequirementEntity
-                                                                                                                                                                .builder()
-                                                                                                                                                                .position("a")
-                                                                                                                                                                .build()))
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
+                TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+                                .id(11L)
+                                .number("1.1")
+                                .requirements(asList(
+                                                TailoringRequirementEntity.builder()
+                                                                .position("a")
+                                                                .number("1.1.a")
+                                                                .build()))
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1")).willReturn(chapter);
+                given(tailoringRequirementRepositoryMock.findRequirement(11L, "1.1.b")).willReturn(null);
 
                 TailoringRequirement requirement = TailoringRequirement.builder()
                                 .position("b")
@@ -353,6 +286,7 @@ class JPARequirementServiceRepositoryTest {
                 // assert
                 assertThat(actual).isEmpty();
                 verify(changeLogMock, times(0)).accept(any(), any());
+                verify(mapperMock, times(0)).updateRequirement(any(), any());
         }
 
         @Test
@@ -360,28 +294,16 @@ class JPARequirementServiceRepositoryTest {
                 // arrange
                 TailoringRequirementEntity requirementToUpdate = TailoringRequirementEntity.builder()
                                 .position("a")
+                                .number("1.1.a")
                                 .build();
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .chapters(asList(
-                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                .builder()
-                                                                                                                                .number("1.1")
-                                                                                                                                .requirements(asList(
-                                                                                                                                                requirementToUpdate))
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
+                TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+                                .id(11L)
+                                .number("1.1")
+                                .requirements(asList(
+                                                requirementToUpdate))
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1")).willReturn(chapter);
+                given(tailoringRequirementRepositoryMock.findRequirement(11L, "1.1.a")).willReturn(requirementToUpdate);
 
                 TailoringRequirement requirement = TailoringRequirement.builder()
                                 .position("a")
@@ -395,7 +317,7 @@ class JPARequirementServiceRepositoryTest {
                 // assert
                 assertThat(actual).isPresent();
                 verify(changeLogMock, times(0)).accept(any(), any());
-                verify(mapperMock, timeout(1)).updateRequirement(requirement, requirementToUpdate);
+                verify(mapperMock, times(1)).updateRequirement(requirement, requirementToUpdate);
         }
 
         @Test
@@ -435,24 +357,9 @@ class JPARequirementServiceRepositoryTest {
         void getChapter_ChapterExists_MappedDomainObjectReturned() {
                 // arrange
                 TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
-                                .number("1")
-                                .chapters(asList(
-                                                TailoringCatalogChapterEntity.builder()
-                                                                .number("1.1")
-                                                                .build()))
-                                .build();
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                chapter))
-                                                                .build())
-                                                .build())
+                                .number("1.1")
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1")).willReturn(chapter);
 
                 given(mapperMock.toDomain(chapter)).willReturn(Chapter.<TailoringRequirement>builder().build());
 
@@ -461,43 +368,20 @@ class JPARequirementServiceRepositoryTest {
 
                 // assert
                 assertThat(actual).isPresent();
+                verify(tailoringCatalogChapterRepositoryMock, times(1)).loadSubtree(chapter);
         }
 
         @Test
         void getChapter_ChapterNotExists_EmptyReturned() {
                 // arrange
-                TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
-                                .number("1")
-                                .chapters(asList(
-                                                TailoringCatalogChapterEntity.builder()
-                                                                .number("1.1")
-                                                                .build()))
-                                .build();
-                ProjectEntity project = ProjectEntity.builder()
-                                .identifier("SAMPLE")
-                                .tailorings(asList(
-                                                TailoringEntity.builder()
-                                                                .id(2L)
-                                                                .name("master")
-                                                                .phase(ZERO)
-                                                                .catalog(TailoringCatalogEntity.builder()
-                                                                                .toc(TailoringCatalogChapterEntity
-                                                                                                .builder()
-                                                                                                .chapters(asList(
-                                                                                                                chapter))
-                                                                                                .build())
-                                                                                .build())
-                                                                .build()))
-                                .build();
-                given(projectRepositoryMock.findByIdentifier("SAMPLE")).willReturn(project);
-
-                given(mapperMock.toDomain(chapter)).willReturn(Chapter.<TailoringRequirement>builder().build());
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.2")).willReturn(null);
 
                 // act
                 Optional<Chapter<TailoringRequirement>> actual = repository.getChapter("SAMPLE", "master", "1.2");
 
                 // assert
                 assertThat(actual).isEmpty();
+                verify(tailoringCatalogChapterRepositoryMock, times(0)).loadSubtree(any());
         }
 
         @Test
@@ -540,25 +424,7 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void updateChapter_ChapterNotExists_EmptyReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .chapters(asList(
-                                                                                                                TailoringCatalogChapterEntity
-                                                                                                                                .builder()
-                                                                                                                                .number("1.1")
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
-                                .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "2")).willReturn(null);
 
                 Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
                                 .number("2")
@@ -569,31 +435,18 @@ class JPARequirementServiceRepositoryTest {
 
                 // assert
                 assertThat(actual).isEmpty();
+                verify(mapperMock, times(0)).updateChapter(any(), any());
         }
 
         @Test
         void updateChapter_ChapterExists_ChapterUpdated() {
                 // arrange
                 TailoringCatalogChapterEntity chapterToUpdate = TailoringCatalogChapterEntity.builder()
-                                .number("1")
-                                .chapters(asList(
-                                                TailoringCatalogChapterEntity.builder()
-                                                                .number("1.1")
-                                                                .requirements(List.of())
-                                                                .build()))
-                                .build();
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                chapterToUpdate))
-                                                                .build())
-                                                .build())
+                                .number("1.1")
+                                .requirements(List.of())
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1"))
+                                .willReturn(chapterToUpdate);
 
                 Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
                                 .number("1.1")
@@ -606,31 +459,24 @@ class JPARequirementServiceRepositoryTest {
                 // assert
                 assertThat(actual).isPresent();
                 verify(mapperMock, times(1)).updateChapter(chapter, chapterToUpdate);
+                verify(tailoringCatalogChapterRepositoryMock, times(0)).updateRequirementTailoringPath(any(), any());
         }
 
         @Test
         void updateChapter_ChapterExistsNewRequirment_ChapterUpdated() {
                 // arrange
                 TailoringCatalogChapterEntity chapterToUpdate = TailoringCatalogChapterEntity.builder()
+                                .id(10L)
+                                .tailoringId(43L)
+                                .path("1.")
                                 .number("1")
                                 .requirements(asList(
                                                 TailoringRequirementEntity.builder()
                                                                 .position("a1")
                                                                 .build()))
                                 .build();
-
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                chapterToUpdate))
-                                                                .build())
-                                                .build())
-                                .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1"))
+                                .willReturn(chapterToUpdate);
 
                 Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
                                 .number("1")
@@ -647,17 +493,21 @@ class JPARequirementServiceRepositoryTest {
                 // assert
                 assertThat(actual).isPresent();
                 assertThat(chapterToUpdate.getRequirements().get(0).getNumber()).isEqualTo("1.a1");
+                assertThat(chapterToUpdate.getRequirements().get(0).getTailoringId()).isEqualTo(43L);
+                assertThat(chapterToUpdate.getRequirements().get(0).getPath()).isEqualTo("1.");
                 verify(mapperMock, times(1)).updateChapter(chapter, chapterToUpdate);
+                verify(tailoringCatalogChapterRepositoryMock, times(1)).flush();
+                verify(tailoringCatalogChapterRepositoryMock, times(1)).updateRequirementTailoringPath(43L, List.of(10L));
         }
 
         @Test
         void updateSelected_ProjectNull_NullPointerExceptionThrown() {
                 // arrange
+                ZonedDateTime now = ZonedDateTime.now();
 
                 // act
                 Throwable actual = catchThrowable(
-                                () -> repository.updateSelected(null, "master",
-                                                Chapter.<TailoringRequirement>builder().build()));
+                                () -> repository.updateSelected(null, "master", "1.1", Boolean.TRUE, now));
 
                 // assert
                 assertThat(actual).isInstanceOf(NullPointerException.class);
@@ -666,11 +516,11 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void updateSelected_TailoringNull_NullPointerExceptionThrown() {
                 // arrange
+                ZonedDateTime now = ZonedDateTime.now();
 
                 // act
                 Throwable actual = catchThrowable(
-                                () -> repository.updateSelected("DUMMY", null,
-                                                Chapter.<TailoringRequirement>builder().build()));
+                                () -> repository.updateSelected("DUMMY", null, "1.1", Boolean.TRUE, now));
 
                 // assert
                 assertThat(actual).isInstanceOf(NullPointerException.class);
@@ -679,9 +529,11 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void updateSelected_ChapterNull_NullPointerExceptionThrown() {
                 // arrange
+                ZonedDateTime now = ZonedDateTime.now();
 
                 // act
-                Throwable actual = catchThrowable(() -> repository.updateSelected("DUMMY", "master", null));
+                Throwable actual = catchThrowable(
+                                () -> repository.updateSelected("DUMMY", "master", null, Boolean.TRUE, now));
 
                 // assert
                 assertThat(actual).isInstanceOf(NullPointerException.class);
@@ -690,104 +542,71 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void updateSelected_ChapterNotExists_EmptyReturned() {
                 // arrange
-                TailoringCatalogChapterEntity projectChapter = TailoringCatalogChapterEntity.builder()
-                                .number("1")
-                                .chapters(asList(
-                                                TailoringCatalogChapterEntity.builder()
-                                                                .number("1.1")
-                                                                .build()))
-                                .build();
-
-                ProjectEntity project = ProjectEntity.builder()
-                                .identifier("SAMPLE")
-                                .tailorings(asList(
-                                                TailoringEntity.builder()
-                                                                .id(2L)
-                                                                .name("master")
-                                                                .phase(ZERO)
-                                                                .catalog(TailoringCatalogEntity.builder()
-                                                                                .toc(TailoringCatalogChapterEntity
-                                                                                                .builder()
-                                                                                                .chapters(asList(
-                                                                                                                projectChapter))
-                                                                                                .build())
-                                                                                .build())
-                                                                .build()))
-                                .build();
-                given(projectRepositoryMock.findByIdentifier("SAMPLE")).willReturn(project);
-
-                Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
-                                .number("2")
-                                .build();
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "2")).willReturn(null);
 
                 // act
-                Optional<Chapter<TailoringRequirement>> actual = repository.updateSelected("SAMPLE", "master", chapter);
+                Optional<Chapter<TailoringRequirement>> actual = repository.updateSelected("SAMPLE", "master", "2",
+                                Boolean.TRUE, ZonedDateTime.now());
 
                 // assert
                 assertThat(actual).isEmpty();
-
+                verify(tailoringRequirementRepositoryMock, times(0)).updateSelected(any(), any(), any(), any());
+                verify(changeLogMock, times(0)).acceptSelection(any(), any());
         }
 
         @Test
-        void updateSelected_ChapterExists_SelectionUpdated() {
+        void updateSelected_RequirementsToChange_SubtreeUpdatedAndChangesLogged() {
                 // arrange
-                TailoringRequirementEntity requirementAToUpdate = TailoringRequirementEntity.builder()
-                                .position("a")
-                                .selected(Boolean.TRUE)
-                                .build();
-                TailoringRequirementEntity requirementBToUpdate = TailoringRequirementEntity.builder()
-                                .position("b")
-                                .selected(Boolean.FALSE)
-                                .build();
-
                 TailoringCatalogChapterEntity projectChapter = TailoringCatalogChapterEntity.builder()
-                                .number("1")
-                                .chapters(asList(
-                                                TailoringCatalogChapterEntity.builder()
-                                                                .number("1.1")
-                                                                .requirements(asList(
-                                                                                requirementAToUpdate,
-                                                                                requirementBToUpdate))
-                                                                .build()))
-                                .build();
+                                .number("1.1")
+                                .tailoringId(42L)
+                                .path("1.1.")
+                                .build();
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1"))
+                                .willReturn(projectChapter);
+                given(tailoringRequirementRepositoryMock.findSelectionChanges(42L, "1.1.%", Boolean.TRUE))
+                                .willReturn(List.of(1L, 2L));
+                given(mapperMock.toDomain(projectChapter)).willReturn(Chapter.<TailoringRequirement>builder()
+                                .number("1.1")
+                                .build());
 
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                projectChapter))
-                                                                .build())
-                                                .build())
-                                .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                ZonedDateTime now = ZonedDateTime.now();
 
-                TailoringRequirement requirementA = TailoringRequirement.builder()
-                                .position("a")
-                                .selected(Boolean.TRUE)
-                                .build();
-                TailoringRequirement requirementB = TailoringRequirement.builder()
-                                .position("b")
-                                .selected(Boolean.TRUE)
-                                .build();
-                Chapter<TailoringRequirement> chapter = Chapter.<TailoringRequirement>builder()
+                // act
+                Optional<Chapter<TailoringRequirement>> actual = repository.updateSelected("SAMPLE", "master", "1.1",
+                                Boolean.TRUE, now);
+
+                // assert
+                assertThat(actual).isNotEmpty();
+                verify(tailoringRequirementRepositoryMock, times(1)).updateSelected(42L, "1.1.%", Boolean.TRUE, now);
+                verify(changeLogMock, times(1)).acceptSelection(List.of(1L, 2L), Boolean.TRUE);
+                verify(mapperMock, times(0)).updateRequirement(any(), any());
+        }
+
+        @Test
+        void updateSelected_NoRequirementToChange_NothingUpdated() {
+                // arrange
+                TailoringCatalogChapterEntity projectChapter = TailoringCatalogChapterEntity.builder()
                                 .number("1.1")
-                                .requirements(asList(
-                                                requirementA,
-                                                requirementB))
-                                .build();
-                given(mapperMock.toDomain(projectChapter)).willReturn(chapter);
+                                .tailoringId(42L)
+                                .path("1.1.")
+                                .build();
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1"))
+                                .willReturn(projectChapter);
+                given(tailoringRequirementRepositoryMock.findSelectionChanges(42L, "1.1.%", Boolean.FALSE))
+                                .willReturn(List.of());
+                given(mapperMock.toDomain(projectChapter)).willReturn(Chapter.<TailoringRequirement>builder()
+                                .number("1.1")
+                                .build());
 
                 // act
-                Optional<Chapter<TailoringRequirement>> actual = repository.updateSelected("SAMPLE", "master", chapter);
+                Optional<Chapter<TailoringRequirement>> actual = repository.updateSelected("SAMPLE", "master", "1.1",
+                                Boolean.FALSE, ZonedDateTime.now());
 
                 // assert
                 assertThat(actual).isNotEmpty();
-                verify(mapperMock, times(1)).updateRequirement(requirementA, requirementAToUpdate);
-                verify(mapperMock, times(1)).updateRequirement(requirementB, requirementBToUpdate);
-
+                verify(tailoringRequirementRepositoryMock, times(0)).updateSelected(any(), any(), any(), any());
+                verify(changeLogMock, times(0)).acceptSelection(any(), any());
         }
 
         @ParameterizedTest
@@ -795,9 +614,12 @@ class JPARequirementServiceRepositoryTest {
         void getRequirementChanges_NullParameter_NullPointerExceptionThrown(String project, String tailoring,
                         String chapter,
                         String position) {
+                // arrange
+                RequirementChangeFilter filter = RequirementChangeFilter.builder().build();
+
                 // act
                 Throwable actual = catchThrowable(
-                                () -> repository.getRequirementChanges(project, tailoring, chapter, position));
+                                () -> repository.getRequirementChanges(project, tailoring, chapter, position, filter));
 
                 // assert
                 assertThat(actual).isInstanceOf(NullPointerException.class);
@@ -806,101 +628,152 @@ class JPARequirementServiceRepositoryTest {
         @Test
         void getRequirementChanges_ChapterNotExists_EmptyReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
-                                .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1.2")).willReturn(null);
 
                 // act
                 Optional<Collection<RequirementChange>> actual = repository.getRequirementChanges("SAMPLE", "master",
                                 "1.1.2",
-                                "b");
+                                "b",
+                                RequirementChangeFilter.builder().build());
 
                 // assert
                 assertThat(actual).isEmpty();
+                verify(tailoringRequirementChangeRepositoryMock, times(0))
+                                .findRequirementChanges(any(), any(), any(), any(), any());
         }
 
         @Test
         void getRequirementChanges_RequirementNoExists_EmptyReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .requirements(asList(
-                                                                                                                TailoringRequirementEntity
-                                                                                                                                .builder()
-                                                                                                                                .position("a")
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
+                TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+                                .id(11L)
+                                .number("1.1")
+                                .requirements(asList(
+                                                TailoringRequirementEntity.builder()
+                                                                .position("a")
+                                                                .number("1.1.a")
+                                                                .build()))
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1.1")).willReturn(chapter);
+                given(tailoringRequirementRepositoryMock.findRequirement(11L, "1.1.b")).willReturn(null);
 
                 // act
                 Optional<Collection<RequirementChange>> actual = repository.getRequirementChanges("SAMPLE", "master",
                                 "1.1",
-                                "b");
+                                "b",
+                                RequirementChangeFilter.builder().build());
 
                 // assert
                 assertThat(actual).isEmpty();
+                verify(tailoringRequirementChangeRepositoryMock, times(0))
+                                .findRequirementChanges(any(), any(), any(), any(), any());
         }
 
         @Test
         void getRequirementChanges_RequirementExists_ListReturned() {
                 // arrange
-                TailoringEntity tailoring = TailoringEntity.builder()
-                                .id(2L)
-                                .name("master")
-                                .phase(ZERO)
-                                .catalog(TailoringCatalogEntity.builder()
-                                                .toc(TailoringCatalogChapterEntity.builder()
-                                                                .chapters(asList(
-                                                                                TailoringCatalogChapterEntity.builder()
-                                                                                                .number("1")
-                                                                                                .requirements(asList(
-                                                                                                                TailoringRequirementEntity
-                                                                                                                                .builder()
-                                                                                                                                .id(1L)
-                                                                                                                                .position("a")
-                                                                                                                                .build()))
-                                                                                                .build()))
-                                                                .build())
-                                                .build())
+                TailoringRequirementEntity requirement = TailoringRequirementEntity.builder()
+                                .id(1L)
+                                .position("a")
+                                .number("1.a")
                                 .build();
-                given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoring);
-                given(tailoringRequirementChangeRepositoryMock.findAllByRequirementId(1L)).willReturn(List.of(
-                                TailoringRequirementChangeEntity.builder()
-                                                .requirementId(1L)
-                                                .changed(String.valueOf(Boolean.FALSE))
-                                                .old(String.valueOf(Boolean.TRUE))
-                                                .build()));
+                TailoringCatalogChapterEntity chapter = TailoringCatalogChapterEntity.builder()
+                                .id(10L)
+                                .number("1")
+                                .requirements(asList(
+                                                requirement))
+                                .build();
+                given(tailoringCatalogChapterRepositoryMock.findChapter("SAMPLE", "master", "1")).willReturn(chapter);
+                given(tailoringRequirementRepositoryMock.findRequirement(10L, "1.a")).willReturn(requirement);
+                ZonedDateTime from = ZonedDateTime.now().minusDays(1);
+                TailoringRequirementChangeEntity change = TailoringRequirementChangeEntity.builder()
+                                .requirementId(1L)
+                                .changed(String.valueOf(Boolean.FALSE))
+                                .old(String.valueOf(Boolean.TRUE))
+                                .build();
+                given(tailoringRequirementChangeRepositoryMock.findRequirementChanges(1L,
+                                from.toInstant().toEpochMilli(), 5L, null,
+                                PageRequest.of(0, 20))).willReturn(List.of(change));
 
                 // act
                 Optional<Collection<RequirementChange>> actual = repository.getRequirementChanges("SAMPLE", "master",
-                                "1", "a");
+                                "1", "a", RequirementChangeFilter.builder()
+                                                .from(from)
+                                                .after(5L)
+                                                .limit(20)
+                                                .build());
 
                 // assert
                 assertThat(actual).isPresent();
                 assertThat(actual.get())
                                 .hasSize(1);
 
-                verify(mapperMock, times(1)).getRequirementChanges(any());
+                verify(mapperMock, times(1)).getRequirementChanges(change, "1.a");
+        }
+
+        @Test
+        void getTailoringChanges_ChangesExist_ChangesWithRequirementNumberReturned() {
+                // arrange
+                ZonedDateTime from = ZonedDateTime.now().minusDays(1);
+                TailoringRequirementChangeEntity change1 = TailoringRequirementChangeEntity.builder()
+                                .id(100L)
+                                .requirementId(1L)
+                                .build();
+                TailoringRequirementChangeEntity change2 = TailoringRequirementChangeEntity.builder()
+                                .id(101L)
+                                .requirementId(2L)
+                                .build();
+                given(tailoringRepositoryMock.findTailoringId("SAMPLE", "master")).willReturn(10L);
+                given(tailoringRequirementChangeRepositoryMock.findTailoringChanges(10L,
+                                from.toInstant().toEpochMilli(), null, null, PageRequest.of(0, RequirementChangeFilter.DEFAULT_LIMIT)))
+                                .willReturn(List.of(change1, change2));
+                given(tailoringRequirementRepositoryMock.findAllById(Set.of(1L, 2L))).willReturn(List.of(
+                                TailoringRequirementEntity.builder().id(1L).number("1.a").build(),
+                                TailoringRequirementEntity.builder().id(2L).number("1.1.b").build()));
+                given(mapperMock.getRequirementChanges(any(), any())).willReturn(RequirementChange.builder().build());
+
+                // act
+                Optional<Collection<RequirementChange>> actual = repository.getTailoringChanges("SAMPLE", "master",
+                                RequirementChangeFilter.builder()
+                                                .from(from)
+                                                .build());
+
+                // assert
+                assertThat(actual).isPresent();
+                assertThat(actual.get()).hasSize(2);
+                verify(mapperMock, times(1)).getRequirementChanges(change1, "1.a");
+                verify(mapperMock, times(1)).getRequirementChanges(change2, "1.1.b");
+        }
+
+        @Test
+        void getTailoringChanges_NoChanges_EmptyCollectionReturned() {
+                // arrange
+                given(tailoringRepositoryMock.findTailoringId("SAMPLE", "master")).willReturn(10L);
+                given(tailoringRequirementChangeRepositoryMock.findTailoringChanges(any(), any(), any(), any(), any()))
+                                .willReturn(List.of());
+
+                // act
+                Optional<Collection<RequirementChange>> actual = repository.getTailoringChanges("SAMPLE", "master",
+                                RequirementChangeFilter.builder().build());
+
+                // assert
+                assertThat(actual).isPresent();
+                assertThat(actual.get()).isEmpty();
+                verify(mapperMock, times(0)).getRequirementChanges(any(), any());
+        }
+
+        @Test
+        void getTailoringChanges_TailoringNotExists_EmptyReturned() {
+                // arrange
+                given(tailoringRepositoryMock.findTailoringId("SAMPLE", "master")).willReturn(null);
+
+                // act
+                Optional<Collection<RequirementChange>> actual = repository.getTailoringChanges("SAMPLE", "master",
+                                RequirementChangeFilter.builder().build());
+
+                // assert
+                assertThat(actual).isEmpty();
+                verify(tailoringRequirementChangeRepositoryMock, times(0)).findTailoringChanges(any(), any(), any(),
+                                any(), any());
         }
 }
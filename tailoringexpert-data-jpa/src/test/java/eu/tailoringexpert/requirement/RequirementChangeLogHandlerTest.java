@@ -27,14 +27,21 @@ import eu.tailoringexpert.repository.TailoringRequirementChangeRepository;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.function.Supplier;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.times;
@@ -82,14 +89,15 @@ class RequirementChangeLogHandlerTest {
         }
 
         // assert
-        verify(tailoringRequirementRepositoryMock, times(1)).save(TailoringRequirementChangeEntity.builder()
+        verify(tailoringRequirementRepositoryMock, times(1)).saveAll(List.of(TailoringRequirementChangeEntity.builder()
             .changeType("TEXT")
             .requirementId(1L)
             .modificationTimestamp(now)
+            .modificationEpoch(now.toInstant().toEpochMilli())
             .old("old")
             .changed("new")
             .build()
-        );
+        ));
     }
 
     @Test
@@ -116,13 +124,106 @@ class RequirementChangeLogHandlerTest {
         }
 
         // assert
-        verify(tailoringRequirementRepositoryMock, times(1)).save(TailoringRequirementChangeEntity.builder()
+        verify(tailoringRequirementRepositoryMock, times(1)).saveAll(List.of(TailoringRequirementChangeEntity.builder()
             .requirementId(1L)
             .changeType("SELECTED")
             .modificationTimestamp(now)
+            .modificationEpoch(now.toInstant().toEpochMilli())
             .old(String.valueOf(FALSE))
             .changed(String.valueOf(TRUE))
             .build()
-        );
+        ));
+    }
+
+    @Test
+    void acceptSelection_RequirementsSelected_StateChangesOfAllRequirementsSavedAtOnce() {
+        // arrange
+        ZonedDateTime now =
+            ZonedDateTime.of(2020, 12, 1, 8, 0, 0, 0, ZoneId.systemDefault());
+
+        given(usernameMock.get()).willReturn("user");
+
+        // act
+        try (MockedStatic<ZonedDateTime> dateTimeMock = mockStatic(ZonedDateTime.class)) {
+            dateTimeMock.when(ZonedDateTime::now).thenReturn(now);
+            logHandler.acceptSelection(List.of(1L, 2L), TRUE);
+        }
+
+        // assert
+        verify(tailoringRequirementRepositoryMock, times(1)).saveAll(List.of(
+            TailoringRequirementChangeEntity.builder()
+                .changeType("SELECTED")
+                .user("user")
+                .requirementId(1L)
+                .modificationTimestamp(now)
+                .modificationEpoch(now.toInstant().toEpochMilli())
+                .old("false")
+                .changed("true")
+                .build(),
+            TailoringRequirementChangeEntity.builder()
+                .changeType("SELECTED")
+                .user("user")
+                .requirementId(2L)
+                .modificationTimestamp(now)
+                .modificationEpoch(now.toInstant().toEpochMilli())
+                .old("false")
+                .changed("true")
+                .build()
+        ));
+        verify(usernameMock, times(1)).get();
+    }
+
+    @Test
+    void accept_NoChange_NothingWritten() {
+        // arrange
+        TailoringRequirementEntity original = TailoringRequirementEntity.builder()
+            .id(1L)
+            .text("old")
+            .selected(FALSE)
+            .build();
+
+        // act
+        logHandler.accept(original, original);
+
+        // assert
+        verify(tailoringRequirementRepositoryMock, times(0)).saveAll(any());
+        verify(usernameMock, times(0)).get();
+    }
+
+    @Test
+    void accept_TransactionActive_ChangesWrittenInOneBatchBeforeCommit() {
+        // arrange
+        given(usernameMock.get()).willReturn("user");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // act
+            logHandler.accept(
+                TailoringRequirementEntity.builder().id(1L).text("old").selected(FALSE).build(),
+                TailoringRequirementEntity.builder().id(1L).text("new").selected(TRUE).build());
+            logHandler.acceptSelection(List.of(2L, 3L), TRUE);
+
+            // assert
+            verify(tailoringRequirementRepositoryMock, times(0)).saveAll(any());
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(synchronizations).hasSize(1);
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(
+                TransactionSynchronization.STATUS_COMMITTED));
+
+            ArgumentCaptor<List<TailoringRequirementChangeEntity>> changes = ArgumentCaptor.forClass(List.class);
+            verify(tailoringRequirementRepositoryMock, times(1)).saveAll(changes.capture());
+            assertThat(changes.getValue())
+                .extracting(TailoringRequirementChangeEntity::getRequirementId)
+                .containsExactly(1L, 1L, 2L, 3L);
+            assertThat(changes.getValue())
+                .extracting(TailoringRequirementChangeEntity::getUser)
+                .containsOnly("user");
+            verify(usernameMock, times(1)).get();
+            assertThat(TransactionSynchronizationManager.getResource(logHandler)).isNull();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 }
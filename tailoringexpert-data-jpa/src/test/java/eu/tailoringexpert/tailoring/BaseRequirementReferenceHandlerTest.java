@@ -0,0 +1,176 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.ApplicableDocumentEntity;
+import eu.tailoringexpert.domain.BaseCatalogChapterEntity;
+import eu.tailoringexpert.domain.BaseCatalogEntity;
+import eu.tailoringexpert.domain.BaseRequirementEntity;
+import eu.tailoringexpert.domain.DRDEntity;
+import eu.tailoringexpert.domain.TailoringCatalogChapterEntity;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
+import eu.tailoringexpert.repository.BaseCatalogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BaseRequirementReferenceHandlerTest {
+
+    private BaseCatalogRepository baseCatalogRepositoryMock;
+    private BaseCatalogChapterRepository baseCatalogChapterRepositoryMock;
+    private BaseRequirementReferenceHandler handler;
+
+    private DRDEntity drd;
+    private ApplicableDocumentEntity document;
+    private BaseRequirementEntity baseRequirement;
+
+    @BeforeEach
+    void setup() {
+        this.baseCatalogRepositoryMock = mock(BaseCatalogRepository.class);
+        this.baseCatalogChapterRepositoryMock = mock(BaseCatalogChapterRepository.class);
+        this.handler = new BaseRequirementReferenceHandler(baseCatalogRepositoryMock, baseCatalogChapterRepositoryMock);
+
+        this.drd = DRDEntity.builder().id(1L).number("01").build();
+        this.document = ApplicableDocumentEntity.builder().id(2L).title("Q-ST-80").build();
+        this.baseRequirement = BaseRequirementEntity.builder()
+            .number("1.1.a")
+            .position("a")
+            .text("Base text")
+            .drds(Set.of(drd))
+            .applicableDocuments(List.of(document))
+            .build();
+
+        given(baseCatalogRepositoryMock.findByVersion("8.2.1", BaseCatalogEntity.class))
+            .willReturn(BaseCatalogEntity.builder()
+                .version("8.2.1")
+                .toc(BaseCatalogChapterEntity.builder().id(10L).build())
+                .build());
+        given(baseCatalogChapterRepositoryMock.findChapterTree(10L)).willReturn(List.of(10L, 11L));
+        given(baseCatalogChapterRepositoryMock.fetchRequirementDRDs(List.of(10L, 11L))).willReturn(List.of(baseRequirement));
+    }
+
+    @Test
+    void accept_CatalogNull_NothingLoaded() {
+        // arrange
+        TailoringCatalogEntity catalog = null;
+
+        // act
+        handler.accept(catalog);
+
+        // assert
+        verifyNoInteractions(baseCatalogRepositoryMock, baseCatalogChapterRepositoryMock);
+    }
+
+    @Test
+    void accept_BaseCatalogNotExists_RequirementNotLinked() {
+        // arrange
+        TailoringRequirementEntity requirement = createRequirement("Base text");
+        TailoringCatalogEntity catalog = createCatalog("8.2.2", requirement);
+
+        // act
+        handler.accept(catalog);
+
+        // assert
+        assertThat(requirement.getBaseRequirement()).isNull();
+        verify(baseCatalogChapterRepositoryMock, times(0)).findChapterTree(any());
+    }
+
+    @Test
+    void accept_RequirementUnchanged_BaseRequirementReferenced() {
+        // arrange
+        TailoringRequirementEntity requirement = createRequirement("Base text");
+        TailoringCatalogEntity catalog = createCatalog("8.2.1", requirement);
+
+        // act
+        handler.accept(catalog);
+
+        // assert
+        assertThat(requirement.getBaseRequirement()).isSameAs(baseRequirement);
+        assertThat(requirement.getText()).isEqualTo("Base text");
+        assertThat(requirement.getDrds()).isSameAs(baseRequirement.getDrds());
+        assertThat(requirement.getApplicableDocuments()).isSameAs(baseRequirement.getApplicableDocuments());
+        verify(baseCatalogChapterRepositoryMock, times(1)).fetchRequirementApplicableDocuments(List.of(10L, 11L));
+    }
+
+    @Test
+    void accept_RequirementTextChanged_RequirementNotLinked() {
+        // arrange
+        TailoringRequirementEntity requirement = createRequirement("Changed text");
+        TailoringCatalogEntity catalog = createCatalog("8.2.1", requirement);
+
+        // act
+        handler.accept(catalog);
+
+        // assert
+        assertThat(requirement.getBaseRequirement()).isNull();
+        assertThat(requirement.getText()).isEqualTo("Changed text");
+        assertThat(requirement.getDrds()).containsExactly(drd);
+    }
+
+    @Test
+    void accept_RequirementDRDChanged_RequirementNotLinked() {
+        // arrange
+        TailoringRequirementEntity requirement = createRequirement("Base text");
+        requirement.setDrds(Set.of(DRDEntity.builder().id(3L).number("02").build()));
+        TailoringCatalogEntity catalog = createCatalog("8.2.1", requirement);
+
+        // act
+        handler.accept(catalog);
+
+        // assert
+        assertThat(requirement.getBaseRequirement()).isNull();
+    }
+
+    private TailoringRequirementEntity createRequirement(String text) {
+        return TailoringRequirementEntity.builder()
+            .position("a")
+            .text(text)
+            .selected(Boolean.TRUE)
+            .drds(Set.of(drd))
+            .applicableDocuments(List.of(document))
+            .build();
+    }
+
+    private TailoringCatalogEntity createCatalog(String version, TailoringRequirementEntity requirement) {
+        return TailoringCatalogEntity.builder()
+            .version(version)
+            .toc(TailoringCatalogChapterEntity.builder()
+                .chapters(List.of(TailoringCatalogChapterEntity.builder()
+                    .number("1.1")
+                    .requirements(List.of(requirement))
+                    .build()))
+                .build())
+            .build();
+    }
+}
@@ -21,13 +21,18 @@
  */
 package eu.tailoringexpert.tailoring;
 
+import eu.tailoringexpert.catalog.BaseCatalogSnapshotCache;
 import eu.tailoringexpert.domain.BaseCatalogEntity;
 import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.repository.BaseCatalogChapterRepository;
 import eu.tailoringexpert.repository.BaseCatalogRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +44,7 @@ import static org.mockito.Mockito.verify;
 class JPABaseRequirementsRepositoryTest {
 
     BaseCatalogRepository baseCatalogRepositoryMock;
+    BaseCatalogChapterRepository baseCatalogChapterRepositoryMock;
     JPABaseRequirementsProviderRepositoryMapper mapperMock;
     JPABaseRequirementsProviderRepository repository;
 
@@ -47,12 +53,69 @@ class JPABaseRequirementsRepositoryTest {
     void setup() {
         this.mapperMock = mock(JPABaseRequirementsProviderRepositoryMapper.class);
         this.baseCatalogRepositoryMock = mock(BaseCatalogRepository.class);
+        this.baseCatalogChapterRepositoryMock = mock(BaseCatalogChapterRepository.class);
         this.repository = new JPABaseRequirementsProviderRepository(
             mapperMock,
-            baseCatalogRepositoryMock
+            baseCatalogRepositoryMock,
+            baseCatalogChapterRepositoryMock,
+            new BaseCatalogSnapshotCache(() -> "plattform", 5)
         );
     }
 
+    @Test
+    void getBaseCatalog_VersionRequestedTwice_CatalogLoadedOnce() {
+        // arrange
+        BaseCatalogEntity baseCatalogEntity = BaseCatalogEntity.builder().build();
+        given(baseCatalogRepositoryMock.findByVersion("4711", BaseCatalogEntity.class)).willReturn(baseCatalogEntity);
+        given(mapperMock.getBaseCatalog(baseCatalogEntity)).willReturn(Catalog.<BaseRequirement>builder().build());
+
+        // act
+        Optional<Catalog<BaseRequirement>> first = repository.getBaseCatalog("4711");
+        Optional<Catalog<BaseRequirement>> actual = repository.getBaseCatalog("4711");
+
+        // assert
+        assertThat(actual).isPresent();
+        assertThat(actual.get())
+            .isEqualTo(first.get())
+            .isNotSameAs(first.get());
+        verify(baseCatalogRepositoryMock, times(1)).findByVersion("4711", BaseCatalogEntity.class);
+        verify(mapperMock, times(1)).getBaseCatalog(baseCatalogEntity);
+    }
+
+    @Test
+    void getBaseRequirements_ExistingVersion_RequirementsByNumberReturned() {
+        // arrange
+        BaseCatalogEntity baseCatalogEntity = BaseCatalogEntity.builder().build();
+        given(baseCatalogRepositoryMock.findByVersion("4711", BaseCatalogEntity.class)).willReturn(baseCatalogEntity);
+        given(mapperMock.getBaseCatalog(baseCatalogEntity)).willReturn(Catalog.<BaseRequirement>builder()
+            .toc(Chapter.<BaseRequirement>builder()
+                .chapters(List.of(Chapter.<BaseRequirement>builder()
+                    .number("1.2")
+                    .requirements(List.of(BaseRequirement.builder().position("a").text("Text").build()))
+                    .build()))
+                .build())
+            .build());
+
+        // act
+        Map<String, BaseRequirement> actual = repository.getBaseRequirements("4711");
+
+        // assert
+        assertThat(actual).containsOnlyKeys("1.2.a");
+        assertThat(actual.get("1.2.a").getText()).isEqualTo("Text");
+    }
+
+    @Test
+    void getBaseRequirements_NonExistingVersion_EmptyMapReturned() {
+        // arrange
+        given(baseCatalogRepositoryMock.findByVersion("4711", BaseCatalogEntity.class)).willReturn(null);
+
+        // act
+        Map<String, BaseRequirement> actual = repository.getBaseRequirements("4711");
+
+        // assert
+        assertThat(actual).isEmpty();
+    }
+
     @Test
     void getCatalog_NonExistingVersion_EmptyReturned() {
         // arrange
@@ -78,6 +141,7 @@ class JPABaseRequirementsRepositoryTest {
 
         // assert
         assertThat(actual).isPresent();
+        verify(baseCatalogChapterRepositoryMock, times(1)).loadCatalog(baseCatalogEntity);
         verify(mapperMock, times(1)).getBaseCatalog(baseCatalogEntity);
     }
 }
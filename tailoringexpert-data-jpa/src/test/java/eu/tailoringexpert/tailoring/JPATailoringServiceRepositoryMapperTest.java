@@ -37,6 +37,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class JPATailoringServiceRepositoryMapperTest {
 
@@ -82,6 +83,44 @@ class JPATailoringServiceRepositoryMapperTest {
     }
 
 
+    @Test
+    void toHeader_TailoringEntityNull_NullReturned() {
+        // arrange
+        TailoringEntity entity = null;
+
+        // act
+        Tailoring actual = mapper.toHeader(entity);
+
+        //assert
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void toHeader_TailoringEntityWithCatalog_OnlyCatalogVersionMapped() {
+        // arrange
+        TailoringCatalogChapterEntity toc = mock(TailoringCatalogChapterEntity.class);
+        TailoringEntity entity = TailoringEntity.builder()
+            .name("master")
+            .state(TailoringState.AGREED)
+            .phase(ZERO)
+            .catalog(TailoringCatalogEntity.builder()
+                .version("8.2.1")
+                .toc(toc)
+                .build())
+            .build();
+
+        // act
+        Tailoring actual = mapper.toHeader(entity);
+
+        //assert
+        assertThat(actual.getName()).isEqualTo("master");
+        assertThat(actual.getState()).isEqualTo(TailoringState.AGREED);
+        assertThat(actual.getPhases()).containsExactly(ZERO);
+        assertThat(actual.getCatalog().getVersion()).isEqualTo("8.2.1");
+        assertThat(actual.getCatalog().getToc()).isNull();
+        verifyNoInteractions(toc);
+    }
+
     @Test
     void updateTailoring_TailoringNull_EntityNotUpdated() {
         // arrange
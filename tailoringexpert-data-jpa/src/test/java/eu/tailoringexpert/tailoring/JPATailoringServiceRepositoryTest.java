@@ -29,32 +29,48 @@ import eu.tailoringexpert.domain.Note;
 import eu.tailoringexpert.domain.NoteEntity;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectEntity;
+import eu.tailoringexpert.domain.PurgeState;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetEntity;
+import eu.tailoringexpert.domain.ScreeningSheetFileEntity;
 import eu.tailoringexpert.domain.SelectionVectorProfile;
 import eu.tailoringexpert.domain.SelectionVectorProfileEntity;
 import eu.tailoringexpert.domain.Tailoring;
+import eu.tailoringexpert.domain.TailoringCatalogChapterProjection;
+import eu.tailoringexpert.domain.TailoringCatalogConsumer;
+import eu.tailoringexpert.domain.TailoringCatalogEntity;
 import eu.tailoringexpert.domain.TailoringEntity;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
 import eu.tailoringexpert.domain.TailoringState;
 import eu.tailoringexpert.repository.DokumentSigneeRepository;
 import eu.tailoringexpert.repository.ProjectRepository;
+import eu.tailoringexpert.repository.PurgeJobRepository;
 import eu.tailoringexpert.repository.SelectionVectorProfileRepository;
+import eu.tailoringexpert.repository.TailoringCatalogChapterRepository;
 import eu.tailoringexpert.repository.TailoringRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.List.copyOf;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 class JPATailoringServiceRepositoryTest {
@@ -64,6 +80,8 @@ class JPATailoringServiceRepositoryTest {
     TailoringRepository tailoringRepositoryMock;
     SelectionVectorProfileRepository selectionVectorProfileRepositoryMock;
     DokumentSigneeRepository dokumentSigneeRepositoryMock;
+    TailoringCatalogChapterRepository tailoringCatalogChapterRepositoryMock;
+    PurgeJobRepository purgeJobRepositoryMock;
     JPATailoringServiceRepository repository;
 
     @BeforeEach
@@ -73,12 +91,16 @@ class JPATailoringServiceRepositoryTest {
         this.tailoringRepositoryMock = mock(TailoringRepository.class);
         this.selectionVectorProfileRepositoryMock = mock(SelectionVectorProfileRepository.class);
         this.dokumentSigneeRepositoryMock = mock(DokumentSigneeRepository.class);
+        this.tailoringCatalogChapterRepositoryMock = mock(TailoringCatalogChapterRepository.class);
+        this.purgeJobRepositoryMock = mock(PurgeJobRepository.class);
         this.repository = new JPATailoringServiceRepository(
             mapperMock,
             projectRepositoryMock,
             tailoringRepositoryMock,
             selectionVectorProfileRepositoryMock,
-            dokumentSigneeRepositoryMock
+            dokumentSigneeRepositoryMock,
+            tailoringCatalogChapterRepositoryMock,
+            purgeJobRepositoryMock
         );
     }
 
@@ -129,8 +151,11 @@ class JPATailoringServiceRepositoryTest {
     @Test
     void updateTailoring_TailoringExists_TailoringUpdated() {
         // arrange
+        TailoringCatalogEntity catalog = TailoringCatalogEntity.builder().build();
         TailoringEntity tailoringToUpdate = TailoringEntity.builder()
+            .id(42L)
             .name("master")
+            .catalog(catalog)
             .build();
 
         given(projectRepositoryMock.findTailoring("SAMPLE", "master")).willReturn(tailoringToUpdate);
@@ -147,6 +172,7 @@ class JPATailoringServiceRepositoryTest {
         // assert
         assertThat(actual).isNotNull();
         verify(mapperMock, times(1)).updateTailoring(tailoring, tailoringToUpdate);
+        verify(tailoringCatalogChapterRepositoryMock, times(1)).updateTailoringPath(42L, catalog);
     }
 
     @Test
@@ -180,7 +206,7 @@ class JPATailoringServiceRepositoryTest {
         TailoringEntity tailoring = new TailoringEntity();
         given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(tailoring);
 
-        given(mapperMock.toDomain(tailoring))
+        given(mapperMock.toHeader(tailoring))
             .willAnswer(invocation -> Tailoring.builder()
                 .name(((TailoringEntity) invocation.getArgument(0)).getName())
                 .build());
@@ -330,7 +356,7 @@ class JPATailoringServiceRepositoryTest {
         // arrange
         TailoringEntity tailoring = TailoringEntity.builder()
             .screeningSheet(ScreeningSheetEntity.builder()
-                .data(null)
+                .file(null)
                 .build())
             .build();
         given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(tailoring);
@@ -347,7 +373,9 @@ class JPATailoringServiceRepositoryTest {
         // arrange
         TailoringEntity tailoring = TailoringEntity.builder()
             .screeningSheet(ScreeningSheetEntity.builder()
-                .data("ScreeningSheet".getBytes(UTF_8))
+                .file(ScreeningSheetFileEntity.builder()
+                    .data("ScreeningSheet".getBytes(UTF_8))
+                    .build())
                 .build())
             .build();
         given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(tailoring);
@@ -356,7 +384,70 @@ class JPATailoringServiceRepositoryTest {
         Optional<byte[]> actual = repository.getScreeningSheetFile("DUMMY", "master");
 
         // assert
-        assertThat(actual).isNotEmpty();
+        assertThat(actual).contains("ScreeningSheet".getBytes(UTF_8));
+    }
+
+    @Test
+    void writeCatalog_TailoringNotExists_FalseReturned() throws IOException {
+        // arrange
+        given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(null);
+        TailoringCatalogConsumer consumer = mock(TailoringCatalogConsumer.class);
+
+        // act
+        boolean actual = repository.writeCatalog("DUMMY", "master", consumer);
+
+        // assert
+        assertThat(actual).isFalse();
+        verifyNoInteractions(consumer, tailoringCatalogChapterRepositoryMock);
+    }
+
+    @Test
+    void writeCatalog_TailoringExists_RequirementsStreamedToConsumer() throws IOException {
+        // arrange
+        given(projectRepositoryMock.findTailoring("DUMMY", "master"))
+            .willReturn(TailoringEntity.builder().id(42L).build());
+
+        TailoringCatalogChapterProjection chapter = mock(TailoringCatalogChapterProjection.class);
+        given(chapter.getParentId()).willReturn(1L);
+        given(chapter.getId()).willReturn(10L);
+        given(chapter.getNumber()).willReturn("1");
+        given(tailoringCatalogChapterRepositoryMock.findChapterStructure(42L)).willReturn(List.of(chapter));
+
+        TailoringRequirementEntity requirement = TailoringRequirementEntity.builder().position("a").build();
+        willAnswer(invocation -> {
+            invocation.<BiConsumer<Long, TailoringRequirementEntity>>getArgument(2).accept(10L, requirement);
+            return null;
+        }).given(tailoringCatalogChapterRepositoryMock).forEachRequirement(eq(42L), anyInt(), any());
+        TailoringRequirement domain = TailoringRequirement.builder().position("a").build();
+        given(mapperMock.toDomain(requirement)).willReturn(domain);
+
+        TailoringCatalogConsumer consumer = mock(TailoringCatalogConsumer.class);
+
+        // act
+        boolean actual = repository.writeCatalog("DUMMY", "master", consumer);
+
+        // assert
+        assertThat(actual).isTrue();
+        verify(consumer, times(1)).chapter(argThat(header -> "1".equals(header.getNumber())), eq(1));
+        verify(consumer, times(1)).requirement(argThat(header -> "1".equals(header.getNumber())), eq(domain));
+    }
+
+    @Test
+    void writeCatalog_ConsumerFails_IOExceptionThrown() throws IOException {
+        // arrange
+        given(projectRepositoryMock.findTailoring("DUMMY", "master"))
+            .willReturn(TailoringEntity.builder().id(42L).build());
+        willThrow(new UncheckedIOException(new IOException("Mocked failure")))
+            .given(tailoringCatalogChapterRepositoryMock).forEachRequirement(eq(42L), anyInt(), any());
+
+        // act
+        Throwable actual = catchThrowable(() -> repository.writeCatalog("DUMMY", "master",
+            mock(TailoringCatalogConsumer.class)));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(IOException.class)
+            .hasMessage("Mocked failure");
     }
 
     @Test
@@ -432,9 +523,11 @@ class JPATailoringServiceRepositoryTest {
     @Test
     void getTailoring_TailoringExists_TailoringReturned() {
         // arrange
+        TailoringCatalogEntity catalog = TailoringCatalogEntity.builder().build();
         TailoringEntity tailoring = TailoringEntity.builder()
             .screeningSheet(ScreeningSheetEntity.builder()
                 .build())
+            .catalog(catalog)
             .build();
         given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(tailoring);
 
@@ -445,34 +538,111 @@ class JPATailoringServiceRepositoryTest {
 
         // assert
         assertThat(actual).isNotEmpty();
+        verify(tailoringCatalogChapterRepositoryMock, times(1)).loadCatalog(catalog);
         verify(mapperMock, times(1)).toDomain(tailoring);
     }
 
+    @Test
+    void getTailoringHeader_ProjectNull_EmptyReturned() {
+        // arrange
+
+        // act
+        Optional<Tailoring> actual = repository.getTailoringHeader(null, "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(projectRepositoryMock, times(0)).findTailoring(any(), any());
+    }
+
+    @Test
+    void getTailoringHeader_TailoringNotExists_EmptyReturned() {
+        // arrange
+        given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(null);
+
+        // act
+        Optional<Tailoring> actual = repository.getTailoringHeader("DUMMY", "master");
+
+        // assert
+        assertThat(actual).isEmpty();
+        verify(mapperMock, times(0)).toHeader(any());
+    }
+
+    @Test
+    void getTailoringHeader_TailoringExists_HeaderReturned() {
+        // arrange
+        TailoringEntity tailoring = TailoringEntity.builder().build();
+        given(projectRepositoryMock.findTailoring("DUMMY", "master")).willReturn(tailoring);
+
+        given(mapperMock.toHeader(tailoring)).willReturn(Tailoring.builder().build());
+
+        // act
+        Optional<Tailoring> actual = repository.getTailoringHeader("DUMMY", "master");
+
+        // assert
+        assertThat(actual).isNotEmpty();
+        verify(mapperMock, times(1)).toHeader(tailoring);
+        verify(mapperMock, times(0)).toDomain(any(TailoringEntity.class));
+    }
+
     @Test
     void deleteTailoring_TailoringNotExists_FalseReturned() {
         // arrange
-        given(projectRepositoryMock.findTailoring("DUMMY", "master42")).willReturn(null);
+        given(projectRepositoryMock.findByIdentifier("DUMMY")).willReturn(ProjectEntity.builder()
+            .identifier("DUMMY")
+            .tailorings(List.of(TailoringEntity.builder().name("master").build()))
+            .build());
 
         // act
         boolean actual = repository.deleteTailoring("DUMMY", "master42");
 
         // assert
         assertThat(actual).isFalse();
+        verify(tailoringRepositoryMock, times(0)).markDeleted(any(), any());
         verify(tailoringRepositoryMock, times(0)).delete(any());
+        verifyNoInteractions(purgeJobRepositoryMock);
     }
 
     @Test
-    void deleteTailoring_TailoringExists_TrueReturned() {
+    void deleteTailoring_ProjectNotExists_FalseReturned() {
         // arrange
-        TailoringEntity toDelete = TailoringEntity.builder().build();
-        given(projectRepositoryMock.findTailoring("DUMMY", "master42")).willReturn(toDelete);
+        given(projectRepositoryMock.findByIdentifier("DUMMY")).willReturn(null);
+
+        // act
+        boolean actual = repository.deleteTailoring("DUMMY", "master42");
+
+        // assert
+        assertThat(actual).isFalse();
+        verifyNoInteractions(purgeJobRepositoryMock);
+    }
+
+    @Test
+    void deleteTailoring_TailoringExists_TailoringMarkedDeletedAndPurgeJobCreated() {
+        // arrange
+        TailoringEntity toDelete = TailoringEntity.builder().id(43L).name("master42").identifier("1001").build();
+        given(projectRepositoryMock.findByIdentifier("DUMMY")).willReturn(ProjectEntity.builder()
+            .id(42L)
+            .identifier("DUMMY")
+            .tailorings(List.of(
+                TailoringEntity.builder().id(41L).name("master").identifier("1000").build(),
+                toDelete,
+                TailoringEntity.builder().id(44L).name("master2").identifier("1002").build()))
+            .build());
 
         // act
         boolean actual = repository.deleteTailoring("DUMMY", "master42");
 
         // assert
         assertThat(actual).isTrue();
-        verify(tailoringRepositoryMock, times(1)).delete(toDelete);
+        verify(tailoringRepositoryMock, times(0)).delete(any());
+        verify(tailoringRepositoryMock, times(1)).markDeleted(eq(43L), any());
+        verify(tailoringRepositoryMock, times(1)).closeOrderGap(42L, 1);
+        verify(purgeJobRepositoryMock, times(1)).save(argThat(job ->
+            job.getProjectId().equals(42L) &&
+                job.getTailoringId().equals(43L) &&
+                job.getProject().equals("DUMMY") &&
+                job.getTailoring().equals("master42") &&
+                job.getIdentifier().equals("1001") &&
+                job.getState() == PurgeState.PENDING));
     }
 
     @Test
@@ -504,7 +674,7 @@ class JPATailoringServiceRepositoryTest {
             return NoteEntity.builder().number(toAdd.getNumber()).text(toAdd.getText()).build();
         });
 
-        given(mapperMock.toDomain(tailoring)).willReturn(Tailoring.builder().build());
+        given(mapperMock.toHeader(tailoring)).willReturn(Tailoring.builder().build());
 
         // act
         Optional<Tailoring> actual = repository.addNote("SAMPLE", "master", note);
@@ -536,7 +706,7 @@ class JPATailoringServiceRepositoryTest {
         given(projectRepositoryMock.findTailoring("SAMPLE", "master"))
             .willReturn(entity);
 
-        given(mapperMock.toDomain(entity)).willAnswer(invocation -> {
+        given(mapperMock.toHeader(entity)).willAnswer(invocation -> {
             TailoringEntity te = invocation.getArgument(0);
             return Tailoring.builder().state(te.getState()).build();
         });
@@ -0,0 +1,179 @@
+/*-
+ * #%L
+ * TailoringExpert
+ * %%
+ * Copyright (C) 2022 - 2026 Michael Bädorf and others
+ * %%
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public
+ * License along with this program.  If not, see
+ * <http://www.gnu.org/licenses/gpl-3.0.html>.
+ * #L%
+ */
+package eu.tailoringexpert.tailoring;
+
+import eu.tailoringexpert.domain.Chapter;
+import eu.tailoringexpert.domain.TailoringCatalogChapterProjection;
+import eu.tailoringexpert.domain.TailoringCatalogConsumer;
+import eu.tailoringexpert.domain.TailoringRequirement;
+import eu.tailoringexpert.domain.TailoringRequirementEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+class TailoringCatalogWriterTest {
+
+    List<String> passed;
+    TailoringCatalogConsumer consumer;
+
+    @BeforeEach
+    void setup() {
+        this.passed = new ArrayList<>();
+        this.consumer = new TailoringCatalogConsumer() {
+            @Override
+            public void chapter(Chapter<TailoringRequirement> chapter, int level) {
+                passed.add(level + " " + chapter.getNumber());
+            }
+
+            @Override
+            public void requirement(Chapter<TailoringRequirement> chapter, TailoringRequirement requirement) {
+                passed.add(chapter.getNumber() + "." + requirement.getPosition());
+            }
+        };
+    }
+
+    @Test
+    void accept_ChaptersReadInDocumentOrder_ChaptersAndRequirementsPassedInDocumentOrder() throws IOException {
+        // arrange
+        TailoringCatalogWriter writer = new TailoringCatalogWriter(List.of(
+            chapter(1L, 10L, "1"),
+            chapter(1L, 30L, "2"),
+            chapter(10L, 20L, "1.1")
+        ), this::toDomain, consumer);
+
+        // act
+        writer.accept(10L, requirement("a"));
+        writer.accept(20L, requirement("a"));
+        writer.accept(20L, requirement("b"));
+        writer.accept(30L, requirement("a"));
+        writer.close();
+
+        // assert
+        assertThat(passed).containsExactly("1 1", "1.a", "2 1.1", "1.1.a", "1.1.b", "1 2", "2.a");
+    }
+
+    @Test
+    void accept_ChapterReadBeforeItsTurn_RequirementsBufferedUntilPrecedingChaptersPassed() throws IOException {
+        // arrange
+        TailoringCatalogWriter writer = new TailoringCatalogWriter(List.of(
+            chapter(1L, 10L, "1"),
+            chapter(1L, 5L, "2"),
+            chapter(10L, 20L, "1.1")
+        ), this::toDomain, consumer);
+
+        // act
+        writer.accept(5L, requirement("a"));
+        writer.accept(5L, requirement("b"));
+        writer.accept(20L, requirement("a"));
+
+        // assert
+        assertThat(passed).containsExactly("1 1", "2 1.1", "1.1.a");
+
+        // act
+        writer.close();
+
+        // assert
+        assertThat(passed).containsExactly("1 1", "2 1.1", "1.1.a", "1 2", "2.a", "2.b");
+    }
+
+    @Test
+    void close_NoRequirementsRead_AllChaptersPassed() throws IOException {
+        // arrange
+        TailoringCatalogWriter writer = new TailoringCatalogWriter(List.of(
+            chapter(1L, 10L, "1"),
+            chapter(1L, 30L, "2"),
+            chapter(10L, 20L, "1.1")
+        ), this::toDomain, consumer);
+
+        // act
+        writer.close();
+
+        // assert
+        assertThat(passed).containsExactly("1 1", "2 1.1", "1 2");
+    }
+
+    @Test
+    void accept_RequirementOfTableOfContents_RequirementIgnored() throws IOException {
+        // arrange
+        TailoringCatalogWriter writer = new TailoringCatalogWriter(List.of(
+            chapter(1L, 10L, "1")
+        ), this::toDomain, consumer);
+
+        // act
+        writer.accept(1L, requirement("a"));
+        writer.close();
+
+        // assert
+        assertThat(passed).containsExactly("1 1");
+    }
+
+    @Test
+    void accept_ConsumerFails_UncheckedIOExceptionThrown() throws IOException {
+        // arrange
+        TailoringCatalogConsumer failingConsumer = mock(TailoringCatalogConsumer.class);
+        willThrow(new IOException()).given(failingConsumer).chapter(any(), anyInt());
+        TailoringCatalogWriter writer = new TailoringCatalogWriter(List.of(
+            chapter(1L, 10L, "1")
+        ), this::toDomain, failingConsumer);
+
+        // act
+        Throwable actual = catchThrowable(() -> writer.accept(10L, requirement("a")));
+
+        // assert
+        assertThat(actual)
+            .isInstanceOf(UncheckedIOException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    private TailoringCatalogChapterProjection chapter(Long parent, Long id, String number) {
+        TailoringCatalogChapterProjection result = mock(TailoringCatalogChapterProjection.class);
+        given(result.getParentId()).willReturn(parent);
+        given(result.getId()).willReturn(id);
+        given(result.getNumber()).willReturn(number);
+        given(result.getName()).willReturn("Chapter " + number);
+        return result;
+    }
+
+    private TailoringRequirementEntity requirement(String position) {
+        return TailoringRequirementEntity.builder()
+            .position(position)
+            .build();
+    }
+
+    private TailoringRequirement toDomain(TailoringRequirementEntity entity) {
+        return TailoringRequirement.builder()
+            .position(entity.getPosition())
+            .build();
+    }
+}
@@ -25,6 +25,8 @@ import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.File;
 import eu.tailoringexpert.domain.Tailoring;
+import eu.tailoringexpert.domain.TailoringCatalogConsumer;
+import eu.tailoringexpert.domain.TailoringCatalogSource;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -79,11 +81,53 @@ public class TailoringCatalogExcelDocumentCreator implements DocumentCreator {
     public File createDocument(String docId, Tailoring tailoring, Map<String, Object> placeholders) {
         log.traceEntry(() -> docId);
 
+        File result = create(docId, tailoring, TailoringCatalogSource.of(tailoring.getCatalog()));
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Rows are added while the catalog is read, so the catalog is never completely held in memory.
+     */
+    @Override
+    public File createDocument(String docId,
+                               Tailoring tailoring,
+                               TailoringCatalogSource catalog,
+                               Map<String, Object> placeholders) {
+        log.traceEntry(() -> docId);
+
+        File result = create(docId, tailoring, catalog);
+
+        log.traceExit();
+        return result;
+    }
+
+    /**
+     * Create Excel file of a catalog.
+     *
+     * @param docId     Identifier of document to create
+     * @param tailoring tailoring to create document of, catalog has to provide at least the version
+     * @param catalog   source of chapters and requirements of tailoring catalog
+     * @return created file or null in case of failing to create document
+     */
+    private File create(String docId, Tailoring tailoring, TailoringCatalogSource catalog) {
         try (Workbook wb = new XSSFWorkbook()) {
             Sheet sheet = createSheet(wb, tailoring);
 
             Map<String, BaseRequirement> baseRequirements = baseRequirementsProvider.apply(tailoring.getCatalog().getVersion());
-            tailoring.getCatalog().getToc().getChapters().forEach(gruppe -> addChapter(gruppe, baseRequirements, sheet));
+            catalog.writeTo(new TailoringCatalogConsumer() {
+                @Override
+                public void chapter(Chapter<TailoringRequirement> chapter, int level) {
+                    addRow(sheet, chapter.getName(), chapter.getNumber());
+                }
+
+                @Override
+                public void requirement(Chapter<TailoringRequirement> chapter, TailoringRequirement requirement) {
+                    addRow(sheet, requirement, chapter.getNumber(), baseRequirements);
+                }
+            });
 
             applyTextStyle(sheet);
             applyValidationToColumn(sheet, 2);
@@ -99,30 +143,13 @@ public class TailoringCatalogExcelDocumentCreator implements DocumentCreator {
                 content = os.toByteArray();
             }
 
-            File result = File.builder().name(docId + ".xlsx").data(content).build();
-            log.traceExit();
-            return result;
+            return File.builder().name(docId + ".xlsx").data(content).build();
         } catch (Exception e) {
             log.catching(e);
         }
-        log.traceExit();
         return null;
     }
 
-    /**
-     * Add chapter to sheet object.
-     * All subchapter will be evaluated as well.
-     *
-     * @param chapter chapter evaluate
-     * @param sheet   sheet to add elements to
-     */
-    private void addChapter(Chapter<TailoringRequirement> chapter, Map<String, BaseRequirement> baseRequirements, Sheet sheet) {
-        addRow(sheet, chapter.getName(), chapter.getNumber());
-        chapter.getRequirements().forEach(requirement -> addRow(sheet, requirement, chapter.getNumber(), baseRequirements));
-
-        chapter.getChapters().forEach(subChapter -> addChapter(subChapter, baseRequirements, sheet));
-    }
-
     /**
      * Create sheet in workbook.
      *
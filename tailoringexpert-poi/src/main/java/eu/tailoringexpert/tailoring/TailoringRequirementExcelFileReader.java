@@ -28,10 +28,8 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 
 import java.io.ByteArrayInputStream;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -40,16 +38,16 @@ import static java.util.Collections.emptyMap;
 import static org.apache.poi.ss.usermodel.Row.MissingCellPolicy.CREATE_NULL_AS_BLANK;
 
 @Log4j2
-public class TailoringRequirementExcelFileReader implements Function<byte[], Map<String, Collection<ImportRequirement>>> {
+public class TailoringRequirementExcelFileReader implements Function<byte[], Map<String, Map<String, ImportRequirement>>> {
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public Map<String, Collection<ImportRequirement>> apply(byte[] data) {
+    public Map<String, Map<String, ImportRequirement>> apply(byte[] data) {
         log.traceEntry();
 
-        Map<String, Collection<ImportRequirement>> result = new HashMap<>();
+        Map<String, Map<String, ImportRequirement>> result = new LinkedHashMap<>();
 
         try (ByteArrayInputStream is = new ByteArrayInputStream(data);
              Workbook workbook = WorkbookFactory.create(is)) {
@@ -75,10 +73,11 @@ public class TailoringRequirementExcelFileReader implements Function<byte[], Map
 
                 if (!label.isEmpty()) {
                     chapter.set(position);
-                    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops") final Collection<ImportRequirement> chapterRequirements = new ArrayList<>();
+                    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops") final Map<String, ImportRequirement> chapterRequirements = new LinkedHashMap<>();
                     result.put(chapter.get(), chapterRequirements);
                 } else {
-                    result.get(chapter.get()).add(ImportRequirement.builder()
+                    // last row of a position wins
+                    result.get(chapter.get()).put(position, ImportRequirement.builder()
                         .label(label)
                         .position(position)
                         .applicable(applicable)
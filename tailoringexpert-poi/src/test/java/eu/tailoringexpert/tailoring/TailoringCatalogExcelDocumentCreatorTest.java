@@ -25,6 +25,7 @@ import eu.tailoringexpert.domain.BaseRequirement;
 import eu.tailoringexpert.domain.Catalog;
 import eu.tailoringexpert.domain.File;
 import eu.tailoringexpert.domain.Tailoring;
+import eu.tailoringexpert.domain.TailoringCatalogSource;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import lombok.extern.log4j.Log4j2;
 import org.apache.poi.ss.usermodel.Row;
@@ -180,6 +181,52 @@ class TailoringCatalogExcelDocumentCreatorTest {
         }
     }
 
+    @Test
+    void createDocument_CatalogSource_SameRowsAsOfLoadedCatalogCreated() throws Exception {
+        // arrange
+        Catalog<TailoringRequirement> catalog;
+        try (InputStream is = this.getClass().getResourceAsStream("/tailoringkatalog.json")) {
+            assert nonNull(is);
+            catalog = objectMapper.readValue(
+                is,
+                objectMapper.getTypeFactory()
+                    .constructParametricType(Catalog.class, TailoringRequirement.class)
+            );
+        }
+
+        Tailoring tailoring = Tailoring.builder()
+            .name("ut")
+            .catalog(catalog)
+            .signatures(emptyList())
+            .phases(Arrays.asList(ZERO, A, B, C, D, E, F))
+            .build();
+        File expected = creator.createDocument("42", tailoring, emptyMap());
+
+        Tailoring header = Tailoring.builder()
+            .name("ut")
+            .catalog(Catalog.<TailoringRequirement>builder().version(catalog.getVersion()).build())
+            .signatures(emptyList())
+            .phases(Arrays.asList(ZERO, A, B, C, D, E, F))
+            .build();
+
+        // act
+        File actual = creator.createDocument("42", header, TailoringCatalogSource.of(catalog), emptyMap());
+
+        // assert
+        assertThat(actual).isNotNull();
+        assertThat(header.getCatalog().getToc()).isNull();
+        try (Workbook expectedWorkbook = WorkbookFactory.create(new ByteArrayInputStream(expected.getData()));
+             Workbook actualWorkbook = WorkbookFactory.create(new ByteArrayInputStream(actual.getData()))) {
+            Sheet expectedSheet = expectedWorkbook.getSheetAt(1);
+            Sheet actualSheet = actualWorkbook.getSheetAt(1);
+            assertThat(actualSheet.getLastRowNum()).isEqualTo(expectedSheet.getLastRowNum());
+            for (int i = 0; i <= expectedSheet.getLastRowNum(); i++) {
+                assertThat(actualSheet.getRow(i).getCell(1).getStringCellValue())
+                    .isEqualTo(expectedSheet.getRow(i).getCell(1).getStringCellValue());
+            }
+        }
+    }
+
     @Test
     void applyValidationToColumn_XSSFDataValidation_ValidationAddedToSheet() {
         // arrange
@@ -22,17 +22,21 @@
 package eu.tailoringexpert.tailoring;
 
 import lombok.extern.log4j.Log4j2;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
-import java.util.Collection;
 import java.util.Map;
 
 import static java.nio.file.Files.newInputStream;
@@ -63,7 +67,7 @@ class TailoringRequirementExcelFileReaderTest {
         }
 
         // act
-        Map<String, Collection<ImportRequirement>> actual = null;
+        Map<String, Map<String, ImportRequirement>> actual = null;
         try (MockedStatic<WorkbookFactory> factory = mockStatic(WorkbookFactory.class)) {
             factory.when(() -> WorkbookFactory.create(any(ByteArrayInputStream.class)))
                 .thenThrow(new IOException("Mocked create Exception"));
@@ -84,7 +88,7 @@ class TailoringRequirementExcelFileReaderTest {
         }
 
         // act
-        Map<String, Collection<ImportRequirement>> actual = excel.apply(data);
+        Map<String, Map<String, ImportRequirement>> actual = excel.apply(data);
 
         // assert
         assertThat(actual).isEmpty();
@@ -100,13 +104,41 @@ class TailoringRequirementExcelFileReaderTest {
         }
 
         // act
-        Map<String, Collection<ImportRequirement>> actual = excel.apply(data);
+        Map<String, Map<String, ImportRequirement>> actual = excel.apply(data);
 
         // assert
-        actual.entrySet().forEach(entry -> entry.getValue().forEach(log::info));
+        actual.entrySet().forEach(entry -> entry.getValue().values().forEach(log::info));
         assertThat(actual).isNotEmpty();
     }
 
+    @Test
+    void apply_DuplicatePositionInChapter_RequirementsIndexedByChapterAndPositionLastRowKept() throws IOException {
+        // arrange
+        byte[] data;
+        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            addRow(sheet, "Label", "Position", "Applicable", "Text");
+            addRow(sheet, "Chapter 1", "1", "", "");
+            addRow(sheet, "", "a", "YES", "");
+            addRow(sheet, "", "b", "NO", "Neuer Text");
+            addRow(sheet, "", "a", "NO", "");
+            addRow(sheet, "Chapter 1.1", "1.1", "", "");
+            addRow(sheet, "", "a", "NO", "");
+            workbook.write(os);
+            data = os.toByteArray();
+        }
+
+        // act
+        Map<String, Map<String, ImportRequirement>> actual = excel.apply(data);
+
+        // assert
+        assertThat(actual).containsOnlyKeys("1", "1.1");
+        assertThat(actual.get("1")).containsOnlyKeys("a", "b");
+        assertThat(actual.get("1").get("a").getApplicable()).isEqualTo("NO");
+        assertThat(actual.get("1").get("b").getText()).isEqualTo("Neuer Text");
+        assertThat(actual.get("1.1").get("a").getApplicable()).isEqualTo("NO");
+    }
+
     @Test
     void apply_WorkbookFactoryException_EmptyReturned() throws Exception {
         // arrange
@@ -117,7 +149,7 @@ class TailoringRequirementExcelFileReaderTest {
         }
 
         // act
-        Map<String, Collection<ImportRequirement>> actual;
+        Map<String, Map<String, ImportRequirement>> actual;
         try (MockedStatic<WorkbookFactory> wf = Mockito.mockStatic(WorkbookFactory.class)) {
             wf.when(() -> WorkbookFactory.create(any(InputStream.class))).thenThrow(new RuntimeException());
             actual = excel.apply(data);
@@ -127,5 +159,10 @@ class TailoringRequirementExcelFileReaderTest {
         assertThat(actual).isEmpty();
     }
 
-
+    private void addRow(Sheet sheet, String... values) {
+        Row row = sheet.createRow(sheet.getPhysicalNumberOfRows());
+        for (int i = 0; i < values.length; i++) {
+            row.createCell(i).setCellValue(values[i]);
+        }
+    }
 }
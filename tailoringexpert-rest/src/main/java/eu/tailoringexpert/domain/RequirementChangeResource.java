@@ -37,6 +37,8 @@ import static java.util.Objects.nonNull;
 @Relation(itemRelation = "requirementChange", collectionRelation = "requirementChanges")
 public class RequirementChangeResource extends RepresentationModel<RequirementChangeResource> {
 
+    Long id;
+    String requirement;
     String changeType;
     String old;
     String changed;
@@ -44,9 +46,11 @@ public class RequirementChangeResource extends RepresentationModel<RequirementCh
     String modificationTimestamp;
 
     @Builder
-    public RequirementChangeResource(String changeType, String old, String changed, String user,
-            String modificationTimestamp, List<Link> links) {
+    public RequirementChangeResource(Long id, String requirement, String changeType, String old, String changed,
+            String user, String modificationTimestamp, List<Link> links) {
         super();
+        this.id = id;
+        this.requirement = requirement;
         this.changeType = changeType;
         this.old = old;
         this.changed = changed;
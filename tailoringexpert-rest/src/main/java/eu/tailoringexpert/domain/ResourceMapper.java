@@ -21,6 +21,8 @@
  */
 package eu.tailoringexpert.domain;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.util.Arrays.asList;
 import static java.util.List.of;
 import static java.util.Objects.isNull;
@@ -41,8 +43,10 @@ import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.UriTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import eu.tailoringexpert.TailoringexpertMapperConfig;
 import eu.tailoringexpert.domain.BaseCatalogVersionResource.BaseCatalogVersionResourceBuilder;
@@ -100,6 +104,7 @@ public abstract class ResourceMapper {
     public static final String TAILORING_NOTE = "project/{project}/tailoring/{tailoring}/note/{note}";
     public static final String TAILORING_STATE = "project/{project}/tailoring/{tailoring}/state/{state}";
     public static final String TAILORING_REQUIREMENTSAPPLICABILITY = "project/{project}/tailoring/{tailoring}/requirements/applicabilty";
+    public static final String TAILORING_CHANGES = "project/{project}/tailoring/{tailoring}/changes";
     public static final String TAILORING_DIFF = "project/{project}/tailoring/{tailoring}/compare/{cproject}/{ctailoring}";
 
     public static final String BASECATALOG = "catalog";
@@ -489,4 +494,56 @@ public abstract class ResourceMapper {
     public Link createLink(String rel, String path, Map<String, String> parameter) {
         return Link.of(UriTemplate.of(this.contextPath + "/" + resolveParameter(path, parameter)), rel);
     }
+
+    /**
+     * Create the navigation links (self, first, prev, next, last) of a page.
+     *
+     * @param path  path of the paged resource
+     * @param query query parameters of the request without page number. Parameters with null values are omitted.
+     * @param page  page to create links of
+     * @return links of the page
+     */
+    public List<Link> createPageLinks(String path, Map<String, Object> query, ResultPage<?> page) {
+        int lastPage = max(page.getTotalPages() - 1, 0);
+
+        List<Link> result = new LinkedList<>();
+        result.add(createPageLink(REL_SELF, path, query, page.getPage()));
+        result.add(createPageLink(IanaLinkRelations.FIRST.value(), path, query, 0));
+        if (page.getPage() > 0) {
+            result.add(createPageLink(IanaLinkRelations.PREV.value(), path, query, min(page.getPage() - 1, lastPage)));
+        }
+        if (page.getPage() < lastPage) {
+            result.add(createPageLink(IanaLinkRelations.NEXT.value(), path, query, page.getPage() + 1));
+        }
+        result.add(createPageLink(IanaLinkRelations.LAST.value(), path, query, lastPage));
+        return result;
+    }
+
+    /**
+     * Create the link to the page following a page of a keyset paged resource.
+     *
+     * @param path      path of the paged resource
+     * @param parameter path parameters to resolve
+     * @param query     query parameters of the request without cursor. Parameters with null values are omitted.
+     * @param after     cursor of the next page, the key of the last element of the current page
+     * @return link to the next page
+     */
+    public Link createNextLink(String path, Map<String, String> parameter, Map<String, Object> query, Object after) {
+        return createQueryLink(IanaLinkRelations.NEXT.value(), resolveParameter(path, parameter), query, "after", after);
+    }
+
+    private Link createPageLink(String rel, String path, Map<String, Object> query, int page) {
+        return createQueryLink(rel, path, query, "page", page);
+    }
+
+    private Link createQueryLink(String rel, String path, Map<String, Object> query, String name, Object value) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath(this.contextPath + "/" + path);
+        query.forEach((key, parameter) -> {
+            if (nonNull(parameter)) {
+                builder.queryParam(key, parameter);
+            }
+        });
+        builder.queryParam(name, value);
+        return Link.of(builder.encode().build().toUriString(), rel);
+    }
 }
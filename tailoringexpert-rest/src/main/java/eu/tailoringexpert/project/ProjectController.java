@@ -30,6 +30,10 @@ import static eu.tailoringexpert.domain.ResourceMapper.PROJECT_SELECTIONVECTOR;
 import static eu.tailoringexpert.domain.ResourceMapper.PROJECT_STATE;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORING;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGS;
+import static eu.tailoringexpert.domain.ProjectInformationFilter.DEFAULT_SIZE;
+import static eu.tailoringexpert.domain.ProjectInformationFilter.MAX_SIZE;
+import static java.lang.Math.min;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.springframework.hateoas.EntityModel.of;
 import static org.springframework.http.HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS;
@@ -40,12 +44,14 @@ import static org.springframework.http.ResponseEntity.notFound;
 import static org.springframework.http.ResponseEntity.ok;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.hateoas.PagedModel.PageMetadata;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -55,14 +61,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
+import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationFilter;
 import eu.tailoringexpert.domain.ProjectResource;
 import eu.tailoringexpert.domain.ProjectState;
 import eu.tailoringexpert.domain.ResourceMapper;
+import eu.tailoringexpert.domain.ResultPage;
 import eu.tailoringexpert.domain.ScreeningSheetResource;
 import eu.tailoringexpert.domain.SelectionVectorResource;
 import eu.tailoringexpert.domain.Tailoring;
@@ -98,20 +108,37 @@ public class ProjectController {
     @NonNull
     private ProjectServiceRepository projectServiceRepository;
 
-    @Operation(summary = "Load all projects base data")
+    @Operation(summary = "Load all projects base data", description = "Projects are returned as paged model with page metadata and navigation links instead of a complete list. A page contains " + DEFAULT_SIZE + " projects by default and at most " + MAX_SIZE + " projects.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Project list created", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectResource.class))))
+            @ApiResponse(responseCode = "200", description = "Page of project list created", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ProjectResource.class))))
     })
     @GetMapping(value = PROJECTS, produces = { "application/hal+json" })
-    public ResponseEntity<CollectionModel<EntityModel<ProjectResource>>> getProjects() {
+    public ResponseEntity<PagedModel<EntityModel<ProjectResource>>> getProjects(
+            @Parameter(description = "State of projects") @RequestParam(required = false) ProjectState state,
+            @Parameter(description = "Catalog version used by at least one tailoring of project") @RequestParam(required = false) String catalog,
+            @Parameter(description = "Number of page (zero based)") @RequestParam(required = false) Integer page,
+            @Parameter(description = "Maximum number of projects of page, at most " + MAX_SIZE) @RequestParam(required = false) Integer size,
+            @Parameter(description = "Property to sort by (identifier, creationTimestamp, state) with optional direction, e.g. creationTimestamp,desc") @RequestParam(required = false) String sort) {
         log.traceEntry();
 
-        List<EntityModel<ProjectResource>> projekte = projectServiceRepository.getProjectInformations()
+        ProjectInformationFilter filter = toFilter(state, catalog, page, size, sort);
+        ResultPage<ProjectInformation> projects = projectServiceRepository.getProjectInformations(filter);
+
+        List<EntityModel<ProjectResource>> projekte = projects.getContent()
                 .stream()
                 .map(domain -> of(mapper.toResource(PathContext.builder(), domain)))
                 .toList();
-        ResponseEntity<CollectionModel<EntityModel<ProjectResource>>> result = ok()
-                .body(CollectionModel.of(projekte));
+
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("state", state);
+        query.put("catalog", catalog);
+        query.put("size", projects.getSize());
+        query.put("sort", sort);
+        ResponseEntity<PagedModel<EntityModel<ProjectResource>>> result = ok()
+                .body(PagedModel.of(
+                        projekte,
+                        new PageMetadata(projects.getSize(), projects.getPage(), projects.getTotalElements(), projects.getTotalPages()),
+                        mapper.createPageLinks(PROJECTS, query, projects)));
 
         log.traceExit();
         return result;
@@ -182,7 +209,8 @@ public class ProjectController {
 
     @Operation(summary = "Load screeningsheet file of requested project")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Screeningsheet file loaded", content = @Content(mediaType = "application/json+hal", schema = @Schema(implementation = byte[].class)))
+            @ApiResponse(responseCode = "200", description = "Screeningsheet file loaded", content = @Content(mediaType = "application/json+hal", schema = @Schema(implementation = byte[].class))),
+            @ApiResponse(responseCode = "404", description = "Screeningsheet file does not exist", content = @Content)
     })
     @GetMapping(PROJECT_SCREENINGSHEET_PDF)
     public ResponseEntity<byte[]> getScreeningSheetFile(
@@ -320,4 +348,18 @@ public class ProjectController {
         log.traceExit();
         return result;
     }
+
+    private ProjectInformationFilter toFilter(ProjectState state, String catalog, Integer page, Integer size, String sort) {
+        ProjectInformationFilter.ProjectInformationFilterBuilder result = ProjectInformationFilter.builder()
+                .state(state)
+                .catalogVersion(catalog)
+                .page(nonNull(page) ? page : 0)
+                .size(nonNull(size) ? min(size, MAX_SIZE) : DEFAULT_SIZE);
+        if (nonNull(sort) && !sort.isBlank()) {
+            String[] order = sort.split(",");
+            result.sort(order[0].trim())
+                    .descending(order.length > 1 && "desc".equalsIgnoreCase(order[1].trim()));
+        }
+        return result.build();
+    }
 }
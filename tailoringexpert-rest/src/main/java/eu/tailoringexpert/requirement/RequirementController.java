@@ -21,9 +21,11 @@
  */
 package eu.tailoringexpert.requirement;
 
+import eu.tailoringexpert.ResourceException;
 import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.RequirementChangeResource;
 import eu.tailoringexpert.domain.ResourceMapper;
 import eu.tailoringexpert.domain.TailoringRequirementResource;
@@ -38,21 +40,35 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static eu.tailoringexpert.domain.RequirementChangeFilter.DEFAULT_LIMIT;
+import static eu.tailoringexpert.domain.RequirementChangeFilter.MAX_LIMIT;
 import static eu.tailoringexpert.domain.ResourceMapper.CHAPTER_SELECTED;
+import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_CHANGES;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGREQUIRMENT;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGREQUIRMENT_CHANGES;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGREQUIRMENT_SELECTED;
 import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGREQUIRMENT_TEXT;
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
 import static org.springframework.hateoas.EntityModel.of;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.ResponseEntity.notFound;
 import static org.springframework.http.ResponseEntity.ok;
 
@@ -195,9 +211,10 @@ public class RequirementController {
         return result;
     }
 
-    @Operation(summary = "load list of requirement changes")
+    @Operation(summary = "load list of requirement changes", description = "Changes are ordered by id and limited to a page. If further changes may exist, a next link containing the cursor of the following page is provided. The list is a view of the recorded history, not a feed to poll for new changes: ids are not assigned in modification order, so changes recorded later may be located before the cursor.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "changes loaded", content = @Content(mediaType = "application/json+hal", schema = @Schema(implementation = TailoringRequirementResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit", content = @Content),
             @ApiResponse(responseCode = "404", description = "Requirement does not exists", content = @Content)
     })
     @GetMapping(value = TAILORINGREQUIRMENT_CHANGES, produces = { "application/hal+json" })
@@ -205,29 +222,85 @@ public class RequirementController {
             @Parameter(description = "Project identifier") @PathVariable String project,
             @Parameter(description = "Tailoring name") @PathVariable String tailoring,
             @Parameter(description = "Chapter number") @PathVariable String chapter,
-            @Parameter(description = "Requirement position in chapter") @PathVariable String requirement) {
+            @Parameter(description = "Requirement position in chapter") @PathVariable String requirement,
+            @Parameter(description = "Earliest modification timestamp of changes") @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) ZonedDateTime from,
+            @Parameter(description = "Id of last change of previous page") @RequestParam(required = false) Long after,
+            @Parameter(description = "Modification timestamp (exclusive) until changes shall be loaded") @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) ZonedDateTime to,
+            @Parameter(description = "Maximum number of changes to load, at most " + MAX_LIMIT) @RequestParam(required = false) Integer limit) {
         log.traceEntry();
 
         PathContextBuilder pathContext = PathContext.builder()
                 .project(project)
                 .tailoring(tailoring)
-                .chapter(chapter);
+                .chapter(chapter)
+                .requirment(requirement);
 
+        RequirementChangeFilter filter = toFilter(from, after, to, limit);
         Optional<Collection<RequirementChange>> requirementChanges = requirementService.getRequirementChanges(project,
-                tailoring, chapter, requirement);
+                tailoring, chapter, requirement, filter);
 
         if (requirementChanges.isEmpty()) {
             log.traceExit();
             return notFound().build();
         }
 
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("from", toQueryParameter(from));
+        query.put("to", toQueryParameter(to));
+        query.put("limit", filter.getLimit());
+
         ResponseEntity<CollectionModel<EntityModel<RequirementChangeResource>>> result = ok()
                 .body(CollectionModel.of(
-                        requirementChanges
+                        requirementChanges.get()
                                 .stream()
-                                .flatMap(Collection::stream)
                                 .map(domain -> of(mapper.toResource(pathContext, domain)))
-                                .toList()));
+                                .toList(),
+                        createNextLink(TAILORINGREQUIRMENT_CHANGES, pathContext, query, filter,
+                                requirementChanges.get())));
+
+        log.traceExit();
+        return result;
+    }
+
+    @Operation(summary = "load list of changes of all requirements of a tailoring", description = "Changes are ordered by id and limited to a page. If further changes may exist, a next link containing the cursor of the following page is provided. The list is a view of the recorded history, not a feed to poll for new changes: ids are not assigned in modification order, so changes recorded later may be located before the cursor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "changes loaded", content = @Content(mediaType = "application/json+hal", schema = @Schema(implementation = RequirementChangeResource.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid limit", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Tailoring does not exist", content = @Content)
+    })
+    @GetMapping(value = TAILORING_CHANGES, produces = { "application/hal+json" })
+    public ResponseEntity<CollectionModel<EntityModel<RequirementChangeResource>>> getTailoringChanges(
+            @Parameter(description = "Project identifier") @PathVariable String project,
+            @Parameter(description = "Tailoring name") @PathVariable String tailoring,
+            @Parameter(description = "Earliest modification timestamp of changes") @RequestParam(required = false) @DateTimeFormat(iso = DATE_TIME) ZonedDateTime since,
+            @Parameter(description = "Id of last change of previous page") @RequestParam(required = false) Long after,
+            @Parameter(description = "Maximum number of changes to load, at most " + MAX_LIMIT) @RequestParam(required = false) Integer limit) {
+        log.traceEntry();
+
+        PathContextBuilder pathContext = PathContext.builder()
+                .project(project)
+                .tailoring(tailoring);
+
+        RequirementChangeFilter filter = toFilter(since, after, null, limit);
+        Optional<Collection<RequirementChange>> changes = requirementService.getTailoringChanges(project, tailoring,
+                filter);
+
+        if (changes.isEmpty()) {
+            log.traceExit();
+            return notFound().build();
+        }
+
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("since", toQueryParameter(since));
+        query.put("limit", filter.getLimit());
+
+        ResponseEntity<CollectionModel<EntityModel<RequirementChangeResource>>> result = ok()
+                .body(CollectionModel.of(
+                        changes.get()
+                                .stream()
+                                .map(domain -> of(mapper.toResource(pathContext, domain)))
+                                .toList(),
+                        createNextLink(TAILORING_CHANGES, pathContext, query, filter, changes.get())));
 
         log.traceExit();
         return result;
@@ -261,4 +334,39 @@ public class RequirementController {
         log.traceExit();
         return result;
     }
+
+    private RequirementChangeFilter toFilter(ZonedDateTime from, Long after, ZonedDateTime to, Integer limit) {
+        if (nonNull(limit) && limit <= 0) {
+            throw new ResourceException(BAD_REQUEST, "Limit must be greater than 0");
+        }
+        return RequirementChangeFilter.builder()
+                .from(from)
+                .after(after)
+                .to(to)
+                .limit(nonNull(limit) ? min(limit, MAX_LIMIT) : DEFAULT_LIMIT)
+                .build();
+    }
+
+    /**
+     * Create link to the following page of changes. A full page indicates further changes, so the id of its last
+     * change is used as cursor.
+     */
+    private List<Link> createNextLink(String path,
+                                      PathContextBuilder pathContext,
+                                      Map<String, Object> query,
+                                      RequirementChangeFilter filter,
+                                      Collection<RequirementChange> changes) {
+        if (changes.size() < filter.getLimit()) {
+            return List.of();
+        }
+        Long after = changes.stream()
+                .reduce((first, second) -> second)
+                .map(RequirementChange::getId)
+                .orElseThrow();
+        return List.of(mapper.createNextLink(path, pathContext.build().parameter(), query, after));
+    }
+
+    private String toQueryParameter(ZonedDateTime timestamp) {
+        return isNull(timestamp) ? null : timestamp.toInstant().toString();
+    }
 }
@@ -24,6 +24,7 @@ package eu.tailoringexpert.domain;
 import static eu.tailoringexpert.domain.Phase.A;
 import static eu.tailoringexpert.domain.Phase.C;
 import static eu.tailoringexpert.domain.ProjectState.ONGOING;
+import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGREQUIRMENT_CHANGES;
 import static eu.tailoringexpert.domain.TailoringState.AGREED;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -32,13 +33,16 @@ import static java.nio.file.Paths.get;
 import static java.util.Arrays.asList;
 import static java.util.Objects.nonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -1009,6 +1013,8 @@ class ResourceMapperTest {
             .chapter("1.4");
 
         RequirementChange change = RequirementChange.builder()
+            .id(42L)
+            .requirement("1.4.a")
             .changeType("SELECTED")
             .user("dummy")
             .old("oldTest")
@@ -1023,7 +1029,81 @@ class ResourceMapperTest {
         assertThat(actual.getChangeType()).isEqualTo(change.getChangeType());
         assertThat(actual.getOld()).isEqualTo(change.getOld());
         assertThat(actual.getChanged()).isEqualTo(change.getChanged());
+        assertThat(actual.getId()).isEqualTo(42L);
+        assertThat(actual.getRequirement()).isEqualTo("1.4.a");
 
         assertThat(actual.getLinks()).isEmpty();
     }
+
+    @Test
+    void createPageLinks_MiddlePage_AllNavigationLinksCreated() {
+        // arrange
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("state", ONGOING);
+        query.put("catalog", null);
+        query.put("size", 10);
+        ResultPage<ProjectInformation> page = ResultPage.<ProjectInformation>builder()
+            .page(1)
+            .size(10)
+            .totalElements(25)
+            .build();
+
+        // act
+        List<Link> actual = mapper.createPageLinks("project", query, page);
+
+        // assert
+        assertThat(actual)
+            .extracting(link -> link.getRel().value(), Link::getHref)
+            .containsExactly(
+                tuple("self", host + "/project?state=ONGOING&size=10&page=1"),
+                tuple("first", host + "/project?state=ONGOING&size=10&page=0"),
+                tuple("prev", host + "/project?state=ONGOING&size=10&page=0"),
+                tuple("next", host + "/project?state=ONGOING&size=10&page=2"),
+                tuple("last", host + "/project?state=ONGOING&size=10&page=2"));
+    }
+
+    @Test
+    void createPageLinks_EmptyResult_NoPrevAndNextLinkCreated() {
+        // arrange
+        ResultPage<ProjectInformation> page = ResultPage.<ProjectInformation>builder()
+            .page(0)
+            .size(10)
+            .totalElements(0)
+            .build();
+
+        // act
+        List<Link> actual = mapper.createPageLinks("project", Map.of(), page);
+
+        // assert
+        assertThat(actual)
+            .extracting(link -> link.getRel().value(), Link::getHref)
+            .containsExactly(
+                tuple("self", host + "/project?page=0"),
+                tuple("first", host + "/project?page=0"),
+                tuple("last", host + "/project?page=0"));
+    }
+
+    @Test
+    void createNextLink_PathAndQueryParameter_CursorAppended() {
+        // arrange
+        Map<String, String> parameter = PathContext.builder()
+            .project("SAMPLE")
+            .tailoring("master")
+            .chapter("1.1")
+            .requirment("a")
+            .build()
+            .parameter();
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("from", "2026-01-01T10:00:00Z");
+        query.put("to", null);
+        query.put("limit", 10);
+
+        // act
+        Link actual = mapper.createNextLink(TAILORINGREQUIRMENT_CHANGES, parameter, query, 42L);
+
+        // assert
+        assertThat(actual.getRel().value()).isEqualTo("next");
+        assertThat(actual.getHref()).isEqualTo(host +
+            "/project/SAMPLE/tailoring/master/catalog/1.1/a/changes?from=2026-01-01T10:00:00Z&limit=10&after=42");
+    }
 }
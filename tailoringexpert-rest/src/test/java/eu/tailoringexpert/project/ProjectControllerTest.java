@@ -22,7 +22,9 @@
 package eu.tailoringexpert.project;
 
 import static eu.tailoringexpert.domain.ProjectState.COMPLETED;
+import static eu.tailoringexpert.domain.ProjectState.ONGOING;
 import static eu.tailoringexpert.domain.ResourceMapper.PROJECT;
+import static eu.tailoringexpert.domain.ResourceMapper.PROJECTS;
 import static eu.tailoringexpert.domain.ResourceMapper.REL_SELF;
 import static java.nio.file.Files.newInputStream;
 import static java.util.Arrays.asList;
@@ -48,7 +50,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
@@ -58,6 +62,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -80,8 +85,10 @@ import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
 import eu.tailoringexpert.domain.Project;
 import eu.tailoringexpert.domain.ProjectInformation;
+import eu.tailoringexpert.domain.ProjectInformationFilter;
 import eu.tailoringexpert.domain.ProjectResource;
 import eu.tailoringexpert.domain.ResourceMapper;
+import eu.tailoringexpert.domain.ResultPage;
 import eu.tailoringexpert.domain.ScreeningSheet;
 import eu.tailoringexpert.domain.ScreeningSheetResource;
 import eu.tailoringexpert.domain.SelectionVector;
@@ -187,7 +194,14 @@ class ProjectControllerTest {
     void getProjects_ProjectsExist_StateOK() throws Exception {
         // arrange
         ProjectInformation projekt = ProjectInformation.builder().identifier("SAMPLE").build();
-        given(projectServiceRepositoryMock.getProjectInformations()).willReturn(asList(projekt));
+        ArgumentCaptor<ProjectInformationFilter> filterCaptor = forClass(ProjectInformationFilter.class);
+        given(projectServiceRepositoryMock.getProjectInformations(filterCaptor.capture()))
+                .willReturn(ResultPage.<ProjectInformation>builder()
+                        .element(projekt)
+                        .page(0)
+                        .size(ProjectInformationFilter.DEFAULT_SIZE)
+                        .totalElements(1)
+                        .build());
 
         PathContextBuilder pathContext = PathContext.builder();
         ArgumentCaptor<PathContextBuilder> pathContextCaptor = forClass(PathContextBuilder.class);
@@ -201,12 +215,84 @@ class ProjectControllerTest {
         // assert
         actual.andExpect(status().isOk());
 
-        verify(projectServiceRepositoryMock, times(1)).getProjectInformations();
+        verify(projectServiceRepositoryMock, times(1)).getProjectInformations(any());
         verify(mapperMock, times(1)).toResource(pathContextCaptor.capture(), eq(projekt));
         assertThat(pathContextCaptor.getValue().build()).isEqualTo(pathContext.build());
+        assertThat(filterCaptor.getValue()).isEqualTo(ProjectInformationFilter.builder().build());
 
     }
 
+    @Test
+    void getProjects_FilterAndPageRequested_FilterPassedAndPageLinksAdded() throws Exception {
+        // arrange
+        ArgumentCaptor<ProjectInformationFilter> filterCaptor = forClass(ProjectInformationFilter.class);
+        ResultPage<ProjectInformation> page = ResultPage.<ProjectInformation>builder()
+                .page(1)
+                .size(10)
+                .totalElements(25)
+                .build();
+        given(projectServiceRepositoryMock.getProjectInformations(filterCaptor.capture())).willReturn(page);
+
+        ArgumentCaptor<Map<String, Object>> queryCaptor = forClass(Map.class);
+        given(mapperMock.createPageLinks(eq(PROJECTS), queryCaptor.capture(), eq(page)))
+                .willReturn(List.of(Link.of("/project?size=10&page=2", "next")));
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+                .param("state", "ONGOING")
+                .param("catalog", "8.2.1")
+                .param("page", "1")
+                .param("size", "10")
+                .param("sort", "creationTimestamp,desc")
+                .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.totalElements").value(25))
+                .andExpect(jsonPath("$.page.totalPages").value(3))
+                .andExpect(jsonPath("$.page.number").value(1))
+                .andExpect(jsonPath("$._links.next.href").value("/project?size=10&page=2"));
+
+        assertThat(filterCaptor.getValue()).isEqualTo(ProjectInformationFilter.builder()
+                .state(ONGOING)
+                .catalogVersion("8.2.1")
+                .page(1)
+                .size(10)
+                .sort("creationTimestamp")
+                .descending(true)
+                .build());
+        assertThat(queryCaptor.getValue())
+                .containsEntry("state", ONGOING)
+                .containsEntry("catalog", "8.2.1")
+                .containsEntry("size", 10)
+                .containsEntry("sort", "creationTimestamp,desc")
+                .doesNotContainKey("page");
+    }
+
+    @Test
+    void getProjects_SizeExceedsMaximum_SizeLimited() throws Exception {
+        // arrange
+        ArgumentCaptor<ProjectInformationFilter> filterCaptor = forClass(ProjectInformationFilter.class);
+        given(projectServiceRepositoryMock.getProjectInformations(filterCaptor.capture()))
+                .willReturn(ResultPage.<ProjectInformation>builder()
+                        .page(0)
+                        .size(ProjectInformationFilter.MAX_SIZE)
+                        .totalElements(0)
+                        .build());
+
+        // act
+        ResultActions actual = mockMvc.perform(get("/project")
+                .param("size", String.valueOf(ProjectInformationFilter.MAX_SIZE + 1))
+                .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk())
+                .andExpect(jsonPath("$.page.size").value(ProjectInformationFilter.MAX_SIZE))
+                .andExpect(jsonPath("$.page.totalElements").value(0));
+
+        assertThat(filterCaptor.getValue().getSize()).isEqualTo(ProjectInformationFilter.MAX_SIZE);
+    }
+
     @Test
     void getProject_ProjectExist_StateOK() throws Exception {
         // arrange
@@ -307,7 +393,8 @@ class ProjectControllerTest {
         actual.andExpect(status().isOk());
         actual.andExpect(header().string("Content-Disposition",
                 "form-data; name=\"attachment\"; filename=\"screeningsheet.pdf\""))
-                .andExpect(header().string("Access-Control-Expose-Headers", "Content-Disposition"));
+                .andExpect(header().string("Access-Control-Expose-Headers", "Content-Disposition"))
+                .andExpect(content().bytes(data));
 
         verify(projectServiceRepositoryMock, times(1)).getScreeningSheetFile("SAMPLE");
 
@@ -21,6 +21,7 @@
  */
 package eu.tailoringexpert.requirement;
 
+import eu.tailoringexpert.ExceptionHandlerAdvice;
 import eu.tailoringexpert.domain.Chapter;
 import eu.tailoringexpert.domain.PathContext;
 import eu.tailoringexpert.domain.ResourceMapper;
@@ -29,11 +30,13 @@ import eu.tailoringexpert.domain.TailoringRequirementResource;
 import eu.tailoringexpert.domain.TailoringRequirement;
 import eu.tailoringexpert.domain.PathContext.PathContextBuilder;
 import eu.tailoringexpert.domain.RequirementChange;
+import eu.tailoringexpert.domain.RequirementChangeFilter;
 import eu.tailoringexpert.domain.RequirementChangeResource;
 import lombok.extern.log4j.Log4j2;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.mediatype.MessageResolver;
 import org.springframework.hateoas.mediatype.hal.CurieProvider;
 import org.springframework.hateoas.mediatype.hal.HalJacksonModule;
@@ -49,13 +52,19 @@ import tools.jackson.databind.json.JsonMapper;
 
 import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static eu.tailoringexpert.domain.RequirementChangeFilter.MAX_LIMIT;
+import static eu.tailoringexpert.domain.ResourceMapper.TAILORINGREQUIRMENT_CHANGES;
+import static eu.tailoringexpert.domain.ResourceMapper.TAILORING_CHANGES;
 import static java.util.Locale.GERMANY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
@@ -63,6 +72,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.hateoas.MediaTypes.HAL_JSON_VALUE;
@@ -71,6 +81,7 @@ import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED_VAL
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
@@ -110,6 +121,7 @@ class RequirementControllerTest {
                 mapperMock,
                 serviceMock,
                 repositoryMock))
+                .setControllerAdvice(new ExceptionHandlerAdvice())
                 .setMessageConverters(
                         new JacksonJsonHttpMessageConverter(objectMapper),
                         byteArrayHttpMessageConverter)
@@ -396,7 +408,8 @@ class RequirementControllerTest {
     @Test
     void getRequirementChanges_RequirementNotExists_StateNotFound() throws Exception {
         // arrange
-        given(serviceMock.getRequirementChanges("SAMPLE", "master", "1.1", "a")).willReturn(Optional.empty());
+        given(serviceMock.getRequirementChanges("SAMPLE", "master", "1.1", "a",
+                RequirementChangeFilter.builder().build())).willReturn(Optional.empty());
 
         // act
         ResultActions actual = mockMvc
@@ -413,7 +426,8 @@ class RequirementControllerTest {
     void getRequirementChanges_RequirementExists_StateOK() throws Exception {
         // arrange
         RequirementChange change = RequirementChange.builder().old("old").changed("new").build();
-        given(serviceMock.getRequirementChanges("SAMPLE", "master", "1.1", "a"))
+        given(serviceMock.getRequirementChanges("SAMPLE", "master", "1.1", "a",
+                RequirementChangeFilter.builder().build()))
                 .willReturn(Optional.of(List.of(change)));
 
         ArgumentCaptor<PathContextBuilder> pathContextCaptor = ArgumentCaptor.forClass(PathContextBuilder.class);
@@ -432,4 +446,162 @@ class RequirementControllerTest {
         assertThatNoException();
     }
 
+    @Test
+    void getRequirementChanges_PageRequested_FilterPassedToService() throws Exception {
+        // arrange
+        ZonedDateTime from = ZonedDateTime.of(2024, 3, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+        ZonedDateTime to = ZonedDateTime.of(2024, 4, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        given(serviceMock.getRequirementChanges(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), any()))
+                .willReturn(Optional.of(List.of()));
+
+        // act
+        ResultActions actual = mockMvc
+                .perform(get("/project/{project}/tailoring/{tailoring}/catalog/{chapter}/{requirement}/changes",
+                        "SAMPLE", "master", "1.1", "a")
+                        .param("from", "2024-03-01T08:00:00Z")
+                        .param("after", "42")
+                        .param("to", "2024-04-01T00:00:00Z")
+                        .param("limit", "20")
+                        .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk());
+        ArgumentCaptor<RequirementChangeFilter> filterCaptor = ArgumentCaptor.forClass(RequirementChangeFilter.class);
+        verify(serviceMock, times(1)).getRequirementChanges(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"),
+                filterCaptor.capture());
+        assertThat(filterCaptor.getValue().getFrom()).isEqualTo(from);
+        assertThat(filterCaptor.getValue().getAfter()).isEqualTo(42L);
+        assertThat(filterCaptor.getValue().getTo()).isEqualTo(to);
+        assertThat(filterCaptor.getValue().getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void getTailoringChanges_ChangesSince_StateOK() throws Exception {
+        // arrange
+        ZonedDateTime since = ZonedDateTime.of(2024, 3, 1, 8, 0, 0, 0, ZoneOffset.UTC);
+        RequirementChange change = RequirementChange.builder().id(1L).requirement("1.1.a").build();
+        given(serviceMock.getTailoringChanges("SAMPLE", "master", RequirementChangeFilter.builder()
+                .from(since)
+                .build()))
+                .willReturn(Optional.of(List.of(change)));
+        given(mapperMock.toResource(any(PathContextBuilder.class), eq(change)))
+                .willReturn(RequirementChangeResource.builder().build());
+
+        // act
+        ResultActions actual = mockMvc
+                .perform(get("/project/{project}/tailoring/{tailoring}/changes", "SAMPLE", "master")
+                        .param("since", "2024-03-01T08:00:00Z")
+                        .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk());
+        verify(mapperMock, times(1)).toResource(any(), eq(change));
+    }
+
+    @Test
+    void getRequirementChanges_LimitNotPositive_StateBadRequest() throws Exception {
+        // arrange
+
+        // act
+        ResultActions actual = mockMvc
+                .perform(get("/project/{project}/tailoring/{tailoring}/catalog/{chapter}/{requirement}/changes",
+                        "SAMPLE", "master", "1.1", "a")
+                        .param("limit", "0")
+                        .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isBadRequest());
+        verify(serviceMock, never()).getRequirementChanges(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getRequirementChanges_LimitExceedsMaximum_LimitClamped() throws Exception {
+        // arrange
+        given(serviceMock.getRequirementChanges(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), any()))
+                .willReturn(Optional.of(List.of()));
+
+        // act
+        ResultActions actual = mockMvc
+                .perform(get("/project/{project}/tailoring/{tailoring}/catalog/{chapter}/{requirement}/changes",
+                        "SAMPLE", "master", "1.1", "a")
+                        .param("limit", String.valueOf(MAX_LIMIT + 1))
+                        .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk());
+        ArgumentCaptor<RequirementChangeFilter> filterCaptor = ArgumentCaptor.forClass(RequirementChangeFilter.class);
+        verify(serviceMock, times(1)).getRequirementChanges(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"),
+                filterCaptor.capture());
+        assertThat(filterCaptor.getValue().getLimit()).isEqualTo(MAX_LIMIT);
+    }
+
+    @Test
+    void getRequirementChanges_PageFull_NextLinkWithCursorOfLastChange() throws Exception {
+        // arrange
+        RequirementChange change1 = RequirementChange.builder().id(41L).requirement("1.1.a").build();
+        RequirementChange change2 = RequirementChange.builder().id(42L).requirement("1.1.a").build();
+        given(serviceMock.getRequirementChanges(eq("SAMPLE"), eq("master"), eq("1.1"), eq("a"), any()))
+                .willReturn(Optional.of(List.of(change1, change2)));
+        given(mapperMock.toResource(any(PathContextBuilder.class), any(RequirementChange.class)))
+                .willReturn(RequirementChangeResource.builder().build());
+        given(mapperMock.createNextLink(eq(TAILORINGREQUIRMENT_CHANGES), any(), any(), eq(42L)))
+                .willReturn(Link.of("/project/SAMPLE/tailoring/master/catalog/1.1/a/changes?limit=2&after=42", "next"));
+
+        // act
+        ResultActions actual = mockMvc
+                .perform(get("/project/{project}/tailoring/{tailoring}/catalog/{chapter}/{requirement}/changes",
+                        "SAMPLE", "master", "1.1", "a")
+                        .param("from", "2024-03-01T08:00:00+01:00")
+                        .param("limit", "2")
+                        .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.next.href")
+                        .value("/project/SAMPLE/tailoring/master/catalog/1.1/a/changes?limit=2&after=42"));
+        ArgumentCaptor<Map<String, String>> parameterCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<String, Object>> queryCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mapperMock, times(1)).createNextLink(eq(TAILORINGREQUIRMENT_CHANGES), parameterCaptor.capture(),
+                queryCaptor.capture(), eq(42L));
+        assertThat(parameterCaptor.getValue()).containsEntry("requirement", "a");
+        assertThat(queryCaptor.getValue())
+                .containsEntry("from", "2024-03-01T07:00:00Z")
+                .containsEntry("limit", 2);
+    }
+
+    @Test
+    void getTailoringChanges_PageNotFull_NoNextLink() throws Exception {
+        // arrange
+        RequirementChange change = RequirementChange.builder().id(1L).requirement("1.1.a").build();
+        given(serviceMock.getTailoringChanges(eq("SAMPLE"), eq("master"), any()))
+                .willReturn(Optional.of(List.of(change)));
+        given(mapperMock.toResource(any(PathContextBuilder.class), eq(change)))
+                .willReturn(RequirementChangeResource.builder().build());
+
+        // act
+        ResultActions actual = mockMvc
+                .perform(get("/project/{project}/tailoring/{tailoring}/changes", "SAMPLE", "master")
+                        .param("limit", "2")
+                        .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isOk());
+        verify(mapperMock, never()).createNextLink(eq(TAILORING_CHANGES), any(), any(), any());
+    }
+
+    @Test
+    void getTailoringChanges_TailoringNotExists_StateNotFound() throws Exception {
+        // arrange
+        given(serviceMock.getTailoringChanges(eq("SAMPLE"), eq("master"), any()))
+                .willReturn(Optional.empty());
+
+        // act
+        ResultActions actual = mockMvc
+                .perform(get("/project/{project}/tailoring/{tailoring}/changes", "SAMPLE", "master")
+                        .accept(HAL_JSON_VALUE));
+
+        // assert
+        actual.andExpect(status().isNotFound());
+        verify(mapperMock, never()).toResource(any(PathContextBuilder.class), any(RequirementChange.class));
+    }
 }
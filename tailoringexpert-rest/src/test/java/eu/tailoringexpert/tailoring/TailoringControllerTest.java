@@ -333,7 +333,8 @@ class TailoringControllerTest {
                 .andExpect(header().string(CONTENT_TYPE, "application/pdf"));
         actual.andExpect(header().string("Content-Disposition",
                 "form-data; name=\"attachment\"; filename=\"screeningsheet.pdf\""))
-                .andExpect(header().string("Access-Control-Expose-Headers", "Content-Disposition"));
+                .andExpect(header().string("Access-Control-Expose-Headers", "Content-Disposition"))
+                .andExpect(content().bytes(data));
 
         verify(repositoryMock, times(1)).getScreeningSheetFile("SAMPLE", "master");
     }
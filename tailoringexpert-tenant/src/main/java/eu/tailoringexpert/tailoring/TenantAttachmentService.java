@@ -38,12 +38,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.nio.file.Files.newInputStream;
 import static java.nio.file.Files.readString;
@@ -126,6 +128,30 @@ public class TenantAttachmentService implements AttachmentService {
         return log.traceExit(result);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteAll(String project, String tailoring) {
+        log.traceEntry(() -> project, () -> tailoring);
+
+        Path dir = pathProvider.apply(project, tailoring);
+        if (Objects.isNull(dir) || !Files.isDirectory(dir)) {
+            return log.traceExit(false);
+        }
+
+        try (Stream<Path> files = Files.walk(dir)) {
+            // delete files before their directories
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw log.throwing(new RuntimeException(e));
+        }
+
+        return log.traceExit(true);
+    }
+
     /**
      * {@inheritDoc}
      */
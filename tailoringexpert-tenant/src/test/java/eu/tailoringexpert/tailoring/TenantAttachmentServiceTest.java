@@ -403,4 +403,34 @@ class TenantAttachmentServiceTest {
         assertThat(actual).isInstanceOf(IOException.class);
 
     }
+
+    @Test
+    void deleteAll_DirectoryExists_TrueReturnedDirectoryDeleted() throws Exception {
+        // arrange
+        Path dir = Files.createDirectories(Paths.get(this.basedir, "PLATFORM", "test", "1000"));
+        Files.writeString(dir.resolve("dummy.pdf"), "dummy");
+        Files.writeString(dir.resolve("dummy.pdf.hash"), "4711");
+
+        given(pathProviderMock.apply("test", "1000")).willReturn(dir);
+
+        // act
+        boolean actual = service.deleteAll("test", "1000");
+
+        // assert
+        assertThat(actual).isTrue();
+        assertThat(dir.toFile()).doesNotExist();
+    }
+
+    @Test
+    void deleteAll_DirectoryNotExists_FalseReturned() {
+        // arrange
+        given(pathProviderMock.apply("test", "1000"))
+            .willReturn(Path.of(this.basedir + "/PLATFORM/test/1000"));
+
+        // act
+        boolean actual = service.deleteAll("test", "1000");
+
+        // assert
+        assertThat(actual).isFalse();
+    }
 }